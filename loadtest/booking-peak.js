@@ -0,0 +1,68 @@
+// Peak booking hour scenario: availability reads and bookings against one business.
+// Run once against the servlet stack and once against the reactive profile, with the same data and settings:
+//   k6 run -e BASE_URL=http://localhost:8080 -e BUSINESS_ID=... -e USER_ID=... loadtest/booking-peak.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BUSINESS_ID = __ENV.BUSINESS_ID;
+const USER_ID = __ENV.USER_ID;
+const PEAK_RATE = Number(__ENV.PEAK_RATE || 500);
+
+export const options = {
+  scenarios: {
+    availability: {
+      executor: 'ramping-arrival-rate',
+      exec: 'availability',
+      startRate: 10,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: PEAK_RATE, duration: '1m' },
+        { target: PEAK_RATE, duration: '3m' },
+        { target: 0, duration: '30s' },
+      ],
+    },
+    booking: {
+      executor: 'constant-arrival-rate',
+      exec: 'booking',
+      rate: Math.max(1, Math.floor(PEAK_RATE / 10)),
+      timeUnit: '1s',
+      duration: '4m30s',
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:availability}': ['p(95)<500'],
+    'http_req_failed{scenario:availability}': ['rate<0.01'],
+  },
+};
+
+function randomDate() {
+  const date = new Date();
+  date.setDate(date.getDate() + 1 + Math.floor(Math.random() * 30));
+  return date.toISOString().slice(0, 10);
+}
+
+export function availability() {
+  const response = Math.random() < 0.7
+    ? http.get(`${BASE_URL}/api/availability/business/${BUSINESS_ID}/date/${randomDate()}`, { tags: { name: 'date' } })
+    : http.get(`${BASE_URL}/api/availability/business/${BUSINESS_ID}/week`, { tags: { name: 'week' } });
+  check(response, { 'availability 200': (r) => r.status === 200 });
+}
+
+export function booking() {
+  const hour = 9 + Math.floor(Math.random() * 9);
+  const startTime = `${String(hour).padStart(2, '0')}:00`;
+  const endTime = `${String(hour + 1).padStart(2, '0')}:00`;
+  const response = http.post(`${BASE_URL}/api/reservations`, JSON.stringify({
+    userId: USER_ID,
+    businessId: BUSINESS_ID,
+    reservationDate: randomDate(),
+    timeSlot: { startTime, endTime },
+  }), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'create' } });
+  // A taken slot is an expected outcome at peak
+  check(response, { 'booking 201 or 409': (r) => r.status === 201 || r.status === 409 });
+}
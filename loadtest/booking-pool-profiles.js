@@ -0,0 +1,87 @@
+// Booking burst scenario to compare Mongo connection pool profiles (app.mongo.pool.profiles).
+// Start the application once per profile with the same data and run the script with the profile name:
+//   MONGO_POOL_PROFILE=burst mvn spring-boot:run
+//   k6 run -e POOL_PROFILE=burst -e BUSINESS_ID=... -e USER_ID=... loadtest/booking-pool-profiles.js
+// Booking latency is reported per profile next to the pool metrics of the run (checkout wait, timeouts, churn).
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const BUSINESS_ID = __ENV.BUSINESS_ID;
+const USER_ID = __ENV.USER_ID;
+const POOL_PROFILE = __ENV.POOL_PROFILE || 'default';
+const BASE_RATE = Number(__ENV.BASE_RATE || 20);
+const BURST_RATE = Number(__ENV.BURST_RATE || 400);
+
+export const options = {
+  tags: { pool_profile: POOL_PROFILE },
+  scenarios: {
+    // Steady bookings with short bursts, a burst needs more connections than the pool keeps warm
+    booking: {
+      executor: 'ramping-arrival-rate',
+      exec: 'booking',
+      startRate: BASE_RATE,
+      timeUnit: '1s',
+      preAllocatedVUs: 100,
+      maxVUs: 1000,
+      stages: [
+        { target: BASE_RATE, duration: '1m' },
+        { target: BURST_RATE, duration: '5s' },
+        { target: BURST_RATE, duration: '30s' },
+        { target: BASE_RATE, duration: '5s' },
+        { target: BASE_RATE, duration: '1m' },
+        { target: BURST_RATE, duration: '5s' },
+        { target: BURST_RATE, duration: '30s' },
+        { target: 0, duration: '10s' },
+      ],
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:booking}': ['p(95)<800', 'p(99)<2000'],
+    'http_req_failed{scenario:booking}': ['rate<0.01'],
+  },
+};
+
+function randomDate() {
+  const date = new Date();
+  date.setDate(date.getDate() + 1 + Math.floor(Math.random() * 30));
+  return date.toISOString().slice(0, 10);
+}
+
+export function booking() {
+  const hour = 9 + Math.floor(Math.random() * 9);
+  const startTime = `${String(hour).padStart(2, '0')}:00`;
+  const endTime = `${String(hour + 1).padStart(2, '0')}:00`;
+  const response = http.post(`${BASE_URL}/api/reservations`, JSON.stringify({
+    userId: USER_ID,
+    businessId: BUSINESS_ID,
+    reservationDate: randomDate(),
+    timeSlot: { startTime, endTime },
+  }), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'create' } });
+  // A taken slot is an expected outcome, a 5xx is usually a failed connection checkout
+  check(response, { 'booking 201 or 409': (r) => r.status === 201 || r.status === 409 });
+}
+
+function metric(name, tag) {
+  const query = tag ? `?tag=${tag}` : '';
+  const response = http.get(`${BASE_URL}/actuator/metrics/${name}${query}`, { tags: { name: 'metrics' } });
+  if (response.status !== 200) {
+    return {};
+  }
+  const values = {};
+  for (const measurement of response.json().measurements) {
+    values[measurement.statistic] = measurement.value;
+  }
+  return values;
+}
+
+export function teardown() {
+  const checkout = metric('mongodb.pool.checkout', 'outcome:success');
+  const timeouts = metric('mongodb.pool.checkout', 'outcome:timeout');
+  const created = metric('mongodb.pool.connections.created');
+  const closed = metric('mongodb.pool.connections.closed');
+  console.log(`pool profile ${POOL_PROFILE}: `
+    + `checkouts=${checkout.COUNT || 0} checkout max wait=${checkout.MAX || 0}s `
+    + `checkout timeouts=${timeouts.COUNT || 0} `
+    + `connections created=${created.COUNT || 0} closed=${closed.COUNT || 0}`);
+}
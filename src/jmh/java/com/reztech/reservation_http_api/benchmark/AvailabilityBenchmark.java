@@ -0,0 +1,247 @@
+package com.reztech.reservation_http_api.benchmark;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import com.reztech.reservation_http_api.repository.business.BusinessAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.business.EmployeeAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSettingsRepository;
+import com.reztech.reservation_http_api.service.reservation.AvailabilityRuleIndexService;
+import com.reztech.reservation_http_api.service.reservation.AvailabilityService;
+import com.reztech.reservation_http_api.service.reservation.EmployeeScheduleService;
+import com.reztech.reservation_http_api.service.reservation.ReservationSettingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks AvailabilityService slot computation for synthetic businesses.
+ * Repositories are in-memory stand-ins, so the numbers cover the service and calculator only (no I/O, no cache).
+ * Note that a day is capped at 48 slots, so short slots only cover the start of the working day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final int RANGE_DAYS = 7;
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final LocalTime CLOSING = LocalTime.of(22, 0);
+    
+    @Param({"1", "10", "50"})
+    private int employees;
+    
+    @Param({"5", "30", "120"})
+    private int slotMinutes;
+    
+    /**
+     * Reservations spread over the benchmarked week
+     */
+    @Param({"0", "1000", "10000"})
+    private int reservations;
+    
+    /**
+     * Weekly, specific date and date range rules with blocked slots
+     */
+    @Param({"0", "100"})
+    private int blockedRules;
+    
+    /**
+     * Whether every employee has weekly working hours and a lunch break
+     */
+    @Param({"false", "true"})
+    private boolean employeeHours;
+    
+    private final ConcurrentLookups concurrentLookups = new ConcurrentLookups();
+    private AvailabilityService availabilityService;
+    private LocalDate startDate;
+    
+    @Setup
+    public void setUp() {
+        // Far enough in the future that no slot is expired
+        startDate = LocalDateTime.now().toLocalDate().plusDays(30);
+        Random random = new Random(42);
+        
+        Business business = business();
+        List<Reservation> reservationList = reservations(business, random);
+        List<BusinessAvailability> rules = rules(random);
+        List<EmployeeAvailability> employeeRules = employeeRules(business);
+        ReservationSettings settings = ReservationSettings.builder()
+                .businessId(BUSINESS_ID)
+                .defaultStartTime(OPENING)
+                .defaultEndTime(CLOSING)
+                .slotDurationMinutes(slotMinutes)
+                .build();
+        
+        BusinessRepository businessRepository = InMemoryRepositories.of(BusinessRepository.class, Map.of(
+                "findById", args -> Optional.of(business)));
+        
+        ReservationRepository reservationRepository = InMemoryRepositories.of(ReservationRepository.class, Map.of(
+                "findActiveByBusinessIdAndReservationDateBetween", args -> between(reservationList,
+                        (LocalDate) args[1], (LocalDate) args[2])));
+        
+        ReservationSettingsRepository settingsRepository = InMemoryRepositories.of(ReservationSettingsRepository.class,
+                Map.of("findByBusinessId", args -> Optional.of(settings)));
+        
+        BusinessAvailabilityRepository availabilityRepository = InMemoryRepositories.of(
+                BusinessAvailabilityRepository.class, Map.of("findByBusinessIdAndIsActive", args -> rules));
+        
+        EmployeeAvailabilityRepository employeeAvailabilityRepository = InMemoryRepositories.of(
+                EmployeeAvailabilityRepository.class, Map.of("findByBusinessIdAndIsActive", args -> employeeRules));
+        
+        availabilityService = new AvailabilityService(
+                businessRepository,
+                reservationRepository,
+                new ReservationSettingsService(settingsRepository, businessRepository, null, null, null, null),
+                new AvailabilityRuleIndexService(availabilityRepository),
+                new EmployeeScheduleService(employeeAvailabilityRepository),
+                new AvailabilityCalculator(),
+                concurrentLookups,
+                new AppConfig());
+    }
+    
+    @TearDown
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Benchmark
+    public AvailableSlotResponse singleDay() {
+        return availabilityService.getAvailableSlots(BUSINESS_ID, startDate);
+    }
+    
+    @Benchmark
+    public List<AvailableSlotResponse> week() {
+        return availabilityService.getAvailableSlotsForRange(BUSINESS_ID, startDate, startDate.plusDays(RANGE_DAYS - 1));
+    }
+    
+    private Business business() {
+        List<BusinessEmployee> employeeList = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            employeeList.add(BusinessEmployee.builder()
+                    .userId("employee-" + i)
+                    .active(true)
+                    .build());
+        }
+        
+        return Business.builder()
+                .id(BUSINESS_ID)
+                .name("Benchmark Business")
+                .employees(employeeList)
+                .build();
+    }
+    
+    private List<Reservation> reservations(Business business, Random random) {
+        int workingMinutes = (int) Duration.between(OPENING, CLOSING).toMinutes();
+        List<Reservation> reservationList = new ArrayList<>(reservations);
+        
+        for (int i = 0; i < reservations; i++) {
+            LocalTime start = OPENING.plusMinutes(random.nextInt(workingMinutes / 5) * 5L);
+            reservationList.add(Reservation.builder()
+                    .reservationDate(startDate.plusDays(random.nextInt(RANGE_DAYS)))
+                    .timeSlot(TimeSlot.of(start, start.plusMinutes(slotMinutes)))
+                    .assignedEmployeeUserId(business.getEmployees().get(random.nextInt(employees)).getUserId())
+                    .build());
+        }
+        
+        return reservationList;
+    }
+    
+    private List<BusinessAvailability> rules(Random random) {
+        List<BusinessAvailability> rules = new ArrayList<>(blockedRules);
+        ReservationDay[] days = ReservationDay.values();
+        
+        for (int i = 0; i < blockedRules; i++) {
+            BusinessAvailability.BusinessAvailabilityBuilder rule = BusinessAvailability.builder()
+                    .businessId(BUSINESS_ID)
+                    .blockedSlots(List.of(TimeSlot.of(OPENING.plusMinutes(random.nextInt(12 * 60)))))
+                    .blockReason("Blocked " + i);
+            
+            switch (i % 3) {
+                case 0 -> rule.availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                        .dayOfWeek(days[random.nextInt(days.length)]);
+                case 1 -> rule.availabilityType(AvailabilityType.SPECIFIC_DATE)
+                        .specificDate(startDate.plusDays(random.nextInt(RANGE_DAYS * 4) - RANGE_DAYS));
+                default -> {
+                    LocalDate rangeStart = startDate.plusDays(random.nextInt(RANGE_DAYS * 4) - RANGE_DAYS * 2);
+                    rule.availabilityType(AvailabilityType.DATE_RANGE)
+                            .startDate(rangeStart)
+                            .endDate(rangeStart.plusDays(random.nextInt(RANGE_DAYS)));
+                }
+            }
+            
+            rules.add(rule.build());
+        }
+        
+        return rules;
+    }
+    
+    private List<EmployeeAvailability> employeeRules(Business business) {
+        List<EmployeeAvailability> rules = new ArrayList<>();
+        if (!employeeHours) {
+            return rules;
+        }
+        
+        for (BusinessEmployee employee : business.getEmployees()) {
+            for (ReservationDay day : ReservationDay.values()) {
+                rules.add(EmployeeAvailability.builder()
+                        .businessId(BUSINESS_ID)
+                        .employeeUserId(employee.getUserId())
+                        .availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                        .dayOfWeek(day)
+                        .workingSlots(List.of(TimeSlot.of(OPENING.plusHours(1), CLOSING.minusHours(1))))
+                        .blockedSlots(List.of(TimeSlot.of(LocalTime.of(12, 0), LocalTime.of(13, 0))))
+                        .build());
+            }
+        }
+        
+        return rules;
+    }
+    
+    private static List<Reservation> between(List<Reservation> reservations, LocalDate startDate, LocalDate endDate) {
+        List<Reservation> result = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            LocalDate date = reservation.getReservationDate();
+            if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                result.add(reservation);
+            }
+        }
+        return result;
+    }
+}
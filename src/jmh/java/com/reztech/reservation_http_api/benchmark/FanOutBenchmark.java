@@ -0,0 +1,129 @@
+package com.reztech.reservation_http_api.benchmark;
+
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares sequential lookups with lookups fanned out through {@link ConcurrentLookups} on platform and virtual threads.
+ * Lookups block like calls of the synchronous Mongo driver, optionally inside a synchronized block to show
+ * the effect of carrier thread pinning. Pinned virtual threads are reported when the fork runs with
+ * -Djdk.tracePinnedThreads=short (pass "-jvmArgsAppend -Djdk.tracePinnedThreads=short"; the option can hang early
+ * Java 21 builds, so it is not enabled here). Run the application with -Djdk.tracePinnedThreads=full under load
+ * to check the real driver.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(64)
+public class FanOutBenchmark {
+    
+    /**
+     * Independent lookups per request, as in getAvailableSlots
+     */
+    private static final int LOOKUPS = 3;
+    
+    /**
+     * Platform pool size, in the range of a Tomcat worker pool shared by concurrent requests
+     */
+    private static final int PLATFORM_THREADS = 32;
+    
+    @Param({"platform", "virtual"})
+    private String threads;
+    
+    @Param({"2"})
+    private int latencyMillis;
+    
+    /**
+     * Block inside a monitor, which pins the carrier thread of a virtual thread on Java 21
+     */
+    @Param({"false", "true"})
+    private boolean pinned;
+    
+    /**
+     * Striped monitors, so pinned lookups rarely contend and the cost measured is pinning rather than locking
+     */
+    private final Object[] monitors = new Object[1024];
+    private ConcurrentLookups concurrentLookups;
+    
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < monitors.length; i++) {
+            monitors[i] = new Object();
+        }
+        concurrentLookups = new ConcurrentLookups("virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Benchmark
+    public int sequential() {
+        int total = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            total += lookup(i);
+        }
+        return total;
+    }
+    
+    @Benchmark
+    public int fanOut() {
+        try (LookupScope scope = concurrentLookups.open()) {
+            @SuppressWarnings("unchecked")
+            Supplier<Integer>[] results = new Supplier[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                int value = i;
+                results[i] = scope.fork(() -> lookup(value));
+            }
+            scope.join();
+            
+            int total = 0;
+            for (Supplier<Integer> result : results) {
+                total += result.get();
+            }
+            return total;
+        }
+    }
+    
+    private int lookup(int value) {
+        if (pinned) {
+            synchronized (monitors[ThreadLocalRandom.current().nextInt(monitors.length)]) {
+                return block(value);
+            }
+        }
+        return block(value);
+    }
+    
+    private int block(int value) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+package com.reztech.reservation_http_api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories so services can be benchmarked without MongoDB.
+ * Only the methods given a handler are supported, any other call fails.
+ */
+public final class InMemoryRepositories {
+    
+    private InMemoryRepositories() {
+        // Prevent instantiation
+    }
+    
+    /**
+     * Create a repository stand-in
+     * @param repositoryType Repository interface
+     * @param handlers Method name to handler receiving the call arguments
+     * @return Repository proxy
+     */
+    public static <T> T of(Class<T> repositoryType, Map<String, Function<Object[], Object>> handlers) {
+        Map<String, Function<Object[], Object>> methods = new HashMap<>(handlers);
+        
+        Object proxy = Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (instance, method, args) -> {
+                    Function<Object[], Object> handler = methods.get(method.getName());
+                    if (handler != null) {
+                        return handler.apply(args);
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(instance);
+                            case "equals" -> instance == args[0];
+                            default -> repositoryType.getSimpleName() + " stand-in";
+                        };
+                    }
+                    throw new UnsupportedOperationException(
+                            repositoryType.getSimpleName() + "." + method.getName() + " is not supported");
+                });
+        
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,93 @@
+package com.reztech.reservation_http_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ObjectMapper.convertValue based mapping with the typed ReservationMapper on a reservation list,
+ * as done by the list endpoints. Run with -prof gc to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    
+    @Param({"1", "100", "1000"})
+    private int size;
+    
+    private List<Reservation> reservations;
+    private JsonUtils jsonUtils;
+    private ReservationMapper reservationMapper;
+    
+    @Setup
+    public void setUp() {
+        // Same defaults as the ObjectMapper Spring Boot injects into JsonUtils
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        jsonUtils = new JsonUtils(objectMapper);
+        reservationMapper = new ReservationMapper();
+        
+        reservations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            reservations.add(Reservation.builder()
+                    .id("6507c123456789abcdef" + String.format("%04d", i))
+                    .user(UserSnapshot.builder()
+                            .id("6507c123456789abcdef0001")
+                            .name("Ahmet")
+                            .surname("Yılmaz")
+                            .gsm("05551234567")
+                            .email("ahmet@example.com")
+                            .build())
+                    .business(BusinessSnapshot.builder()
+                            .id("6507c123456789abcdef0002")
+                            .name("Kuaför Salon")
+                            .build())
+                    .reservationDate(LocalDate.of(2030, 1, 7).plusDays(i % 30))
+                    .timeSlot(TimeSlot.of(LocalTime.of(9, 0).plusMinutes(30L * (i % 18))))
+                    .assignedEmployeeUserId("6507c123456789abcdef0003")
+                    .notes("Saç kesimi")
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+    }
+    
+    @Benchmark
+    public List<ReservationResponse> convertValue() {
+        return reservations.stream()
+                .map(reservation -> jsonUtils.convert(reservation, ReservationResponse.class))
+                .toList();
+    }
+    
+    @Benchmark
+    public List<ReservationResponse> typedMapper() {
+        return reservationMapper.toResponseList(reservations);
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Application configuration properties
  */
@@ -16,5 +18,25 @@ public class AppConfig {
     
     private int maxPageSize = 100;
     
+    private int maxBatchSize = 1000;
+    
+    private Duration idempotencyKeyTtl = Duration.ofHours(24);
+    
+    private Duration idempotencyWaitTimeout = Duration.ofSeconds(30);
+    
+    private Duration idempotencyLease = Duration.ofMinutes(1);
+    
+    private boolean availabilityProjectionEnabled = true;
+    
+    private int availabilityProjectionDays = 60;
+    
+    private int maxAvailabilityRangeDays = 90;
+    
+    private double maxNearbyRadiusKm = 50;
+    
+    private int nearbyCandidateLimit = 200;
+    
+    private int nearbyParallelism = 16;
+    
     private String timezone = "Europe/Istanbul";
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.reztech.reservation_http_api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration.
+ * Caches are Caffeine caches declared under spring.cache in application.yaml; they are created at startup
+ * so Actuator publishes their hit, miss and eviction metrics (cache.gets, cache.evictions, ...).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,32 @@
+package com.reztech.reservation_http_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Index bootstrap configuration properties
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.indexes")
+public class IndexConfig {
+    
+    private boolean enabled = true;
+    
+    private Mode mode = Mode.CREATE;
+    
+    /**
+     * What the bootstrap does with indexes of the registry that are missing
+     */
+    public enum Mode {
+        /**
+         * Create missing indexes
+         */
+        CREATE,
+        /**
+         * Only report missing indexes, for deployments where indexes are built by hand
+         */
+        VERIFY
+    }
+}
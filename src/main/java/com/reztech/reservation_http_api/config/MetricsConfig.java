@@ -0,0 +1,35 @@
+package com.reztech.reservation_http_api.config;
+
+import com.reztech.reservation_http_api.core.metrics.TimedMethodInterceptor;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Metrics configuration.
+ * Classes and methods annotated with {@link Timed} are timed by an infrastructure advisor, applied by the same
+ * auto-proxy creator as the caching advice, so no AspectJ weaver is needed. It runs outside the caching advice,
+ * so timers include cache hits and show the latency callers see.
+ */
+@Configuration
+public class MetricsConfig {
+    
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor timedAdvisor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Timed.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Timed.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new TimedMethodInterceptor(meterRegistryProvider));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
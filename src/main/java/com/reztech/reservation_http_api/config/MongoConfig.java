@@ -3,6 +3,9 @@ package com.reztech.reservation_http_api.config;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
+import com.reztech.reservation_http_api.core.metrics.MongoCommandMetrics;
+import com.reztech.reservation_http_api.core.metrics.MongoPoolMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +19,7 @@ import java.util.concurrent.TimeUnit;
 import static java.util.Collections.singletonList;
 
 /**
- * MongoDB configuration class with auto-indexing and validation
+ * MongoDB configuration class with validation
  */
 @Configuration
 @EnableMongoRepositories(basePackages = "com.reztech.reservation_http_api.repository")
@@ -30,6 +33,12 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     private String username;
     @Value("${spring.data.mongodb.password}")
     private String password;
+    @Autowired
+    private MongoCommandMetrics mongoCommandMetrics;
+    @Autowired
+    private MongoPoolMetrics mongoPoolMetrics;
+    @Autowired
+    private MongoPoolConfig mongoPoolConfig;
 
     @Override
     protected String getDatabaseName() {
@@ -53,11 +62,11 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     }
     
     /**
-     * Enable auto-index creation in development
+     * Indexes are declared in IndexRegistry and created or verified by IndexBootstrap, not from entity annotations
      */
     @Override
     protected boolean autoIndexCreation() {
-        return true;
+        return false;
     }
 
 
@@ -67,17 +76,19 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
                 .credential(MongoCredential.createCredential(username, getDatabaseName(), password.toCharArray()))
                 .applyToClusterSettings(settings  -> {
                     settings.hosts(singletonList(new ServerAddress(host, port)));
-                });
+                })
+                .addCommandListener(mongoCommandMetrics);
 
-        builder.applyToConnectionPoolSettings(settings -> {
-
-            settings.maxConnectionLifeTime(2000, TimeUnit.MILLISECONDS)
-                    .minSize(10)//pool
-                    .maxSize(100)//pool
-                    .maintenanceFrequency(10, TimeUnit.MILLISECONDS)
-                    .maintenanceInitialDelay(11, TimeUnit.MILLISECONDS)
-                    .maxConnectionIdleTime(30, TimeUnit.SECONDS)
-                    .maxWaitTime(15, TimeUnit.MILLISECONDS);
-        });
+        MongoPoolConfig.Pool pool = mongoPoolConfig.getActivePool();
+        builder.applyToConnectionPoolSettings(settings -> settings
+                .minSize(pool.getMinSize())
+                .maxSize(pool.getMaxSize())
+                .maxConnecting(pool.getMaxConnecting())
+                .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionLifeTime(pool.getMaxConnectionLifeTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maintenanceInitialDelay(pool.getMaintenanceInitialDelay().toMillis(), TimeUnit.MILLISECONDS)
+                .maintenanceFrequency(pool.getMaintenanceFrequency().toMillis(), TimeUnit.MILLISECONDS)
+                .addConnectionPoolListener(mongoPoolMetrics));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.reztech.reservation_http_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mongo connection pool configuration properties: named pool profiles and the profile in use
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.mongo.pool")
+public class MongoPoolConfig {
+    
+    private String profile = "default";
+    
+    private Map<String, Pool> profiles = new LinkedHashMap<>();
+    
+    /**
+     * Get the settings of the selected profile, the built-in defaults if no profile is configured
+     * @return Pool settings
+     */
+    public Pool getActivePool() {
+        Pool pool = profiles.get(profile);
+        if (pool != null) {
+            return pool;
+        }
+        if (profiles.isEmpty()) {
+            return new Pool();
+        }
+        throw new IllegalStateException(String.format("Unknown Mongo pool profile %s, configured profiles: %s",
+                profile, profiles.keySet()));
+    }
+    
+    /**
+     * Connection pool settings of a profile, applied to every server of the cluster
+     */
+    @Data
+    public static class Pool {
+        
+        private int minSize = 10;
+        
+        private int maxSize = 100;
+        
+        /**
+         * Connections being established at the same time
+         */
+        private int maxConnecting = 2;
+        
+        /**
+         * How long a request waits for a connection before the checkout fails
+         */
+        private Duration maxWaitTime = Duration.ofSeconds(2);
+        
+        /**
+         * Connections older than this are closed when checked in, zero keeps them
+         */
+        private Duration maxConnectionLifeTime = Duration.ofMinutes(30);
+        
+        /**
+         * Connections idle longer than this are closed by the maintenance task, zero keeps them
+         */
+        private Duration maxConnectionIdleTime = Duration.ofMinutes(5);
+        
+        private Duration maintenanceInitialDelay = Duration.ZERO;
+        
+        /**
+         * How often the maintenance task prunes and refills the pool to minSize
+         */
+        private Duration maintenanceFrequency = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reztech.reservation_http_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Query budget configuration properties
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetConfig {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Throw instead of logging when a request exceeds its budget, enabled in the test profile
+     */
+    private boolean failOnViolation = false;
+    
+    private boolean captureCallSites = true;
+    
+    private int defaultBudget = 20;
+    
+    /**
+     * Commands a single call site may send in one request before it is reported as N+1
+     */
+    private int maxRepeats = 10;
+    
+    /**
+     * Budgets by "METHOD /uri/{pattern}"
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+}
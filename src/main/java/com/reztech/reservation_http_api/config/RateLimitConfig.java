@@ -0,0 +1,86 @@
+package com.reztech.reservation_http_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limit configuration properties
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitConfig {
+    
+    private boolean enabled = true;
+    
+    /**
+     * Also count requests in Mongo so the limits hold across instances
+     */
+    private boolean shared = false;
+    
+    /**
+     * Header identifying the client, the remote address is used when missing
+     */
+    private String clientHeader;
+    
+    private long maxBuckets = 100_000;
+    
+    private List<Route> routes = new ArrayList<>();
+    
+    /**
+     * Get the longest period of the routes, after which an idle bucket is full again
+     * @return Longest route period
+     */
+    public Duration getLongestPeriod() {
+        return routes.stream()
+                .map(Route::getPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+    }
+    
+    /**
+     * Limit of a route: capacity requests per period for every client or business
+     */
+    @Data
+    public static class Route {
+        
+        private String name;
+        
+        /**
+         * HTTP method, any method when missing
+         */
+        private String method;
+        
+        /**
+         * Path pattern, business scoped routes need a {businessId} variable
+         */
+        private String pattern;
+        
+        private Scope scope = Scope.CLIENT;
+        
+        private int capacity;
+        
+        private Duration period = Duration.ofMinutes(1);
+        
+        /**
+         * Get the time it takes to refill one token
+         * @return Emission interval
+         */
+        public Duration getEmissionInterval() {
+            return period.dividedBy(capacity);
+        }
+    }
+    
+    /**
+     * What a route limit is counted per
+     */
+    public enum Scope {
+        CLIENT,
+        BUSINESS
+    }
+}
@@ -0,0 +1,66 @@
+package com.reztech.reservation_http_api.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Reactive MongoDB configuration of the reactive profile.
+ * The reactive client uses the same connection settings as {@link MongoConfig} and shares its mapping converter,
+ * blocking repositories stay available for the endpoints without a reactive variant.
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "com.reztech.reservation_http_api.repository.reactive")
+public class ReactiveMongoConfig {
+    
+    private final MongoConfig mongoConfig;
+    
+    public ReactiveMongoConfig(MongoConfig mongoConfig) {
+        this.mongoConfig = mongoConfig;
+    }
+    
+    /**
+     * Reactive Streams MongoDB client
+     */
+    @Bean(destroyMethod = "close")
+    public MongoClient reactiveMongoClient() {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        mongoConfig.configureClientSettings(builder);
+        return MongoClients.create(builder.build());
+    }
+    
+    /**
+     * Reactive database factory on the application database
+     */
+    @Bean
+    public ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory(MongoClient reactiveMongoClient) {
+        return new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, mongoConfig.getDatabaseName());
+    }
+    
+    /**
+     * Reactive template used by the reactive repositories
+     */
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(ReactiveMongoDatabaseFactory reactiveMongoDatabaseFactory,
+                                                       MappingMongoConverter mappingMongoConverter) {
+        return new ReactiveMongoTemplate(reactiveMongoDatabaseFactory, mappingMongoConverter);
+    }
+    
+    /**
+     * Serve WebFlux on Reactor Netty instead of the Tomcat that is also on the classpath
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
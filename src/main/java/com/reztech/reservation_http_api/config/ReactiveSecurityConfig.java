@@ -0,0 +1,26 @@
+package com.reztech.reservation_http_api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+/**
+ * WebFlux counterpart of {@link SecurityConfig} for the reactive profile
+ */
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+    
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            // Allow public access to all endpoints for now (development mode), same as the servlet stack
+            .authorizeExchange(exchanges -> exchanges.anyExchange().permitAll())
+            .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.reztech.reservation_http_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration.
+ * Jobs are declared under app.jobs in application.yaml and only registered when enabled there.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
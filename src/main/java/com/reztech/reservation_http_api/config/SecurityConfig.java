@@ -2,6 +2,7 @@ package com.reztech.reservation_http_api.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -10,6 +11,7 @@ import org.springframework.security.web.SecurityFilterChain;
 /**
  * Security configuration to allow public access to API documentation and endpoints
  */
+@Profile("!reactive")
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -0,0 +1,23 @@
+package com.reztech.reservation_http_api.constant.cache;
+
+/**
+ * Cache name constants
+ */
+public final class CacheName {
+    
+    private CacheName() {
+        // Prevent instantiation
+    }
+    
+    // Reservation settings keyed by business ID
+    public static final String RESERVATION_SETTINGS = "reservationSettings";
+    
+    // Compiled availability rule indexes keyed by business ID
+    public static final String AVAILABILITY_RULES = "availabilityRules";
+    
+    // Compiled employee schedules keyed by business ID
+    public static final String EMPLOYEE_SCHEDULES = "employeeSchedules";
+    
+    // Availability versions keyed by business ID
+    public static final String BUSINESS_VERSIONS = "businessVersions";
+}
@@ -23,11 +23,17 @@ public final class ErrorCode {
     // Business related errors
     public static final String BUSINESS_NOT_FOUND = "BUSINESS_NOT_FOUND";
     public static final String BUSINESS_ALREADY_EXISTS = "BUSINESS_ALREADY_EXISTS";
+    public static final String EMPLOYEE_NOT_FOUND = "EMPLOYEE_NOT_FOUND";
+    public static final String BUSINESS_NO_ACTIVE_EMPLOYEES = "BUSINESS_NO_ACTIVE_EMPLOYEES";
+    public static final String EMPLOYEE_AVAILABILITY_NOT_FOUND = "EMPLOYEE_AVAILABILITY_NOT_FOUND";
     
     // Reservation related errors
     public static final String RESERVATION_NOT_FOUND = "RESERVATION_NOT_FOUND";
     public static final String RESERVATION_CONFLICT = "RESERVATION_CONFLICT";
     public static final String RESERVATION_PAST_DATE = "RESERVATION_PAST_DATE";
+    public static final String RESERVATION_EMPLOYEE_NOT_AVAILABLE = "RESERVATION_EMPLOYEE_NOT_AVAILABLE";
+    public static final String RESERVATION_INSERT_FAILED = "RESERVATION_INSERT_FAILED";
+    public static final String NO_AVAILABLE_SLOT = "NO_AVAILABLE_SLOT";
     
     // Validation errors
     public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
@@ -37,9 +43,27 @@ public final class ErrorCode {
     public static final String FIELD_REQUIRED = "FIELD_REQUIRED";
     public static final String FIELD_TOO_LONG = "FIELD_TOO_LONG";
     public static final String FIELD_TOO_SHORT = "FIELD_TOO_SHORT";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
+    public static final String INVALID_PAGE_SIZE = "INVALID_PAGE_SIZE";
+    public static final String INVALID_BATCH_SIZE = "INVALID_BATCH_SIZE";
+    public static final String INVALID_IDEMPOTENCY_KEY = "INVALID_IDEMPOTENCY_KEY";
+    public static final String INVALID_LOCATION = "INVALID_LOCATION";
+    public static final String INVALID_SEARCH_RADIUS = "INVALID_SEARCH_RADIUS";
+    public static final String INVALID_TIME_WINDOW = "INVALID_TIME_WINDOW";
+    public static final String INVALID_DATE_RANGE = "INVALID_DATE_RANGE";
+    public static final String INVALID_DURATION = "INVALID_DURATION";
+    public static final String INVALID_AVAILABILITY_RULE = "INVALID_AVAILABILITY_RULE";
+    
+    // Idempotency errors
+    public static final String IDEMPOTENCY_KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    public static final String IDEMPOTENCY_REQUEST_IN_PROGRESS = "IDEMPOTENCY_REQUEST_IN_PROGRESS";
+    
+    // Rate limit errors
+    public static final String RATE_LIMIT_EXCEEDED = "RATE_LIMIT_EXCEEDED";
     
     // General errors
     public static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+    public static final String QUERY_BUDGET_EXCEEDED = "QUERY_BUDGET_EXCEEDED";
     public static final String UNEXPECTED_ERROR = "UNEXPECTED_ERROR";
     public static final String ACCESS_DENIED = "ACCESS_DENIED";
     public static final String INVALID_REQUEST = "INVALID_REQUEST";
@@ -24,12 +24,19 @@ public final class ErrorMessage {
     
     // Business related messages
     public static final String BUSINESS_NOT_FOUND = "Business not found with id: %s";
+    public static final String EMPLOYEE_NOT_FOUND = "Employee %s not found in business %s";
+    public static final String BUSINESS_NO_ACTIVE_EMPLOYEES = "Business %s has no active employees";
+    public static final String EMPLOYEE_AVAILABILITY_NOT_FOUND = "Employee availability rule not found with id: %s";
     public static final String BUSINESS_ALREADY_EXISTS = "Business already exists with name: %s";
     
     // Reservation related messages
     public static final String RESERVATION_NOT_FOUND = "Reservation not found with id: %s";
     public static final String RESERVATION_CONFLICT = "Reservation conflict for the selected time slot";
     public static final String RESERVATION_PAST_DATE = "Cannot create reservation for past date";
+    public static final String RESERVATION_EMPLOYEE_NOT_AVAILABLE = "Employee %s does not work at the selected time slot";
+    public static final String RESERVATION_NO_EMPLOYEE_AVAILABLE = "No employee works at the selected time slot";
+    public static final String RESERVATION_INSERT_FAILED = "Reservation could not be saved";
+    public static final String NO_AVAILABLE_SLOT = "No available slot for business %s in the next %d days";
     
     // Validation messages
     public static final String VALIDATION_ERROR = "Validation failed";
@@ -39,9 +46,27 @@ public final class ErrorMessage {
     public static final String FIELD_REQUIRED = "This field is required";
     public static final String FIELD_TOO_LONG = "Field exceeds maximum length";
     public static final String FIELD_TOO_SHORT = "Field is below minimum length";
+    public static final String INVALID_CURSOR = "Invalid cursor: %s";
+    public static final String INVALID_PAGE_SIZE = "Page size must be between 1 and %d";
+    public static final String INVALID_BATCH_SIZE = "Batch size must be between 1 and %d";
+    public static final String INVALID_IDEMPOTENCY_KEY = "Idempotency-Key must be between 1 and %d characters";
+    public static final String INVALID_LOCATION = "Latitude must be between -90 and 90, longitude between -180 and 180";
+    public static final String INVALID_SEARCH_RADIUS = "Search radius must be greater than 0 and at most %s km";
+    public static final String INVALID_TIME_WINDOW = "Time window needs a date and its start must be before its end";
+    public static final String INVALID_DATE_RANGE = "Date range can span at most %d days";
+    public static final String INVALID_DURATION = "Duration must be between 1 and %d minutes";
+    public static final String INVALID_AVAILABILITY_RULE = "Invalid availability rule: %s";
+    
+    // Idempotency messages
+    public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used with a different request";
+    public static final String IDEMPOTENCY_REQUEST_IN_PROGRESS = "A request with this Idempotency-Key is still in progress";
+    
+    // Rate limit messages
+    public static final String RATE_LIMIT_EXCEEDED = "Too many requests, retry after %d seconds";
     
     // General messages
     public static final String INTERNAL_ERROR = "An internal error occurred";
+    public static final String QUERY_BUDGET_EXCEEDED = "%s %s sent %d Mongo commands (budget %d, most repeated call site %d times): %s";
     public static final String UNEXPECTED_ERROR = "An unexpected error occurred";
     public static final String ACCESS_DENIED = "Access denied";
     public static final String INVALID_REQUEST = "Invalid request";
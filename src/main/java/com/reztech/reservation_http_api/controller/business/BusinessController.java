@@ -1,8 +1,12 @@
 package com.reztech.reservation_http_api.controller.business;
 
+import com.reztech.reservation_http_api.core.pagination.NdjsonStreamer;
 import com.reztech.reservation_http_api.model.api.request.CreateBusinessRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import com.reztech.reservation_http_api.model.api.response.NearbyBusinessResponse;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
 import com.reztech.reservation_http_api.service.business.BusinessService;
+import com.reztech.reservation_http_api.service.business.NearbyBusinessService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +17,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -30,6 +39,8 @@ import java.util.List;
 public class BusinessController {
     
     private final BusinessService businessService;
+    private final NearbyBusinessService nearbyBusinessService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     /**
      * Create a new business
@@ -109,13 +120,16 @@ public class BusinessController {
     }
     
     /**
-     * Get all businesses
-     * @return List of all businesses
+     * Get all businesses page by page
+     * @param cursor Cursor returned with the previous page
+     * @param size Page size
+     * @return Page of businesses
      */
     @GetMapping
     @Operation(
         summary = "Get all businesses",
-        description = "Retrieves a list of all registered businesses in the system"
+        description = "Retrieves all registered businesses in the system page by page in ascending ID order. " +
+                     "Pass the returned nextCursor to get the next page."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -123,14 +137,48 @@ public class BusinessController {
             description = "Businesses retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size"
+        )
+    })
+    public ResponseEntity<CursorPageResponse<Business>> getAllBusinesses(
+        @Parameter(description = "Cursor returned with the previous page", example = "6507c123456789abcdef0004")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to app.config.default-page-size", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Get all businesses request received with cursor: {}", cursor);
+        CursorPageResponse<Business> page = businessService.getAllBusinesses(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Stream all businesses as newline delimited JSON
+     * @return Streaming response
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all businesses",
+        description = "Streams all registered businesses in the system as newline delimited JSON, one document per line, " +
+                     "directly from the database cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Businesses streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
                 schema = @Schema(implementation = Business.class)
             )
         )
     })
-    public ResponseEntity<List<Business>> getAllBusinesses() {
-        log.info("Get all businesses request received");
-        List<Business> businesses = businessService.getAllBusinesses();
-        return ResponseEntity.ok(businesses);
+    public ResponseEntity<StreamingResponseBody> streamAllBusinesses() {
+        log.info("Stream all businesses request received");
+        return ndjsonStreamer.stream(businessService::streamAllBusinesses);
     }
     
     /**
@@ -228,6 +276,59 @@ public class BusinessController {
         return ResponseEntity.ok(businesses);
     }
     
+    /**
+     * Search businesses around a location
+     * @param latitude Latitude of the location
+     * @param longitude Longitude of the location
+     * @param radiusKm Search radius in kilometers
+     * @param size Maximum number of businesses
+     * @param date Date that needs a free slot
+     * @param from Start of the time window
+     * @param to End of the time window
+     * @return Nearby businesses, nearest first
+     */
+    @GetMapping("/nearby")
+    @Operation(
+        summary = "Search businesses near a location",
+        description = "Finds businesses within a radius of a location, nearest first. " +
+                "With a date only businesses with a free slot in the optional from-to window of that date are returned"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Nearby businesses found successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NearbyBusinessResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid location, radius, size or time window"
+        )
+    })
+    public ResponseEntity<List<NearbyBusinessResponse>> findNearby(
+        @Parameter(description = "Latitude of the location", required = true, example = "41.0082")
+        @RequestParam double latitude,
+        @Parameter(description = "Longitude of the location", required = true, example = "28.9784")
+        @RequestParam double longitude,
+        @Parameter(description = "Search radius in kilometers", example = "5")
+        @RequestParam(defaultValue = "5") double radiusKm,
+        @Parameter(description = "Maximum number of businesses, defaults to the configured page size", example = "20")
+        @RequestParam(required = false) Integer size,
+        @Parameter(description = "Only businesses with a free slot on this date (yyyy-MM-dd)", example = "2024-12-25")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @Parameter(description = "Start of the time window (HH:mm)", example = "17:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+        @Parameter(description = "End of the time window (HH:mm)", example = "20:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to
+    ) {
+        log.info("Nearby businesses request received for location: {}, {} within {} km", latitude, longitude, radiusKm);
+        List<NearbyBusinessResponse> businesses = nearbyBusinessService
+                .findNearby(latitude, longitude, radiusKm, size, date, from, to);
+        return ResponseEntity.ok(businesses);
+    }
+    
     /**
      * Delete business by ID
      * @param id Business ID
@@ -0,0 +1,142 @@
+package com.reztech.reservation_http_api.controller.business;
+
+import com.reztech.reservation_http_api.model.api.request.CreateEmployeeAvailabilityRequest;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.service.business.EmployeeAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for employee working hours and time off
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/businesses/{businessId}/employees/{userId}/availability")
+@RequiredArgsConstructor
+@Tag(name = "Employee Availability", description = "Working hours and time off of business employees")
+public class EmployeeAvailabilityController {
+    
+    private final EmployeeAvailabilityService employeeAvailabilityService;
+    
+    /**
+     * Create an availability rule for an employee
+     * @param businessId Business ID
+     * @param userId Employee user ID
+     * @param request Create employee availability request
+     * @return Created employee availability rule
+     */
+    @PostMapping
+    @Operation(
+        summary = "Create working hours or time off of an employee",
+        description = "Creates a weekly, specific date or date range rule with working hours, time off or a day off"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Employee availability rule created successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EmployeeAvailability.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid rule"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business or employee not found"
+        )
+    })
+    public ResponseEntity<EmployeeAvailability> createAvailability(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        @Parameter(description = "Employee user ID", required = true, example = "6507c123456789abcdef0001")
+        @PathVariable String userId,
+        @Parameter(description = "Create employee availability request", required = true)
+        @Valid @RequestBody CreateEmployeeAvailabilityRequest request
+    ) {
+        log.info("Create availability rule request received for employee {} of business {}", userId, businessId);
+        EmployeeAvailability availability = employeeAvailabilityService.createAvailability(businessId, userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(availability);
+    }
+    
+    /**
+     * Get availability rules of an employee
+     * @param businessId Business ID
+     * @param userId Employee user ID
+     * @return List of employee availability rules
+     */
+    @GetMapping
+    @Operation(
+        summary = "Get working hours and time off of an employee",
+        description = "Retrieves all availability rules of an employee in a business"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Employee availability rules retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EmployeeAvailability.class)
+            )
+        )
+    })
+    public ResponseEntity<List<EmployeeAvailability>> getAvailability(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        @Parameter(description = "Employee user ID", required = true, example = "6507c123456789abcdef0001")
+        @PathVariable String userId
+    ) {
+        log.info("Get availability rules request received for employee {} of business {}", userId, businessId);
+        List<EmployeeAvailability> availability = employeeAvailabilityService.getAvailability(businessId, userId);
+        return ResponseEntity.ok(availability);
+    }
+    
+    /**
+     * Delete an availability rule of an employee
+     * @param businessId Business ID
+     * @param userId Employee user ID
+     * @param id Rule ID
+     */
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "Delete working hours or time off of an employee",
+        description = "Deletes an availability rule of an employee"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Employee availability rule deleted successfully"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Employee availability rule not found"
+        )
+    })
+    public ResponseEntity<Void> deleteAvailability(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        @Parameter(description = "Employee user ID", required = true, example = "6507c123456789abcdef0001")
+        @PathVariable String userId,
+        @Parameter(description = "Rule ID", required = true, example = "6507c123456789abcdef0009")
+        @PathVariable String id
+    ) {
+        log.info("Delete availability rule {} request received for employee {} of business {}", id, userId, businessId);
+        employeeAvailabilityService.deleteAvailability(businessId, userId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
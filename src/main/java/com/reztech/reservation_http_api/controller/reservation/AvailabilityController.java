@@ -1,7 +1,13 @@
 package com.reztech.reservation_http_api.controller.reservation;
 
+import com.reztech.reservation_http_api.mapper.CompactAvailabilityMapper;
 import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.CompactAvailabilityResponse;
+import com.reztech.reservation_http_api.model.api.response.NextAvailableSlotResponse;
+import com.reztech.reservation_http_api.service.business.BusinessVersionService;
+import com.reztech.reservation_http_api.service.reservation.AvailabilityProjectionService;
 import com.reztech.reservation_http_api.service.reservation.AvailabilityService;
+import com.reztech.reservation_http_api.service.reservation.NextAvailableSlotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,16 +17,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
- * REST Controller for Availability operations
+ * REST Controller for Availability operations, served from the materialised availability projection.
+ * Responses carry an ETag of the business version, so polling clients get 304 until availability changes.
  */
+@Profile("!reactive")
 @Slf4j
 @RestController
 @RequestMapping("/api/availability")
@@ -28,7 +46,22 @@ import java.util.List;
 @Tag(name = "Availability", description = "Availability checking and time slot operations for businesses")
 public class AvailabilityController {
     
+    /**
+     * Past dates still change when rules change or reservations are deleted, so they are cached for a bounded time
+     * and revalidated with their ETag once it has passed
+     */
+    private static final CacheControl PAST_DATES_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic().mustRevalidate();
+    
+    /**
+     * Current and future dates are cached but revalidated with their ETag on every use
+     */
+    private static final CacheControl CURRENT_DATES_CACHE = CacheControl.noCache();
+    
+    private final AvailabilityProjectionService availabilityProjectionService;
     private final AvailabilityService availabilityService;
+    private final BusinessVersionService businessVersionService;
+    private final CompactAvailabilityMapper compactAvailabilityMapper;
+    private final NextAvailableSlotService nextAvailableSlotService;
     
     /**
      * Get available slots for a specific business and date
@@ -50,6 +83,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -63,12 +100,13 @@ public class AvailabilityController {
         @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
         @PathVariable String businessId,
         @Parameter(description = "Target date in yyyy-MM-dd format", required = true, example = "2024-12-25")
-        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        WebRequest webRequest
     ) {
         log.info("Get available slots request received for business: {} on date: {}", businessId, date);
         
-        AvailableSlotResponse response = availabilityService.getAvailableSlots(businessId, date);
-        return ResponseEntity.ok(response);
+        return conditionalResponse(webRequest, businessId, date, date,
+                () -> availabilityProjectionService.getAvailableSlots(businessId, date));
     }
     
     /**
@@ -92,6 +130,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -107,14 +149,64 @@ public class AvailabilityController {
         @Parameter(description = "Start date in yyyy-MM-dd format", required = true, example = "2024-12-20")
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
         @Parameter(description = "End date in yyyy-MM-dd format", required = true, example = "2024-12-31")
-        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        WebRequest webRequest
     ) {
         log.info("Get available slots for range request received for business: {} from {} to {}", 
                 businessId, startDate, endDate);
         
-        List<AvailableSlotResponse> responses = availabilityService
-                .getAvailableSlotsForRange(businessId, startDate, endDate);
-        return ResponseEntity.ok(responses);
+        return conditionalResponse(webRequest, businessId, startDate, endDate,
+                () -> availabilityProjectionService.getAvailableSlotsForRange(businessId, startDate, endDate));
+    }
+    
+    /**
+     * Get available slots for a date range in the compact representation
+     * @param businessId Business ID
+     * @param startDate Start date (format: yyyy-MM-dd)
+     * @param endDate End date (format: yyyy-MM-dd)
+     * @return Compact availability response
+     */
+    @GetMapping(value = "/business/{businessId}/range", produces = CompactAvailabilityResponse.MEDIA_TYPE)
+    @Operation(
+        summary = "Get compact available slots for a date range",
+        description = "Retrieves available slots for a business within a specified date range as a slot grid with " +
+                "per-employee bitmasks. Selected with the Accept header or format=compact"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Compact available slots for range retrieved successfully",
+            content = @Content(
+                mediaType = CompactAvailabilityResponse.MEDIA_TYPE,
+                schema = @Schema(implementation = CompactAvailabilityResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business not found"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date format or range"
+        )
+    })
+    public ResponseEntity<CompactAvailabilityResponse> getCompactAvailableSlotsForRange(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        @Parameter(description = "Start date in yyyy-MM-dd format", required = true, example = "2024-12-20")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @Parameter(description = "End date in yyyy-MM-dd format", required = true, example = "2024-12-31")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+        WebRequest webRequest
+    ) {
+        log.info("Get compact available slots for range request received for business: {} from {} to {}",
+                businessId, startDate, endDate);
+        
+        return compactResponse(webRequest, businessId, startDate, endDate);
     }
     
     /**
@@ -136,6 +228,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -143,16 +239,56 @@ public class AvailabilityController {
     })
     public ResponseEntity<List<AvailableSlotResponse>> getAvailableSlotsForWeek(
         @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
-        @PathVariable String businessId
+        @PathVariable String businessId,
+        WebRequest webRequest
     ) {
         log.info("Get available slots for next week request received for business: {}", businessId);
         
         LocalDate today = LocalDate.now();
         LocalDate nextWeek = today.plusDays(7);
         
-        List<AvailableSlotResponse> responses = availabilityService
-                .getAvailableSlotsForRange(businessId, today, nextWeek);
-        return ResponseEntity.ok(responses);
+        return conditionalResponse(webRequest, businessId, today, nextWeek,
+                () -> availabilityProjectionService.getAvailableSlotsForRange(businessId, today, nextWeek));
+    }
+    
+    /**
+     * Get available slots for next week in the compact representation
+     * @param businessId Business ID
+     * @return Compact availability response for next 7 days
+     */
+    @GetMapping(value = "/business/{businessId}/week", produces = CompactAvailabilityResponse.MEDIA_TYPE)
+    @Operation(
+        summary = "Get compact available slots for next week",
+        description = "Retrieves available slots for a business for the next 7 days starting from today as a slot grid " +
+                "with per-employee bitmasks. Selected with the Accept header or format=compact"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Compact available slots for next week retrieved successfully",
+            content = @Content(
+                mediaType = CompactAvailabilityResponse.MEDIA_TYPE,
+                schema = @Schema(implementation = CompactAvailabilityResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business not found"
+        )
+    })
+    public ResponseEntity<CompactAvailabilityResponse> getCompactAvailableSlotsForNextWeek(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        WebRequest webRequest
+    ) {
+        log.info("Get compact available slots for next week request received for business: {}", businessId);
+        
+        LocalDate today = LocalDate.now();
+        return compactResponse(webRequest, businessId, today, today.plusDays(7));
     }
     
     /**
@@ -174,6 +310,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -181,16 +321,56 @@ public class AvailabilityController {
     })
     public ResponseEntity<List<AvailableSlotResponse>> getAvailableSlotsForMonth(
         @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
-        @PathVariable String businessId
+        @PathVariable String businessId,
+        WebRequest webRequest
     ) {
         log.info("Get available slots for next month request received for business: {}", businessId);
         
         LocalDate today = LocalDate.now();
         LocalDate nextMonth = today.plusDays(30);
         
-        List<AvailableSlotResponse> responses = availabilityService
-                .getAvailableSlotsForRange(businessId, today, nextMonth);
-        return ResponseEntity.ok(responses);
+        return conditionalResponse(webRequest, businessId, today, nextMonth,
+                () -> availabilityProjectionService.getAvailableSlotsForRange(businessId, today, nextMonth));
+    }
+    
+    /**
+     * Get available slots for next month in the compact representation
+     * @param businessId Business ID
+     * @return Compact availability response for next 30 days
+     */
+    @GetMapping(value = "/business/{businessId}/month", produces = CompactAvailabilityResponse.MEDIA_TYPE)
+    @Operation(
+        summary = "Get compact available slots for next month",
+        description = "Retrieves available slots for a business for the next 30 days starting from today as a slot grid " +
+                "with per-employee bitmasks. Selected with the Accept header or format=compact"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Compact available slots for next month retrieved successfully",
+            content = @Content(
+                mediaType = CompactAvailabilityResponse.MEDIA_TYPE,
+                schema = @Schema(implementation = CompactAvailabilityResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business not found"
+        )
+    })
+    public ResponseEntity<CompactAvailabilityResponse> getCompactAvailableSlotsForNextMonth(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        WebRequest webRequest
+    ) {
+        log.info("Get compact available slots for next month request received for business: {}", businessId);
+        
+        LocalDate today = LocalDate.now();
+        return compactResponse(webRequest, businessId, today, today.plusDays(30));
     }
     
     /**
@@ -212,6 +392,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -219,13 +403,14 @@ public class AvailabilityController {
     })
     public ResponseEntity<AvailableSlotResponse> getAvailableSlotsForToday(
         @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
-        @PathVariable String businessId
+        @PathVariable String businessId,
+        WebRequest webRequest
     ) {
         log.info("Get available slots for today request received for business: {}", businessId);
         
         LocalDate today = LocalDate.now();
-        AvailableSlotResponse response = availabilityService.getAvailableSlots(businessId, today);
-        return ResponseEntity.ok(response);
+        return conditionalResponse(webRequest, businessId, today, today,
+                () -> availabilityProjectionService.getAvailableSlots(businessId, today));
     }
     
     /**
@@ -247,6 +432,10 @@ public class AvailabilityController {
                 schema = @Schema(implementation = AvailableSlotResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Availability did not change since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Business not found"
@@ -254,12 +443,131 @@ public class AvailabilityController {
     })
     public ResponseEntity<AvailableSlotResponse> getAvailableSlotsForTomorrow(
         @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
-        @PathVariable String businessId
+        @PathVariable String businessId,
+        WebRequest webRequest
     ) {
         log.info("Get available slots for tomorrow request received for business: {}", businessId);
         
         LocalDate tomorrow = LocalDate.now().plusDays(1);
-        AvailableSlotResponse response = availabilityService.getAvailableSlots(businessId, tomorrow);
+        return conditionalResponse(webRequest, businessId, tomorrow, tomorrow,
+                () -> availabilityProjectionService.getAvailableSlots(businessId, tomorrow));
+    }
+    
+    /**
+     * Get the earliest available slot of a business
+     * @param businessId Business ID
+     * @param employeeUserId Employee that has to be available
+     * @param durationMinutes Minutes that have to be free
+     * @return Earliest available slot
+     */
+    @GetMapping("/business/{businessId}/next")
+    @Operation(
+        summary = "Get the earliest available slot",
+        description = "Finds the first bookable slot from now up to the maximum advance booking days of the business, " +
+                "optionally for a specific employee and for a duration spanning consecutive slots"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Earliest available slot found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = NextAvailableSlotResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business not found or no available slot until the booking horizon"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid duration"
+        )
+    })
+    public ResponseEntity<NextAvailableSlotResponse> getNextAvailableSlot(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId,
+        @Parameter(description = "Employee user ID that has to be available", example = "6507c123456789abcdef0001")
+        @RequestParam(required = false) String employeeUserId,
+        @Parameter(description = "Minutes that have to be free, defaults to a single slot", example = "60")
+        @RequestParam(required = false) Integer durationMinutes
+    ) {
+        log.info("Get next available slot request received for business: {}", businessId);
+        
+        NextAvailableSlotResponse response = nextAvailableSlotService
+                .findNextAvailableSlot(businessId, employeeUserId, durationMinutes);
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Answer 304 without calculating availability if the client has the current version, otherwise calculate it.
+     * The ETag is derived from the business, the dates and the business version, plus the current minute when
+     * the dates include today because slots of today expire as time passes.
+     * @param webRequest Web request carrying If-None-Match
+     * @param businessId Business ID
+     * @param startDate First date of the response
+     * @param endDate Last date of the response
+     * @param body Calculates the response body
+     * @param <T> Response body type
+     * @return Response with ETag and Cache-Control, not modified if the ETag matches
+     */
+    private <T> ResponseEntity<T> conditionalResponse(WebRequest webRequest, String businessId,
+                                                      LocalDate startDate, LocalDate endDate, Supplier<T> body) {
+        return conditionalResponse(webRequest, businessId, startDate, endDate, null, body);
+    }
+    
+    /**
+     * Answer 304 without calculating availability if the client has the current version of a representation
+     * @param webRequest Web request carrying If-None-Match
+     * @param businessId Business ID
+     * @param startDate First date of the response
+     * @param endDate Last date of the response
+     * @param representation Representation of the body, null for the full one
+     * @param body Calculates the response body
+     * @param <T> Response body type
+     * @return Response with ETag and Cache-Control, not modified if the ETag matches
+     */
+    private <T> ResponseEntity<T> conditionalResponse(WebRequest webRequest, String businessId,
+                                                      LocalDate startDate, LocalDate endDate,
+                                                      String representation, Supplier<T> body) {
+        LocalDate today = LocalDate.now();
+        CacheControl cacheControl = endDate.isBefore(today) ? PAST_DATES_CACHE : CURRENT_DATES_CACHE;
+        
+        StringBuilder key = new StringBuilder()
+                .append(businessId).append('|')
+                .append(startDate).append('|')
+                .append(endDate).append('|')
+                .append(businessVersionService.getVersion(businessId));
+        if (!startDate.isAfter(today) && !endDate.isBefore(today)) {
+            // Today's slots expire at their start, so the response only changes with time at the next one
+            key.append('|').append(availabilityService.getNextSlotStart(businessId, LocalTime.now()));
+        }
+        if (representation != null) {
+            key.append('|').append(representation);
+        }
+        String eTag = "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("Availability of business {} from {} to {} not modified", businessId, startDate, endDate);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+    
+    /**
+     * Conditional response with the compact availability of a date range
+     * @param webRequest Web request carrying If-None-Match
+     * @param businessId Business ID
+     * @param startDate Start date
+     * @param endDate End date
+     * @return Compact availability response, not modified if the ETag matches
+     */
+    private ResponseEntity<CompactAvailabilityResponse> compactResponse(WebRequest webRequest, String businessId,
+                                                                        LocalDate startDate, LocalDate endDate) {
+        return conditionalResponse(webRequest, businessId, startDate, endDate, "compact",
+                () -> compactAvailabilityMapper.toCompactResponse(businessId,
+                        availabilityProjectionService.getAvailableSlotsForRange(businessId, startDate, endDate)));
+    }
+}
\ No newline at end of file
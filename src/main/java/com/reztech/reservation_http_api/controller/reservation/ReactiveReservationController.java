@@ -0,0 +1,309 @@
+package com.reztech.reservation_http_api.controller.reservation;
+
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.service.reservation.ReactiveReservationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for Reservation operations on the reactive profile, same endpoints as {@link ReservationController}.
+ * List and stream responses are read from the database as the client consumes them.
+ */
+@Profile("reactive")
+@Slf4j
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "Reservation management operations for creating, updating, and querying reservations")
+public class ReactiveReservationController {
+    
+    private final ReactiveReservationService reservationService;
+    
+    /**
+     * Create a new reservation
+     * @param request Create reservation request
+     * @return Created reservation response
+     */
+    @PostMapping
+    @Operation(
+        summary = "Create a new reservation",
+        description = "Creates a new reservation for the specified user at the given business and time slot. " +
+                     "The system will check availability and prevent double-booking."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Reservation created successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid reservation data or time slot not available"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "User or business not found"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Time slot already booked"
+        )
+    })
+    public Mono<ResponseEntity<ReservationResponse>> createReservation(
+        @Parameter(description = "Reservation creation request", required = true)
+        @Valid @RequestBody CreateReservationRequest request
+    ) {
+        log.info("Creating reservation request received");
+        return reservationService.createReservation(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+    
+    /**
+     * Update an existing reservation
+     * @param id Reservation ID
+     * @param request Update reservation request
+     * @return Updated reservation response
+     */
+    @PutMapping("/{id}")
+    @Operation(
+        summary = "Update an existing reservation",
+        description = "Updates the reservation details including date, time slot, or notes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservation updated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid reservation data"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Reservation not found"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "New time slot already booked"
+        )
+    })
+    public Mono<ReservationResponse> updateReservation(
+        @Parameter(description = "Reservation ID", required = true, example = "6507c123456789abcdef0004")
+        @PathVariable String id,
+        @Parameter(description = "Reservation update request", required = true)
+        @Valid @RequestBody CreateReservationRequest request
+    ) {
+        log.info("Update reservation request received for id: {}", id);
+        return reservationService.updateReservation(id, request);
+    }
+    
+    /**
+     * Get all reservations page by page
+     * @param cursor Cursor returned with the previous page
+     * @param size Page size
+     * @return Page of reservations
+     */
+    @GetMapping
+    @Operation(
+        summary = "Get all reservations",
+        description = "Retrieves all reservations in the system page by page in ascending ID order. " +
+                     "Pass the returned nextCursor to get the next page."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservations retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size"
+        )
+    })
+    public Mono<CursorPageResponse<ReservationResponse>> getAllReservations(
+        @Parameter(description = "Cursor returned with the previous page", example = "6507c123456789abcdef0004")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to app.config.default-page-size", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Get all reservations request received with cursor: {}", cursor);
+        return reservationService.getAllReservations(cursor, size);
+    }
+    
+    /**
+     * Stream all reservations as newline delimited JSON
+     * @return Reservations
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all reservations",
+        description = "Streams all reservations in the system as newline delimited JSON, one document per line, " +
+                     "directly from the database cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservations streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        )
+    })
+    public Flux<ReservationResponse> streamAllReservations() {
+        log.info("Stream all reservations request received");
+        return reservationService.streamAllReservations();
+    }
+    
+    /**
+     * Find reservation by ID
+     * @param id Reservation ID
+     * @return Reservation response
+     */
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "Find reservation by ID",
+        description = "Retrieves a specific reservation by its unique identifier"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservation found successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Reservation not found"
+        )
+    })
+    public Mono<ReservationResponse> findById(
+        @Parameter(description = "Reservation ID", required = true, example = "6507c123456789abcdef0004")
+        @PathVariable String id
+    ) {
+        log.info("Find reservation by id request received for id: {}", id);
+        return reservationService.findById(id);
+    }
+    
+    /**
+     * Find reservations by business ID
+     * @param businessId Business ID
+     * @return Reservations of the business
+     */
+    @GetMapping("/business/{businessId}")
+    @Operation(
+        summary = "Find reservations by business ID",
+        description = "Retrieves all reservations for a specific business"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservations found successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Business not found"
+        )
+    })
+    public Flux<ReservationResponse> findByBusinessId(
+        @Parameter(description = "Business ID", required = true, example = "6507c123456789abcdef0003")
+        @PathVariable String businessId
+    ) {
+        log.info("Find reservations by business id request received for businessId: {}", businessId);
+        return reservationService.findByBusinessId(businessId);
+    }
+    
+    /**
+     * Find reservations by user ID
+     * @param userId User ID
+     * @return Reservations of the user
+     */
+    @GetMapping("/user/{userId}")
+    @Operation(
+        summary = "Find reservations by user ID",
+        description = "Retrieves all reservations made by a specific user"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservations found successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "User not found"
+        )
+    })
+    public Flux<ReservationResponse> findByUserId(
+        @Parameter(description = "User ID", required = true, example = "6507c123456789abcdef0002")
+        @PathVariable String userId
+    ) {
+        log.info("Find reservations by user id request received for userId: {}", userId);
+        return reservationService.findByUserId(userId);
+    }
+    
+    /**
+     * Delete reservation by ID
+     * @param id Reservation ID
+     * @return No content response
+     */
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "Delete reservation by ID",
+        description = "Cancels and removes a specific reservation by its unique identifier"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Reservation deleted successfully"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Reservation not found"
+        )
+    })
+    public Mono<ResponseEntity<Void>> deleteReservation(
+        @Parameter(description = "Reservation ID", required = true, example = "6507c123456789abcdef0004")
+        @PathVariable String id
+    ) {
+        log.info("Delete reservation request received for id: {}", id);
+        return reservationService.deleteReservation(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.reztech.reservation_http_api.controller.reservation;
+
+import com.reztech.reservation_http_api.model.api.request.CreateReservationBatchRequest;
+import com.reztech.reservation_http_api.model.api.response.ReservationBatchResponse;
+import com.reztech.reservation_http_api.service.reservation.ReservationBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for batch reservation operations.
+ * Served on both the servlet and reactive stacks, on the reactive stack it runs on the blocking executor.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/reservations/batch")
+@RequiredArgsConstructor
+@Tag(name = "Reservations", description = "Reservation management operations for creating, updating, and querying reservations")
+public class ReservationBatchController {
+    
+    private final ReservationBatchService reservationBatchService;
+    
+    /**
+     * Create many reservations at once
+     * @param request Create reservation batch request
+     * @return Result of every item in request order
+     */
+    @PostMapping
+    @Operation(
+        summary = "Create many reservations",
+        description = "Creates many reservations with a single conflict check and bulk write. " +
+                     "Items are checked in request order, an item overlapping an existing reservation or an earlier " +
+                     "item of the batch is rejected as a conflict without failing the other items."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed, see the per item results",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ReservationBatchResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid batch or batch size"
+        )
+    })
+    public ResponseEntity<ReservationBatchResponse> createReservations(
+        @Parameter(description = "Reservation batch request", required = true)
+        @Valid @RequestBody CreateReservationBatchRequest request
+    ) {
+        log.info("Create reservation batch request received");
+        ReservationBatchResponse response = reservationBatchService.createReservations(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,9 @@
 package com.reztech.reservation_http_api.controller.reservation;
 
+import com.reztech.reservation_http_api.core.idempotency.IdempotencyService;
+import com.reztech.reservation_http_api.core.pagination.NdjsonStreamer;
 import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
 import com.reztech.reservation_http_api.service.reservation.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,15 +16,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 /**
  * REST Controller for Reservation operations
  */
+@Profile("!reactive")
 @Slf4j
 @RestController
 @RequestMapping("/api/reservations")
@@ -29,10 +36,15 @@ import java.util.List;
 @Tag(name = "Reservations", description = "Reservation management operations for creating, updating, and querying reservations")
 public class ReservationController {
     
+    private static final String IDEMPOTENCY_SCOPE = "reservations.create";
+    
     private final ReservationService reservationService;
+    private final IdempotencyService idempotencyService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     /**
      * Create a new reservation
+     * @param idempotencyKey Optional idempotency key, retries with the same key return the first response
      * @param request Create reservation request
      * @return Created reservation response
      */
@@ -40,7 +52,9 @@ public class ReservationController {
     @Operation(
         summary = "Create a new reservation",
         description = "Creates a new reservation for the specified user at the given business and time slot. " +
-                     "The system will check availability and prevent double-booking."
+                     "The system will check availability and prevent double-booking. " +
+                     "Send an Idempotency-Key header to make retries safe: a retry with the same key and body " +
+                     "returns the response of the first request instead of creating it again."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -61,15 +75,20 @@ public class ReservationController {
         ),
         @ApiResponse(
             responseCode = "409",
-            description = "Time slot already booked"
+            description = "Time slot already booked, Idempotency-Key reused with another body or still in progress"
         )
     })
     public ResponseEntity<ReservationResponse> createReservation(
+        @Parameter(description = "Client generated key identifying the request across retries", example = "0b6f1d52-8a4e-4d0c-9a53-2f6f0e1c9b7a")
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @Parameter(description = "Reservation creation request", required = true)
         @Valid @RequestBody CreateReservationRequest request
     ) {
         log.info("Creating reservation request received");
-        ReservationResponse response = reservationService.createReservation(request);
+        ReservationResponse response = idempotencyKey == null
+                ? reservationService.createReservation(request)
+                : idempotencyService.execute(IDEMPOTENCY_SCOPE, idempotencyKey, request, ReservationResponse.class,
+                        () -> reservationService.createReservation(request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
@@ -118,13 +137,16 @@ public class ReservationController {
     }
     
     /**
-     * Get all reservations
-     * @return List of all reservations
+     * Get all reservations page by page
+     * @param cursor Cursor returned with the previous page
+     * @param size Page size
+     * @return Page of reservations
      */
     @GetMapping
     @Operation(
         summary = "Get all reservations",
-        description = "Retrieves a list of all reservations in the system"
+        description = "Retrieves all reservations in the system page by page in ascending ID order. " +
+                     "Pass the returned nextCursor to get the next page."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -132,14 +154,48 @@ public class ReservationController {
             description = "Reservations retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size"
+        )
+    })
+    public ResponseEntity<CursorPageResponse<ReservationResponse>> getAllReservations(
+        @Parameter(description = "Cursor returned with the previous page", example = "6507c123456789abcdef0004")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to app.config.default-page-size", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Get all reservations request received with cursor: {}", cursor);
+        CursorPageResponse<ReservationResponse> page = reservationService.getAllReservations(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Stream all reservations as newline delimited JSON
+     * @return Streaming response
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all reservations",
+        description = "Streams all reservations in the system as newline delimited JSON, one document per line, " +
+                     "directly from the database cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservations streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
                 schema = @Schema(implementation = ReservationResponse.class)
             )
         )
     })
-    public ResponseEntity<List<ReservationResponse>> getAllReservations() {
-        log.info("Get all reservations request received");
-        List<ReservationResponse> reservations = reservationService.getAllReservations();
-        return ResponseEntity.ok(reservations);
+    public ResponseEntity<StreamingResponseBody> streamAllReservations() {
+        log.info("Stream all reservations request received");
+        return ndjsonStreamer.stream(reservationService::streamAllReservations);
     }
     
     /**
@@ -1,6 +1,8 @@
 package com.reztech.reservation_http_api.controller.reservation;
 
+import com.reztech.reservation_http_api.core.pagination.NdjsonStreamer;
 import com.reztech.reservation_http_api.model.api.request.CreateReservationSettingsRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
 import com.reztech.reservation_http_api.service.reservation.ReservationSettingsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,10 +16,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST Controller for Reservation Settings operations
@@ -30,6 +32,7 @@ import java.util.List;
 public class ReservationSettingsController {
     
     private final ReservationSettingsService reservationSettingsService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     /**
      * Create or update reservation settings
@@ -106,29 +109,65 @@ public class ReservationSettingsController {
     }
     
     /**
-     * Get all reservation settings
-     * @return List of all reservation settings
+     * Get all reservation settings page by page
+     * @param cursor Cursor returned with the previous page
+     * @param size Page size
+     * @return Page of reservation settings
      */
     @GetMapping
     @Operation(
         summary = "Get all reservation settings",
-        description = "Retrieves a list of all reservation settings for all businesses"
+        description = "Retrieves reservation settings of all businesses page by page in ascending ID order. " +
+                     "Pass the returned nextCursor to get the next page."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "All reservation settings retrieved successfully",
+            description = "Reservation settings retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size"
+        )
+    })
+    public ResponseEntity<CursorPageResponse<ReservationSettings>> getAllSettings(
+        @Parameter(description = "Cursor returned with the previous page", example = "6507c123456789abcdef0004")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to app.config.default-page-size", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Get all reservation settings request received with cursor: {}", cursor);
+        CursorPageResponse<ReservationSettings> page = reservationSettingsService.getAllSettings(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Stream all reservation settings as newline delimited JSON
+     * @return Streaming response
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all reservation settings",
+        description = "Streams reservation settings of all businesses as newline delimited JSON, one document per line, " +
+                     "directly from the database cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Reservation settings streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
                 schema = @Schema(implementation = ReservationSettings.class)
             )
         )
-    })  
-    public ResponseEntity<List<ReservationSettings>> getAllSettings() {
-        log.info("Get all reservation settings request received");
-        
-        List<ReservationSettings> settings = reservationSettingsService.getAllSettings();
-        return ResponseEntity.ok(settings);
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllSettings() {
+        log.info("Stream all reservation settings request received");
+        return ndjsonStreamer.stream(reservationSettingsService::streamAllSettings);
     }
     
     /**
@@ -1,6 +1,8 @@
 package com.reztech.reservation_http_api.controller.user;
 
+import com.reztech.reservation_http_api.core.pagination.NdjsonStreamer;
 import com.reztech.reservation_http_api.model.api.request.CreateUserRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.entity.main.user.User;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
 import com.reztech.reservation_http_api.model.enums.UserType;
@@ -16,8 +18,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,6 +36,7 @@ import java.util.List;
 public class UserController {
     
     private final UserService userService;
+    private final NdjsonStreamer ndjsonStreamer;
     
     /**
      * Create a new user
@@ -111,13 +116,16 @@ public class UserController {
     }
     
     /**
-     * Get all users
-     * @return List of all users
+     * Get all users page by page
+     * @param cursor Cursor returned with the previous page
+     * @param size Page size
+     * @return Page of users
      */
     @GetMapping
     @Operation(
         summary = "Get all users",
-        description = "Retrieves a list of all registered users in the system"
+        description = "Retrieves all registered users in the system page by page in ascending ID order. " +
+                     "Pass the returned nextCursor to get the next page."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -125,14 +133,48 @@ public class UserController {
             description = "Users retrieved successfully",
             content = @Content(
                 mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size"
+        )
+    })
+    public ResponseEntity<CursorPageResponse<User>> getAllUsers(
+        @Parameter(description = "Cursor returned with the previous page", example = "6507c123456789abcdef0004")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to app.config.default-page-size", example = "20")
+        @RequestParam(required = false) Integer size
+    ) {
+        log.info("Get all users request received with cursor: {}", cursor);
+        CursorPageResponse<User> page = userService.getAllUsers(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Stream all users as newline delimited JSON
+     * @return Streaming response
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream all users",
+        description = "Streams all registered users in the system as newline delimited JSON, one document per line, " +
+                     "directly from the database cursor"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Users streamed successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
                 schema = @Schema(implementation = User.class)
             )
         )
     })
-    public ResponseEntity<List<User>> getAllUsers() {
-        log.info("Get all users request received");
-        List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        log.info("Stream all users request received");
+        return ndjsonStreamer.stream(userService::streamAllUsers);
     }
     
     /**
@@ -0,0 +1,353 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Calculates slot statuses of a day from an {@link AvailabilitySnapshot} without any I/O.
+ * Expiry of past slots is applied separately, so statuses calculated ignoring expiry can be stored
+ * and expired when they are read.
+ */
+@Component
+public class AvailabilityCalculator {
+    
+    /**
+     * Reason of slots blocked because the business has no active employees, these slots still expire
+     */
+    public static final String NO_ACTIVE_EMPLOYEES_REASON = "No active employees available";
+    
+    /**
+     * Reason of slots blocked because no employee works at that time, these slots still expire
+     */
+    public static final String NO_WORKING_EMPLOYEES_REASON = "No employees working at this time";
+    
+    /**
+     * Calculate slot statuses for a date using the current time
+     * @param snapshot Availability snapshot containing the date
+     * @param date Target date
+     * @return Available slot response with all slot information and employee availability
+     */
+    public AvailableSlotResponse calculate(AvailabilitySnapshot snapshot, LocalDate date) {
+        return calculate(snapshot, date, LocalDateTime.now());
+    }
+    
+    /**
+     * Calculate slot statuses for a date
+     * @param snapshot Availability snapshot containing the date
+     * @param date Target date
+     * @param now Current date and time used to expire past slots
+     * @return Available slot response with all slot information and employee availability
+     */
+    public AvailableSlotResponse calculate(AvailabilitySnapshot snapshot, LocalDate date, LocalDateTime now) {
+        return expire(calculateIgnoringExpiry(snapshot, date), now);
+    }
+    
+    /**
+     * Calculate slot statuses for a date as if none of its slots had passed yet
+     * @param snapshot Availability snapshot containing the date
+     * @param date Target date
+     * @return Available slot response without expired slots
+     */
+    public AvailableSlotResponse calculateIgnoringExpiry(AvailabilitySnapshot snapshot, LocalDate date) {
+        List<BusinessEmployee> activeEmployees = snapshot.getActiveEmployees();
+        List<BusinessAvailability> availabilityRules = snapshot.getRulesForDate(date);
+        List<Reservation> existingReservations = snapshot.getReservationsForDate(date);
+        
+        // Build minute bitmaps of bookings and blocked periods once for the day
+        SlotOccupancy occupancy = SlotOccupancy.build(activeEmployees, existingReservations, availabilityRules,
+                snapshot.getEmployeeSchedule(), date);
+        
+        // Calculate slot statuses with employee information
+        List<AvailableSlotResponse.SlotInfo> availableSlots = new ArrayList<>();
+        List<AvailableSlotResponse.SlotInfo> blockedSlots = new ArrayList<>();
+        List<AvailableSlotResponse.SlotInfo> bookedSlots = new ArrayList<>();
+        
+        for (TimeSlot slot : snapshot.getAllPossibleSlots()) {
+            // Check if slot is blocked by business rules first
+            boolean isBlockedByRules = occupancy.isBlocked(slot);
+            
+            if (isBlockedByRules) {
+                blockedSlots.add(createBlockedSlotInfo(slot, availabilityRules));
+                continue;
+            }
+            
+            // If no active employees, mark as blocked
+            if (activeEmployees.isEmpty()) {
+                blockedSlots.add(createNoEmployeesSlotInfo(slot));
+                continue;
+            }
+            
+            // Check each employee's availability for this slot
+            List<String> availableEmployeeUserIds = new ArrayList<>();
+            List<String> reservedEmployeeUserIds = new ArrayList<>();
+            
+            BitSet bookedEmployees = occupancy.bookedEmployees(slot);
+            BitSet unavailableEmployees = occupancy.unavailableEmployees(slot);
+            for (int i = 0; i < activeEmployees.size(); i++) {
+                String employeeUserId = activeEmployees.get(i).getUserId();
+                
+                // Existing reservations are shown even if they fall into time off
+                if (bookedEmployees.get(i)) {
+                    reservedEmployeeUserIds.add(employeeUserId);
+                } else if (!unavailableEmployees.get(i)) {
+                    availableEmployeeUserIds.add(employeeUserId);
+                }
+            }
+            
+            if (availableEmployeeUserIds.isEmpty() && reservedEmployeeUserIds.isEmpty()) {
+                blockedSlots.add(createNoWorkingEmployeesSlotInfo(slot));
+                continue;
+            }
+            
+            // Create separate slot entries for available and booked employees
+            if (!availableEmployeeUserIds.isEmpty()) {
+                // Add slot for available employees
+                availableSlots.add(AvailableSlotResponse.SlotInfo.builder()
+                        .timeSlot(slot)
+                        .status(SlotStatus.AVAILABLE)
+                        .reason(null)
+                        .isBookable(true)
+                        .availableEmployeeUserIds(availableEmployeeUserIds)
+                        .reservedEmployeeUserIds(reservedEmployeeUserIds)
+                        .build());
+            }
+            
+            if (!reservedEmployeeUserIds.isEmpty()) {
+                // Add slot for booked employees
+                bookedSlots.add(AvailableSlotResponse.SlotInfo.builder()
+                        .timeSlot(slot)
+                        .status(SlotStatus.BOOKED)
+                        .reason("Employee(s) have existing reservations")
+                        .isBookable(false)
+                        .availableEmployeeUserIds(availableEmployeeUserIds)
+                        .reservedEmployeeUserIds(reservedEmployeeUserIds)
+                        .build());
+            }
+        }
+        
+        return assemble(snapshot.getBusinessId(), date, availableSlots, blockedSlots, bookedSlots, new ArrayList<>());
+    }
+    
+    /**
+     * Expire the slots of a day that have already started.
+     * Slots blocked by business rules stay blocked, every other slot that has started is reported once as expired.
+     * @param day Slot statuses of a day calculated ignoring expiry
+     * @param now Current date and time
+     * @return Available slot response with past slots expired
+     */
+    public AvailableSlotResponse expire(AvailableSlotResponse day, LocalDateTime now) {
+        LocalDate date = day.getDate();
+        
+        List<AvailableSlotResponse.SlotInfo> availableSlots = new ArrayList<>();
+        List<AvailableSlotResponse.SlotInfo> blockedSlots = new ArrayList<>();
+        List<AvailableSlotResponse.SlotInfo> bookedSlots = new ArrayList<>();
+        List<AvailableSlotResponse.SlotInfo> expiredSlots = new ArrayList<>();
+        Set<TimeSlot> expiredTimeSlots = new HashSet<>();
+        
+        for (AvailableSlotResponse.SlotInfo slot : day.getSlots()) {
+            boolean isBlockedByRules = slot.getStatus() == SlotStatus.BLOCKED
+                    && !NO_ACTIVE_EMPLOYEES_REASON.equals(slot.getReason())
+                    && !NO_WORKING_EMPLOYEES_REASON.equals(slot.getReason());
+            
+            // Check if slot is in the past, available and booked entries of the same slot expire once
+            if (!isBlockedByRules && isSlotInPast(slot.getTimeSlot(), date, now)) {
+                if (expiredTimeSlots.add(slot.getTimeSlot())) {
+                    expiredSlots.add(createPastSlotInfo(slot.getTimeSlot(), date, now));
+                }
+                continue;
+            }
+            
+            switch (slot.getStatus()) {
+                case AVAILABLE -> availableSlots.add(slot);
+                case BOOKED -> bookedSlots.add(slot);
+                case EXPIRED -> expiredSlots.add(slot);
+                default -> blockedSlots.add(slot);
+            }
+        }
+        
+        return assemble(day.getBusinessId(), date, availableSlots, blockedSlots, bookedSlots, expiredSlots);
+    }
+    
+    /**
+     * Sort slot lists by start time and combine them into a response
+     */
+    private AvailableSlotResponse assemble(String businessId, LocalDate date,
+                                           List<AvailableSlotResponse.SlotInfo> availableSlots,
+                                           List<AvailableSlotResponse.SlotInfo> blockedSlots,
+                                           List<AvailableSlotResponse.SlotInfo> bookedSlots,
+                                           List<AvailableSlotResponse.SlotInfo> expiredSlots) {
+        // Sort all slot lists by start time (ascending)
+        availableSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
+        blockedSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
+        bookedSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
+        expiredSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
+        
+        // Combine all slots into a single sorted list
+        List<AvailableSlotResponse.SlotInfo> allSlots = new ArrayList<>();
+        allSlots.addAll(availableSlots);
+        allSlots.addAll(blockedSlots);
+        allSlots.addAll(bookedSlots);
+        allSlots.addAll(expiredSlots);
+        
+        // Sort combined list by start time
+        allSlots.sort((s1, s2) -> s1.getTimeSlot().getStartTime().compareTo(s2.getTimeSlot().getStartTime()));
+        
+        return AvailableSlotResponse.builder()
+                .businessId(businessId)
+                .date(date)
+                .availableSlots(availableSlots)
+                .blockedSlots(blockedSlots)
+                .bookedSlots(bookedSlots)
+                .expiredSlots(expiredSlots)
+                .slots(allSlots)
+                .build();
+    }
+    
+    /**
+     * Generate all possible time slots based on business settings
+     * @param settings Reservation settings
+     * @return List of all possible time slots
+     */
+    public List<TimeSlot> generateAllPossibleSlots(ReservationSettings settings) {
+        List<TimeSlot> slots = new ArrayList<>();
+        
+        LocalTime currentTime = settings.getDefaultStartTime();
+        LocalTime endTime = settings.getDefaultEndTime();
+        int slotDuration = settings.getSlotDurationMinutes();
+        
+        // Handle midnight crossing (e.g., 22:00 to 02:00)
+        if (endTime.equals(LocalTime.MIDNIGHT) || endTime.isBefore(currentTime)) {
+            endTime = LocalTime.of(23, 59); // End at 23:59 for same day
+        }
+        
+        // Add safety check to prevent infinite loops
+        int maxSlots = 48; // Maximum 48 slots per day (30-minute slots)
+        int slotCount = 0;
+        
+        while (currentTime.isBefore(endTime) && slotCount < maxSlots) {
+            LocalTime slotEndTime = currentTime.plusMinutes(slotDuration);
+            
+            // Check if we're crossing midnight (slotEndTime is before currentTime)
+            if (slotEndTime.isBefore(currentTime) || slotEndTime.equals(LocalTime.MIDNIGHT)) {
+                // We've crossed midnight, stop here
+                break;
+            }
+            
+            // Check if slotEndTime exceeds the business end time
+            if (slotEndTime.isAfter(endTime)) {
+                break;
+            }
+            
+            slots.add(TimeSlot.of(currentTime, slotEndTime));
+            currentTime = slotEndTime;
+            slotCount++;
+        }
+        
+        return slots;
+    }
+    
+    /**
+     * Check if slot is in the past
+     */
+    private boolean isSlotInPast(TimeSlot slot, LocalDate queryDate, LocalDateTime now) {
+        LocalDate currentDate = now.toLocalDate();
+        LocalTime currentTime = now.toLocalTime();
+        
+        if (queryDate.isBefore(currentDate)) {
+            return true;
+        }
+        
+        return queryDate.equals(currentDate) && slot.getStartTime().isBefore(currentTime);
+    }
+    
+    /**
+     * Create blocked slot info for business rules
+     */
+    private AvailableSlotResponse.SlotInfo createBlockedSlotInfo(TimeSlot slot, List<BusinessAvailability> availabilityRules) {
+        String reason = "Blocked by business";
+        for (BusinessAvailability rule : availabilityRules) {
+            if (rule.getBlockedSlots() != null) {
+                for (TimeSlot blockedSlot : rule.getBlockedSlots()) {
+                    if (blockedSlot.overlaps(slot)) {
+                        reason = rule.getBlockReason() != null ? rule.getBlockReason() : "Blocked by business";
+                        break;
+                    }
+                }
+            }
+        }
+        
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(slot)
+                .status(SlotStatus.BLOCKED)
+                .reason(reason)
+                .isBookable(false)
+                .availableEmployeeUserIds(new ArrayList<>())
+                .reservedEmployeeUserIds(new ArrayList<>())
+                .build();
+    }
+    
+    /**
+     * Create expired slot info for past time slots
+     */
+    private AvailableSlotResponse.SlotInfo createPastSlotInfo(TimeSlot slot, LocalDate queryDate, LocalDateTime now) {
+        String reason;
+        if (queryDate.isBefore(now.toLocalDate())) {
+            reason = "Date has already passed";
+        } else {
+            reason = "Time slot has already passed";
+        }
+        
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(slot)
+                .status(SlotStatus.EXPIRED)
+                .reason(reason)
+                .isBookable(false)
+                .availableEmployeeUserIds(new ArrayList<>())
+                .reservedEmployeeUserIds(new ArrayList<>())
+                .build();
+    }
+    
+    /**
+     * Create blocked slot info when no employees are available
+     */
+    private AvailableSlotResponse.SlotInfo createNoEmployeesSlotInfo(TimeSlot slot) {
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(slot)
+                .status(SlotStatus.BLOCKED)
+                .reason(NO_ACTIVE_EMPLOYEES_REASON)
+                .isBookable(false)
+                .availableEmployeeUserIds(new ArrayList<>())
+                .reservedEmployeeUserIds(new ArrayList<>())
+                .build();
+    }
+    
+    /**
+     * Create blocked slot info when every active employee is off by their schedule
+     */
+    private AvailableSlotResponse.SlotInfo createNoWorkingEmployeesSlotInfo(TimeSlot slot) {
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(slot)
+                .status(SlotStatus.BLOCKED)
+                .reason(NO_WORKING_EMPLOYEES_REASON)
+                .isBookable(false)
+                .availableEmployeeUserIds(new ArrayList<>())
+                .reservedEmployeeUserIds(new ArrayList<>())
+                .build();
+    }
+}
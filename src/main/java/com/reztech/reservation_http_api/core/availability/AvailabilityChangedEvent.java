@@ -0,0 +1,59 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published by write paths when the availability of a business may have changed.
+ * Carries the affected dates, or no dates when every day of the business is affected.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AvailabilityChangedEvent {
+    
+    /**
+     * Business ID, null when the business is not known and every business is affected
+     */
+    private final String businessId;
+    
+    /**
+     * Affected dates, empty when every day is affected
+     */
+    private final Set<LocalDate> dates;
+    
+    /**
+     * Availability of some days of a business changed, e.g. a reservation was created
+     * @param businessId Business ID
+     * @param dates Affected dates
+     * @return Event
+     */
+    public static AvailabilityChangedEvent ofDays(String businessId, Collection<LocalDate> dates) {
+        return new AvailabilityChangedEvent(businessId, Set.copyOf(dates));
+    }
+    
+    /**
+     * Availability of every day of a business changed, e.g. its settings or employees changed
+     * @param businessId Business ID
+     * @return Event
+     */
+    public static AvailabilityChangedEvent ofBusiness(String businessId) {
+        return new AvailabilityChangedEvent(businessId, Set.of());
+    }
+    
+    /**
+     * Availability of every business may have changed
+     * @return Event
+     */
+    public static AvailabilityChangedEvent ofAllBusinesses() {
+        return new AvailabilityChangedEvent(null, Set.of());
+    }
+    
+    public boolean isWholeBusiness() {
+        return dates.isEmpty();
+    }
+}
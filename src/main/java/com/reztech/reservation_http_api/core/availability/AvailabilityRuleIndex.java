@@ -0,0 +1,183 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of the active availability rules of a business.
+ * Weekly rules are bucketed by day, specific date rules are kept in a map and date range rules
+ * in an interval tree, so the rules of any date are found in O(log n + k) without I/O.
+ */
+public class AvailabilityRuleIndex {
+    
+    public static final AvailabilityRuleIndex EMPTY = of(List.of());
+    
+    private final Map<ReservationDay, List<BusinessAvailability>> weeklyRules;
+    private final Map<LocalDate, List<BusinessAvailability>> specificDateRules;
+    private final DateRangeTree dateRangeRules;
+    private final int size;
+    
+    private AvailabilityRuleIndex(Map<ReservationDay, List<BusinessAvailability>> weeklyRules,
+                                  Map<LocalDate, List<BusinessAvailability>> specificDateRules,
+                                  DateRangeTree dateRangeRules,
+                                  int size) {
+        this.weeklyRules = weeklyRules;
+        this.specificDateRules = specificDateRules;
+        this.dateRangeRules = dateRangeRules;
+        this.size = size;
+    }
+    
+    /**
+     * Compile an index from availability rules
+     * @param rules Active availability rules of a business
+     * @return Rule index
+     */
+    public static AvailabilityRuleIndex of(List<BusinessAvailability> rules) {
+        Map<ReservationDay, List<BusinessAvailability>> weeklyRules = new EnumMap<>(ReservationDay.class);
+        Map<LocalDate, List<BusinessAvailability>> specificDateRules = new HashMap<>();
+        List<BusinessAvailability> dateRangeRules = new ArrayList<>();
+        
+        for (BusinessAvailability rule : rules) {
+            if (rule.getDayOfWeek() != null) {
+                weeklyRules.computeIfAbsent(rule.getDayOfWeek(), day -> new ArrayList<>()).add(rule);
+            }
+            if (rule.getSpecificDate() != null) {
+                specificDateRules.computeIfAbsent(rule.getSpecificDate(), date -> new ArrayList<>()).add(rule);
+            }
+            if (rule.getAvailabilityType() == AvailabilityType.DATE_RANGE
+                    && rule.getStartDate() != null
+                    && rule.getEndDate() != null) {
+                dateRangeRules.add(rule);
+            }
+        }
+        
+        return new AvailabilityRuleIndex(weeklyRules, specificDateRules, new DateRangeTree(dateRangeRules), rules.size());
+    }
+    
+    /**
+     * Get availability rules that apply to a date: weekly rules by day of week,
+     * specific date rules by date and date range rules by inclusive range
+     * @param date Target date
+     * @return List of applicable availability rules
+     */
+    public List<BusinessAvailability> getRulesForDate(LocalDate date) {
+        List<BusinessAvailability> rules = new ArrayList<>();
+        rules.addAll(weeklyRules.getOrDefault(ReservationDay.of(date.getDayOfWeek()), List.of()));
+        rules.addAll(specificDateRules.getOrDefault(date, List.of()));
+        dateRangeRules.collect(date, rules);
+        
+        return distinct(rules);
+    }
+    
+    /**
+     * Get the number of indexed rules
+     * @return Rule count
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Remove rules that were found in more than one bucket, keeping the first occurrence
+     */
+    private static List<BusinessAvailability> distinct(List<BusinessAvailability> rules) {
+        if (rules.size() < 2) {
+            return rules;
+        }
+        
+        Set<BusinessAvailability> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BusinessAvailability> distinct = new ArrayList<>(rules.size());
+        for (BusinessAvailability rule : rules) {
+            if (seen.add(rule)) {
+                distinct.add(rule);
+            }
+        }
+        return distinct;
+    }
+    
+    /**
+     * Static augmented interval tree over date range rules.
+     * Rules are sorted by start date and the tree is implicit in the array (the middle element is the root
+     * of each sub-range); every node stores the latest end date of its subtree to prune the search.
+     */
+    private static final class DateRangeTree {
+        
+        private final BusinessAvailability[] rules;
+        private final LocalDate[] maxEndDates;
+        
+        private DateRangeTree(List<BusinessAvailability> dateRangeRules) {
+            this.rules = dateRangeRules.stream()
+                    .sorted(Comparator.comparing(BusinessAvailability::getStartDate))
+                    .toArray(BusinessAvailability[]::new);
+            this.maxEndDates = new LocalDate[rules.length];
+            build(0, rules.length);
+        }
+        
+        /**
+         * Fill the latest end dates of the sub-range [from, to) and return its latest end date
+         */
+        private LocalDate build(int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            
+            int mid = (from + to) >>> 1;
+            LocalDate maxEndDate = rules[mid].getEndDate();
+            maxEndDate = later(maxEndDate, build(from, mid));
+            maxEndDate = later(maxEndDate, build(mid + 1, to));
+            maxEndDates[mid] = maxEndDate;
+            return maxEndDate;
+        }
+        
+        /**
+         * Add rules whose range contains the date, in start date order
+         */
+        private void collect(LocalDate date, List<BusinessAvailability> result) {
+            collect(date, 0, rules.length, result);
+        }
+        
+        private void collect(LocalDate date, int from, int to, List<BusinessAvailability> result) {
+            if (from >= to) {
+                return;
+            }
+            
+            int mid = (from + to) >>> 1;
+            if (maxEndDates[mid].isBefore(date)) {
+                // Every range of this subtree ends before the date
+                return;
+            }
+            
+            collect(date, from, mid, result);
+            
+            if (rules[mid].getStartDate().isAfter(date)) {
+                // This rule and every rule on its right start after the date
+                return;
+            }
+            
+            if (!rules[mid].getEndDate().isBefore(date)) {
+                result.add(rules[mid]);
+            }
+            
+            collect(date, mid + 1, to, result);
+        }
+        
+        private static LocalDate later(LocalDate first, LocalDate second) {
+            if (second == null) {
+                return first;
+            }
+            return second.isAfter(first) ? second : first;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory snapshot of everything needed to calculate availability of a business for a date range.
+ * It is loaded once per request and shared by every day of the range.
+ */
+@Getter
+@Builder
+public class AvailabilitySnapshot {
+    
+    private final String businessId;
+    
+    /**
+     * Active employees of the business
+     */
+    @Builder.Default
+    private final List<BusinessEmployee> activeEmployees = List.of();
+    
+    private final ReservationSettings settings;
+    
+    /**
+     * All possible slots of a day generated from the settings
+     */
+    @Builder.Default
+    private final List<TimeSlot> allPossibleSlots = List.of();
+    
+    /**
+     * Compiled index of the active availability rules of the business
+     */
+    @Builder.Default
+    private final AvailabilityRuleIndex ruleIndex = AvailabilityRuleIndex.EMPTY;
+    
+    /**
+     * Compiled working hours and time off of the employees
+     */
+    @Builder.Default
+    private final EmployeeSchedule employeeSchedule = EmployeeSchedule.EMPTY;
+    
+    /**
+     * Active reservations of the range grouped by reservation date
+     */
+    @Builder.Default
+    private final Map<LocalDate, List<Reservation>> reservationsByDate = Map.of();
+    
+    /**
+     * Get availability rules that apply to a specific date
+     * @param date Target date
+     * @return List of applicable availability rules
+     */
+    public List<BusinessAvailability> getRulesForDate(LocalDate date) {
+        return ruleIndex.getRulesForDate(date);
+    }
+    
+    /**
+     * Get active reservations for a specific date
+     * @param date Target date
+     * @return List of reservations
+     */
+    public List<Reservation> getReservationsForDate(LocalDate date) {
+        return reservationsByDate.getOrDefault(date, List.of());
+    }
+    
+    /**
+     * Group reservations by their reservation date
+     * @param reservations Reservations to group
+     * @return Reservations keyed by date
+     */
+    public static Map<LocalDate, List<Reservation>> groupByDate(List<Reservation> reservations) {
+        Map<LocalDate, List<Reservation>> grouped = new HashMap<>();
+        for (Reservation reservation : reservations) {
+            grouped.computeIfAbsent(reservation.getReservationDate(), date -> new ArrayList<>()).add(reservation);
+        }
+        return grouped;
+    }
+}
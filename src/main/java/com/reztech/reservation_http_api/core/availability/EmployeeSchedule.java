@@ -0,0 +1,167 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, precompiled schedule of the employees of a business built from their availability rules.
+ * Rules are bucketed per employee by day of week and date, so the unavailable minutes of an employee on a date
+ * are found without I/O and employees without rules cost a single map lookup.
+ */
+public class EmployeeSchedule {
+    
+    public static final EmployeeSchedule EMPTY = of(List.of());
+    
+    private final Map<String, EmployeeRules> rulesByEmployee;
+    private final int size;
+    
+    private EmployeeSchedule(Map<String, EmployeeRules> rulesByEmployee, int size) {
+        this.rulesByEmployee = rulesByEmployee;
+        this.size = size;
+    }
+    
+    /**
+     * Compile a schedule from employee availability rules
+     * @param rules Active availability rules of the employees of a business
+     * @return Employee schedule
+     */
+    public static EmployeeSchedule of(List<EmployeeAvailability> rules) {
+        Map<String, EmployeeRules> rulesByEmployee = new HashMap<>();
+        for (EmployeeAvailability rule : rules) {
+            if (rule.getEmployeeUserId() != null) {
+                rulesByEmployee.computeIfAbsent(rule.getEmployeeUserId(), id -> new EmployeeRules()).add(rule);
+            }
+        }
+        return new EmployeeSchedule(rulesByEmployee, rules.size());
+    }
+    
+    /**
+     * Get the minutes of a date in which an employee does not work.
+     * The employee is off the whole day if a rule says so, otherwise outside the working hours of the most specific
+     * rule type that defines any (specific date, then date range, then weekly) and inside the time off of all rules.
+     * @param employeeUserId Employee user ID
+     * @param date Target date
+     * @return Bitmap of unavailable minutes of the day, null if no rule restricts the employee on the date
+     */
+    public BitSet unavailableMinutes(String employeeUserId, LocalDate date) {
+        EmployeeRules employeeRules = rulesByEmployee.get(employeeUserId);
+        if (employeeRules == null) {
+            return null;
+        }
+        
+        List<EmployeeAvailability> rules = employeeRules.getRulesForDate(date);
+        if (rules.isEmpty()) {
+            return null;
+        }
+        
+        BitSet unavailable = new BitSet(SlotOccupancy.MINUTES_PER_DAY);
+        if (rules.stream().anyMatch(rule -> Boolean.TRUE.equals(rule.getDayOff()))) {
+            unavailable.set(0, SlotOccupancy.MINUTES_PER_DAY);
+            return unavailable;
+        }
+        
+        List<TimeSlot> workingSlots = mostSpecificWorkingSlots(rules);
+        if (workingSlots != null) {
+            unavailable.set(0, SlotOccupancy.MINUTES_PER_DAY);
+            for (TimeSlot workingSlot : workingSlots) {
+                unavailable.clear(SlotOccupancy.startMinute(workingSlot), SlotOccupancy.endMinute(workingSlot));
+            }
+        }
+        
+        for (EmployeeAvailability rule : rules) {
+            if (rule.getBlockedSlots() != null) {
+                for (TimeSlot blockedSlot : rule.getBlockedSlots()) {
+                    unavailable.set(SlotOccupancy.startMinute(blockedSlot), SlotOccupancy.endMinute(blockedSlot));
+                }
+            }
+        }
+        
+        return unavailable;
+    }
+    
+    /**
+     * Get the number of compiled rules
+     * @return Rule count
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Working hours of the most specific rule type that defines any, null if no rule defines working hours
+     */
+    private static List<TimeSlot> mostSpecificWorkingSlots(List<EmployeeAvailability> rules) {
+        for (AvailabilityType type : List.of(AvailabilityType.SPECIFIC_DATE, AvailabilityType.DATE_RANGE,
+                AvailabilityType.WEEKLY_RECURRING)) {
+            List<TimeSlot> workingSlots = new ArrayList<>();
+            boolean defined = false;
+            for (EmployeeAvailability rule : rules) {
+                if (rule.getAvailabilityType() == type && rule.getWorkingSlots() != null && !rule.getWorkingSlots().isEmpty()) {
+                    workingSlots.addAll(rule.getWorkingSlots());
+                    defined = true;
+                }
+            }
+            if (defined) {
+                return workingSlots;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Rules of a single employee bucketed by day of week, specific date and date range.
+     * An employee has few date range rules, so they are scanned linearly.
+     */
+    private static final class EmployeeRules {
+        
+        private final Map<ReservationDay, List<EmployeeAvailability>> weeklyRules = new EnumMap<>(ReservationDay.class);
+        private final Map<LocalDate, List<EmployeeAvailability>> specificDateRules = new HashMap<>();
+        private final List<EmployeeAvailability> dateRangeRules = new ArrayList<>();
+        
+        private void add(EmployeeAvailability rule) {
+            if (rule.getAvailabilityType() == null) {
+                return;
+            }
+            
+            switch (rule.getAvailabilityType()) {
+                case WEEKLY_RECURRING -> {
+                    if (rule.getDayOfWeek() != null) {
+                        weeklyRules.computeIfAbsent(rule.getDayOfWeek(), day -> new ArrayList<>()).add(rule);
+                    }
+                }
+                case SPECIFIC_DATE -> {
+                    if (rule.getSpecificDate() != null) {
+                        specificDateRules.computeIfAbsent(rule.getSpecificDate(), date -> new ArrayList<>()).add(rule);
+                    }
+                }
+                case DATE_RANGE -> {
+                    if (rule.getStartDate() != null && rule.getEndDate() != null) {
+                        dateRangeRules.add(rule);
+                    }
+                }
+            }
+        }
+        
+        private List<EmployeeAvailability> getRulesForDate(LocalDate date) {
+            List<EmployeeAvailability> rules = new ArrayList<>();
+            rules.addAll(weeklyRules.getOrDefault(ReservationDay.of(date.getDayOfWeek()), List.of()));
+            rules.addAll(specificDateRules.getOrDefault(date, List.of()));
+            for (EmployeeAvailability rule : dateRangeRules) {
+                if (!date.isBefore(rule.getStartDate()) && !date.isAfter(rule.getEndDate())) {
+                    rules.add(rule);
+                }
+            }
+            return rules;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minute-resolution occupancy of a single business day.
+ * Every employee has a bitmap of booked minutes and, if their schedule restricts the day, of unavailable minutes;
+ * the business has a bitmap of minutes blocked by rules. Checking a slot is a word-level scan of the slot's
+ * minute range instead of a walk over all reservations.
+ */
+public class SlotOccupancy {
+    
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    
+    private final List<BusinessEmployee> employees;
+    private final BitSet[] bookedMinutes;
+    private final BitSet[] unavailableMinutes;
+    private final BitSet blockedMinutes;
+    
+    // Minutes at which at least one employee is booked or unavailable (OR of the employee bitmaps), a slot that
+    // does not intersect them needs no per-employee check
+    private final BitSet anyBookedMinutes;
+    private final BitSet anyUnavailableMinutes;
+    
+    private SlotOccupancy(List<BusinessEmployee> employees, BitSet[] bookedMinutes, BitSet[] unavailableMinutes,
+                          BitSet blockedMinutes) {
+        this.employees = employees;
+        this.bookedMinutes = bookedMinutes;
+        this.unavailableMinutes = unavailableMinutes;
+        this.blockedMinutes = blockedMinutes;
+        this.anyBookedMinutes = union(bookedMinutes);
+        this.anyUnavailableMinutes = union(unavailableMinutes);
+    }
+    
+    /**
+     * Build the occupancy of a day without employee schedules
+     * @param employees Active employees of the business, in response order
+     * @param reservations Active reservations of the day
+     * @param availabilityRules Availability rules that apply to the day
+     * @return Slot occupancy of the day
+     */
+    public static SlotOccupancy build(List<BusinessEmployee> employees,
+                                      List<Reservation> reservations,
+                                      List<BusinessAvailability> availabilityRules) {
+        return build(employees, reservations, availabilityRules, EmployeeSchedule.EMPTY, null);
+    }
+    
+    /**
+     * Build the occupancy of a day
+     * @param employees Active employees of the business, in response order
+     * @param reservations Active reservations of the day
+     * @param availabilityRules Availability rules that apply to the day
+     * @param employeeSchedule Compiled schedule of the employees
+     * @param date The day
+     * @return Slot occupancy of the day
+     */
+    public static SlotOccupancy build(List<BusinessEmployee> employees,
+                                      List<Reservation> reservations,
+                                      List<BusinessAvailability> availabilityRules,
+                                      EmployeeSchedule employeeSchedule,
+                                      LocalDate date) {
+        Map<String, List<Integer>> positionsByUserId = new HashMap<>();
+        BitSet[] bookedMinutes = new BitSet[employees.size()];
+        BitSet[] unavailableMinutes = new BitSet[employees.size()];
+        
+        for (int i = 0; i < employees.size(); i++) {
+            bookedMinutes[i] = new BitSet(MINUTES_PER_DAY);
+            positionsByUserId.computeIfAbsent(employees.get(i).getUserId(), id -> new ArrayList<>()).add(i);
+            if (date != null) {
+                unavailableMinutes[i] = employeeSchedule.unavailableMinutes(employees.get(i).getUserId(), date);
+            }
+        }
+        
+        for (Reservation reservation : reservations) {
+            if (reservation.getTimeSlot() == null || reservation.getAssignedEmployeeUserId() == null) {
+                continue;
+            }
+            
+            List<Integer> positions = positionsByUserId.get(reservation.getAssignedEmployeeUserId());
+            if (positions == null) {
+                continue;
+            }
+            
+            for (int position : positions) {
+                mark(bookedMinutes[position], reservation.getTimeSlot());
+            }
+        }
+        
+        BitSet blockedMinutes = new BitSet(MINUTES_PER_DAY);
+        for (BusinessAvailability rule : availabilityRules) {
+            if (rule.getBlockedSlots() != null) {
+                for (TimeSlot blockedSlot : rule.getBlockedSlots()) {
+                    mark(blockedMinutes, blockedSlot);
+                }
+            }
+        }
+        
+        return new SlotOccupancy(employees, bookedMinutes, unavailableMinutes, blockedMinutes);
+    }
+    
+    /**
+     * Check if any minute of the slot is blocked by business rules
+     * @param slot Time slot
+     * @return true if blocked
+     */
+    public boolean isBlocked(TimeSlot slot) {
+        return intersects(blockedMinutes, slot);
+    }
+    
+    /**
+     * Check if the employee at the given position has a reservation overlapping the slot
+     * @param position Employee position in the employee list
+     * @param slot Time slot
+     * @return true if booked
+     */
+    public boolean isBooked(int position, TimeSlot slot) {
+        return intersects(bookedMinutes[position], slot);
+    }
+    
+    /**
+     * Check if the employee at the given position does not work during any minute of the slot
+     * @param position Employee position in the employee list
+     * @param slot Time slot
+     * @return true if unavailable by the employee schedule
+     */
+    public boolean isUnavailable(int position, TimeSlot slot) {
+        return unavailableMinutes[position] != null && intersects(unavailableMinutes[position], slot);
+    }
+    
+    /**
+     * Get positions of employees that have a reservation overlapping the slot
+     * @param slot Time slot
+     * @return Bitmap of booked employee positions
+     */
+    public BitSet bookedEmployees(TimeSlot slot) {
+        return employeesIntersecting(bookedMinutes, anyBookedMinutes, slot);
+    }
+    
+    /**
+     * Get positions of employees that do not work during some minute of the slot
+     * @param slot Time slot
+     * @return Bitmap of unavailable employee positions
+     */
+    public BitSet unavailableEmployees(TimeSlot slot) {
+        return employeesIntersecting(unavailableMinutes, anyUnavailableMinutes, slot);
+    }
+    
+    /**
+     * Get the employees this occupancy was built for
+     * @return Employees in position order
+     */
+    public List<BusinessEmployee> getEmployees() {
+        return employees;
+    }
+    
+    /**
+     * Positions of the employees whose minutes intersect the slot, skipping the scan if their union does not
+     */
+    private BitSet employeesIntersecting(BitSet[] minutesByEmployee, BitSet anyMinutes, TimeSlot slot) {
+        BitSet positions = new BitSet(employees.size());
+        if (!intersects(anyMinutes, slot)) {
+            return positions;
+        }
+        
+        for (int i = 0; i < minutesByEmployee.length; i++) {
+            if (minutesByEmployee[i] != null && intersects(minutesByEmployee[i], slot)) {
+                positions.set(i);
+            }
+        }
+        return positions;
+    }
+    
+    /**
+     * Union of the employee bitmaps, or'ed word by word
+     */
+    private static BitSet union(BitSet[] minutesByEmployee) {
+        BitSet union = new BitSet(MINUTES_PER_DAY);
+        for (BitSet minutes : minutesByEmployee) {
+            if (minutes != null) {
+                union.or(minutes);
+            }
+        }
+        return union;
+    }
+    
+    /**
+     * Set the minutes covered by a slot
+     */
+    private static void mark(BitSet minutes, TimeSlot slot) {
+        int start = startMinute(slot);
+        int end = endMinute(slot);
+        if (end > start) {
+            minutes.set(start, end);
+        }
+    }
+    
+    /**
+     * Check if any minute covered by a slot is set
+     */
+    private static boolean intersects(BitSet minutes, TimeSlot slot) {
+        int start = startMinute(slot);
+        int end = endMinute(slot);
+        int next = minutes.nextSetBit(start);
+        return next >= 0 && next < end;
+    }
+    
+    /**
+     * First minute of the slot (inclusive)
+     * @param slot Time slot
+     * @return Minute of the day
+     */
+    public static int startMinute(TimeSlot slot) {
+        return slot.getStartTime().toSecondOfDay() / 60;
+    }
+    
+    /**
+     * Last minute of the slot (exclusive); a slot ending at or before its start runs until midnight
+     * @param slot Time slot
+     * @return Minute of the day
+     */
+    public static int endMinute(TimeSlot slot) {
+        LocalTime endTime = slot.getEndTime();
+        int end = (endTime.toSecondOfDay() + 59) / 60;
+        return end <= startMinute(slot) ? MINUTES_PER_DAY : end;
+    }
+}
@@ -0,0 +1,51 @@
+package com.reztech.reservation_http_api.core.concurrency;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opens {@link LookupScope}s that run each lookup on its own virtual thread,
+ * so a request waits for the slowest of its independent queries instead of their sum.
+ * The executor is not exposed as a bean so it does not replace Spring's application task executor.
+ */
+@Component
+public class ConcurrentLookups {
+    
+    /**
+     * How long closing a scope waits for lookups that are still running
+     */
+    public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+    
+    private final ExecutorService executor;
+    private final Duration closeTimeout;
+    
+    public ConcurrentLookups() {
+        this(Executors.newVirtualThreadPerTaskExecutor());
+    }
+    
+    public ConcurrentLookups(ExecutorService executor) {
+        this(executor, DEFAULT_CLOSE_TIMEOUT);
+    }
+    
+    public ConcurrentLookups(ExecutorService executor, Duration closeTimeout) {
+        this.executor = executor;
+        this.closeTimeout = closeTimeout;
+    }
+    
+    /**
+     * Open a new lookup scope
+     * @return Lookup scope, to be closed by the caller
+     */
+    public LookupScope open() {
+        return new LookupScope(executor, closeTimeout);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
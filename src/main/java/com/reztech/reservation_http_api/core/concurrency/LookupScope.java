@@ -0,0 +1,138 @@
+package com.reztech.reservation_http_api.core.concurrency;
+
+import com.reztech.reservation_http_api.core.metrics.MongoRoundTrips;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Scope running independent blocking lookups concurrently, modelled on StructuredTaskScope.ShutdownOnFailure
+ * (a preview API in Java 21): lookups are forked, joined together, the first failure cancels the rest
+ * and is rethrown to the caller, and closing the scope cancels lookups that have not started and waits
+ * (up to a timeout) for the running ones, so their Mongo commands do not outlive the request.
+ * Use it in a try-with-resources block on a single thread.
+ */
+@Slf4j
+public class LookupScope implements AutoCloseable {
+    
+    private final Executor executor;
+    private final Duration closeTimeout;
+    private final List<CompletableFuture<?>> lookups = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<Void>> finished = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private boolean joined;
+    
+    LookupScope(Executor executor, Duration closeTimeout) {
+        this.executor = executor;
+        this.closeTimeout = closeTimeout;
+    }
+    
+    /**
+     * Start a lookup. Mongo commands it sends are counted for the request of the calling thread.
+     * @param lookup Blocking lookup
+     * @return Supplier of the lookup result, available after {@link #join()}
+     */
+    public <T> Supplier<T> fork(Supplier<T> lookup) {
+        Supplier<T> counted = MongoRoundTrips.propagate(lookup);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        
+        // Cancelling the future does not stop its thread, so completion of the thread is tracked separately
+        executor.execute(() -> {
+            try {
+                if (!future.isDone()) {
+                    future.complete(counted.get());
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                done.complete(null);
+            }
+        });
+        finished.add(done);
+        
+        future.whenComplete((result, error) -> {
+            if (error != null && failure.compareAndSet(null, unwrap(error))) {
+                cancelAll();
+            }
+        });
+        lookups.add(future);
+        
+        return () -> {
+            if (!joined) {
+                throw new IllegalStateException("Lookup result requested before join");
+            }
+            return future.join();
+        };
+    }
+    
+    /**
+     * Wait for all lookups and rethrow the first failure
+     */
+    public void join() {
+        try {
+            CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new IllegalStateException("Interrupted while waiting for lookups", e);
+        } catch (ExecutionException | CancellationException e) {
+            // The first failure is recorded by the failing lookup
+        }
+        
+        joined = true;
+        
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+    }
+    
+    /**
+     * Cancel lookups that have not started and wait for the running ones
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        
+        try {
+            CompletableFuture.allOf(finished.toArray(CompletableFuture[]::new))
+                    .get(closeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            log.warn("{} of {} lookups still running after {}", finished.stream().filter(done -> !done.isDone()).count(),
+                    finished.size(), closeTimeout);
+        } catch (ExecutionException e) {
+            // Completion of a lookup thread never fails
+        }
+    }
+    
+    private void cancelAll() {
+        // Running lookups are not interrupted (that would close their Mongo connection), close() waits for them
+        for (CompletableFuture<?> lookup : lookups) {
+            lookup.cancel(false);
+        }
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,23 @@
+package com.reztech.reservation_http_api.core.exception;
+
+/**
+ * Exception for requests that conflict with the current state of a resource
+ */
+public class ConflictException extends BaseException {
+    
+    public ConflictException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+    
+    public ConflictException(String errorCode, String message, Object... messageArgs) {
+        super(errorCode, message, messageArgs);
+    }
+    
+    public ConflictException(String errorCode, String message, Throwable cause) {
+        super(errorCode, message, cause);
+    }
+    
+    public ConflictException(String errorCode, String message, Throwable cause, Object... messageArgs) {
+        super(errorCode, message, cause, messageArgs);
+    }
+} 
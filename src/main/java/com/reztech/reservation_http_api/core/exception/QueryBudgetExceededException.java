@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.core.exception;
+
+/**
+ * Exception thrown when a request sends more Mongo commands than its budget allows.
+ * Only thrown when app.query-budget.fail-on-violation is enabled (test profile).
+ */
+public class QueryBudgetExceededException extends BaseException {
+    
+    public QueryBudgetExceededException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+}
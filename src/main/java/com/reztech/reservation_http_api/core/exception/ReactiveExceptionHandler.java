@@ -0,0 +1,113 @@
+package com.reztech.reservation_http_api.core.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * WebFlux counterpart of {@link GlobalExceptionHandler} for the reactive profile, with the same error responses
+ */
+@Slf4j
+@Profile("reactive")
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+    
+    /**
+     * Handle custom exceptions
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ErrorResponse> handleBaseException(BaseException ex, ServerWebExchange exchange) {
+        HttpStatus status = statusOf(ex);
+        
+        log.warn("{} exception occurred: {}", ex.getClass().getSimpleName(), ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getMessage())
+                .path(exchange.getRequest().getPath().value())
+                .timestamp(Instant.now())
+                .build();
+        
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+    
+    /**
+     * Handle request body validation errors
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(
+            WebExchangeBindException ex, ServerWebExchange exchange) {
+        
+        log.warn("Method argument validation failed: {}", ex.getMessage());
+        
+        List<ErrorResponse.ValidationError> validationErrors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(this::createValidationError)
+                .collect(Collectors.toList());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("VALIDATION_ERROR")
+                .message("Validation failed")
+                .path(exchange.getRequest().getPath().value())
+                .timestamp(Instant.now())
+                .validationErrors(validationErrors)
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+    
+    /**
+     * Handle general runtime exceptions
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex, ServerWebExchange exchange) {
+        log.error("Runtime exception occurred: {}", ex.getMessage(), ex);
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode("INTERNAL_ERROR")
+                .message("An internal error occurred")
+                .path(exchange.getRequest().getPath().value())
+                .timestamp(Instant.now())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+    
+    /**
+     * Map a custom exception to the status used by {@link GlobalExceptionHandler}
+     */
+    private HttpStatus statusOf(BaseException ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (ex instanceof ConflictException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (ex instanceof BusinessException || ex instanceof ValidationException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+    
+    /**
+     * Create validation error from field error
+     */
+    private ErrorResponse.ValidationError createValidationError(FieldError fieldError) {
+        return ErrorResponse.ValidationError.builder()
+                .field(fieldError.getField())
+                .message(fieldError.getDefaultMessage())
+                .rejectedValue(fieldError.getRejectedValue())
+                .build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.reztech.reservation_http_api.core.idempotency;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+import com.reztech.reservation_http_api.model.enums.IdempotencyStatus;
+import com.reztech.reservation_http_api.repository.reservation.IdempotencyRecordRepository;
+import com.reztech.reservation_http_api.util.JsonUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Executes write requests at most once per idempotency key.
+ * Completed responses are stored with a TTL and replayed to retries with one indexed lookup.
+ * Concurrent retries on this instance wait for the first execution, retries reaching another
+ * instance while the first execution runs are rejected as in progress. An execution holds its key for a
+ * short lease, so a key left in progress by a crashed instance or a failed completion write is taken over
+ * by a retry once the lease passes instead of blocking retries until the record expires.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+    
+    private static final int MAX_KEY_LENGTH = 255;
+    
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final JsonUtils jsonUtils;
+    private final AppConfig appConfig;
+    
+    /**
+     * Executions running on this instance keyed by record ID
+     */
+    private final Map<String, Execution> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * Execute an action once for an idempotency key and return the stored response to retries
+     * @param scope Operation scope, keys of different operations do not collide
+     * @param key Client supplied idempotency key
+     * @param request Request body, a key reused with another body is rejected
+     * @param responseType Response type
+     * @param action Action executed on the first request
+     * @param <T> Response type
+     * @return Response of the first execution
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        validateKey(key);
+        
+        String id = scope + ":" + key;
+        String requestHash = hash(jsonUtils.toJson(request));
+        
+        Execution execution = new Execution(requestHash, new CompletableFuture<>());
+        Execution running = inFlight.putIfAbsent(id, execution);
+        if (running != null) {
+            if (!running.requestHash().equals(requestHash)) {
+                throw new ConflictException(ErrorCode.IDEMPOTENCY_KEY_REUSED, ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+            }
+            
+            log.info("Waiting for in-flight request with idempotency key: {}", key);
+            return jsonUtils.fromJson(await(running.response()), responseType);
+        }
+        
+        try {
+            T response = executeOnce(id, requestHash, responseType, action);
+            execution.response().complete(jsonUtils.toJson(response));
+            return response;
+        } catch (RuntimeException e) {
+            execution.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, execution);
+        }
+    }
+    
+    /**
+     * Replay the stored response of a key or run the action and store its response
+     */
+    private <T> T executeOnce(String id, String requestHash, Class<T> responseType, Supplier<T> action) {
+        Instant now = Instant.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .id(id)
+                .requestHash(requestHash)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .createdAt(now)
+                .expiresAt(now.plus(appConfig.getIdempotencyKeyTtl()))
+                .lockedUntil(now.plus(appConfig.getIdempotencyLease()))
+                .build();
+        
+        IdempotencyRecord existing = idempotencyRecordRepository.findById(id).orElse(null);
+        if (existing == null) {
+            if (!idempotencyRecordRepository.insertIfAbsent(record)) {
+                // Another instance took the key after the lookup
+                return idempotencyRecordRepository.findById(id)
+                        .map(taken -> replay(taken, requestHash, responseType))
+                        .orElseThrow(IdempotencyService::inProgress);
+            }
+        } else if (isLeaseExpired(existing, requestHash, now)) {
+            // The execution holding the key did not complete within its lease, execute again unless another retry won
+            if (!idempotencyRecordRepository.takeOver(id, existing.getLockedUntil(), record.getLockedUntil())) {
+                throw inProgress();
+            }
+            log.warn("Taking over idempotency record {} left in progress since {}", id, existing.getCreatedAt());
+        } else {
+            return replay(existing, requestHash, responseType);
+        }
+        
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // Failed requests are not stored, a retry executes again
+            idempotencyRecordRepository.deleteById(id);
+            throw e;
+        }
+        
+        record.setStatus(IdempotencyStatus.COMPLETED);
+        record.setResponseBody(jsonUtils.toJson(response));
+        record.setLockedUntil(null);
+        try {
+            idempotencyRecordRepository.save(record);
+        } catch (RuntimeException e) {
+            // The action succeeded, so its response is returned; retries after the lease execute again
+            log.error("Could not store the response of idempotency record {}", id, e);
+        }
+        
+        return response;
+    }
+    
+    /**
+     * Check if a record of the same request is still in progress after its lease
+     */
+    private static boolean isLeaseExpired(IdempotencyRecord record, String requestHash, Instant now) {
+        return record.getStatus() == IdempotencyStatus.IN_PROGRESS
+                && record.getRequestHash().equals(requestHash)
+                && (record.getLockedUntil() == null || record.getLockedUntil().isBefore(now));
+    }
+    
+    /**
+     * Return the stored response of a record
+     */
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new ConflictException(ErrorCode.IDEMPOTENCY_KEY_REUSED, ErrorMessage.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (record.getStatus() != IdempotencyStatus.COMPLETED) {
+            throw inProgress();
+        }
+        
+        log.info("Replaying stored response for idempotency record: {}", record.getId());
+        return jsonUtils.fromJson(record.getResponseBody(), responseType);
+    }
+    
+    /**
+     * Wait for an execution running on this instance
+     */
+    private String await(CompletableFuture<String> running) {
+        try {
+            return running.get(appConfig.getIdempotencyWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgress();
+        }
+    }
+    
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(ErrorCode.INVALID_IDEMPOTENCY_KEY,
+                    String.format(ErrorMessage.INVALID_IDEMPOTENCY_KEY, MAX_KEY_LENGTH));
+        }
+    }
+    
+    private static ConflictException inProgress() {
+        return new ConflictException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, ErrorMessage.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+    
+    /**
+     * Execution running on this instance, completed with the response JSON
+     */
+    private record Execution(String requestHash, CompletableFuture<String> response) {
+    }
+    
+    private static String hash(String json) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
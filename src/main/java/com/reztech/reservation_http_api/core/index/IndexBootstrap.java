@@ -0,0 +1,200 @@
+package com.reztech.reservation_http_api.core.index;
+
+import com.mongodb.MongoException;
+import com.reztech.reservation_http_api.config.IndexConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Creates or verifies the indexes of {@link IndexRegistry} on startup, before migrations and jobs run.
+ * Declared indexes are matched by name or by key, so indexes created by hand under another name are not created twice.
+ * Conflicting and redundant indexes are only reported, changing or dropping them is left to an operator.
+ * Enabled with app.indexes.enabled, app.indexes.mode=verify only reports missing indexes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "app.indexes", name = "enabled", havingValue = "true")
+public class IndexBootstrap implements ApplicationRunner {
+    
+    private static final String ID_INDEX = "_id_";
+    
+    private final MongoTemplate mongoTemplate;
+    private final IndexConfig indexConfig;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        IndexReport report;
+        try {
+            report = bootstrap();
+        } catch (MongoException | DataAccessException e) {
+            // The application still starts and the TTL and geo indexes are still ensured by their repositories,
+            // but slot claims are not atomic until the unique day index exists
+            log.error("Index bootstrap failed, indexes are not verified", e);
+            return;
+        }
+        
+        report.getCreated().forEach(index -> log.info("Created index {}", index));
+        report.getMissing().forEach(index -> log.error("Missing index {}", index));
+        report.getConflicting().forEach(index -> log.error("Conflicting index {}", index));
+        report.getRedundant().forEach(index -> log.warn("Redundant index {}", index));
+        
+        log.info("Index bootstrap finished in {} mode: {} created, {} missing, {} conflicting, {} redundant",
+                indexConfig.getMode(), report.getCreated().size(), report.getMissing().size(),
+                report.getConflicting().size(), report.getRedundant().size());
+    }
+    
+    /**
+     * Compare every collection of the registry with Mongo and create missing indexes in create mode
+     * @return Index report
+     */
+    public IndexReport bootstrap() {
+        IndexReport report = new IndexReport();
+        
+        Map<String, List<RegisteredIndex>> byCollection = IndexRegistry.getIndexes().stream()
+                .collect(Collectors.groupingBy(index -> mongoTemplate.getCollectionName(index.getEntityClass()),
+                        LinkedHashMap::new, Collectors.toList()));
+        
+        byCollection.forEach((collectionName, declared) -> {
+            List<Document> existing = mongoTemplate.getCollection(collectionName).listIndexes().into(new ArrayList<>());
+            List<RegisteredIndex> missing = compare(collectionName, declared, existing, report);
+            
+            for (RegisteredIndex index : missing) {
+                String qualifiedName = collectionName + "." + index.getName();
+                if (indexConfig.getMode() == IndexConfig.Mode.CREATE) {
+                    mongoTemplate.indexOps(collectionName).createIndex(index.getDefinition());
+                    report.getCreated().add(qualifiedName);
+                } else {
+                    report.getMissing().add(qualifiedName);
+                }
+            }
+        });
+        
+        return report;
+    }
+    
+    /**
+     * Compare the declared indexes of a collection with the existing ones, conflicting and redundant indexes
+     * are added to the report
+     * @param collectionName Collection name
+     * @param declared Declared indexes of the collection
+     * @param existing Existing index documents as returned by listIndexes
+     * @param report Report to add conflicting and redundant indexes to
+     * @return Declared indexes that do not exist under their name or key
+     */
+    static List<RegisteredIndex> compare(String collectionName, List<RegisteredIndex> declared,
+                                         List<Document> existing, IndexReport report) {
+        List<Document> unmatched = new ArrayList<>(existing);
+        unmatched.removeIf(index -> ID_INDEX.equals(index.getString("name")));
+        List<RegisteredIndex> missing = new ArrayList<>();
+        
+        for (RegisteredIndex index : declared) {
+            Document found = unmatched.stream()
+                    .filter(candidate -> index.getName().equals(candidate.getString("name")))
+                    .findFirst()
+                    .or(() -> unmatched.stream()
+                            .filter(candidate -> sameKeys(index.getKeys(), candidate.get("key", Document.class)))
+                            .findFirst())
+                    .orElse(null);
+            
+            if (found == null) {
+                missing.add(index);
+                continue;
+            }
+            
+            unmatched.remove(found);
+            if (!sameKeys(index.getKeys(), found.get("key", Document.class)) || !sameOptions(index, found)) {
+                report.getConflicting().add(String.format("%s.%s: declared %s %s, found %s %s", collectionName,
+                        index.getName(), index.getKeys().toJson(), options(index.getDefinition().getIndexOptions()),
+                        found.get("key", Document.class).toJson(), options(found)));
+            }
+        }
+        
+        for (Document index : unmatched) {
+            Document keys = index.get("key", Document.class);
+            String coveredBy = declared.stream()
+                    .filter(candidate -> isPrefix(keys, candidate.getKeys()))
+                    .map(RegisteredIndex::getName)
+                    .findFirst()
+                    .map(name -> ", key is a prefix of " + name)
+                    .orElse("");
+            report.getRedundant().add(String.format("%s.%s: %s not declared%s", collectionName,
+                    index.getString("name"), keys.toJson(), coveredBy));
+        }
+        
+        return missing;
+    }
+    
+    /**
+     * Whether two index keys have the same fields in the same order with the same types
+     */
+    private static boolean sameKeys(Document declared, Document existing) {
+        return declared.size() == existing.size() && isPrefix(existing, declared);
+    }
+    
+    /**
+     * Whether an index key is a prefix of another one, an index on a prefix is served by the longer index
+     */
+    private static boolean isPrefix(Document prefix, Document keys) {
+        if (prefix.size() > keys.size()) {
+            return false;
+        }
+        
+        List<Map.Entry<String, Object>> prefixEntries = new ArrayList<>(prefix.entrySet());
+        List<Map.Entry<String, Object>> keyEntries = new ArrayList<>(keys.entrySet());
+        for (int i = 0; i < prefixEntries.size(); i++) {
+            if (!prefixEntries.get(i).getKey().equals(keyEntries.get(i).getKey())
+                    || !keyType(prefixEntries.get(i).getValue()).equals(keyType(keyEntries.get(i).getValue()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Key types are numbers for ordered keys (stored as int, long or double) and strings like "2dsphere"
+     */
+    private static String keyType(Object value) {
+        return value instanceof Number number ? String.valueOf(number.intValue()) : String.valueOf(value);
+    }
+    
+    private static boolean sameOptions(RegisteredIndex index, Document existing) {
+        Document declared = index.getDefinition().getIndexOptions();
+        return declared.getBoolean("unique", false) == existing.getBoolean("unique", false)
+                && Objects.equals(expireAfterSeconds(declared), expireAfterSeconds(existing));
+    }
+    
+    private static Long expireAfterSeconds(Document options) {
+        Object value = options.get("expireAfterSeconds");
+        return value instanceof Number number ? number.longValue() : null;
+    }
+    
+    private static String options(Document options) {
+        List<String> flags = new ArrayList<>();
+        if (options.getBoolean("unique", false)) {
+            flags.add("unique");
+        }
+        Long expireAfterSeconds = expireAfterSeconds(options);
+        if (expireAfterSeconds != null) {
+            flags.add("ttl " + expireAfterSeconds + "s");
+        }
+        return flags.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.reztech.reservation_http_api.core.index;
+
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.ratelimit.RateLimitBucket;
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.repository.business.BusinessRepositoryCustomImpl;
+import com.reztech.reservation_http_api.repository.ratelimit.RateLimitBucketRepositoryCustomImpl;
+import com.reztech.reservation_http_api.repository.reservation.IdempotencyRecordRepositoryCustomImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.List;
+
+/**
+ * Every index of the application, declared for the repository queries that need it.
+ * Keys use the persisted field names, embedded snapshots store their ID as _id.
+ * Created or verified on startup by {@link IndexBootstrap}, indexes found in Mongo but not declared here are reported as redundant.
+ */
+public final class IndexRegistry {
+    
+    private IndexRegistry() {
+        // Prevent instantiation
+    }
+    
+    // Active reservations of a business by date and employee (ReservationRepository.findActiveBy...),
+    // equality fields come before the date so date ranges are scanned without filtering cancelled ones
+    public static final Index RESERVATION_BUSINESS_ACTIVE_DATE = new Index()
+            .on("business._id", Sort.Direction.ASC)
+            .on("isCancelled", Sort.Direction.ASC)
+            .on("reservationDate", Sort.Direction.ASC)
+            .on("assignedEmployeeUserId", Sort.Direction.ASC)
+            .named("business_cancelled_date_employee");
+    
+    // Reservations of a user (ReservationRepository.findByUserId)
+    public static final Index RESERVATION_USER_DATE = new Index()
+            .on("user._id", Sort.Direction.ASC)
+            .on("reservationDate", Sort.Direction.ASC)
+            .named("user_id_date");
+    
+    // One settings document per business (ReservationSettingsRepository)
+    public static final Index RESERVATION_SETTINGS_BUSINESS = new Index()
+            .on("businessId", Sort.Direction.ASC)
+            .unique()
+            .named("business_id_unique");
+    
+    // One slot claim document per employee and day (ReservationSlotClaimRepository). Claims are only atomic with it:
+    // an upsert that finds an overlapping interval inserts a second day document, which this index rejects
+    public static final Index RESERVATION_SLOT_CLAIM_DAY = new Index()
+            .on("businessId", Sort.Direction.ASC)
+            .on("employeeUserId", Sort.Direction.ASC)
+            .on("reservationDate", Sort.Direction.ASC)
+            .unique()
+            .named("business_employee_date_unique");
+    
+    // Availability rules of a business (BusinessAvailabilityRepository), day, date and range conditions are
+    // filtered on the few rules of the business
+    public static final Index BUSINESS_AVAILABILITY_ACTIVE_TYPE = new Index()
+            .on("businessId", Sort.Direction.ASC)
+            .on("isActive", Sort.Direction.ASC)
+            .on("availabilityType", Sort.Direction.ASC)
+            .named("business_active_type");
+    
+    // Working hours and time off of the employees of a business (EmployeeAvailabilityRepository)
+    public static final Index EMPLOYEE_AVAILABILITY_BUSINESS_EMPLOYEE = new Index()
+            .on("businessId", Sort.Direction.ASC)
+            .on("employeeUserId", Sort.Direction.ASC)
+            .on("availabilityType", Sort.Direction.ASC)
+            .named("business_employee_type");
+    
+    // Businesses of an owner (BusinessRepository.findByOwnerId)
+    public static final Index BUSINESS_OWNER = new Index()
+            .on("owner._id", Sort.Direction.ASC)
+            .named("owner_id");
+    
+    // Businesses an employee works for (BusinessRepository.findByEmployeeUserId...)
+    public static final Index BUSINESS_EMPLOYEE = new Index()
+            .on("employees.userId", Sort.Direction.ASC)
+            .named("employees_user_id");
+    
+    // Users by email and gsm (UserRepository)
+    public static final Index USER_EMAIL = new Index()
+            .on("email", Sort.Direction.ASC)
+            .unique()
+            .named("email_unique");
+    
+    public static final Index USER_GSM = new Index()
+            .on("gsm", Sort.Direction.ASC)
+            .named("gsm");
+    
+    public static final Index USER_TYPE = new Index()
+            .on("userType", Sort.Direction.ASC)
+            .named("user_type");
+    
+    // Materialised availability of a business by date range (AvailabilityDayRepository)
+    public static final Index AVAILABILITY_DAY_BUSINESS_DATE = new Index()
+            .on("businessId", Sort.Direction.ASC)
+            .on("date", Sort.Direction.ASC)
+            .named("business_date");
+    
+    private static final List<RegisteredIndex> INDEXES = List.of(
+            new RegisteredIndex(Reservation.class, RESERVATION_BUSINESS_ACTIVE_DATE),
+            new RegisteredIndex(Reservation.class, RESERVATION_USER_DATE),
+            new RegisteredIndex(ReservationSettings.class, RESERVATION_SETTINGS_BUSINESS),
+            new RegisteredIndex(ReservationSlotClaim.class, RESERVATION_SLOT_CLAIM_DAY),
+            new RegisteredIndex(BusinessAvailability.class, BUSINESS_AVAILABILITY_ACTIVE_TYPE),
+            new RegisteredIndex(EmployeeAvailability.class, EMPLOYEE_AVAILABILITY_BUSINESS_EMPLOYEE),
+            new RegisteredIndex(Business.class, BUSINESS_OWNER),
+            new RegisteredIndex(Business.class, BUSINESS_EMPLOYEE),
+            new RegisteredIndex(Business.class, BusinessRepositoryCustomImpl.LOCATION_POINT_INDEX),
+            new RegisteredIndex(User.class, USER_EMAIL),
+            new RegisteredIndex(User.class, USER_GSM),
+            new RegisteredIndex(User.class, USER_TYPE),
+            new RegisteredIndex(AvailabilityDay.class, AVAILABILITY_DAY_BUSINESS_DATE),
+            new RegisteredIndex(IdempotencyRecord.class, IdempotencyRecordRepositoryCustomImpl.EXPIRY_INDEX),
+            new RegisteredIndex(RateLimitBucket.class, RateLimitBucketRepositoryCustomImpl.EXPIRES_AT_TTL_INDEX));
+    
+    /**
+     * Get every declared index
+     * @return Registered indexes
+     */
+    public static List<RegisteredIndex> getIndexes() {
+        return INDEXES;
+    }
+}
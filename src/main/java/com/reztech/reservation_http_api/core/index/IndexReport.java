@@ -0,0 +1,38 @@
+package com.reztech.reservation_http_api.core.index;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of comparing the declared indexes with the indexes found in Mongo, entries are "collection.index"
+ */
+@Getter
+public class IndexReport {
+    
+    /**
+     * Declared indexes that were not found and not created
+     */
+    private final List<String> missing = new ArrayList<>();
+    
+    private final List<String> created = new ArrayList<>();
+    
+    /**
+     * Declared indexes found with a different key or options, or whose name is taken by a different index
+     */
+    private final List<String> conflicting = new ArrayList<>();
+    
+    /**
+     * Indexes found in Mongo that are not declared, they are never dropped automatically
+     */
+    private final List<String> redundant = new ArrayList<>();
+    
+    /**
+     * Whether every declared index exists as declared
+     * @return True if nothing is missing or conflicting
+     */
+    public boolean isComplete() {
+        return missing.isEmpty() && conflicting.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.reztech.reservation_http_api.core.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+/**
+ * An index of the registry with the entity whose collection it belongs to
+ */
+@Getter
+@RequiredArgsConstructor
+public class RegisteredIndex {
+    
+    private final Class<?> entityClass;
+    
+    private final IndexDefinition definition;
+    
+    /**
+     * Name of the index, every index of the registry is named
+     * @return Index name
+     */
+    public String getName() {
+        return definition.getIndexOptions().getString("name");
+    }
+    
+    /**
+     * Keys of the index by persisted field name
+     * @return Index keys
+     */
+    public Document getKeys() {
+        return definition.getIndexKeys();
+    }
+}
@@ -0,0 +1,117 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo driver command listener recording latency and returned document counts per collection and command,
+ * and counting round trips of the current request (see {@link MongoRoundTrips}).
+ * Publishes mongodb.commands (timer by collection, command and status) and mongodb.command.documents.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoCommandMetrics implements CommandListener {
+    
+    private static final String UNKNOWN_COLLECTION = "none";
+    
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Collection of the commands in flight by request ID, replies do not name it
+     */
+    private final Map<Integer, String> collections = new ConcurrentHashMap<>();
+    
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String collection = collection(event.getCommandName(), event.getCommand());
+        collections.put(event.getRequestId(), collection);
+        // The sync driver notifies on the calling thread
+        MongoRoundTrips.increment(event.getCommandName(), collection);
+    }
+    
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String collection = collections.getOrDefault(event.getRequestId(), UNKNOWN_COLLECTION);
+        collections.remove(event.getRequestId());
+        
+        record(collection, event.getCommandName(), "success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+        
+        long documents = documents(event.getResponse());
+        if (documents >= 0) {
+            DistributionSummary.builder("mongodb.command.documents")
+                    .description("Documents returned or written by a Mongo command")
+                    .tag("collection", collection)
+                    .tag("command", event.getCommandName())
+                    .register(meterRegistry)
+                    .record(documents);
+        }
+    }
+    
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String collection = collections.getOrDefault(event.getRequestId(), UNKNOWN_COLLECTION);
+        collections.remove(event.getRequestId());
+        
+        record(collection, event.getCommandName(), "failed", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+    
+    private void record(String collection, String command, String status, long elapsedNanos) {
+        Timer.builder("mongodb.commands")
+                .description("Mongo command latency")
+                .tag("collection", collection)
+                .tag("command", command)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Get the collection of a command: the value of its first field (find, insert, aggregate, ...)
+     * or the collection field of getMore
+     */
+    static String collection(String commandName, BsonDocument command) {
+        if ("getMore".equals(commandName)) {
+            BsonValue collection = command.get("collection");
+            return collection != null && collection.isString() ? collection.asString().getValue() : UNKNOWN_COLLECTION;
+        }
+        
+        BsonValue first = command.isEmpty() ? null : command.get(command.getFirstKey());
+        return first != null && first.isString() ? first.asString().getValue() : UNKNOWN_COLLECTION;
+    }
+    
+    /**
+     * Get the documents of a reply: the batch of cursor replies, n of writes and counts, -1 if not known
+     */
+    static long documents(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().containsKey("firstBatch") ? cursor.asDocument().get("firstBatch")
+                    : cursor.asDocument().get("nextBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+        }
+        
+        BsonValue n = response.get("n");
+        if (n != null && n.isNumber()) {
+            return n.asNumber().longValue();
+        }
+        
+        BsonValue value = response.get("value");
+        if (value != null) {
+            return value.isNull() ? 0 : 1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,168 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionReadyEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mongo driver connection pool listener, tagged by cluster ID and server.
+ * Publishes mongodb.pool.checkout (wait for a connection by outcome: success, timeout, ...),
+ * mongodb.pool.size, mongodb.pool.checked.out and mongodb.pool.waiting gauges, and connection churn as
+ * mongodb.pool.connections.created, mongodb.pool.connections.closed (by reason) and mongodb.pool.connection.ready
+ * (time to open and handshake a connection).
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoPoolMetrics implements ConnectionPoolListener {
+    
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+    
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        Tags tags = tags(event.getServerId());
+        Pool pool = new Pool();
+        pool.meters = List.of(
+                Gauge.builder("mongodb.pool.size", pool.size, AtomicInteger::get)
+                        .description("Open connections of the pool")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder("mongodb.pool.checked.out", pool.checkedOut, AtomicInteger::get)
+                        .description("Connections in use")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder("mongodb.pool.waiting", pool.waiting, AtomicInteger::get)
+                        .description("Requests waiting for a connection")
+                        .tags(tags)
+                        .register(meterRegistry));
+        pools.put(event.getServerId(), pool);
+    }
+    
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        Pool pool = pools.remove(event.getServerId());
+        if (pool != null) {
+            pool.meters.forEach(meterRegistry::remove);
+        }
+    }
+    
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        pool(event.getServerId()).waiting.incrementAndGet();
+    }
+    
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        ServerId serverId = event.getConnectionId().getServerId();
+        Pool pool = pool(serverId);
+        pool.waiting.decrementAndGet();
+        pool.checkedOut.incrementAndGet();
+        
+        recordCheckout(serverId, "success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+    
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        pool(event.getServerId()).waiting.decrementAndGet();
+        
+        recordCheckout(event.getServerId(), event.getReason().name().toLowerCase(Locale.ROOT),
+                event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+    
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        pool(event.getConnectionId().getServerId()).checkedOut.decrementAndGet();
+    }
+    
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        ServerId serverId = event.getConnectionId().getServerId();
+        pool(serverId).size.incrementAndGet();
+        
+        Counter.builder("mongodb.pool.connections.created")
+                .description("Connections opened by the pool")
+                .tags(tags(serverId))
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    @Override
+    public void connectionReady(ConnectionReadyEvent event) {
+        Timer.builder("mongodb.pool.connection.ready")
+                .description("Time to open and handshake a connection")
+                .tags(tags(event.getConnectionId().getServerId()))
+                .register(meterRegistry)
+                .record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+    
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        ServerId serverId = event.getConnectionId().getServerId();
+        pool(serverId).size.decrementAndGet();
+        
+        Counter.builder("mongodb.pool.connections.closed")
+                .description("Connections closed by the pool")
+                .tags(tags(serverId))
+                .tag("reason", event.getReason().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    private void recordCheckout(ServerId serverId, String outcome, long elapsedNanos) {
+        Timer.builder("mongodb.pool.checkout")
+                .description("Time waited for a pooled connection")
+                .tags(tags(serverId))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * Get the counters of a pool, events of a pool that was not seen being created are counted without gauges
+     */
+    private Pool pool(ServerId serverId) {
+        return pools.computeIfAbsent(serverId, id -> new Pool());
+    }
+    
+    /**
+     * Tags of a pool, the cluster ID tells the pools of the blocking and the reactive client apart
+     */
+    private static Tags tags(ServerId serverId) {
+        return Tags.of("cluster.id", serverId.getClusterId().getValue(), "server", serverId.getAddress().toString());
+    }
+    
+    /**
+     * Gauge values of a pool and the gauges to remove when it closes
+     */
+    private static class Pool {
+        
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private List<Meter> meters = List.of();
+    }
+}
@@ -0,0 +1,69 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.reztech.reservation_http_api.config.QueryBudgetConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records the Mongo round trips of every request as mongodb.round.trips, tagged by method and URI pattern
+ * like http.server.requests, so endpoints sending a query per item (N+1) stand out on dashboards,
+ * and checks them against the query budget of the endpoint.
+ * Requests that did not reach a handler are not recorded. Only the part of a streamed response
+ * written before the request thread returns is counted.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class MongoRoundTripFilter extends OncePerRequestFilter {
+    
+    private final MeterRegistry meterRegistry;
+    private final QueryBudget queryBudget;
+    private final QueryBudgetConfig queryBudgetConfig;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map<String, Integer> callSites;
+        int roundTrips;
+        
+        MongoRoundTrips.start(queryBudgetConfig.isEnabled() && queryBudgetConfig.isCaptureCallSites());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            callSites = MongoRoundTrips.callSites();
+            roundTrips = MongoRoundTrips.stop();
+        }
+        
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (uri == null) {
+            return;
+        }
+        
+        log.debug("{} {} sent {} Mongo commands", request.getMethod(), uri, roundTrips);
+        DistributionSummary.builder("mongodb.round.trips")
+                .description("Mongo commands sent per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri.toString())
+                .register(meterRegistry)
+                .record(roundTrips);
+        
+        queryBudget.check(request.getMethod(), uri.toString(), roundTrips, callSites);
+    }
+}
@@ -0,0 +1,146 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the Mongo commands sent on behalf of the current request, optionally grouped by the application call site
+ * that sent them.
+ * The counter is bound to the request thread and carried into lookups forked by LookupScope with
+ * {@link #propagate(Supplier)}, so commands sent from virtual threads are counted for the request that forked them.
+ */
+public final class MongoRoundTrips {
+    
+    private static final String APP_PACKAGE = "com.reztech.reservation_http_api.";
+    private static final String DRIVER_LISTENER = MongoCommandMetrics.class.getName();
+    private static final String REPOSITORY_PACKAGE = APP_PACKAGE + "repository.";
+    private static final String PROXY_CLASS_MARKER = "$$";
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+    
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<Counter> COUNTER = new ThreadLocal<>();
+    
+    private MongoRoundTrips() {
+        // Prevent instantiation
+    }
+    
+    /**
+     * Start counting on the current thread without call sites
+     */
+    public static void start() {
+        start(false);
+    }
+    
+    /**
+     * Start counting on the current thread
+     * @param captureCallSites Whether to also count commands per call site, which walks the stack of every command
+     */
+    public static void start(boolean captureCallSites) {
+        COUNTER.set(new Counter(captureCallSites));
+    }
+    
+    /**
+     * Stop counting on the current thread
+     * @return Commands sent since {@link #start()}
+     */
+    public static int stop() {
+        Counter counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter.count.get() : 0;
+    }
+    
+    /**
+     * Get the commands sent so far per call site, most frequent first
+     * @return Commands per call site, empty if call sites are not captured
+     */
+    public static Map<String, Integer> callSites() {
+        Counter counter = COUNTER.get();
+        Map<String, Integer> callSites = new LinkedHashMap<>();
+        if (counter == null || counter.callSites == null) {
+            return callSites;
+        }
+        
+        counter.callSites.entrySet().stream()
+                .sorted(Map.Entry.<String, AtomicInteger>comparingByValue(Comparator.comparingInt(AtomicInteger::get)).reversed())
+                .forEach(entry -> callSites.put(entry.getKey(), entry.getValue().get()));
+        return callSites;
+    }
+    
+    /**
+     * Count a command if the current thread is counting
+     * @param commandName Command name
+     * @param collection Collection of the command
+     */
+    public static void increment(String commandName, String collection) {
+        Counter counter = COUNTER.get();
+        if (counter == null) {
+            return;
+        }
+        
+        counter.count.incrementAndGet();
+        if (counter.callSites != null) {
+            counter.callSites.computeIfAbsent(callSite() + " " + commandName + " " + collection,
+                    key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+    
+    /**
+     * Wrap a task so it counts into the counter of the current thread when run on another thread
+     * @param task Task to wrap
+     * @return Task counting into the current counter, the task itself if the current thread is not counting
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Counter counter = COUNTER.get();
+        if (counter == null) {
+            return task;
+        }
+        
+        return () -> {
+            Counter previous = COUNTER.get();
+            COUNTER.set(counter);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    COUNTER.set(previous);
+                } else {
+                    COUNTER.remove();
+                }
+            }
+        };
+    }
+    
+    /**
+     * Get the innermost application frame outside this counter, repositories and Spring proxies,
+     * which is the service line that called the repository
+     */
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().equals(MongoRoundTrips.class.getName())
+                        && !frame.getClassName().equals(DRIVER_LISTENER)
+                        && !frame.getClassName().startsWith(REPOSITORY_PACKAGE)
+                        && !frame.getClassName().contains(PROXY_CLASS_MARKER))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse(UNKNOWN_CALL_SITE));
+    }
+    
+    /**
+     * Commands of one request, shared by the threads working for it
+     */
+    private static final class Counter {
+        
+        private final AtomicInteger count = new AtomicInteger();
+        private final Map<String, AtomicInteger> callSites;
+        
+        private Counter(boolean captureCallSites) {
+            this.callSites = captureCallSites ? new ConcurrentHashMap<>() : null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.reztech.reservation_http_api.config.QueryBudgetConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Checks the Mongo commands of a request against the budget of its endpoint.
+ * A request violates its budget when it sends more commands than the budget, or when one call site sends more than
+ * app.query-budget.max-repeats of them, which is how an N+1 loop looks even within the budget.
+ * Violations are logged with the call sites and counted as mongodb.query.budget.violations, and fail the request
+ * when app.query-budget.fail-on-violation is enabled.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudget {
+    
+    private final QueryBudgetConfig queryBudgetConfig;
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Get the budget of an endpoint
+     * @param method HTTP method
+     * @param uri URI pattern
+     * @return Maximum Mongo commands per request
+     */
+    public int getBudget(String method, String uri) {
+        return queryBudgetConfig.getEndpoints().getOrDefault(method + " " + uri, queryBudgetConfig.getDefaultBudget());
+    }
+    
+    /**
+     * Check the Mongo commands of a request
+     * @param method HTTP method
+     * @param uri URI pattern
+     * @param roundTrips Mongo commands sent
+     * @param callSites Mongo commands per call site, most frequent first
+     */
+    public void check(String method, String uri, int roundTrips, Map<String, Integer> callSites) {
+        if (!queryBudgetConfig.isEnabled()) {
+            return;
+        }
+        
+        int budget = getBudget(method, uri);
+        int maxRepeats = callSites.values().stream().findFirst().orElse(0);
+        boolean overBudget = roundTrips > budget;
+        boolean repeated = maxRepeats > queryBudgetConfig.getMaxRepeats();
+        if (!overBudget && !repeated) {
+            return;
+        }
+        
+        meterRegistry.counter("mongodb.query.budget.violations",
+                "method", method,
+                "uri", uri,
+                "type", overBudget ? "budget" : "repeats").increment();
+        
+        String message = String.format(ErrorMessage.QUERY_BUDGET_EXCEEDED, method, uri, roundTrips, budget, maxRepeats,
+                callSites);
+        if (queryBudgetConfig.isFailOnViolation()) {
+            throw new QueryBudgetExceededException(ErrorCode.QUERY_BUDGET_EXCEEDED, message);
+        }
+        log.warn(message);
+    }
+}
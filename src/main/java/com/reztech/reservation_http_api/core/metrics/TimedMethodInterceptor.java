@@ -0,0 +1,76 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a Micrometer timer for every call of a method annotated, or declared in a class annotated, with
+ * {@link Timed}. Does what Micrometer's TimedAspect does without needing AspectJ: the timer is tagged with the
+ * class, the method and the simple name of the exception thrown ("none" on success).
+ * Only calls through the Spring proxy are timed, calls within the same class are not.
+ */
+public class TimedMethodInterceptor implements MethodInterceptor {
+    
+    public static final String DEFAULT_TIMER = "service.method";
+    
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Method, Timed> annotations = new ConcurrentHashMap<>();
+    
+    /**
+     * Create the interceptor
+     * @param meterRegistryProvider Meter registry, resolved on the first call because advisors are created early
+     */
+    public TimedMethodInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return invocation.proceed();
+        }
+        
+        Method method = invocation.getMethod();
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis())
+                : method.getDeclaringClass();
+        Timed timed = annotations.computeIfAbsent(method, key -> findTimed(key, targetClass));
+        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(timed.value().isEmpty() ? DEFAULT_TIMER : timed.value())
+                    .description(timed.description().isEmpty() ? null : timed.description())
+                    .tags(timed.extraTags())
+                    .tag("class", targetClass.getSimpleName())
+                    .tag("method", method.getName())
+                    .tag("exception", exception)
+                    .publishPercentileHistogram(timed.histogram() ? Boolean.TRUE : null)
+                    .publishPercentiles(timed.percentiles().length > 0 ? timed.percentiles() : null)
+                    .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * Find the annotation of a method, falling back to the one of its class
+     */
+    private static Timed findTimed(Method method, Class<?> targetClass) {
+        Timed timed = AnnotatedElementUtils.findMergedAnnotation(method, Timed.class);
+        return timed != null ? timed : AnnotatedElementUtils.findMergedAnnotation(targetClass, Timed.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.reztech.reservation_http_api.core.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off migration that adds the GeoJSON point to businesses saved before locations had one,
+ * so they show up in nearby searches. New saves set the point themselves (see BusinessLocationListener).
+ * Enable with app.migration.business-location-points.enabled=true, it is idempotent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.migration.business-location-points", name = "enabled", havingValue = "true")
+public class BusinessLocationPointMigration implements ApplicationRunner {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        String collectionName = mongoTemplate.getCollectionName(Business.class);
+        log.info("Migrating {} to GeoJSON location points", collectionName);
+        
+        Query withoutPoint = Query.query(Criteria.where("location.latitude").ne(null)
+                .and("location.longitude").ne(null)
+                .and("location.point").exists(false));
+        
+        // GeoJSON coordinates are [longitude, latitude]
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("location.point").toValue(new Document("type", "Point")
+                        .append("coordinates", List.of("$location.longitude", "$location.latitude")));
+        
+        UpdateResult result = mongoTemplate.updateMulti(withoutPoint, update, collectionName);
+        
+        log.info("Business location point migration finished: {} matched, {} modified",
+                result.getMatchedCount(), result.getModifiedCount());
+    }
+}
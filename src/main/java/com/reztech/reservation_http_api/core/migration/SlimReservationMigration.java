@@ -0,0 +1,60 @@
+package com.reztech.reservation_http_api.core.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off migration that strips the full user and business documents embedded in old reservations
+ * down to the fields of UserSnapshot and BusinessSnapshot.
+ * Old documents are readable without it (unknown fields are ignored), it only reclaims storage.
+ * Enable with app.migration.slim-reservations.enabled=true, it is idempotent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.migration.slim-reservations", name = "enabled", havingValue = "true")
+public class SlimReservationMigration implements ApplicationRunner {
+    
+    /**
+     * Embedded fields that are no longer part of a reservation
+     */
+    static final List<String> REMOVED_FIELDS = List.of(
+            "user.userType",
+            "business.location",
+            "business.owner",
+            "business.employees",
+            "business.contactInfo");
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        String collectionName = mongoTemplate.getCollectionName(Reservation.class);
+        log.info("Migrating {} to slim user and business snapshots", collectionName);
+        
+        Criteria[] hasRemovedField = REMOVED_FIELDS.stream()
+                .map(field -> Criteria.where(field).exists(true))
+                .toArray(Criteria[]::new);
+        
+        Update update = new Update();
+        REMOVED_FIELDS.forEach(update::unset);
+        
+        UpdateResult result = mongoTemplate.updateMulti(
+                Query.query(new Criteria().orOperator(hasRemovedField)), update, collectionName);
+        
+        log.info("Slim reservation migration finished: {} matched, {} modified",
+                result.getMatchedCount(), result.getModifiedCount());
+    }
+}
@@ -0,0 +1,143 @@
+package com.reztech.reservation_http_api.core.pagination;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Keyset pagination and cursor streaming over collections ordered by _id.
+ * A page is fetched with {@code _id > cursor} on the _id index, so the cost of a page does not grow
+ * with its position the way skip/offset pagination does.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPaginator {
+    
+    private static final String ID_FIELD = "_id";
+    
+    private final MongoTemplate mongoTemplate;
+    private final AppConfig appConfig;
+    
+    /**
+     * Get a page of entities after a cursor
+     * @param entityClass Entity class
+     * @param cursor ID of the last item of the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @param idGetter Entity ID getter
+     * @param mapper Entity to item mapper
+     * @return Cursor page
+     */
+    public <E, T> CursorPageResponse<T> page(Class<E> entityClass, String cursor, Integer size,
+                                             Function<E, String> idGetter, Function<E, T> mapper) {
+        int pageSize = resolvePageSize(size);
+        List<E> entities = mongoTemplate.find(pageQuery(cursor, pageSize), entityClass);
+        return toPage(entities, pageSize, idGetter, mapper);
+    }
+    
+    /**
+     * Pass every entity of a collection to a consumer in _id order, reading from a Mongo cursor
+     * so only the current batch is held in memory
+     * @param entityClass Entity class
+     * @param consumer Entity consumer
+     */
+    public <E> void stream(Class<E> entityClass, Consumer<E> consumer) {
+        try (Stream<E> stream = mongoTemplate.stream(streamQuery(), entityClass)) {
+            stream.forEach(consumer);
+        }
+    }
+    
+    /**
+     * Query of a page after a cursor, fetching one extra document which tells whether there is a next page
+     * @param cursor ID of the last item of the previous page, null for the first page
+     * @param pageSize Resolved page size
+     * @return Page query
+     */
+    public Query pageQuery(String cursor, int pageSize) {
+        Query query = new Query()
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .limit(pageSize + 1);
+        if (cursor != null && !cursor.isBlank()) {
+            query.addCriteria(Criteria.where(ID_FIELD).gt(parseCursor(cursor)));
+        }
+        return query;
+    }
+    
+    /**
+     * Query of a whole collection in _id order
+     * @return Stream query
+     */
+    public Query streamQuery() {
+        return new Query().with(Sort.by(Sort.Direction.ASC, ID_FIELD));
+    }
+    
+    /**
+     * Build a page from the entities fetched with {@link #pageQuery(String, int)}
+     * @param entities Fetched entities, at most one more than the page size
+     * @param pageSize Resolved page size
+     * @param idGetter Entity ID getter
+     * @param mapper Entity to item mapper
+     * @return Cursor page
+     */
+    public <E, T> CursorPageResponse<T> toPage(List<E> entities, int pageSize,
+                                               Function<E, String> idGetter, Function<E, T> mapper) {
+        boolean hasNext = entities.size() > pageSize;
+        if (hasNext) {
+            entities = entities.subList(0, pageSize);
+        }
+        
+        List<T> items = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            items.add(mapper.apply(entity));
+        }
+        
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? idGetter.apply(entities.get(entities.size() - 1)) : null)
+                .build();
+    }
+    
+    /**
+     * Resolve the requested page size against the configured default and maximum
+     * @param size Requested page size, null for the default page size
+     * @return Page size
+     */
+    public int resolvePageSize(Integer size) {
+        if (size == null) {
+            return appConfig.getDefaultPageSize();
+        }
+        
+        if (size < 1 || size > appConfig.getMaxPageSize()) {
+            throw new ValidationException(ErrorCode.INVALID_PAGE_SIZE,
+                    String.format(ErrorMessage.INVALID_PAGE_SIZE, appConfig.getMaxPageSize()));
+        }
+        
+        return size;
+    }
+    
+    /**
+     * Parse a cursor into the ObjectId it points to
+     */
+    private ObjectId parseCursor(String cursor) {
+        if (!ObjectId.isValid(cursor)) {
+            throw new ValidationException(ErrorCode.INVALID_CURSOR, String.format(ErrorMessage.INVALID_CURSOR, cursor));
+        }
+        return new ObjectId(cursor);
+    }
+}
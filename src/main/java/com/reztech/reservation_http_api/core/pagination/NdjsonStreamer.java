@@ -0,0 +1,63 @@
+package com.reztech.reservation_http_api.core.pagination;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes items as newline delimited JSON (one JSON document per line) while they are produced,
+ * so the response is never materialised in memory
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonStreamer {
+    
+    private static final int FLUSH_EVERY = 100;
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Create an NDJSON streaming response
+     * @param source Source that passes every item to the given consumer
+     * @return Streaming response
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = outputStream -> write(outputStream, source);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    private <T> void write(OutputStream outputStream, Consumer<Consumer<T>> source) throws IOException {
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        int[] count = {0};
+        
+        try {
+            source.accept(item -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                    if (++count[0] % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        out.flush();
+    }
+}
@@ -0,0 +1,58 @@
+package com.reztech.reservation_http_api.core.pagination;
+
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Reactive variant of {@link KeysetPaginator}, with the same page queries and page sizes
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveKeysetPaginator {
+    
+    /**
+     * Documents requested from the cursor at a time while streaming, the driver fetches batches on demand
+     */
+    private static final int STREAM_PREFETCH = 100;
+    
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final KeysetPaginator keysetPaginator;
+    
+    /**
+     * Get a page of entities after a cursor
+     * @param entityClass Entity class
+     * @param cursor ID of the last item of the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @param idGetter Entity ID getter
+     * @param mapper Entity to item mapper
+     * @return Cursor page
+     */
+    public <E, T> Mono<CursorPageResponse<T>> page(Class<E> entityClass, String cursor, Integer size,
+                                                   Function<E, String> idGetter, Function<E, T> mapper) {
+        return Mono.defer(() -> {
+            int pageSize = keysetPaginator.resolvePageSize(size);
+            return reactiveMongoTemplate.find(keysetPaginator.pageQuery(cursor, pageSize), entityClass)
+                    .collectList()
+                    .map(entities -> keysetPaginator.toPage(entities, pageSize, idGetter, mapper));
+        });
+    }
+    
+    /**
+     * Stream every entity of a collection in _id order.
+     * Documents are only read from the cursor as fast as the subscriber requests them.
+     * @param entityClass Entity class
+     * @return Entities
+     */
+    public <E> Flux<E> stream(Class<E> entityClass) {
+        return reactiveMongoTemplate.find(keysetPaginator.streamQuery(), entityClass)
+                .limitRate(STREAM_PREFETCH);
+    }
+}
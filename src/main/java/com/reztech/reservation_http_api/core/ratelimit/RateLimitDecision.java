@@ -0,0 +1,52 @@
+package com.reztech.reservation_http_api.core.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Result of taking a token from a rate limit bucket
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitDecision {
+    
+    private final boolean allowed;
+    
+    /**
+     * Capacity of the bucket
+     */
+    private final int limit;
+    
+    /**
+     * Tokens left after this request
+     */
+    private final long remaining;
+    
+    /**
+     * Time until the next token, zero if allowed
+     */
+    private final Duration retryAfter;
+    
+    /**
+     * Create an allowed decision
+     * @param limit Capacity of the bucket
+     * @param remaining Tokens left
+     * @return Allowed decision
+     */
+    public static RateLimitDecision allowed(int limit, long remaining) {
+        return new RateLimitDecision(true, limit, remaining, Duration.ZERO);
+    }
+    
+    /**
+     * Create a rejected decision
+     * @param limit Capacity of the bucket
+     * @param retryAfter Time until the next token
+     * @return Rejected decision
+     */
+    public static RateLimitDecision rejected(int limit, Duration retryAfter) {
+        return new RateLimitDecision(false, limit, 0, retryAfter);
+    }
+}
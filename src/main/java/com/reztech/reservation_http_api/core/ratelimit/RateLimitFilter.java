@@ -0,0 +1,152 @@
+package com.reztech.reservation_http_api.core.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reztech.reservation_http_api.config.RateLimitConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rate limits requests per client and per business with the routes configured under app.rate-limit.
+ * Every matching route takes a token; the first route without one rejects the request with 429 before it reaches
+ * security, controllers or Mongo. Runs after the HTTP observation filter so rejections show up in
+ * http.server.requests.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    
+    private static final String BUSINESS_ID_VARIABLE = "businessId";
+    
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfig rateLimitConfig;
+    private final ObjectMapper objectMapper;
+    private final List<RouteMatcher> routes;
+    
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitConfig rateLimitConfig, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitConfig = rateLimitConfig;
+        this.objectMapper = objectMapper;
+        this.routes = rateLimitConfig.getRoutes().stream()
+                .map(route -> new RouteMatcher(route, PathPatternParser.defaultInstance.parse(route.getPattern())))
+                .toList();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        RateLimitDecision tightest = null;
+        
+        for (RouteMatcher matcher : routes) {
+            PathPattern.PathMatchInfo match = matcher.match(request.getMethod(), path);
+            String key = match != null ? key(matcher.route, request, match) : null;
+            if (key == null) {
+                continue;
+            }
+            
+            RateLimitDecision decision = rateLimiter.tryAcquire(matcher.route, key);
+            if (!decision.isAllowed()) {
+                log.debug("Rate limit {} exceeded by {}", matcher.route.getName(), key);
+                reject(request, response, decision);
+                return;
+            }
+            if (tightest == null || decision.getRemaining() < tightest.getRemaining()) {
+                tightest = decision;
+            }
+        }
+        
+        if (tightest != null) {
+            response.setHeader(LIMIT_HEADER, String.valueOf(tightest.getLimit()));
+            response.setHeader(REMAINING_HEADER, String.valueOf(tightest.getRemaining()));
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    /**
+     * Get the key a route counts the request under, null if the request has none
+     */
+    private String key(RateLimitConfig.Route route, HttpServletRequest request, PathPattern.PathMatchInfo match) {
+        if (route.getScope() == RateLimitConfig.Scope.BUSINESS) {
+            return match.getUriVariables().get(BUSINESS_ID_VARIABLE);
+        }
+        
+        String clientHeader = rateLimitConfig.getClientHeader();
+        if (StringUtils.hasText(clientHeader) && StringUtils.hasText(request.getHeader(clientHeader))) {
+            return request.getHeader(clientHeader);
+        }
+        return request.getRemoteAddr();
+    }
+    
+    /**
+     * Write a 429 error response with Retry-After in whole seconds
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimitDecision decision)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (decision.getRetryAfter().toMillis() + 999) / 1000);
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.RATE_LIMIT_EXCEEDED)
+                .message(String.format(ErrorMessage.RATE_LIMIT_EXCEEDED, retryAfterSeconds))
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.getLimit()));
+        response.setHeader(REMAINING_HEADER, "0");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+    
+    /**
+     * Route limit with its parsed path pattern
+     */
+    private static final class RouteMatcher {
+        
+        private final RateLimitConfig.Route route;
+        private final PathPattern pattern;
+        
+        private RouteMatcher(RateLimitConfig.Route route, PathPattern pattern) {
+            this.route = route;
+            this.pattern = pattern;
+        }
+        
+        private PathPattern.PathMatchInfo match(String method, PathContainer path) {
+            if (route.getMethod() != null && !route.getMethod().equalsIgnoreCase(method)) {
+                return null;
+            }
+            return pattern.matchAndExtract(path);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.reztech.reservation_http_api.core.ratelimit;
+
+import com.reztech.reservation_http_api.config.RateLimitConfig;
+import com.reztech.reservation_http_api.repository.ratelimit.RateLimitBucketRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Takes tokens from the rate limit bucket of a route and key.
+ * Every request is checked against the in-memory bucket of this instance first; it only ever sees a part of the
+ * traffic, so its rejections are final. When sharing is enabled, requests it allows are also counted in Mongo.
+ * If Mongo fails, the in-memory decision is used so rate limiting never takes the API down.
+ * Publishes rate.limit.requests (by route and outcome), rate.limit.buckets and rate.limit.shared.errors.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimiter {
+    
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final MeterRegistry meterRegistry;
+    private final TokenBuckets tokenBuckets;
+    
+    public RateLimiter(RateLimitConfig rateLimitConfig, RateLimitBucketRepository rateLimitBucketRepository,
+                       MeterRegistry meterRegistry) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.meterRegistry = meterRegistry;
+        this.tokenBuckets = new TokenBuckets(rateLimitConfig.getMaxBuckets(), rateLimitConfig.getLongestPeriod(),
+                System::nanoTime);
+        
+        Gauge.builder("rate.limit.buckets", tokenBuckets, TokenBuckets::size)
+                .description("In-memory rate limit buckets")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Take a token for a request
+     * @param route Route limit
+     * @param key Client or business key
+     * @return Rate limit decision
+     */
+    public RateLimitDecision tryAcquire(RateLimitConfig.Route route, String key) {
+        String bucketId = route.getName() + ":" + key;
+        RateLimitDecision decision = tokenBuckets.tryAcquire(bucketId, route.getCapacity(), route.getEmissionInterval());
+        
+        if (decision.isAllowed() && rateLimitConfig.isShared()) {
+            decision = tryAcquireShared(route, bucketId, decision);
+        }
+        
+        meterRegistry.counter("rate.limit.requests",
+                "route", route.getName(),
+                "outcome", decision.isAllowed() ? "allowed" : "rejected").increment();
+        return decision;
+    }
+    
+    /**
+     * Take a token from the shared bucket, falling back to the in-memory decision when Mongo fails
+     */
+    private RateLimitDecision tryAcquireShared(RateLimitConfig.Route route, String bucketId, RateLimitDecision local) {
+        try {
+            long waitMillis = rateLimitBucketRepository.tryAcquire(bucketId, route.getCapacity(),
+                    route.getEmissionInterval());
+            return waitMillis == 0 ? local : RateLimitDecision.rejected(route.getCapacity(), Duration.ofMillis(waitMillis));
+        } catch (DataAccessException e) {
+            log.warn("Shared rate limit bucket {} unavailable, using the local bucket: {}", bucketId, e.getMessage());
+            meterRegistry.counter("rate.limit.shared.errors").increment();
+            return local;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reztech.reservation_http_api.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token buckets implemented with the generic cell rate algorithm (GCRA).
+ * A bucket is a single AtomicLong holding the theoretical arrival time of the next request, so taking a token
+ * is one compare-and-set without locks and buckets of different keys never contend.
+ * Buckets live in a bounded cache and are dropped after being idle for a full period, when they are full again.
+ */
+public class TokenBuckets {
+    
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+    
+    /**
+     * Create token buckets
+     * @param maxBuckets Maximum number of buckets kept
+     * @param idleTimeout Time after which an unused bucket is dropped
+     * @param nanoClock Monotonic clock in nanoseconds
+     */
+    public TokenBuckets(long maxBuckets, Duration idleTimeout, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+    
+    /**
+     * Take a token from a bucket, creating a full bucket on the first request of the key
+     * @param key Bucket key
+     * @param capacity Bucket capacity (burst size)
+     * @param emissionInterval Time it takes to refill one token
+     * @return Rate limit decision
+     */
+    public RateLimitDecision tryAcquire(String key, int capacity, Duration emissionInterval) {
+        long interval = Math.max(1, emissionInterval.toNanos());
+        long tolerance = interval * capacity;
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = bucket.get();
+            // Compared by difference, System.nanoTime may overflow
+            long ahead = Math.max(arrival - now, 0) + interval;
+            
+            if (ahead > tolerance) {
+                return RateLimitDecision.rejected(capacity, Duration.ofNanos(ahead - tolerance));
+            }
+            if (bucket.compareAndSet(arrival, now + ahead)) {
+                return RateLimitDecision.allowed(capacity, (tolerance - ahead) / interval);
+            }
+        }
+    }
+    
+    /**
+     * Get the approximate number of buckets kept
+     * @return Bucket count
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.response.BusinessEmployeeResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps BusinessEmployee entities to API models
+ */
+@Component
+public class BusinessEmployeeMapper {
+    
+    /**
+     * Convert a business employee to its response
+     * @param employee Business employee
+     * @return Business employee response
+     */
+    public BusinessEmployeeResponse toResponse(BusinessEmployee employee) {
+        return BusinessEmployeeResponse.builder()
+                .userId(employee.getUserId())
+                .joinedAt(employee.getJoinedAt())
+                .active(employee.isActive())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.request.CreateBusinessRequest;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps Business API models to entities
+ */
+@Component
+public class BusinessMapper {
+    
+    /**
+     * Create a business from a create request; owner and employees are set by the caller
+     * @param request Create business request
+     * @return New business entity
+     */
+    public Business toEntity(CreateBusinessRequest request) {
+        return Business.builder()
+                .name(request.getName())
+                .location(request.getLocation())
+                .contactInfo(request.getContactInfo())
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.CompactAvailabilityResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Maps available slot responses of a date range to the compact availability representation
+ */
+@Component
+public class CompactAvailabilityMapper {
+    
+    /**
+     * Convert available slot responses of a date range to a compact response.
+     * A grid slot with available employees is reported as available even if other employees are booked in it,
+     * the employee bitmasks tell them apart.
+     * @param businessId Business ID
+     * @param days Available slot responses of the range
+     * @return Compact availability response
+     */
+    public CompactAvailabilityResponse toCompactResponse(String businessId, List<AvailableSlotResponse> days) {
+        List<TimeSlot> grid = buildGrid(days);
+        Map<TimeSlot, Integer> slotIndexes = indexOf(grid);
+        Map<String, Integer> employeeIndexes = new LinkedHashMap<>();
+        Map<String, Integer> reasonIndexes = new LinkedHashMap<>();
+        
+        List<CompactAvailabilityResponse.Day> compactDays = new ArrayList<>(days.size());
+        for (AvailableSlotResponse day : days) {
+            compactDays.add(toCompactDay(day, slotIndexes, employeeIndexes, reasonIndexes));
+        }
+        
+        // Days seen before an employee appeared get empty bitmasks for it
+        int employeeCount = employeeIndexes.size();
+        for (CompactAvailabilityResponse.Day compactDay : compactDays) {
+            pad(compactDay.getAvailableEmployees(), employeeCount);
+            pad(compactDay.getReservedEmployees(), employeeCount);
+        }
+        
+        return CompactAvailabilityResponse.builder()
+                .businessId(businessId)
+                .slots(grid.stream().map(slot -> slot.getStartTime() + "-" + slot.getEndTime()).toList())
+                .employeeUserIds(new ArrayList<>(employeeIndexes.keySet()))
+                .reasons(new ArrayList<>(reasonIndexes.keySet()))
+                .days(compactDays)
+                .build();
+    }
+    
+    /**
+     * Convert a day to the slot grid
+     */
+    private CompactAvailabilityResponse.Day toCompactDay(AvailableSlotResponse day, Map<TimeSlot, Integer> slotIndexes,
+                                                         Map<String, Integer> employeeIndexes,
+                                                         Map<String, Integer> reasonIndexes) {
+        char[] statuses = new char[slotIndexes.size()];
+        Arrays.fill(statuses, CompactAvailabilityResponse.NO_SLOT);
+        Integer[] reasons = new Integer[slotIndexes.size()];
+        Arrays.fill(reasons, -1);
+        boolean hasReason = false;
+        List<BitSet> available = new ArrayList<>();
+        List<BitSet> reserved = new ArrayList<>();
+        
+        for (AvailableSlotResponse.SlotInfo slot : day.getSlots()) {
+            int slotIndex = slotIndexes.get(slot.getTimeSlot());
+            
+            char status = statusCode(slot.getStatus());
+            if (rank(status) > rank(statuses[slotIndex])) {
+                statuses[slotIndex] = status;
+                if (slot.getReason() != null) {
+                    reasons[slotIndex] = reasonIndexes.computeIfAbsent(slot.getReason(), reason -> reasonIndexes.size());
+                    hasReason = true;
+                } else {
+                    reasons[slotIndex] = -1;
+                }
+            }
+            
+            mark(available, slot.getAvailableEmployeeUserIds(), slotIndex, employeeIndexes);
+            mark(reserved, slot.getReservedEmployeeUserIds(), slotIndex, employeeIndexes);
+        }
+        
+        return CompactAvailabilityResponse.Day.builder()
+                .date(day.getDate())
+                .statuses(new String(statuses))
+                .reasons(hasReason ? Arrays.asList(reasons) : null)
+                .availableEmployees(encode(available))
+                .reservedEmployees(encode(reserved))
+                .build();
+    }
+    
+    /**
+     * Collect the time slots of all days sorted by start time
+     */
+    private List<TimeSlot> buildGrid(List<AvailableSlotResponse> days) {
+        TreeSet<TimeSlot> grid = new TreeSet<>(Comparator.comparing(TimeSlot::getStartTime)
+                .thenComparing(TimeSlot::getEndTime));
+        for (AvailableSlotResponse day : days) {
+            for (AvailableSlotResponse.SlotInfo slot : day.getSlots()) {
+                grid.add(slot.getTimeSlot());
+            }
+        }
+        return new ArrayList<>(grid);
+    }
+    
+    private Map<TimeSlot, Integer> indexOf(List<TimeSlot> grid) {
+        Map<TimeSlot, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < grid.size(); i++) {
+            indexes.put(grid.get(i), i);
+        }
+        return indexes;
+    }
+    
+    /**
+     * Set the bit of a slot in the bitmasks of the given employees
+     */
+    private void mark(List<BitSet> bitmasks, List<String> employeeUserIds, int slotIndex,
+                      Map<String, Integer> employeeIndexes) {
+        if (employeeUserIds == null) {
+            return;
+        }
+        
+        for (String employeeUserId : employeeUserIds) {
+            int employeeIndex = employeeIndexes.computeIfAbsent(employeeUserId, id -> employeeIndexes.size());
+            while (bitmasks.size() <= employeeIndex) {
+                bitmasks.add(new BitSet());
+            }
+            bitmasks.get(employeeIndex).set(slotIndex);
+        }
+    }
+    
+    private List<String> encode(List<BitSet> bitmasks) {
+        List<String> encoded = new ArrayList<>(bitmasks.size());
+        for (BitSet bitmask : bitmasks) {
+            encoded.add(Base64.getEncoder().encodeToString(bitmask.toByteArray()));
+        }
+        return encoded;
+    }
+    
+    private void pad(List<String> bitmasks, int size) {
+        while (bitmasks.size() < size) {
+            bitmasks.add("");
+        }
+    }
+    
+    private char statusCode(SlotStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 'A';
+            case BOOKED -> 'B';
+            case BLOCKED -> 'X';
+            case EXPIRED -> 'E';
+        };
+    }
+    
+    /**
+     * Precedence of status codes when a slot has more than one entry, available wins over booked
+     */
+    private int rank(char status) {
+        return switch (status) {
+            case 'A' -> 3;
+            case 'B' -> 2;
+            case 'X', 'E' -> 1;
+            default -> 0;
+        };
+    }
+}
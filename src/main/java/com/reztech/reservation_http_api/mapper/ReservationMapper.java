@@ -0,0 +1,55 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps Reservation entities to API models
+ */
+@Component
+public class ReservationMapper {
+    
+    /**
+     * Convert a reservation to its response
+     * @param reservation Reservation entity
+     * @return Reservation response
+     */
+    public ReservationResponse toResponse(Reservation reservation) {
+        if (reservation == null) {
+            return null;
+        }
+        
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .user(reservation.getUser())
+                .business(reservation.getBusiness())
+                .reservationDate(reservation.getReservationDate())
+                .timeSlot(reservation.getTimeSlot())
+                .assignedEmployeeUserId(reservation.getAssignedEmployeeUserId())
+                .status(reservation.getStatus())
+                .isConfirmed(reservation.getIsConfirmed())
+                .isCancelled(reservation.getIsCancelled())
+                .cancellationReason(reservation.getCancellationReason())
+                .notes(reservation.getNotes())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * Convert reservations to responses
+     * @param reservations Reservation entities
+     * @return Reservation responses in the same order
+     */
+    public List<ReservationResponse> toResponseList(List<Reservation> reservations) {
+        List<ReservationResponse> responses = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            responses.add(toResponse(reservation));
+        }
+        return responses;
+    }
+}
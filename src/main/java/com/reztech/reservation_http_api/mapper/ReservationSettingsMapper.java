@@ -0,0 +1,56 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.request.CreateReservationSettingsRequest;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps ReservationSettings API models to entities.
+ * Fields missing from the request keep their default (or current) values.
+ */
+@Component
+public class ReservationSettingsMapper {
+    
+    /**
+     * Create settings from a request on top of the default settings
+     * @param request Create reservation settings request
+     * @return New reservation settings
+     */
+    public ReservationSettings toEntity(CreateReservationSettingsRequest request) {
+        ReservationSettings settings = ReservationSettings.builder()
+                .businessId(request.getBusinessId())
+                .build();
+        
+        updateEntity(settings, request);
+        return settings;
+    }
+    
+    /**
+     * Update settings from request
+     * @param settings Existing settings
+     * @param request Update request
+     */
+    public void updateEntity(ReservationSettings settings, CreateReservationSettingsRequest request) {
+        if (request.getDefaultStartTime() != null) {
+            settings.setDefaultStartTime(request.getDefaultStartTime());
+        }
+        if (request.getDefaultEndTime() != null) {
+            settings.setDefaultEndTime(request.getDefaultEndTime());
+        }
+        if (request.getSlotDurationMinutes() != null) {
+            settings.setSlotDurationMinutes(request.getSlotDurationMinutes());
+        }
+        if (request.getMaxAdvanceBookingDays() != null) {
+            settings.setMaxAdvanceBookingDays(request.getMaxAdvanceBookingDays());
+        }
+        if (request.getMinAdvanceBookingHours() != null) {
+            settings.setMinAdvanceBookingHours(request.getMinAdvanceBookingHours());
+        }
+        if (request.getAcceptReservations() != null) {
+            settings.setAcceptReservations(request.getAcceptReservations());
+        }
+        if (request.getAutoConfirm() != null) {
+            settings.setAutoConfirm(request.getAutoConfirm());
+        }
+    }
+}
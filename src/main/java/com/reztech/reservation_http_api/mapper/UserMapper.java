@@ -0,0 +1,27 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.request.CreateUserRequest;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps User API models to entities
+ */
+@Component
+public class UserMapper {
+    
+    /**
+     * Create a user from a create request
+     * @param request Create user request
+     * @return New user entity
+     */
+    public User toEntity(CreateUserRequest request) {
+        return User.builder()
+                .name(request.getName())
+                .surname(request.getSurname())
+                .gsm(request.getGsm())
+                .email(request.getEmail())
+                .userType(request.getUserType())
+                .build();
+    }
+}
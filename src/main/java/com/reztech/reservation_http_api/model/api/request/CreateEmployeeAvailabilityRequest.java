@@ -0,0 +1,56 @@
+package com.reztech.reservation_http_api.model.api.request;
+
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request DTO for creating an employee availability rule
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request model for creating working hours or time off of an employee")
+public class CreateEmployeeAvailabilityRequest {
+    
+    @NotNull(message = "Availability type is required")
+    @Schema(description = "Type of availability rule", example = "WEEKLY_RECURRING", required = true, allowableValues = {"WEEKLY_RECURRING", "SPECIFIC_DATE", "DATE_RANGE"})
+    private AvailabilityType availabilityType;
+    
+    @Schema(description = "Day of week for WEEKLY_RECURRING type", example = "MONDAY", allowableValues = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY"})
+    private ReservationDay dayOfWeek;
+    
+    @Schema(description = "Specific date for SPECIFIC_DATE type", example = "2024-12-25", type = "string", format = "date")
+    private LocalDate specificDate;
+    
+    @Schema(description = "Start date for DATE_RANGE type", example = "2024-12-20", type = "string", format = "date")
+    private LocalDate startDate;
+    
+    @Schema(description = "End date for DATE_RANGE type", example = "2024-12-31", type = "string", format = "date")
+    private LocalDate endDate;
+    
+    @Valid
+    @Schema(description = "Working hours, the employee is only available inside them")
+    private List<TimeSlot> workingSlots;
+    
+    @Valid
+    @Schema(description = "Time off inside the day")
+    private List<TimeSlot> blockedSlots;
+    
+    @Schema(description = "Whether the employee is off for the whole day", example = "false")
+    private Boolean dayOff;
+    
+    @Schema(description = "Reason of the time off", example = "Yıllık izin")
+    private String reason;
+}
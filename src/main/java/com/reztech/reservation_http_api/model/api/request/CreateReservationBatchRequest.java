@@ -0,0 +1,29 @@
+package com.reztech.reservation_http_api.model.api.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO for creating many reservations at once
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request model for creating many reservations at once")
+public class CreateReservationBatchRequest {
+    
+    @NotEmpty(message = "Items are required")
+    @Valid
+    @Builder.Default
+    @Schema(description = "Reservations to create, results are returned in the same order", required = true)
+    private List<CreateReservationRequest> items = new ArrayList<>();
+}
@@ -0,0 +1,76 @@
+package com.reztech.reservation_http_api.model.api.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Compact response DTO for the availability of a date range.
+ * Time slots, employee IDs and reasons are emitted once, every day refers to them by index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Compact availability of a business for a date range")
+public class CompactAvailabilityResponse {
+    
+    /**
+     * Media type of the compact availability representation, also selected with format=compact
+     */
+    public static final String MEDIA_TYPE = "application/vnd.reztech.availability.compact+json";
+    
+    /**
+     * Status code of a grid slot that does not exist on a day
+     */
+    public static final char NO_SLOT = '-';
+    
+    @Schema(description = "ID of the business", example = "6507c123456789abcdef0003")
+    private String businessId;
+    
+    @Schema(description = "Time slots of the grid sorted by start time", example = "[\"09:00-09:30\", \"09:30-10:00\"]")
+    private List<String> slots;
+    
+    @Schema(description = "Employee user IDs, employee bitmasks of every day are in this order")
+    private List<String> employeeUserIds;
+    
+    @Schema(description = "Distinct slot reasons, referred to by index from the days")
+    private List<String> reasons;
+    
+    @Schema(description = "Availability of every day of the range")
+    private List<Day> days;
+    
+    /**
+     * Availability of a single day on the slot grid
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Availability of a day on the slot grid")
+    public static class Day {
+        @Schema(description = "Date of the day", example = "2024-12-25", type = "string", format = "date")
+        private LocalDate date;
+        
+        @Schema(description = "One status code per grid slot: A available, B booked, X blocked, E expired, - no slot",
+                example = "EEAABX")
+        private String statuses;
+        
+        @Schema(description = "Reason index per grid slot, -1 if the slot has no reason. Omitted if no slot has a reason")
+        private List<Integer> reasons;
+        
+        @Schema(description = "Base64 bitmask of the grid slots each employee is available in, in employee order. " +
+                "Bit i % 8 (least significant first) of byte i / 8 is grid slot i")
+        private List<String> availableEmployees;
+        
+        @Schema(description = "Base64 bitmask of the grid slots each employee is reserved in, in employee order")
+        private List<String> reservedEmployees;
+    }
+}
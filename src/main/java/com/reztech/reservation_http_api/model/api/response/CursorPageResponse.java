@@ -0,0 +1,34 @@
+package com.reztech.reservation_http_api.model.api.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for a page of a cursor (keyset) paginated list
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Page of a cursor paginated list")
+public class CursorPageResponse<T> {
+    
+    @Schema(description = "Items of the page in ascending ID order")
+    @Builder.Default
+    private List<T> items = new ArrayList<>();
+    
+    @Schema(description = "Requested page size", example = "20")
+    private int size;
+    
+    @Schema(description = "Whether more items exist after this page", example = "true")
+    private boolean hasNext;
+    
+    @Schema(description = "Cursor to pass to get the next page, null on the last page", example = "6507c123456789abcdef0004")
+    private String nextCursor;
+}
@@ -0,0 +1,29 @@
+package com.reztech.reservation_http_api.model.api.response;
+
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a business found by a nearby search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Business found around a location")
+public class NearbyBusinessResponse {
+    
+    @Schema(description = "Business")
+    private Business business;
+    
+    @Schema(description = "Distance to the searched location in kilometers", example = "1.25")
+    private double distanceKm;
+    
+    @Schema(description = "First available slot in the requested time window, null if no window was requested")
+    private TimeSlot firstAvailableSlot;
+}
@@ -0,0 +1,34 @@
+package com.reztech.reservation_http_api.model.api.response;
+
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for the earliest available slot of a business
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Earliest available slot of a business")
+public class NextAvailableSlotResponse {
+    
+    @Schema(description = "ID of the business", example = "6507c123456789abcdef0003")
+    private String businessId;
+    
+    @Schema(description = "Date of the slot", example = "2024-12-25", type = "string", format = "date")
+    private LocalDate date;
+    
+    @Schema(description = "Time slot, spanning consecutive slots if a longer duration was requested")
+    private TimeSlot timeSlot;
+    
+    @Schema(description = "Employee user IDs available for the whole time slot")
+    private List<String> availableEmployeeUserIds;
+}
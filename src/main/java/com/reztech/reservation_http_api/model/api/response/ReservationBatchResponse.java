@@ -0,0 +1,61 @@
+package com.reztech.reservation_http_api.model.api.response;
+
+import com.reztech.reservation_http_api.model.enums.BatchItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response DTO for a batch reservation request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Per item results of a batch reservation request")
+public class ReservationBatchResponse {
+    
+    @Schema(description = "Number of created reservations", example = "98")
+    private int created;
+    
+    @Schema(description = "Number of items rejected because of a time slot conflict", example = "2")
+    private int conflicts;
+    
+    @Schema(description = "Number of invalid or failed items", example = "0")
+    private int failed;
+    
+    @Schema(description = "Result of every item in request order")
+    @Builder.Default
+    private List<ItemResult> results = new ArrayList<>();
+    
+    /**
+     * Result of a single item
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Result of a batch item")
+    public static class ItemResult {
+        
+        @Schema(description = "Index of the item in the request", example = "0")
+        private int index;
+        
+        @Schema(description = "Item result status", example = "CREATED")
+        private BatchItemStatus status;
+        
+        @Schema(description = "Created reservation, only for created items")
+        private ReservationResponse reservation;
+        
+        @Schema(description = "Error code, only for rejected items", example = "RESERVATION_CONFLICT")
+        private String errorCode;
+        
+        @Schema(description = "Error message, only for rejected items", example = "Reservation conflict for the selected time slot")
+        private String message;
+    }
+}
@@ -1,8 +1,8 @@
 package com.reztech.reservation_http_api.model.api.response;
 
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
 import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
-import com.reztech.reservation_http_api.model.entity.main.business.Business;
-import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
 import com.reztech.reservation_http_api.model.enums.SlotStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -27,10 +27,10 @@ public class ReservationResponse {
     private String id;
     
     @Schema(description = "User who made the reservation")
-    private User user;
+    private UserSnapshot user;
     
     @Schema(description = "Business where the reservation is made")
-    private Business business;
+    private BusinessSnapshot business;
     
     @Schema(description = "Date of the reservation", example = "2024-12-25")
     private LocalDate reservationDate;
@@ -0,0 +1,39 @@
+package com.reztech.reservation_http_api.model.entity.embedded;
+
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Denormalised business fields stored on a reservation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Business information stored with a reservation")
+public class BusinessSnapshot {
+    
+    @Id
+    @Schema(description = "Unique identifier of the business", example = "6507c123456789abcdef0002")
+    private String id;
+    
+    @Schema(description = "Business name", example = "Kuaför Salon")
+    private String name;
+    
+    /**
+     * Create a snapshot of a business
+     * @param business Business entity
+     * @return Business snapshot
+     */
+    public static BusinessSnapshot of(Business business) {
+        return BusinessSnapshot.builder()
+                .id(business.getId())
+                .name(business.getName())
+                .build();
+    }
+}
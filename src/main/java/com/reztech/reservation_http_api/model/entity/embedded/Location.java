@@ -1,5 +1,6 @@
 package com.reztech.reservation_http_api.model.entity.embedded;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
 
 /**
  * Location entity for Google Places integration
@@ -32,4 +34,22 @@ public class Location {
     
     @Schema(description = "Longitude coordinate", example = "28.9784")
     private Double longitude;
+    
+    /**
+     * GeoJSON point of the coordinates for the 2dsphere index, kept in sync on save (see BusinessLocationListener)
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private GeoJsonPoint point;
+    
+    /**
+     * Create the GeoJSON point of the coordinates
+     * @return GeoJSON point (longitude, latitude), null if a coordinate is missing
+     */
+    public GeoJsonPoint toPoint() {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return new GeoJsonPoint(longitude, latitude);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.reztech.reservation_http_api.model.entity.embedded;
+
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Denormalised user fields stored on a reservation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "User information stored with a reservation")
+public class UserSnapshot {
+    
+    @Id
+    @Schema(description = "Unique identifier of the user", example = "6507c123456789abcdef0001")
+    private String id;
+    
+    @Schema(description = "User's first name", example = "Ahmet")
+    private String name;
+    
+    @Schema(description = "User's last name", example = "Yılmaz")
+    private String surname;
+    
+    @Schema(description = "User's phone number", example = "05551234567")
+    private String gsm;
+    
+    @Schema(description = "User's email address", example = "ahmet@example.com")
+    private String email;
+    
+    /**
+     * Create a snapshot of a user
+     * @param user User entity
+     * @return User snapshot
+     */
+    public static UserSnapshot of(User user) {
+        return UserSnapshot.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .surname(user.getSurname())
+                .gsm(user.getGsm())
+                .email(user.getEmail())
+                .build();
+    }
+}
@@ -27,8 +27,6 @@ public class Business {
     @Id
     private String id;
     
-    //@TextIndexed(weight = 2)
-    //@Indexed
     private String name;
 
     //TODO sektör collectionu içerebilir
@@ -37,7 +35,6 @@ public class Business {
     
     private Location location;
     
-    //@Indexed
     //TODO OWNER sisteme yeni kullanıcı ekler ve siler.
     private User owner;
     
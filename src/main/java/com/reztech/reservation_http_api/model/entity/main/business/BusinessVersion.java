@@ -0,0 +1,38 @@
+package com.reztech.reservation_http_api.model.entity.main.business;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Monotonically increasing availability version of a business.
+ * Incremented with $inc by every write affecting the availability of the business; the document with ID
+ * {@link #ALL_BUSINESSES} is incremented by writes that may affect every business.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "business_versions")
+public class BusinessVersion {
+    
+    /**
+     * ID of the version shared by every business
+     */
+    public static final String ALL_BUSINESSES = "*";
+    
+    /**
+     * Business ID
+     */
+    @Id
+    private String id;
+    
+    private long version;
+    
+    private Instant updatedAt;
+}
@@ -0,0 +1,97 @@
+package com.reztech.reservation_http_api.model.entity.main.business;
+
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Availability rule of a single employee of a business: working hours and time off.
+ * Rules apply like {@link BusinessAvailability} rules (weekly, specific date or date range) but only to the employee.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "employee_availability")
+public class EmployeeAvailability {
+    
+    @Id
+    private String id;
+    
+    /**
+     * Business ID this rule belongs to
+     */
+    private String businessId;
+    
+    /**
+     * User ID of the employee this rule belongs to
+     */
+    private String employeeUserId;
+    
+    /**
+     * Type of the rule (weekly recurring, specific date, date range)
+     */
+    private AvailabilityType availabilityType;
+    
+    /**
+     * Day of week (for WEEKLY_RECURRING type)
+     */
+    private ReservationDay dayOfWeek;
+    
+    /**
+     * Specific date (for SPECIFIC_DATE type)
+     */
+    private LocalDate specificDate;
+    
+    /**
+     * Start date (for DATE_RANGE type)
+     */
+    private LocalDate startDate;
+    
+    /**
+     * End date (for DATE_RANGE type)
+     */
+    private LocalDate endDate;
+    
+    /**
+     * Working hours, the employee is only available inside them.
+     * If rules of several types define working hours for a day, the most specific type wins.
+     */
+    private List<TimeSlot> workingSlots;
+    
+    /**
+     * Time off inside the day, e.g. a lunch break
+     */
+    private List<TimeSlot> blockedSlots;
+    
+    /**
+     * Whether the employee is off for the whole day
+     */
+    @Builder.Default
+    private Boolean dayOff = false;
+    
+    /**
+     * Reason of the time off
+     */
+    private String reason;
+    
+    /**
+     * Is this rule active
+     */
+    @Builder.Default
+    private Boolean isActive = true;
+    
+    private Instant createdAt;
+    
+    private Instant updatedAt;
+}
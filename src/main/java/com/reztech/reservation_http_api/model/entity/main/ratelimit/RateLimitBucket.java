@@ -0,0 +1,41 @@
+package com.reztech.reservation_http_api.model.entity.main.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Rate limit bucket shared by all instances.
+ * Holds the theoretical arrival time of the next request (GCRA) in epoch milliseconds of the Mongo server clock,
+ * so instances with skewed clocks agree. Updated atomically with one pipeline update per request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "rate_limit_buckets")
+public class RateLimitBucket {
+    
+    /**
+     * Route name and client or business key
+     */
+    @Id
+    private String id;
+    
+    private long arrival;
+    
+    /**
+     * Milliseconds until the next token as of the last request, zero if it was allowed
+     */
+    private long waitMillis;
+    
+    /**
+     * Expiry time, the document is removed by the TTL index once the bucket is full again
+     */
+    private Instant expiresAt;
+}
@@ -0,0 +1,58 @@
+package com.reztech.reservation_http_api.model.entity.main.reservation;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Materialised slot statuses of a business on one day, calculated ignoring expiry.
+ * Write paths bump the generation and clear the slots; a day is only stored if its generation did not change
+ * while it was calculated, so a stale calculation never overwrites a newer change.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "availability_days")
+public class AvailabilityDay {
+    
+    /**
+     * Business ID and date, e.g. "6507c123456789abcdef0003:2030-01-07"
+     */
+    @Id
+    private String id;
+    
+    private String businessId;
+    
+    private LocalDate date;
+    
+    /**
+     * Incremented by every change affecting the day
+     */
+    private long generation;
+    
+    /**
+     * All slots of the day sorted by start time, null when the day is stale
+     */
+    private List<AvailableSlotResponse.SlotInfo> slots;
+    
+    private Instant computedAt;
+    
+    /**
+     * Build the document ID of a business day
+     * @param businessId Business ID
+     * @param date Date
+     * @return Document ID
+     */
+    public static String idOf(String businessId, LocalDate date) {
+        return businessId + ":" + date;
+    }
+}
@@ -0,0 +1,50 @@
+package com.reztech.reservation_http_api.model.entity.main.reservation;
+
+import com.reztech.reservation_http_api.model.enums.IdempotencyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Response of a write request stored under its idempotency key.
+ * Records are removed by a TTL index on expiresAt (see IndexRegistry).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+    
+    /**
+     * Operation scope and client key, e.g. "reservations.create:7f0c..."
+     */
+    @Id
+    private String id;
+    
+    /**
+     * SHA-256 of the request body, a key reused with another body is rejected
+     */
+    private String requestHash;
+    
+    private IdempotencyStatus status;
+    
+    /**
+     * Response body as JSON, only for completed requests
+     */
+    private String responseBody;
+    
+    /**
+     * End of the lease of an in progress request, a retry may take the key over once it passes
+     */
+    private Instant lockedUntil;
+    
+    private Instant createdAt;
+    
+    private Instant expiresAt;
+}
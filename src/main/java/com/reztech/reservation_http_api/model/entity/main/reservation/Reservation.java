@@ -1,8 +1,8 @@
 package com.reztech.reservation_http_api.model.entity.main.reservation;
 
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
 import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
-import com.reztech.reservation_http_api.model.entity.main.user.User;
-import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
 import com.reztech.reservation_http_api.model.enums.SlotStatus;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -22,29 +22,24 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @Document(collection = "reservations")
-/*
-@CompoundIndexes({
-    @CompoundIndex(name = "business_date_timeslot", def = "{'business.id': 1, 'reservationDate': 1, 'timeSlot.startTime': 1}", unique = true),
-    @CompoundIndex(name = "user_date", def = "{'user.id': 1, 'reservationDate': 1}"),
-    @CompoundIndex(name = "business_date", def = "{'business.id': 1, 'reservationDate': 1}")
-})
-
- */
 public class Reservation {
     
     @Id
     private String id;
     
-    //@Indexed
-    private User user;
+    /**
+     * Snapshot of the user who made the reservation (persisted as user._id, user.name, ...)
+     */
+    private UserSnapshot user;
     
-    //@Indexed
-    private Business business;
+    /**
+     * Snapshot of the business (persisted as business._id, business.name)
+     */
+    private BusinessSnapshot business;
     
     /**
      * Date of the reservation
      */
-    //@Indexed
     private LocalDate reservationDate;
     
     /**
@@ -61,21 +56,18 @@ public class Reservation {
      * Status of the reservation slot
      */
     @Builder.Default
-    //@Indexed
     private SlotStatus status = SlotStatus.BOOKED;
     
     /**
      * Confirmation status
      */
     @Builder.Default
-    //@Indexed
     private Boolean isConfirmed = false;
     
     /**
      * Cancellation status
      */
     @Builder.Default
-    //@Indexed
     private Boolean isCancelled = false;
     
     /**
@@ -88,7 +80,6 @@ public class Reservation {
      */
     private String notes;
     
-    //@Indexed
     private Instant createdAt;
     
     private Instant updatedAt;
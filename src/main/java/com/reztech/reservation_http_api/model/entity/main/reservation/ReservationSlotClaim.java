@@ -0,0 +1,57 @@
+package com.reztech.reservation_http_api.model.entity.main.reservation;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Slot claims of one employee on one day.
+ * There is exactly one document per (businessId, employeeUserId, reservationDate), enforced by a unique index,
+ * and intervals are only pushed when they do not overlap an existing claim. This makes double booking
+ * impossible without a global lock.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "reservation_slot_claims")
+public class ReservationSlotClaim {
+    
+    @Id
+    private String id;
+    
+    private String businessId;
+    
+    private String employeeUserId;
+    
+    private LocalDate reservationDate;
+    
+    /**
+     * Claimed intervals of the day
+     */
+    @Builder.Default
+    private List<ClaimedInterval> intervals = new ArrayList<>();
+    
+    private Instant updatedAt;
+    
+    /**
+     * Interval claimed by a reservation, in minutes of the day (end exclusive)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ClaimedInterval {
+        private String reservationId;
+        private int startMinute;
+        private int endMinute;
+    }
+}
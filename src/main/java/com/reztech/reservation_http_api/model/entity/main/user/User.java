@@ -25,13 +25,10 @@ public class User {
     
     private String surname;
     
-    //@Indexed
     private String gsm;
     
-    //@Indexed(unique = true)
     private String email;
 
-    //@Indexed
     private UserType userType; // CUSTOMER, EMPLOYEE, BUSINESS_OWNER, ADMIN
 
     //TODO password bilgisi olabilir mi ?
@@ -0,0 +1,10 @@
+package com.reztech.reservation_http_api.model.enums;
+
+/**
+ * Result status of an item of a batch request
+ */
+public enum BatchItemStatus {
+    CREATED,      // Item is saved
+    CONFLICT,     // Time slot overlaps an existing reservation or an earlier item of the batch
+    FAILED        // Item is invalid or could not be saved
+}
@@ -0,0 +1,9 @@
+package com.reztech.reservation_http_api.model.enums;
+
+/**
+ * Status of a request stored under an idempotency key
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,  // First execution is still running
+    COMPLETED     // Response is stored and replayed to retries
+}
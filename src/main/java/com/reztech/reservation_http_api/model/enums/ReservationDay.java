@@ -1,5 +1,7 @@
 package com.reztech.reservation_http_api.model.enums;
 
+import java.time.DayOfWeek;
+
 /**
  * Days of week enumeration for reservations
  */
@@ -10,5 +12,22 @@ public enum ReservationDay {
     THURSDAY,
     FRIDAY,
     SATURDAY,
-    SUNDAY
+    SUNDAY;
+    
+    /**
+     * Convert Java DayOfWeek to ReservationDay
+     * @param dayOfWeek Java DayOfWeek
+     * @return ReservationDay enum
+     */
+    public static ReservationDay of(DayOfWeek dayOfWeek) {
+        return switch (dayOfWeek) {
+            case MONDAY -> MONDAY;
+            case TUESDAY -> TUESDAY;
+            case WEDNESDAY -> WEDNESDAY;
+            case THURSDAY -> THURSDAY;
+            case FRIDAY -> FRIDAY;
+            case SATURDAY -> SATURDAY;
+            case SUNDAY -> SUNDAY;
+        };
+    }
 } 
\ No newline at end of file
@@ -11,7 +11,7 @@ import java.util.List;
  * Repository interface for Business entity
  */
 @Repository
-public interface BusinessRepository extends MongoRepository<Business, String> {
+public interface BusinessRepository extends MongoRepository<Business, String>, BusinessRepositoryCustom {
     
     /**
      * Find businesses by owner (user) ID
@@ -0,0 +1,22 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+/**
+ * Custom Business repository operations that need MongoTemplate
+ */
+public interface BusinessRepositoryCustom {
+    
+    /**
+     * Find businesses around a point, nearest first.
+     * Backed by the location_point_2dsphere index (see IndexRegistry).
+     * @param point Search center
+     * @param maxDistance Search radius
+     * @param limit Maximum number of businesses
+     * @return Businesses with their distance to the point
+     */
+    GeoResults<Business> findNear(GeoJsonPoint point, Distance maxDistance, int limit);
+}
@@ -0,0 +1,52 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeospatialIndex;
+import org.springframework.data.mongodb.core.query.NearQuery;
+
+/**
+ * MongoTemplate based implementation of {@link BusinessRepositoryCustom}
+ */
+@RequiredArgsConstructor
+public class BusinessRepositoryCustomImpl implements BusinessRepositoryCustom {
+    
+    /**
+     * Field holding the GeoJSON point of a business location
+     */
+    public static final String LOCATION_POINT_FIELD = "location.point";
+    
+    public static final GeospatialIndex LOCATION_POINT_INDEX = new GeospatialIndex(LOCATION_POINT_FIELD)
+            .typed(GeoSpatialIndexType.GEO_2DSPHERE)
+            .named("location_point_2dsphere");
+    
+    private final MongoTemplate mongoTemplate;
+    
+    private volatile boolean indexEnsured;
+    
+    @Override
+    public GeoResults<Business> findNear(GeoJsonPoint point, Distance maxDistance, int limit) {
+        ensureIndex();
+        
+        NearQuery query = NearQuery.near(point)
+                .spherical(true)
+                .maxDistance(maxDistance)
+                .limit(limit);
+        return mongoTemplate.geoNear(query, Business.class);
+    }
+    
+    /**
+     * $geoNear fails without a geospatial index, so make sure it exists before the first search
+     */
+    private void ensureIndex() {
+        if (!indexEnsured) {
+            mongoTemplate.indexOps(Business.class).createIndex(LOCATION_POINT_INDEX);
+            indexEnsured = true;
+        }
+    }
+}
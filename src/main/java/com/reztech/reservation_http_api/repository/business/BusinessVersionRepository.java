@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for BusinessVersion entity
+ */
+@Repository
+public interface BusinessVersionRepository extends MongoRepository<BusinessVersion, String>, BusinessVersionRepositoryCustom {
+}
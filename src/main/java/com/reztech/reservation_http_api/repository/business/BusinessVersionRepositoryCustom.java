@@ -0,0 +1,15 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+
+/**
+ * Atomic operations on {@link BusinessVersion}
+ */
+public interface BusinessVersionRepositoryCustom {
+    
+    /**
+     * Increment a version, creating it on the first increment
+     * @param id Business ID or {@link BusinessVersion#ALL_BUSINESSES}
+     */
+    void increment(String id);
+}
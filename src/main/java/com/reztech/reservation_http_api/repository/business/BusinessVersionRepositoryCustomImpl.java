@@ -0,0 +1,43 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+
+/**
+ * MongoTemplate based implementation of {@link BusinessVersionRepositoryCustom}
+ */
+@RequiredArgsConstructor
+public class BusinessVersionRepositoryCustomImpl implements BusinessVersionRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public void increment(String id) {
+        mongoTemplate.upsert(idQuery(id), incrementUpdate(), BusinessVersion.class);
+    }
+    
+    /**
+     * Query matching a version by ID
+     * @param id Business ID or {@link BusinessVersion#ALL_BUSINESSES}
+     * @return Version query
+     */
+    public static Query idQuery(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+    
+    /**
+     * Update incrementing a version
+     * @return Increment update
+     */
+    public static Update incrementUpdate() {
+        return new Update()
+                .inc("version", 1)
+                .set("updatedAt", Instant.now());
+    }
+}
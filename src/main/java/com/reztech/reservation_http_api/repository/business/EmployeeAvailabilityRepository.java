@@ -0,0 +1,41 @@
+package com.reztech.reservation_http_api.repository.business;
+
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for EmployeeAvailability entity.
+ * Queries are backed by the business_employee_type index (see IndexRegistry).
+ */
+@Repository
+public interface EmployeeAvailabilityRepository extends MongoRepository<EmployeeAvailability, String> {
+    
+    /**
+     * Find availability rules of the employees of a business by active status
+     * @param businessId Business ID
+     * @param isActive Active status
+     * @return List of employee availability rules
+     */
+    List<EmployeeAvailability> findByBusinessIdAndIsActive(String businessId, Boolean isActive);
+    
+    /**
+     * Find availability rules of an employee of a business
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @return List of employee availability rules
+     */
+    List<EmployeeAvailability> findByBusinessIdAndEmployeeUserId(String businessId, String employeeUserId);
+    
+    /**
+     * Delete an availability rule of an employee of a business.
+     * The delete query carries the business ID, so the schedule cache of the business is evicted precisely.
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param id Rule ID
+     * @return Number of deleted rules
+     */
+    long deleteByBusinessIdAndEmployeeUserIdAndId(String businessId, String employeeUserId, String id);
+}
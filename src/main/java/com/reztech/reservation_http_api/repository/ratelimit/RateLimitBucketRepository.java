@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.repository.ratelimit;
+
+import com.reztech.reservation_http_api.model.entity.main.ratelimit.RateLimitBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for RateLimitBucket entity
+ */
+@Repository
+public interface RateLimitBucketRepository extends MongoRepository<RateLimitBucket, String>, RateLimitBucketRepositoryCustom {
+}
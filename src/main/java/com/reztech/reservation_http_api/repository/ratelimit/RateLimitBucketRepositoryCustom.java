@@ -0,0 +1,20 @@
+package com.reztech.reservation_http_api.repository.ratelimit;
+
+import com.reztech.reservation_http_api.model.entity.main.ratelimit.RateLimitBucket;
+
+import java.time.Duration;
+
+/**
+ * Atomic operations on {@link RateLimitBucket}
+ */
+public interface RateLimitBucketRepositoryCustom {
+    
+    /**
+     * Take a token from a shared bucket, creating a full bucket on the first request of the key
+     * @param id Bucket ID
+     * @param capacity Bucket capacity (burst size)
+     * @param emissionInterval Time it takes to refill one token
+     * @return Milliseconds until the next token, zero if the token was taken
+     */
+    long tryAcquire(String id, int capacity, Duration emissionInterval);
+}
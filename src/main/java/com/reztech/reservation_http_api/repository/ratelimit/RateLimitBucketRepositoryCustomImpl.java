@@ -0,0 +1,91 @@
+package com.reztech.reservation_http_api.repository.ratelimit;
+
+import com.reztech.reservation_http_api.model.entity.main.ratelimit.RateLimitBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * MongoTemplate based implementation of {@link RateLimitBucketRepositoryCustom}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitBucketRepositoryCustomImpl implements RateLimitBucketRepositoryCustom {
+    
+    public static final Index EXPIRES_AT_TTL_INDEX = new Index()
+            .on("expiresAt", Sort.Direction.ASC)
+            .expire(Duration.ZERO)
+            .named("expires_at_ttl");
+    
+    private static final Document NOW = new Document("$toLong", "$$NOW");
+    
+    private final MongoTemplate mongoTemplate;
+    
+    private volatile boolean indexEnsured;
+    
+    @Override
+    public long tryAcquire(String id, int capacity, Duration emissionInterval) {
+        ensureIndex();
+        
+        Query query = Query.query(Criteria.where("_id").is(id));
+        AggregationUpdate update = acquireUpdate(capacity, emissionInterval);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+        
+        RateLimitBucket bucket;
+        try {
+            bucket = mongoTemplate.findAndModify(query, update, options, RateLimitBucket.class);
+        } catch (DuplicateKeyException e) {
+            // Concurrent first request of the key, the bucket exists now
+            log.debug("Rate limit bucket {} created concurrently, retrying", id);
+            bucket = mongoTemplate.findAndModify(query, update, options, RateLimitBucket.class);
+        }
+        
+        return bucket != null ? bucket.getWaitMillis() : 0;
+    }
+    
+    /**
+     * Pipeline update taking a token (GCRA) with the server clock: it first computes how long the request
+     * has to wait, then moves the arrival time forward only if it does not have to
+     * @param capacity Bucket capacity (burst size)
+     * @param emissionInterval Time it takes to refill one token
+     * @return Acquire update
+     */
+    public static AggregationUpdate acquireUpdate(int capacity, Duration emissionInterval) {
+        long interval = Math.max(1, emissionInterval.toMillis());
+        long tolerance = interval * capacity;
+        // A missing arrival is ignored by $max, so a new bucket starts full
+        Document nextArrival = new Document("$add", List.of(new Document("$max", List.of("$arrival", NOW)), interval));
+        Document ahead = new Document("$subtract", List.of(nextArrival, NOW));
+        
+        AggregationOperation computeWait = context -> new Document("$set", new Document("waitMillis",
+                new Document("$max", List.of(0L, new Document("$subtract", List.of(ahead, tolerance))))));
+        AggregationOperation takeToken = context -> new Document("$set", new Document()
+                .append("arrival", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$waitMillis", 0L)), nextArrival, "$arrival")))
+                .append("expiresAt", new Document("$add", List.of("$$NOW", tolerance))));
+        
+        return AggregationUpdate.from(List.of(computeWait, takeToken));
+    }
+    
+    /**
+     * Buckets are only removed with the TTL index, so make sure it exists before the first request
+     */
+    private void ensureIndex() {
+        if (!indexEnsured) {
+            mongoTemplate.indexOps(RateLimitBucket.class).createIndex(EXPIRES_AT_TTL_INDEX);
+            indexEnsured = true;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Reactive generation guarded writes of {@link AvailabilityDay}
+ */
+public interface ReactiveAvailabilityDayRepositoryCustom {
+    
+    /**
+     * Mark days of a business stale, see AvailabilityDayRepositoryCustom#markStale
+     * @param businessId Business ID
+     * @param dates Affected dates
+     * @return Completion signal
+     */
+    Mono<Void> markStale(String businessId, Collection<LocalDate> dates);
+}
@@ -0,0 +1,38 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import com.reztech.reservation_http_api.repository.reservation.AvailabilityDayRepositoryCustomImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * ReactiveMongoTemplate based implementation of {@link ReactiveAvailabilityDayRepositoryCustom},
+ * using the same updates as {@link AvailabilityDayRepositoryCustomImpl}
+ */
+@RequiredArgsConstructor
+public class ReactiveAvailabilityDayRepositoryCustomImpl implements ReactiveAvailabilityDayRepositoryCustom {
+    
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    
+    @Override
+    public Mono<Void> markStale(String businessId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return Mono.empty();
+        }
+        
+        return Mono.defer(() -> {
+            ReactiveBulkOperations bulk = reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AvailabilityDay.class);
+            for (LocalDate date : dates) {
+                bulk.upsert(AvailabilityDayRepositoryCustomImpl.dayQuery(businessId, date),
+                        AvailabilityDayRepositoryCustomImpl.staleUpdate(businessId, date));
+            }
+            return bulk.execute();
+        }).then();
+    }
+}
@@ -0,0 +1,21 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository interface for BusinessAvailability entity
+ */
+@Repository
+public interface ReactiveBusinessAvailabilityRepository extends ReactiveMongoRepository<BusinessAvailability, String> {
+    
+    /**
+     * Find availability rules by business ID and active status
+     * @param businessId Business ID
+     * @param isActive Active status
+     * @return Availability rules
+     */
+    Flux<BusinessAvailability> findByBusinessIdAndIsActive(String businessId, Boolean isActive);
+}
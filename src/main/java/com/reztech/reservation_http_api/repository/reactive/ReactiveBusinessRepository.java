@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for Business entity
+ */
+@Repository
+public interface ReactiveBusinessRepository extends ReactiveMongoRepository<Business, String> {
+}
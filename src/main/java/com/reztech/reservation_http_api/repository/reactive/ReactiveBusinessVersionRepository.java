@@ -0,0 +1,13 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for BusinessVersion entity
+ */
+@Repository
+public interface ReactiveBusinessVersionRepository
+        extends ReactiveMongoRepository<BusinessVersion, String>, ReactiveBusinessVersionRepositoryCustom {
+}
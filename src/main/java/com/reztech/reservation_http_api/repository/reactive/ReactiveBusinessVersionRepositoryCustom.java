@@ -0,0 +1,17 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive atomic operations on {@link BusinessVersion}
+ */
+public interface ReactiveBusinessVersionRepositoryCustom {
+    
+    /**
+     * Increment a version, creating it on the first increment
+     * @param id Business ID or {@link BusinessVersion#ALL_BUSINESSES}
+     * @return Completion signal
+     */
+    Mono<Void> increment(String id);
+}
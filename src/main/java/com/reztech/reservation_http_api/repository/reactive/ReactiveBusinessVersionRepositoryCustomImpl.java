@@ -0,0 +1,24 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import com.reztech.reservation_http_api.repository.business.BusinessVersionRepositoryCustomImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveMongoTemplate based implementation of {@link ReactiveBusinessVersionRepositoryCustom},
+ * using the same update as {@link BusinessVersionRepositoryCustomImpl}
+ */
+@RequiredArgsConstructor
+public class ReactiveBusinessVersionRepositoryCustomImpl implements ReactiveBusinessVersionRepositoryCustom {
+    
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    
+    @Override
+    public Mono<Void> increment(String id) {
+        return Mono.defer(() -> reactiveMongoTemplate.upsert(BusinessVersionRepositoryCustomImpl.idQuery(id),
+                        BusinessVersionRepositoryCustomImpl.incrementUpdate(), BusinessVersion.class))
+                .then();
+    }
+}
@@ -0,0 +1,21 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository interface for EmployeeAvailability entity
+ */
+@Repository
+public interface ReactiveEmployeeAvailabilityRepository extends ReactiveMongoRepository<EmployeeAvailability, String> {
+    
+    /**
+     * Find availability rules of the employees of a business by active status
+     * @param businessId Business ID
+     * @param isActive Active status
+     * @return Employee availability rules
+     */
+    Flux<EmployeeAvailability> findByBusinessIdAndIsActive(String businessId, Boolean isActive);
+}
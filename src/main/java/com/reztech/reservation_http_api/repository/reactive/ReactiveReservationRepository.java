@@ -0,0 +1,57 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive repository interface for Reservation entity, same queries as {@link ReservationRepository}
+ */
+@Repository
+public interface ReactiveReservationRepository extends ReactiveMongoRepository<Reservation, String> {
+    
+    /**
+     * Find reservations by business ID
+     * @param businessId Business ID
+     * @return Reservations
+     */
+    @Query("{'business.id': ?0}")
+    Flux<Reservation> findByBusinessId(String businessId);
+    
+    /**
+     * Find reservations by user ID
+     * @param userId User ID
+     * @return Reservations
+     */
+    @Query("{'user.id': ?0}")
+    Flux<Reservation> findByUserId(String userId);
+    
+    /**
+     * Find active (not cancelled) reservations of a business between two dates (inclusive)
+     * @param businessId Business ID
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return Active reservations with slot fields only
+     */
+    @Query(value = "{'business.id': ?0, 'reservationDate': {$gte: ?1, $lte: ?2}, 'isCancelled': false}",
+           fields = ReservationRepository.SLOT_FIELDS)
+    Flux<Reservation> findActiveByBusinessIdAndReservationDateBetween(
+            String businessId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Find active (not cancelled) reservations of an employee in a business on a specific date
+     * @param businessId Business ID
+     * @param reservationDate Reservation date
+     * @param assignedEmployeeUserId Assigned employee user ID
+     * @return Active reservations with slot fields only
+     */
+    @Query(value = "{'business.id': ?0, 'reservationDate': ?1, 'isCancelled': false, 'assignedEmployeeUserId': ?2}",
+           fields = ReservationRepository.SLOT_FIELDS)
+    Flux<Reservation> findActiveByBusinessIdAndReservationDateAndEmployee(
+            String businessId, LocalDate reservationDate, String assignedEmployeeUserId);
+}
@@ -0,0 +1,20 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository interface for ReservationSettings entity
+ */
+@Repository
+public interface ReactiveReservationSettingsRepository extends ReactiveMongoRepository<ReservationSettings, String> {
+    
+    /**
+     * Find reservation settings by business ID
+     * @param businessId Business ID
+     * @return Reservation settings, empty if not exists
+     */
+    Mono<ReservationSettings> findByBusinessId(String businessId);
+}
@@ -0,0 +1,13 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for ReservationSlotClaim entity
+ */
+@Repository
+public interface ReactiveReservationSlotClaimRepository
+        extends ReactiveMongoRepository<ReservationSlotClaim, String>, ReactiveReservationSlotClaimRepositoryCustom {
+}
@@ -0,0 +1,35 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepositoryCustom;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Reactive variant of {@link ReservationSlotClaimRepositoryCustom}
+ */
+public interface ReactiveReservationSlotClaimRepositoryCustom {
+    
+    /**
+     * Atomically claim an interval for an employee on a day
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @param interval Interval to claim
+     * @return True if claimed, false if another reservation already holds an overlapping interval
+     */
+    Mono<Boolean> claim(String businessId, String employeeUserId, LocalDate reservationDate,
+                        ReservationSlotClaim.ClaimedInterval interval);
+    
+    /**
+     * Release a previously claimed interval
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @param interval Interval to release
+     * @return Completion signal
+     */
+    Mono<Void> release(String businessId, String employeeUserId, LocalDate reservationDate,
+                       ReservationSlotClaim.ClaimedInterval interval);
+}
@@ -0,0 +1,52 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepositoryCustomImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * ReactiveMongoTemplate based implementation of {@link ReactiveReservationSlotClaimRepositoryCustom},
+ * using the same claim query and index as {@link ReservationSlotClaimRepositoryCustomImpl}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveReservationSlotClaimRepositoryCustomImpl implements ReactiveReservationSlotClaimRepositoryCustom {
+    
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    
+    @Override
+    public Mono<Boolean> claim(String businessId, String employeeUserId, LocalDate reservationDate,
+                               ReservationSlotClaim.ClaimedInterval interval) {
+        Query query = ReservationSlotClaimRepositoryCustomImpl.claimQuery(businessId, employeeUserId, reservationDate, interval);
+        Update update = ReservationSlotClaimRepositoryCustomImpl.claimUpdate(interval);
+        
+        Mono<Boolean> upsert = Mono.defer(() -> reactiveMongoTemplate.upsert(query, update, ReservationSlotClaim.class))
+                .thenReturn(true);
+        
+        // A duplicate key is retried once, see ReservationSlotClaimRepositoryCustomImpl#claim
+        return upsert
+                .onErrorResume(DuplicateKeyException.class, first -> upsert)
+                .onErrorResume(DuplicateKeyException.class, second -> {
+                    log.debug("Slot claim rejected for employee {} on {}", employeeUserId, reservationDate);
+                    return Mono.just(false);
+                });
+    }
+    
+    @Override
+    public Mono<Void> release(String businessId, String employeeUserId, LocalDate reservationDate,
+                              ReservationSlotClaim.ClaimedInterval interval) {
+        return reactiveMongoTemplate.updateFirst(
+                        ReservationSlotClaimRepositoryCustomImpl.dayQuery(businessId, employeeUserId, reservationDate),
+                        ReservationSlotClaimRepositoryCustomImpl.releaseUpdate(interval),
+                        ReservationSlotClaim.class)
+                .then();
+    }
+}
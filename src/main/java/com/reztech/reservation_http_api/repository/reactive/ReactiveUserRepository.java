@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.repository.reactive;
+
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reactive repository interface for User entity
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+}
@@ -0,0 +1,27 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for AvailabilityDay entity
+ */
+@Repository
+public interface AvailabilityDayRepository extends MongoRepository<AvailabilityDay, String>, AvailabilityDayRepositoryCustom {
+    
+    /**
+     * Find materialised days of a business between two dates (inclusive).
+     * Backed by the business_date index of availability_days (see IndexRegistry).
+     * @param businessId Business ID
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return List of materialised days
+     */
+    @Query("{'businessId': ?0, 'date': {$gte: ?1, $lte: ?2}}")
+    List<AvailabilityDay> findByBusinessIdAndDateBetween(String businessId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,34 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Generation guarded writes of {@link AvailabilityDay}
+ */
+public interface AvailabilityDayRepositoryCustom {
+    
+    /**
+     * Mark days of a business stale by incrementing their generation and clearing their slots.
+     * Days that are not materialised yet are created empty, so a calculation started before the change cannot store them.
+     * @param businessId Business ID
+     * @param dates Affected dates
+     */
+    void markStale(String businessId, Collection<LocalDate> dates);
+    
+    /**
+     * Mark every materialised day stale
+     */
+    void markAllStale();
+    
+    /**
+     * Store calculated days with a single unordered bulk write.
+     * A day is only stored if its generation is still the one it was calculated for.
+     * @param days Calculated days, each carrying the generation it was calculated for
+     * @return Number of stored days
+     */
+    int storeIfCurrent(List<AvailabilityDay> days);
+}
@@ -0,0 +1,107 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MongoTemplate based implementation of {@link AvailabilityDayRepositoryCustom}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AvailabilityDayRepositoryCustomImpl implements AvailabilityDayRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public void markStale(String businessId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AvailabilityDay.class);
+        for (LocalDate date : dates) {
+            bulk.upsert(dayQuery(businessId, date), staleUpdate(businessId, date));
+        }
+        bulk.execute();
+    }
+    
+    @Override
+    public void markAllStale() {
+        mongoTemplate.updateMulti(new Query(), new Update().inc("generation", 1).unset("slots"), AvailabilityDay.class);
+    }
+    
+    @Override
+    public int storeIfCurrent(List<AvailabilityDay> days) {
+        if (days.isEmpty()) {
+            return 0;
+        }
+        
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AvailabilityDay.class);
+        for (AvailabilityDay day : days) {
+            bulk.upsert(currentQuery(day), new Update()
+                    .set("businessId", day.getBusinessId())
+                    .set("date", day.getDate())
+                    .set("slots", day.getSlots())
+                    .set("computedAt", Instant.now()));
+        }
+        
+        try {
+            bulk.execute();
+            return days.size();
+        } catch (BulkOperationException e) {
+            // A newer generation makes the upsert insert a second document with the same ID, the day is skipped
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            log.debug("Skipped {} availability days changed while they were calculated", e.getErrors().size());
+            return days.size() - e.getErrors().size();
+        }
+    }
+    
+    /**
+     * Query matching a day of a business
+     * @param businessId Business ID
+     * @param date Date
+     * @return Day query
+     */
+    public static Query dayQuery(String businessId, LocalDate date) {
+        return Query.query(Criteria.where("_id").is(AvailabilityDay.idOf(businessId, date)));
+    }
+    
+    /**
+     * Update marking a day stale
+     * @param businessId Business ID
+     * @param date Date
+     * @return Stale update
+     */
+    public static Update staleUpdate(String businessId, LocalDate date) {
+        return new Update()
+                .inc("generation", 1)
+                .unset("slots")
+                .setOnInsert("businessId", businessId)
+                .setOnInsert("date", date);
+    }
+    
+    /**
+     * Query matching a day only if it is still at the generation it was calculated for
+     */
+    private static Query currentQuery(AvailabilityDay day) {
+        return Query.query(Criteria.where("_id").is(day.getId()).and("generation").is(day.getGeneration()));
+    }
+}
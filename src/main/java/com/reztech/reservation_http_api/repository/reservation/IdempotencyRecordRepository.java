@@ -0,0 +1,12 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for IdempotencyRecord entity
+ */
+@Repository
+public interface IdempotencyRecordRepository extends MongoRepository<IdempotencyRecord, String>, IdempotencyRecordRepositoryCustom {
+}
@@ -0,0 +1,27 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+
+import java.time.Instant;
+
+/**
+ * Atomic operations on {@link IdempotencyRecord}
+ */
+public interface IdempotencyRecordRepositoryCustom {
+    
+    /**
+     * Insert a record only if no record exists for its key
+     * @param record In progress record
+     * @return True if the record is inserted, false if the key is already taken
+     */
+    boolean insertIfAbsent(IdempotencyRecord record);
+    
+    /**
+     * Take over an in progress record whose lease has passed
+     * @param id Record ID
+     * @param expiredLockedUntil Lease end read from the record, the take over fails if another request renewed it
+     * @param lockedUntil New lease end
+     * @return True if the lease is taken over
+     */
+    boolean takeOver(String id, Instant expiredLockedUntil, Instant lockedUntil);
+}
@@ -0,0 +1,63 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+import com.reztech.reservation_http_api.model.enums.IdempotencyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * MongoTemplate based implementation of {@link IdempotencyRecordRepositoryCustom}
+ */
+@RequiredArgsConstructor
+public class IdempotencyRecordRepositoryCustomImpl implements IdempotencyRecordRepositoryCustom {
+    
+    public static final Index EXPIRY_INDEX = new Index()
+            .on("expiresAt", Sort.Direction.ASC)
+            .expire(Duration.ZERO)
+            .named("expires_at_ttl");
+    
+    private final MongoTemplate mongoTemplate;
+    
+    private volatile boolean indexEnsured;
+    
+    @Override
+    public boolean insertIfAbsent(IdempotencyRecord record) {
+        ensureIndex();
+        
+        try {
+            mongoTemplate.insert(record);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+    
+    @Override
+    public boolean takeOver(String id, Instant expiredLockedUntil, Instant lockedUntil) {
+        Query query = Query.query(Criteria.where("_id").is(id)
+                .and("status").is(IdempotencyStatus.IN_PROGRESS)
+                .and("lockedUntil").is(expiredLockedUntil));
+        
+        return mongoTemplate.updateFirst(query, new Update().set("lockedUntil", lockedUntil), IdempotencyRecord.class)
+                .getModifiedCount() == 1;
+    }
+    
+    /**
+     * Records are only removed with the TTL index, so make sure it exists before the first insert
+     */
+    private void ensureIndex() {
+        if (!indexEnsured) {
+            mongoTemplate.indexOps(IdempotencyRecord.class).createIndex(EXPIRY_INDEX);
+            indexEnsured = true;
+        }
+    }
+}
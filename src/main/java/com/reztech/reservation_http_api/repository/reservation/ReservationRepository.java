@@ -5,13 +5,25 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Reservation entity
  */
 @Repository
-public interface ReservationRepository extends MongoRepository<Reservation, String> {
+public interface ReservationRepository extends MongoRepository<Reservation, String>, ReservationRepositoryCustom {
+    
+    /**
+     * Fields needed to calculate slot occupancy (embedded user and business are not loaded)
+     */
+    String SLOT_FIELDS = "{'reservationDate': 1, 'timeSlot': 1, 'assignedEmployeeUserId': 1, 'status': 1, 'isCancelled': 1}";
+    
+    /**
+     * {@link #SLOT_FIELDS} with the business ID, for queries over more than one business
+     */
+    String BUSINESS_SLOT_FIELDS = "{'business.id': 1, 'reservationDate': 1, 'timeSlot': 1, 'assignedEmployeeUserId': 1, 'status': 1, 'isCancelled': 1}";
     
     /**
      * Find reservations by business ID
@@ -28,4 +40,57 @@ public interface ReservationRepository extends MongoRepository<Reservation, Stri
      */
     @Query("{'user.id': ?0}")
     List<Reservation> findByUserId(String userId);
-} 
\ No newline at end of file
+    
+    /**
+     * Find active (not cancelled) reservations of a business on a specific date.
+     * Backed by the business_cancelled_date_employee index (see IndexRegistry) and projected to {@link #SLOT_FIELDS}.
+     * @param businessId Business ID
+     * @param reservationDate Reservation date
+     * @return List of active reservations with slot fields only
+     */
+    @Query(value = "{'business.id': ?0, 'reservationDate': ?1, 'isCancelled': false}", fields = SLOT_FIELDS)
+    List<Reservation> findActiveByBusinessIdAndReservationDate(String businessId, LocalDate reservationDate);
+    
+    /**
+     * Find active (not cancelled) reservations of a business between two dates (inclusive).
+     * Backed by the business_cancelled_date_employee index (see IndexRegistry) and projected to {@link #SLOT_FIELDS}.
+     * @param businessId Business ID
+     * @param startDate Start date (inclusive)
+     * @param endDate End date (inclusive)
+     * @return List of active reservations with slot fields only
+     */
+    @Query(value = "{'business.id': ?0, 'reservationDate': {$gte: ?1, $lte: ?2}, 'isCancelled': false}",
+           fields = SLOT_FIELDS)
+    List<Reservation> findActiveByBusinessIdAndReservationDateBetween(
+            String businessId, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * Find active (not cancelled) reservations of an employee in a business on a specific date.
+     * Backed by the business_cancelled_date_employee index (see IndexRegistry) and projected to {@link #SLOT_FIELDS}.
+     * @param businessId Business ID
+     * @param reservationDate Reservation date
+     * @param assignedEmployeeUserId Assigned employee user ID
+     * @return List of active reservations with slot fields only
+     */
+    @Query(value = "{'business.id': ?0, 'reservationDate': ?1, 'isCancelled': false, 'assignedEmployeeUserId': ?2}",
+           fields = SLOT_FIELDS)
+    List<Reservation> findActiveByBusinessIdAndReservationDateAndEmployee(
+            String businessId, LocalDate reservationDate, String assignedEmployeeUserId);
+    
+    /**
+     * Find active (not cancelled) reservations of some employees in some businesses on some dates.
+     * Used to check a whole batch for conflicts with one query, the result is a superset of the conflicting
+     * reservations and is matched per business, employee and date by the caller.
+     * Backed by the business_cancelled_date_employee index (see IndexRegistry) and projected to {@link #BUSINESS_SLOT_FIELDS}.
+     * @param businessIds Business IDs
+     * @param reservationDates Reservation dates
+     * @param assignedEmployeeUserIds Assigned employee user IDs
+     * @return List of active reservations with business ID and slot fields only
+     */
+    @Query(value = "{'business.id': {$in: ?0}, 'reservationDate': {$in: ?1}, 'isCancelled': false, " +
+                   "'assignedEmployeeUserId': {$in: ?2}}",
+           fields = BUSINESS_SLOT_FIELDS)
+    List<Reservation> findActiveByBusinessIdsAndReservationDatesAndEmployees(
+            Collection<String> businessIds, Collection<LocalDate> reservationDates,
+            Collection<String> assignedEmployeeUserIds);
+}
@@ -0,0 +1,19 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk write operations for {@link Reservation}
+ */
+public interface ReservationRepositoryCustom {
+    
+    /**
+     * Insert reservations with a single unordered bulk write, a failing document does not stop the others
+     * @param reservations Reservations with pre-generated IDs
+     * @return Indexes of the reservations that could not be inserted
+     */
+    Set<Integer> insertAll(List<Reservation> reservations);
+}
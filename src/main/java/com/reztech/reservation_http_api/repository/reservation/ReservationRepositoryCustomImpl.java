@@ -0,0 +1,44 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoTemplate based implementation of {@link ReservationRepositoryCustom}
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public Set<Integer> insertAll(List<Reservation> reservations) {
+        Set<Integer> failed = new HashSet<>();
+        if (reservations.isEmpty()) {
+            return failed;
+        }
+        
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Reservation.class)
+                    .insert(reservations)
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                log.warn("Bulk insert of reservation {} failed: {}", error.getIndex(), error.getMessage());
+                failed.add(error.getIndex());
+            }
+        }
+        
+        return failed;
+    }
+}
@@ -0,0 +1,13 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ReservationSlotClaim entity
+ */
+@Repository
+public interface ReservationSlotClaimRepository
+        extends MongoRepository<ReservationSlotClaim, String>, ReservationSlotClaimRepositoryCustom {
+}
@@ -0,0 +1,49 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Atomic claim operations for {@link ReservationSlotClaim}
+ */
+public interface ReservationSlotClaimRepositoryCustom {
+    
+    /**
+     * Atomically claim an interval for an employee on a day.
+     * Intervals of the same reservation are ignored so a reservation can be moved onto an overlapping slot.
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @param interval Interval to claim
+     * @return true if claimed, false if it overlaps an interval of another reservation
+     */
+    boolean claim(String businessId, String employeeUserId, LocalDate reservationDate,
+                  ReservationSlotClaim.ClaimedInterval interval);
+    
+    /**
+     * Release a previously claimed interval
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @param interval Interval to release
+     */
+    void release(String businessId, String employeeUserId, LocalDate reservationDate,
+                 ReservationSlotClaim.ClaimedInterval interval);
+    
+    /**
+     * Claim many intervals with a single unordered bulk write.
+     * Claims rejected by the bulk write are retried one by one with {@link #claim}.
+     * @param claims Intervals to claim
+     * @return Indexes of the claims that overlap an interval of another reservation
+     */
+    Set<Integer> claimAll(List<SlotClaimRequest> claims);
+    
+    /**
+     * Release many previously claimed intervals with a single unordered bulk write
+     * @param claims Intervals to release
+     */
+    void releaseAll(List<SlotClaimRequest> claims);
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.core.index.IndexRegistry;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * MongoTemplate based implementation of {@link ReservationSlotClaimRepositoryCustom}.
+ * Relies on the unique day index {@link IndexRegistry#RESERVATION_SLOT_CLAIM_DAY} created by IndexBootstrap.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationSlotClaimRepositoryCustomImpl implements ReservationSlotClaimRepositoryCustom {
+    
+    private final MongoTemplate mongoTemplate;
+    
+    @Override
+    public boolean claim(String businessId, String employeeUserId, LocalDate reservationDate,
+                         ReservationSlotClaim.ClaimedInterval interval) {
+        Query query = claimQuery(businessId, employeeUserId, reservationDate, interval);
+        Update update = claimUpdate(interval);
+        
+        // When the filter does not match, the upsert tries to insert a second day document and
+        // the unique index rejects it. The first failure may also be a concurrent first insert of the day,
+        // so retry once: after that the day document exists and a duplicate key can only mean an overlap.
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                mongoTemplate.upsert(query, update, ReservationSlotClaim.class);
+                return true;
+            } catch (DuplicateKeyException e) {
+                log.debug("Slot claim rejected for employee {} on {} (attempt {})",
+                        employeeUserId, reservationDate, attempt + 1);
+            }
+        }
+        
+        return false;
+    }
+    
+    @Override
+    public void release(String businessId, String employeeUserId, LocalDate reservationDate,
+                        ReservationSlotClaim.ClaimedInterval interval) {
+        mongoTemplate.updateFirst(dayQuery(businessId, employeeUserId, reservationDate), releaseUpdate(interval),
+                ReservationSlotClaim.class);
+    }
+    
+    @Override
+    public Set<Integer> claimAll(List<SlotClaimRequest> claims) {
+        Set<Integer> rejected = new TreeSet<>();
+        if (claims.isEmpty()) {
+            return rejected;
+        }
+        
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotClaim.class);
+        for (SlotClaimRequest claim : claims) {
+            bulk.upsert(claimQuery(claim.getBusinessId(), claim.getEmployeeUserId(), claim.getReservationDate(),
+                    claim.getInterval()), claimUpdate(claim.getInterval()));
+        }
+        
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+                rejected.add(error.getIndex());
+            }
+        }
+        
+        // A duplicate key may also be two first inserts of the same day, retry those one by one
+        rejected.removeIf(index -> {
+            SlotClaimRequest claim = claims.get(index);
+            return claim(claim.getBusinessId(), claim.getEmployeeUserId(), claim.getReservationDate(), claim.getInterval());
+        });
+        
+        return rejected;
+    }
+    
+    @Override
+    public void releaseAll(List<SlotClaimRequest> claims) {
+        if (claims.isEmpty()) {
+            return;
+        }
+        
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotClaim.class);
+        for (SlotClaimRequest claim : claims) {
+            bulk.updateOne(dayQuery(claim.getBusinessId(), claim.getEmployeeUserId(), claim.getReservationDate()),
+                    releaseUpdate(claim.getInterval()));
+        }
+        bulk.execute();
+    }
+    
+    /**
+     * Query matching the claim document of an employee on a day only if no other reservation overlaps the interval
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @param interval Interval to claim
+     * @return Claim query
+     */
+    public static Query claimQuery(String businessId, String employeeUserId, LocalDate reservationDate,
+                                   ReservationSlotClaim.ClaimedInterval interval) {
+        Criteria overlapping = Criteria.where("reservationId").ne(interval.getReservationId())
+                .and("startMinute").lt(interval.getEndMinute())
+                .and("endMinute").gt(interval.getStartMinute());
+        
+        return dayQuery(businessId, employeeUserId, reservationDate)
+                .addCriteria(Criteria.where("intervals").not().elemMatch(overlapping));
+    }
+    
+    /**
+     * Update adding an interval to the claim document of a day
+     * @param interval Interval to claim
+     * @return Claim update
+     */
+    public static Update claimUpdate(ReservationSlotClaim.ClaimedInterval interval) {
+        return new Update()
+                .push("intervals", interval)
+                .set("updatedAt", Instant.now());
+    }
+    
+    /**
+     * Update removing an interval from the claim document of a day
+     * @param interval Interval to release
+     * @return Release update
+     */
+    public static Update releaseUpdate(ReservationSlotClaim.ClaimedInterval interval) {
+        return new Update()
+                .pull("intervals", interval)
+                .set("updatedAt", Instant.now());
+    }
+    
+    /**
+     * Query matching the claim document of an employee on a day
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param reservationDate Reservation date
+     * @return Day query
+     */
+    public static Query dayQuery(String businessId, String employeeUserId, LocalDate reservationDate) {
+        return Query.query(Criteria.where("businessId").is(businessId)
+                .and("employeeUserId").is(employeeUserId)
+                .and("reservationDate").is(reservationDate));
+    }
+}
@@ -0,0 +1,25 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Interval to claim for an employee on a day, used by bulk claim operations
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SlotClaimRequest {
+    
+    private final String businessId;
+    
+    private final String employeeUserId;
+    
+    private final LocalDate reservationDate;
+    
+    private final ReservationSlotClaim.ClaimedInterval interval;
+}
@@ -1,5 +1,7 @@
 package com.reztech.reservation_http_api.service.business;
 
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.mapper.BusinessEmployeeMapper;
 import com.reztech.reservation_http_api.model.api.request.AddBusinessEmployeeRequest;
 import com.reztech.reservation_http_api.model.api.request.UpdateBusinessEmployeeRequest;
 import com.reztech.reservation_http_api.model.api.response.BusinessEmployeeResponse;
@@ -9,8 +11,10 @@ import com.reztech.reservation_http_api.model.entity.main.user.User;
 import com.reztech.reservation_http_api.model.enums.UserType;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.repository.user.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -22,11 +26,14 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class BusinessEmployeeService {
     
     private final BusinessRepository businessRepository;
     private final UserRepository userRepository;
+    private final BusinessEmployeeMapper businessEmployeeMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Add an employee to a business
@@ -69,7 +76,7 @@ public class BusinessEmployeeService {
         // Add employee to business
         business.getEmployees().add(businessEmployee);
         
-        return businessRepository.save(business);
+        return saveAndPublish(business);
     }
     
     /**
@@ -101,7 +108,7 @@ public class BusinessEmployeeService {
             employee.setActive(request.getActive());
         }
         
-        return businessRepository.save(business);
+        return saveAndPublish(business);
     }
     
     /**
@@ -124,7 +131,7 @@ public class BusinessEmployeeService {
             throw new RuntimeException("Employee not found in business");
         }
         
-        return businessRepository.save(business);
+        return saveAndPublish(business);
     }
     
     /**
@@ -142,7 +149,7 @@ public class BusinessEmployeeService {
         //TODO put user details into response
         // Convert to response objects
         return business.getEmployees().stream()
-                .map(this::convertToResponse)
+                .map(businessEmployeeMapper::toResponse)
                 .toList();
     }
     
@@ -166,7 +173,7 @@ public class BusinessEmployeeService {
                 .orElseThrow(() -> new RuntimeException("Employee not found in business"));
 
         //TODO put user details into response
-        return convertToResponse(employee);
+        return businessEmployeeMapper.toResponse(employee);
     }
     
     /**
@@ -185,15 +192,13 @@ public class BusinessEmployeeService {
     }
     
     /**
-     * Convert BusinessEmployee to BusinessEmployeeResponse
-     * @param employee Business employee
-     * @return Business employee response
+     * Save a business whose employees changed and publish its availability as changed
+     * @param business Business entity
+     * @return Saved business
      */
-    private BusinessEmployeeResponse convertToResponse(BusinessEmployee employee) {
-        return BusinessEmployeeResponse.builder()
-                .userId(employee.getUserId())
-                .joinedAt(employee.getJoinedAt())
-                .active(employee.isActive())
-                .build();
+    private Business saveAndPublish(Business business) {
+        Business savedBusiness = businessRepository.save(business);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(savedBusiness.getId()));
+        return savedBusiness;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
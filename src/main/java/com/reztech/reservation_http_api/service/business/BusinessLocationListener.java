@@ -0,0 +1,23 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.model.entity.embedded.Location;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the GeoJSON point of a business location in sync with its latitude and longitude on every save,
+ * so the 2dsphere index sees the coordinates however the business was changed.
+ */
+@Component
+public class BusinessLocationListener extends AbstractMongoEventListener<Business> {
+    
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Business> event) {
+        Location location = event.getSource().getLocation();
+        if (location != null) {
+            location.setPoint(location.toPoint());
+        }
+    }
+}
@@ -1,31 +1,40 @@
 package com.reztech.reservation_http_api.service.business;
 
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.BusinessMapper;
 import com.reztech.reservation_http_api.model.api.request.CreateBusinessRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
 import com.reztech.reservation_http_api.model.entity.main.user.User;
 import com.reztech.reservation_http_api.model.enums.UserType;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.repository.user.UserRepository;
-import com.reztech.reservation_http_api.util.JsonUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service class for Business operations
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class BusinessService {
     
     private final BusinessRepository businessRepository;
     private final UserRepository userRepository;
-    private final JsonUtils jsonUtils;
+    private final BusinessMapper businessMapper;
+    private final KeysetPaginator keysetPaginator;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Create a new business
@@ -44,7 +53,7 @@ public class BusinessService {
             throw new RuntimeException("User must be a BUSINESS_OWNER or ADMIN to create a business");
         }
         
-        Business business = jsonUtils.convert(request, Business.class);
+        Business business = businessMapper.toEntity(request);
         business.setOwner(owner);
         
         // Add owner as default employee
@@ -112,12 +121,23 @@ public class BusinessService {
     }
     
     /**
-     * Get all businesses
-     * @return List of all businesses
+     * Get a page of all businesses
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @return Page of businesses
      */
-    public List<Business> getAllBusinesses() {
-        log.info("Getting all businesses");
-        return businessRepository.findAll();
+    public CursorPageResponse<Business> getAllBusinesses(String cursor, Integer size) {
+        log.info("Getting businesses after cursor: {}", cursor);
+        return keysetPaginator.page(Business.class, cursor, size, Business::getId, business -> business);
+    }
+    
+    /**
+     * Stream all businesses from a Mongo cursor
+     * @param consumer Consumer receiving every business
+     */
+    public void streamAllBusinesses(Consumer<Business> consumer) {
+        log.info("Streaming all businesses");
+        keysetPaginator.stream(Business.class, consumer);
     }
     
     /**
@@ -166,5 +186,6 @@ public class BusinessService {
         }
         
         businessRepository.deleteById(id);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(id));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import com.reztech.reservation_http_api.repository.business.BusinessVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service keeping the availability version of every business.
+ * Versions are bumped by {@link AvailabilityChangedEvent} and used to build ETags of availability responses.
+ * Versions are cached by business ID and evicted on every change like reservation settings, changes made on
+ * other instances are picked up when the cache entry expires.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BusinessVersionService {
+    
+    private final BusinessVersionRepository businessVersionRepository;
+    private final CacheManager cacheManager;
+    
+    /**
+     * Get the availability version of a business.
+     * The version of the business and the version shared by every business are read with one query and summed,
+     * so a bump of either increases it.
+     * @param businessId Business ID
+     * @return Availability version, 0 if nothing changed yet
+     */
+    @Cacheable(cacheNames = CacheName.BUSINESS_VERSIONS, key = "#businessId")
+    public long getVersion(String businessId) {
+        return businessVersionRepository.findAllById(List.of(businessId, BusinessVersion.ALL_BUSINESSES)).stream()
+                .mapToLong(BusinessVersion::getVersion)
+                .sum();
+    }
+    
+    /**
+     * Bump the version of the business affected by a change and evict it from the cache,
+     * a change of every business clears the whole cache
+     * @param event Availability changed event
+     */
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        String id = event.getBusinessId() != null ? event.getBusinessId() : BusinessVersion.ALL_BUSINESSES;
+        
+        try {
+            businessVersionRepository.increment(id);
+        } catch (RuntimeException e) {
+            // The change itself is saved, clients revalidate again once the next change bumps the version
+            log.error("Could not bump availability version of {}", id, e);
+        }
+        
+        Cache cache = cacheManager.getCache(CacheName.BUSINESS_VERSIONS);
+        if (cache == null) {
+            return;
+        }
+        if (event.getBusinessId() != null) {
+            cache.evict(event.getBusinessId());
+        } else {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.request.CreateEmployeeAvailabilityRequest;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.business.EmployeeAvailabilityRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service class for employee working hours and time off.
+ * Saves and deletes evict the compiled employee schedule and mark the availability of the business as changed
+ * through EmployeeScheduleCacheListener.
+ */
+@Slf4j
+@Service
+@Timed(value = "service.method", histogram = true)
+@RequiredArgsConstructor
+public class EmployeeAvailabilityService {
+    
+    private final EmployeeAvailabilityRepository employeeAvailabilityRepository;
+    private final BusinessRepository businessRepository;
+    
+    /**
+     * Create an availability rule for an employee of a business
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param request Create employee availability request
+     * @return Created employee availability rule
+     */
+    public EmployeeAvailability createAvailability(String businessId, String employeeUserId,
+                                                   CreateEmployeeAvailabilityRequest request) {
+        log.info("Creating availability rule for employee {} of business {}", employeeUserId, businessId);
+        
+        validateEmployee(businessId, employeeUserId);
+        validateRule(request);
+        
+        EmployeeAvailability availability = EmployeeAvailability.builder()
+                .businessId(businessId)
+                .employeeUserId(employeeUserId)
+                .availabilityType(request.getAvailabilityType())
+                .dayOfWeek(request.getDayOfWeek())
+                .specificDate(request.getSpecificDate())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .workingSlots(request.getWorkingSlots())
+                .blockedSlots(request.getBlockedSlots())
+                .dayOff(Boolean.TRUE.equals(request.getDayOff()))
+                .reason(request.getReason())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        
+        return employeeAvailabilityRepository.save(availability);
+    }
+    
+    /**
+     * Get availability rules of an employee of a business
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @return List of employee availability rules
+     */
+    public List<EmployeeAvailability> getAvailability(String businessId, String employeeUserId) {
+        log.info("Getting availability rules of employee {} of business {}", employeeUserId, businessId);
+        return employeeAvailabilityRepository.findByBusinessIdAndEmployeeUserId(businessId, employeeUserId);
+    }
+    
+    /**
+     * Delete an availability rule of an employee of a business
+     * @param businessId Business ID
+     * @param employeeUserId Employee user ID
+     * @param id Rule ID
+     */
+    public void deleteAvailability(String businessId, String employeeUserId, String id) {
+        log.info("Deleting availability rule {} of employee {} of business {}", id, employeeUserId, businessId);
+        
+        if (employeeAvailabilityRepository.deleteByBusinessIdAndEmployeeUserIdAndId(businessId, employeeUserId, id) == 0) {
+            throw new ResourceNotFoundException(ErrorCode.EMPLOYEE_AVAILABILITY_NOT_FOUND,
+                    String.format(ErrorMessage.EMPLOYEE_AVAILABILITY_NOT_FOUND, id));
+        }
+    }
+    
+    /**
+     * Check that the business exists and the user is one of its employees
+     */
+    private void validateEmployee(String businessId, String employeeUserId) {
+        Business business = businessRepository.findById(businessId)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                        String.format(ErrorMessage.BUSINESS_NOT_FOUND, businessId)));
+        
+        boolean isEmployee = business.getEmployees() != null && business.getEmployees().stream()
+                .anyMatch(employee -> employeeUserId.equals(employee.getUserId()));
+        if (!isEmployee) {
+            throw new ResourceNotFoundException(ErrorCode.EMPLOYEE_NOT_FOUND,
+                    String.format(ErrorMessage.EMPLOYEE_NOT_FOUND, employeeUserId, businessId));
+        }
+    }
+    
+    /**
+     * Check that the rule has the date fields of its type
+     */
+    private void validateRule(CreateEmployeeAvailabilityRequest request) {
+        String problem = switch (request.getAvailabilityType()) {
+            case WEEKLY_RECURRING -> request.getDayOfWeek() == null ? "dayOfWeek is required" : null;
+            case SPECIFIC_DATE -> request.getSpecificDate() == null ? "specificDate is required" : null;
+            case DATE_RANGE -> request.getStartDate() == null || request.getEndDate() == null
+                    || request.getEndDate().isBefore(request.getStartDate())
+                    ? "startDate and endDate are required and endDate must not be before startDate" : null;
+        };
+        
+        if (problem != null) {
+            throw new ValidationException(ErrorCode.INVALID_AVAILABILITY_RULE,
+                    String.format(ErrorMessage.INVALID_AVAILABILITY_RULE, problem));
+        }
+    }
+}
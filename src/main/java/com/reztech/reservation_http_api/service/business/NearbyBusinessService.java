@@ -0,0 +1,160 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.NearbyBusinessResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.service.reservation.AvailabilityProjectionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Service searching businesses around a location, optionally only those with a free slot in a time window
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NearbyBusinessService {
+    
+    private final BusinessRepository businessRepository;
+    private final AvailabilityProjectionService availabilityProjectionService;
+    private final ConcurrentLookups concurrentLookups;
+    private final AppConfig appConfig;
+    
+    /**
+     * Find businesses around a location, nearest first.
+     * With a date, up to the candidate limit of nearest businesses are checked for a free slot in the window,
+     * a chunk at a time concurrently, and checking stops as soon as enough businesses are found.
+     * @param latitude Latitude of the location
+     * @param longitude Longitude of the location
+     * @param radiusKm Search radius in kilometers
+     * @param size Maximum number of businesses, null for the default page size
+     * @param date Date that needs a free slot, null to skip the availability check
+     * @param from Start of the time window, null for the start of the day
+     * @param to End of the time window, null for the end of the day
+     * @return Nearby businesses with their distance
+     */
+    public List<NearbyBusinessResponse> findNearby(double latitude, double longitude, double radiusKm, Integer size,
+                                                   LocalDate date, LocalTime from, LocalTime to) {
+        log.info("Finding businesses within {} km of {}, {}", radiusKm, latitude, longitude);
+        
+        validate(latitude, longitude, radiusKm, date, from, to);
+        int limit = resolveLimit(size);
+        GeoJsonPoint point = new GeoJsonPoint(longitude, latitude);
+        Distance radius = new Distance(radiusKm, Metrics.KILOMETERS);
+        
+        if (date == null) {
+            return businessRepository.findNear(point, radius, limit).getContent().stream()
+                    .map(result -> toResponse(result, null))
+                    .toList();
+        }
+        
+        List<GeoResult<Business>> candidates = businessRepository
+                .findNear(point, radius, Math.max(limit, appConfig.getNearbyCandidateLimit())).getContent();
+        
+        List<NearbyBusinessResponse> found = new ArrayList<>();
+        int chunkSize = Math.max(1, appConfig.getNearbyParallelism());
+        
+        for (int start = 0; start < candidates.size() && found.size() < limit; start += chunkSize) {
+            List<GeoResult<Business>> chunk = candidates.subList(start, Math.min(start + chunkSize, candidates.size()));
+            
+            try (LookupScope scope = concurrentLookups.open()) {
+                List<Supplier<TimeSlot>> firstSlots = new ArrayList<>(chunk.size());
+                for (GeoResult<Business> candidate : chunk) {
+                    String businessId = candidate.getContent().getId();
+                    firstSlots.add(scope.fork(() -> findFirstAvailableSlot(businessId, date, from, to)));
+                }
+                scope.join();
+                
+                // Keep distance order within the chunk and stop at the limit
+                for (int i = 0; i < chunk.size() && found.size() < limit; i++) {
+                    TimeSlot firstSlot = firstSlots.get(i).get();
+                    if (firstSlot != null) {
+                        found.add(toResponse(chunk.get(i), firstSlot));
+                    }
+                }
+            }
+        }
+        
+        return found;
+    }
+    
+    /**
+     * Find the first available slot of a business in a time window
+     * @param businessId Business ID
+     * @param date Date
+     * @param from Start of the time window, null for the start of the day
+     * @param to End of the time window, null for the end of the day
+     * @return First available slot, null if there is none or availability could not be calculated
+     */
+    private TimeSlot findFirstAvailableSlot(String businessId, LocalDate date, LocalTime from, LocalTime to) {
+        try {
+            AvailableSlotResponse day = availabilityProjectionService.getAvailableSlots(businessId, date);
+            
+            return day.getAvailableSlots().stream()
+                    .filter(slot -> slot.getStatus() == SlotStatus.AVAILABLE)
+                    .map(AvailableSlotResponse.SlotInfo::getTimeSlot)
+                    .filter(slot -> from == null || !slot.getStartTime().isBefore(from))
+                    .filter(slot -> to == null || !slot.getEndTime().isAfter(to))
+                    .min(Comparator.comparing(TimeSlot::getStartTime))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            // One broken business (e.g. deleted meanwhile) must not fail the whole search
+            log.warn("Could not check availability of business {} on {}", businessId, date, e);
+            return null;
+        }
+    }
+    
+    private NearbyBusinessResponse toResponse(GeoResult<Business> result, TimeSlot firstAvailableSlot) {
+        return NearbyBusinessResponse.builder()
+                .business(result.getContent())
+                .distanceKm(result.getDistance().in(Metrics.KILOMETERS).getValue())
+                .firstAvailableSlot(firstAvailableSlot)
+                .build();
+    }
+    
+    private void validate(double latitude, double longitude, double radiusKm,
+                          LocalDate date, LocalTime from, LocalTime to) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ValidationException(ErrorCode.INVALID_LOCATION, ErrorMessage.INVALID_LOCATION);
+        }
+        if (radiusKm <= 0 || radiusKm > appConfig.getMaxNearbyRadiusKm()) {
+            throw new ValidationException(ErrorCode.INVALID_SEARCH_RADIUS,
+                    String.format(ErrorMessage.INVALID_SEARCH_RADIUS, appConfig.getMaxNearbyRadiusKm()));
+        }
+        if ((date == null && (from != null || to != null)) || (from != null && to != null && !from.isBefore(to))) {
+            throw new ValidationException(ErrorCode.INVALID_TIME_WINDOW, ErrorMessage.INVALID_TIME_WINDOW);
+        }
+    }
+    
+    private int resolveLimit(Integer size) {
+        if (size == null) {
+            return appConfig.getDefaultPageSize();
+        }
+        if (size < 1 || size > appConfig.getMaxPageSize()) {
+            throw new ValidationException(ErrorCode.INVALID_PAGE_SIZE,
+                    String.format(ErrorMessage.INVALID_PAGE_SIZE, appConfig.getMaxPageSize()));
+        }
+        return size;
+    }
+}
@@ -0,0 +1,48 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds the availability projection of every business on a schedule.
+ * Backfills days entering the projection window and repairs days whose stale mark was lost.
+ * Enable with app.jobs.availability-projection-rebuild.enabled=true.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.jobs.availability-projection-rebuild", name = "enabled", havingValue = "true")
+public class AvailabilityProjectionRebuildJob {
+    
+    private final AvailabilityProjectionService availabilityProjectionService;
+    private final KeysetPaginator keysetPaginator;
+    
+    /**
+     * Rebuild the projection of every business, a failing business does not stop the others
+     */
+    @Scheduled(cron = "${app.jobs.availability-projection-rebuild.cron}")
+    public void rebuildAll() {
+        log.info("Availability projection rebuild started");
+        
+        AtomicInteger rebuilt = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        keysetPaginator.stream(Business.class, business -> {
+            try {
+                availabilityProjectionService.rebuild(business.getId());
+                rebuilt.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild availability projection of business {}", business.getId(), e);
+                failed.incrementAndGet();
+            }
+        });
+        
+        log.info("Availability projection rebuild finished: {} businesses rebuilt, {} failed", rebuilt.get(), failed.get());
+    }
+}
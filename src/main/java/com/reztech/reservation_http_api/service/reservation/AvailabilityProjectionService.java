@@ -0,0 +1,192 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import com.reztech.reservation_http_api.repository.reservation.AvailabilityDayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves availability from the materialised availability_days read model.
+ * Days of the projection window (today and the next app.config.availability-projection-days days) are read with
+ * one indexed query; stale or missing days are calculated by {@link AvailabilityService} and stored for the next read.
+ * The projection is maintained lazily: write paths publish {@link AvailabilityChangedEvent}, which marks the
+ * affected days stale in the same request, and a stale day is recalculated by the first read that needs it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityProjectionService {
+    
+    private final AvailabilityDayRepository availabilityDayRepository;
+    private final AvailabilityService availabilityService;
+    private final AvailabilityCalculator availabilityCalculator;
+    private final AppConfig appConfig;
+    
+    /**
+     * Get available slots for a specific business and date
+     * @param businessId Business ID
+     * @param date Target date
+     * @return Available slot response
+     */
+    public AvailableSlotResponse getAvailableSlots(String businessId, LocalDate date) {
+        if (!isProjected(date)) {
+            return availabilityService.getAvailableSlots(businessId, date);
+        }
+        
+        return getAvailableSlotsForRange(businessId, date, date).get(0);
+    }
+    
+    /**
+     * Get available slots for a date range, days outside the projection window are calculated on every request
+     * @param businessId Business ID
+     * @param startDate Start date
+     * @param endDate End date
+     * @return List of available slot responses
+     * @throws ValidationException if the range spans more than app.config.max-availability-range-days days
+     */
+    public List<AvailableSlotResponse> getAvailableSlotsForRange(String businessId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate) || !isProjected(startDate) || !isProjected(endDate)) {
+            return availabilityService.getAvailableSlotsForRange(businessId, startDate, endDate);
+        }
+        availabilityService.validateRange(startDate, endDate);
+        
+        Map<LocalDate, AvailabilityDay> stored = findDays(businessId, startDate, endDate);
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        
+        List<LocalDate> staleDates = dates.stream()
+                .filter(date -> stored.get(date) == null || stored.get(date).getSlots() == null)
+                .toList();
+        Map<LocalDate, AvailableSlotResponse> calculated = calculateAndStore(businessId, staleDates, stored);
+        
+        log.info("Serving availability of business: {} from {} to {} with {} of {} days recalculated",
+                businessId, startDate, endDate, staleDates.size(), dates.size());
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<AvailableSlotResponse> responses = new ArrayList<>();
+        for (LocalDate date : dates) {
+            AvailableSlotResponse day = calculated.containsKey(date) ? calculated.get(date) : toResponse(stored.get(date));
+            responses.add(availabilityCalculator.expire(day, now));
+        }
+        
+        return responses;
+    }
+    
+    /**
+     * Recalculate every day of the projection window of a business
+     * @param businessId Business ID
+     * @return Number of recalculated days
+     */
+    public int rebuild(String businessId) {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(appConfig.getAvailabilityProjectionDays());
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        
+        // Bump generations first so calculations started before the rebuild cannot overwrite it
+        availabilityDayRepository.markStale(businessId, dates);
+        calculateAndStore(businessId, dates, findDays(businessId, startDate, endDate));
+        
+        log.info("Rebuilt availability projection of business: {} for {} days", businessId, dates.size());
+        return dates.size();
+    }
+    
+    /**
+     * Mark the days affected by a change stale. Runs in the request that made the change and a failure fails
+     * that request, so a client retries instead of reads serving days that do not reflect the change.
+     * @param event Availability changed event
+     */
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (event.getBusinessId() == null) {
+            availabilityDayRepository.markAllStale();
+        } else if (event.isWholeBusiness()) {
+            LocalDate today = LocalDate.now();
+            availabilityDayRepository.markStale(event.getBusinessId(),
+                    today.datesUntil(today.plusDays(appConfig.getAvailabilityProjectionDays() + 1L)).toList());
+        } else {
+            availabilityDayRepository.markStale(event.getBusinessId(),
+                    event.getDates().stream().filter(this::isInWindow).toList());
+        }
+    }
+    
+    /**
+     * Calculate days ignoring expiry from one snapshot and store them if their generation did not change meanwhile.
+     * The snapshot is read from Mongo after the generations, so a change saved after that read bumps the generation
+     * and the day is skipped, and a change saved before it is part of the snapshot whatever the local caches hold.
+     * @param businessId Business ID
+     * @param dates Dates to calculate in ascending order
+     * @param stored Stored days keyed by date, providing the generation each day is calculated for
+     * @return Calculated days keyed by date
+     */
+    private Map<LocalDate, AvailableSlotResponse> calculateAndStore(String businessId, List<LocalDate> dates,
+                                                                    Map<LocalDate, AvailabilityDay> stored) {
+        Map<LocalDate, AvailableSlotResponse> calculated = new HashMap<>();
+        if (dates.isEmpty()) {
+            return calculated;
+        }
+        
+        List<AvailabilityDay> days = new ArrayList<>();
+        for (AvailableSlotResponse day : availabilityService.getSlotsIgnoringExpiry(
+                businessId, dates.get(0), dates.get(dates.size() - 1))) {
+            if (!dates.contains(day.getDate())) {
+                continue;
+            }
+            
+            AvailabilityDay current = stored.get(day.getDate());
+            calculated.put(day.getDate(), day);
+            days.add(AvailabilityDay.builder()
+                    .id(AvailabilityDay.idOf(businessId, day.getDate()))
+                    .businessId(businessId)
+                    .date(day.getDate())
+                    .generation(current != null ? current.getGeneration() : 0)
+                    .slots(day.getSlots())
+                    .build());
+        }
+        
+        availabilityDayRepository.storeIfCurrent(days);
+        return calculated;
+    }
+    
+    private Map<LocalDate, AvailabilityDay> findDays(String businessId, LocalDate startDate, LocalDate endDate) {
+        return availabilityDayRepository.findByBusinessIdAndDateBetween(businessId, startDate, endDate).stream()
+                .collect(Collectors.toMap(AvailabilityDay::getDate, Function.identity()));
+    }
+    
+    /**
+     * Check if a date is served from the projection
+     */
+    private boolean isProjected(LocalDate date) {
+        return appConfig.isAvailabilityProjectionEnabled() && isInWindow(date);
+    }
+    
+    /**
+     * Check if a date is in the projection window, days of the window are kept current even while reads bypass it
+     */
+    private boolean isInWindow(LocalDate date) {
+        LocalDate today = LocalDate.now();
+        return !date.isBefore(today) && !date.isAfter(today.plusDays(appConfig.getAvailabilityProjectionDays()));
+    }
+    
+    private static AvailableSlotResponse toResponse(AvailabilityDay day) {
+        return AvailableSlotResponse.builder()
+                .businessId(day.getBusinessId())
+                .date(day.getDate())
+                .slots(day.getSlots())
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached availability rule indexes when BusinessAvailability documents are saved or deleted
+ * and publishes the availability of the business as changed.
+ * Bulk updates through MongoTemplate do not publish events; those are picked up when the cache entry expires.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilityRuleCacheListener extends AbstractMongoEventListener<BusinessAvailability> {
+    
+    private static final String BUSINESS_ID_FIELD = "businessId";
+    
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    public void onAfterSave(AfterSaveEvent<BusinessAvailability> event) {
+        evict(event.getSource().getBusinessId());
+    }
+    
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<BusinessAvailability> event) {
+        // The document is the delete query: deleteByBusinessId carries the business ID, deleteById does not
+        Document query = event.getDocument();
+        Object businessId = query != null ? query.get(BUSINESS_ID_FIELD) : null;
+        
+        if (businessId instanceof String id) {
+            evict(id);
+        } else {
+            Cache cache = cacheManager.getCache(CacheName.AVAILABILITY_RULES);
+            if (cache != null) {
+                log.debug("Clearing availability rule cache after delete by {}", query);
+                cache.clear();
+            }
+            eventPublisher.publishEvent(AvailabilityChangedEvent.ofAllBusinesses());
+        }
+    }
+    
+    /**
+     * Evict the rule index of a business and publish its availability as changed
+     */
+    private void evict(String businessId) {
+        Cache cache = cacheManager.getCache(CacheName.AVAILABILITY_RULES);
+        if (cache != null && businessId != null) {
+            log.debug("Evicting availability rule index of business: {}", businessId);
+            cache.evict(businessId);
+        }
+        if (businessId != null) {
+            eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(businessId));
+        }
+    }
+}
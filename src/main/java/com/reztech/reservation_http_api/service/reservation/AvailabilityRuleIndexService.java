@@ -0,0 +1,46 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityRuleIndex;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.repository.business.BusinessAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service providing the compiled availability rule index of a business.
+ * Indexes are cached by business ID and evicted by {@link AvailabilityRuleCacheListener} when rules change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvailabilityRuleIndexService {
+    
+    private final BusinessAvailabilityRepository businessAvailabilityRepository;
+    
+    /**
+     * Get the rule index of a business, compiling it from all active rules on a cache miss
+     * @param businessId Business ID
+     * @return Availability rule index
+     */
+    @Cacheable(cacheNames = CacheName.AVAILABILITY_RULES, key = "#businessId")
+    public AvailabilityRuleIndex getRuleIndex(String businessId) {
+        return compileRuleIndex(businessId);
+    }
+    
+    /**
+     * Compile the rule index of a business from all active rules, bypassing the cache
+     * @param businessId Business ID
+     * @return Availability rule index
+     */
+    public AvailabilityRuleIndex compileRuleIndex(String businessId) {
+        List<BusinessAvailability> rules = businessAvailabilityRepository.findByBusinessIdAndIsActive(businessId, true);
+        
+        log.info("Compiled availability rule index for business: {} with {} rules", businessId, rules.size());
+        return AvailabilityRuleIndex.of(rules);
+    }
+}
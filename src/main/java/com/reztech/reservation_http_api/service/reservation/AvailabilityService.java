@@ -1,27 +1,35 @@
 package com.reztech.reservation_http_api.service.reservation;
 
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.availability.AvailabilityRuleIndex;
+import com.reztech.reservation_http_api.core.availability.AvailabilitySnapshot;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
 import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
 import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
-import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
 import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
 import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
-import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
-import com.reztech.reservation_http_api.model.enums.ReservationDay;
-import com.reztech.reservation_http_api.model.enums.SlotStatus;
-import com.reztech.reservation_http_api.repository.business.BusinessAvailabilityRepository;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,13 +37,18 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class AvailabilityService {
     
-    private final BusinessAvailabilityRepository businessAvailabilityRepository;
     private final BusinessRepository businessRepository;
     private final ReservationRepository reservationRepository;
     private final ReservationSettingsService reservationSettingsService;
+    private final AvailabilityRuleIndexService availabilityRuleIndexService;
+    private final EmployeeScheduleService employeeScheduleService;
+    private final AvailabilityCalculator availabilityCalculator;
+    private final ConcurrentLookups concurrentLookups;
+    private final AppConfig appConfig;
     
     /**
      * Get available slots for a specific business and date with employee information
@@ -46,141 +59,37 @@ public class AvailabilityService {
     public AvailableSlotResponse getAvailableSlots(String businessId, LocalDate date) {
         log.info("Getting available slots for business: {} on date: {}", businessId, date);
         
-        // Get business with employees
-        Business business = businessRepository.findById(businessId)
-                .orElseThrow(() -> new RuntimeException("Business not found with id: " + businessId));
-        
-        // Get active employees
-        List<BusinessEmployee> activeEmployees = getActiveEmployees(business);
-        
-        // Get business reservation settings
-        ReservationSettings settings = reservationSettingsService.getOrCreateDefaultSettings(businessId);
-        
-        // Generate all possible slots based on settings
-        List<TimeSlot> allPossibleSlots = generateAllPossibleSlots(settings);
-        
-        // Get business availability rules for this date
-        List<BusinessAvailability> availabilityRules = getAvailabilityRulesForDate(businessId, date);
-        
-        // Get existing reservations for this date
-        List<Reservation> existingReservations = getExistingReservations(businessId, date);
-        
-        // Calculate slot statuses with employee information
-        List<AvailableSlotResponse.SlotInfo> availableSlots = new ArrayList<>();
-        List<AvailableSlotResponse.SlotInfo> blockedSlots = new ArrayList<>();
-        List<AvailableSlotResponse.SlotInfo> bookedSlots = new ArrayList<>();
-        List<AvailableSlotResponse.SlotInfo> expiredSlots = new ArrayList<>();
-        
-        for (TimeSlot slot : allPossibleSlots) {
-            // Check if slot is blocked by business rules first
-            boolean isBlockedByRules = isSlotBlockedByRules(slot, availabilityRules);
-            
-            if (isBlockedByRules) {
-                blockedSlots.add(createBlockedSlotInfo(slot, availabilityRules));
-                continue;
-            }
-            
-            // Check if slot is in the past
-            if (isSlotInPast(slot, date)) {
-                expiredSlots.add(createPastSlotInfo(slot, date));
-                continue;
-            }
-            
-            // If no active employees, mark as blocked
-            if (activeEmployees.isEmpty()) {
-                blockedSlots.add(createNoEmployeesSlotInfo(slot));
-                continue;
-            }
-            
-            // Check each employee's availability for this slot
-            List<String> availableEmployeeUserIds = new ArrayList<>();
-            List<String> reservedEmployeeUserIds = new ArrayList<>();
-            
-            for (BusinessEmployee employee : activeEmployees) {
-                boolean isEmployeeBooked = existingReservations.stream()
-                        .anyMatch(reservation -> 
-                                reservation.getTimeSlot() != null && 
-                                reservation.getTimeSlot().overlaps(slot) &&
-                                employee.getUserId().equals(reservation.getAssignedEmployeeUserId()));
-                
-                if (isEmployeeBooked) {
-                    reservedEmployeeUserIds.add(employee.getUserId());
-                } else {
-                    availableEmployeeUserIds.add(employee.getUserId());
-                }
-            }
-            
-            // Create separate slot entries for available and booked employees
-            if (!availableEmployeeUserIds.isEmpty()) {
-                // Add slot for available employees
-                availableSlots.add(AvailableSlotResponse.SlotInfo.builder()
-                        .timeSlot(slot)
-                        .status(SlotStatus.AVAILABLE)
-                        .reason(null)
-                        .isBookable(true)
-                        .availableEmployeeUserIds(availableEmployeeUserIds)
-                        .reservedEmployeeUserIds(reservedEmployeeUserIds)
-                        .build());
-            }
-            
-            if (!reservedEmployeeUserIds.isEmpty()) {
-                // Add slot for booked employees
-                bookedSlots.add(AvailableSlotResponse.SlotInfo.builder()
-                        .timeSlot(slot)
-                        .status(SlotStatus.BOOKED)
-                        .reason("Employee(s) have existing reservations")
-                        .isBookable(false)
-                        .availableEmployeeUserIds(availableEmployeeUserIds)
-                        .reservedEmployeeUserIds(reservedEmployeeUserIds)
-                        .build());
-            }
-        }
-        
-        // Sort all slot lists by start time (ascending)
-        availableSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
-        blockedSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
-        bookedSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
-        expiredSlots.sort(Comparator.comparing(s -> s.getTimeSlot().getStartTime()));
-        
-        // Combine all slots into a single sorted list
-        List<AvailableSlotResponse.SlotInfo> allSlots = new ArrayList<>();
-        allSlots.addAll(availableSlots);
-        allSlots.addAll(blockedSlots);
-        allSlots.addAll(bookedSlots);
-        allSlots.addAll(expiredSlots);
-        
-        // Sort combined list by start time
-        allSlots.sort((s1, s2) -> s1.getTimeSlot().getStartTime().compareTo(s2.getTimeSlot().getStartTime()));
-        
-        return AvailableSlotResponse.builder()
-                .businessId(businessId)
-                .date(date)
-                .availableSlots(availableSlots)
-                .blockedSlots(blockedSlots)
-                .bookedSlots(bookedSlots)
-                .expiredSlots(expiredSlots)
-                .slots(allSlots)
-                .build();
+        AvailabilitySnapshot snapshot = loadSnapshot(businessId, date, date, false);
+        return availabilityCalculator.calculate(snapshot, date);
     }
     
     /**
-     * Get available slots for a date range
+     * Get available slots for a date range.
+     * Business, settings and reservations of the whole range are loaded once, availability rules come
+     * from the cached rule index and every day is calculated in memory.
      * @param businessId Business ID
      * @param startDate Start date
      * @param endDate End date
      * @return List of available slot responses
+     * @throws ValidationException if the range spans more than app.config.max-availability-range-days days
      */
     public List<AvailableSlotResponse> getAvailableSlotsForRange(
             String businessId, LocalDate startDate, LocalDate endDate) {
         
-        log.info("Getting available slots for business: {} from {} to {}", 
+        log.info("Getting available slots for business: {} from {} to {}",
                 businessId, startDate, endDate);
         
         List<AvailableSlotResponse> responses = new ArrayList<>();
+        if (endDate.isBefore(startDate)) {
+            return responses;
+        }
+        validateRange(startDate, endDate);
+        
+        AvailabilitySnapshot snapshot = loadSnapshot(businessId, startDate, endDate, false);
         LocalDate currentDate = startDate;
         
         while (!currentDate.isAfter(endDate)) {
-            responses.add(getAvailableSlots(businessId, currentDate));
+            responses.add(availabilityCalculator.calculate(snapshot, currentDate));
             currentDate = currentDate.plusDays(1);
         }
         
@@ -188,210 +97,114 @@ public class AvailabilityService {
     }
     
     /**
-     * Get active employees for a business
-     * @param business Business entity
-     * @return List of active employees
-     */
-    private List<BusinessEmployee> getActiveEmployees(Business business) {
-        if (business.getEmployees() == null) {
-            return new ArrayList<>();
-        }
-        
-        return business.getEmployees().stream()
-                .filter(BusinessEmployee::isActive)
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Generate all possible time slots based on business settings
-     * @param settings Reservation settings
-     * @return List of all possible time slots
+     * Reject date ranges longer than the configured maximum, the whole range is held in memory at once
+     * @param startDate Start date
+     * @param endDate End date, not before the start date
      */
-    private List<TimeSlot> generateAllPossibleSlots(ReservationSettings settings) {
-        List<TimeSlot> slots = new ArrayList<>();
-        
-        LocalTime currentTime = settings.getDefaultStartTime();
-        LocalTime endTime = settings.getDefaultEndTime();
-        int slotDuration = settings.getSlotDurationMinutes();
-        
-        // Handle midnight crossing (e.g., 22:00 to 02:00)
-        if (endTime.equals(LocalTime.MIDNIGHT) || endTime.isBefore(currentTime)) {
-            endTime = LocalTime.of(23, 59); // End at 23:59 for same day
-        }
-        
-        // Add safety check to prevent infinite loops
-        int maxSlots = 48; // Maximum 48 slots per day (30-minute slots)
-        int slotCount = 0;
-        
-        while (currentTime.isBefore(endTime) && slotCount < maxSlots) {
-            LocalTime slotEndTime = currentTime.plusMinutes(slotDuration);
-            
-            // Check if we're crossing midnight (slotEndTime is before currentTime)
-            if (slotEndTime.isBefore(currentTime) || slotEndTime.equals(LocalTime.MIDNIGHT)) {
-                // We've crossed midnight, stop here
-                break;
-            }
-            
-            // Check if slotEndTime exceeds the business end time
-            if (slotEndTime.isAfter(endTime)) {
-                break;
-            }
-            
-            slots.add(TimeSlot.of(currentTime, slotEndTime));
-            currentTime = slotEndTime;
-            slotCount++;
+    void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= appConfig.getMaxAvailabilityRangeDays()) {
+            throw new ValidationException(ErrorCode.INVALID_DATE_RANGE,
+                    String.format(ErrorMessage.INVALID_DATE_RANGE, appConfig.getMaxAvailabilityRangeDays()));
         }
-        
-        return slots;
     }
     
     /**
-     * Get availability rules that apply to a specific date
+     * Get the start of the first slot of a business that has not started yet at a time of day.
+     * Slots expire once their start has passed, so today's availability only changes with time at these starts.
      * @param businessId Business ID
-     * @param date Target date
-     * @return List of applicable availability rules
+     * @param time Time of day
+     * @return Start of the next slot, null if every slot has started
      */
-    private List<BusinessAvailability> getAvailabilityRulesForDate(String businessId, LocalDate date) {
-        List<BusinessAvailability> rules = new ArrayList<>();
-        
-        // Get weekly recurring rules for this day of week
-        ReservationDay dayOfWeek = convertDayOfWeek(date.getDayOfWeek());
-        rules.addAll(businessAvailabilityRepository
-                .findByBusinessIdAndDayOfWeekAndIsActive(businessId, dayOfWeek, true));
-        
-        // Get specific date rules
-        rules.addAll(businessAvailabilityRepository
-                .findByBusinessIdAndSpecificDateAndIsActive(businessId, date, true));
-        
-        // Get date range rules
-        rules.addAll(businessAvailabilityRepository
-                .findByBusinessIdAndDateRangeContaining(businessId, date, true));
+    public LocalTime getNextSlotStart(String businessId, LocalTime time) {
+        ReservationSettings settings = reservationSettingsService.getOrCreateDefaultSettings(businessId);
         
-        return rules;
+        return availabilityCalculator.generateAllPossibleSlots(settings).stream()
+                .map(TimeSlot::getStartTime)
+                .filter(start -> !start.isBefore(time))
+                .findFirst()
+                .orElse(null);
     }
     
     /**
-     * Get existing reservations for a specific date
+     * Get slot statuses for a date range as if none of the slots had passed yet, used to materialise availability.
+     * Settings, rules and schedules are read from Mongo instead of the per-instance caches, which may lag behind
+     * changes made on other instances, so a stored day reflects the data of the generation it is stored for.
      * @param businessId Business ID
-     * @param date Target date
-     * @return List of existing reservations
-     */
-    private List<Reservation> getExistingReservations(String businessId, LocalDate date) {
-        return reservationRepository.findByBusinessId(businessId)
-                .stream()
-                .filter(reservation -> reservation.getReservationDate().equals(date))
-                .filter(reservation -> !reservation.getIsCancelled())
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Check if slot is blocked by business availability rules
-     */
-    private boolean isSlotBlockedByRules(TimeSlot slot, List<BusinessAvailability> availabilityRules) {
-        for (BusinessAvailability rule : availabilityRules) {
-            if (rule.getBlockedSlots() != null) {
-                for (TimeSlot blockedSlot : rule.getBlockedSlots()) {
-                    if (blockedSlot.overlaps(slot)) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Check if slot is in the past
+     * @param startDate Start date
+     * @param endDate End date
+     * @return List of available slot responses without expired slots
      */
-    private boolean isSlotInPast(TimeSlot slot, LocalDate queryDate) {
-        LocalDate currentDate = LocalDate.now();
-        LocalTime currentTime = LocalTime.now();
+    public List<AvailableSlotResponse> getSlotsIgnoringExpiry(String businessId, LocalDate startDate, LocalDate endDate) {
+        AvailabilitySnapshot snapshot = loadSnapshot(businessId, startDate, endDate, true);
         
-        if (queryDate.isBefore(currentDate)) {
-            return true;
-        }
-        
-        return queryDate.equals(currentDate) && slot.getStartTime().isBefore(currentTime);
+        return startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> availabilityCalculator.calculateIgnoringExpiry(snapshot, date))
+                .toList();
     }
     
     /**
-     * Create blocked slot info for business rules
+     * Load business, settings, availability rule index, employee schedule and reservations of a date range.
+     * Business, rule index, employee schedule and reservations are independent, so they are loaded concurrently.
+     * Settings are read after the business is known to exist because a missing one is created with defaults.
+     * @param businessId Business ID
+     * @param startDate Start date
+     * @param endDate End date
+     * @param bypassCaches Whether settings, rule index and employee schedule are read from Mongo instead of the caches
+     * @return Availability snapshot for the range
      */
-    private AvailableSlotResponse.SlotInfo createBlockedSlotInfo(TimeSlot slot, List<BusinessAvailability> availabilityRules) {
-        String reason = "Blocked by business";
-        for (BusinessAvailability rule : availabilityRules) {
-            if (rule.getBlockedSlots() != null) {
-                for (TimeSlot blockedSlot : rule.getBlockedSlots()) {
-                    if (blockedSlot.overlaps(slot)) {
-                        reason = rule.getBlockReason() != null ? rule.getBlockReason() : "Blocked by business";
-                        break;
-                    }
-                }
-            }
+    private AvailabilitySnapshot loadSnapshot(String businessId, LocalDate startDate, LocalDate endDate,
+                                              boolean bypassCaches) {
+        try (LookupScope scope = concurrentLookups.open()) {
+            // Get business with employees
+            Supplier<Business> business = scope.fork(() -> businessRepository.findById(businessId)
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                        String.format(ErrorMessage.BUSINESS_NOT_FOUND, businessId))));
+            
+            // Get compiled availability rules
+            Supplier<AvailabilityRuleIndex> ruleIndex = scope.fork(() -> bypassCaches
+                    ? availabilityRuleIndexService.compileRuleIndex(businessId)
+                    : availabilityRuleIndexService.getRuleIndex(businessId));
+            
+            // Get compiled employee working hours and time off
+            Supplier<EmployeeSchedule> employeeSchedule = scope.fork(() -> bypassCaches
+                    ? employeeScheduleService.compileSchedule(businessId)
+                    : employeeScheduleService.getSchedule(businessId));
+            
+            // Get existing reservations of the range
+            Supplier<List<Reservation>> existingReservations = scope.fork(() -> reservationRepository
+                    .findActiveByBusinessIdAndReservationDateBetween(businessId, startDate, endDate));
+            
+            scope.join();
+            
+            // Get business reservation settings
+            ReservationSettings settings = bypassCaches
+                    ? reservationSettingsService.loadOrCreateDefaultSettings(businessId)
+                    : reservationSettingsService.getOrCreateDefaultSettings(businessId);
+            
+            return AvailabilitySnapshot.builder()
+                    .businessId(businessId)
+                    .activeEmployees(getActiveEmployees(business.get()))
+                    .settings(settings)
+                    .allPossibleSlots(availabilityCalculator.generateAllPossibleSlots(settings))
+                    .ruleIndex(ruleIndex.get())
+                    .employeeSchedule(employeeSchedule.get())
+                    .reservationsByDate(AvailabilitySnapshot.groupByDate(existingReservations.get()))
+                    .build();
         }
-        
-        return AvailableSlotResponse.SlotInfo.builder()
-                .timeSlot(slot)
-                .status(SlotStatus.BLOCKED)
-                .reason(reason)
-                .isBookable(false)
-                .availableEmployeeUserIds(new ArrayList<>())
-                .reservedEmployeeUserIds(new ArrayList<>())
-                .build();
     }
     
     /**
-     * Create expired slot info for past time slots
+     * Get active employees for a business
+     * @param business Business entity
+     * @return List of active employees
      */
-    private AvailableSlotResponse.SlotInfo createPastSlotInfo(TimeSlot slot, LocalDate queryDate) {
-        LocalDate currentDate = LocalDate.now();
-        LocalTime currentTime = LocalTime.now();
-        
-        String reason;
-        if (queryDate.isBefore(currentDate)) {
-            reason = "Date has already passed";
-        } else {
-            reason = "Time slot has already passed";
+    private List<BusinessEmployee> getActiveEmployees(Business business) {
+        if (business.getEmployees() == null) {
+            return new ArrayList<>();
         }
         
-        return AvailableSlotResponse.SlotInfo.builder()
-                .timeSlot(slot)
-                .status(SlotStatus.EXPIRED)
-                .reason(reason)
-                .isBookable(false)
-                .availableEmployeeUserIds(new ArrayList<>())
-                .reservedEmployeeUserIds(new ArrayList<>())
-                .build();
-    }
-    
-    /**
-     * Create blocked slot info when no employees are available
-     */
-    private AvailableSlotResponse.SlotInfo createNoEmployeesSlotInfo(TimeSlot slot) {
-        return AvailableSlotResponse.SlotInfo.builder()
-                .timeSlot(slot)
-                .status(SlotStatus.BLOCKED)
-                .reason("No active employees available")
-                .isBookable(false)
-                .availableEmployeeUserIds(new ArrayList<>())
-                .reservedEmployeeUserIds(new ArrayList<>())
-                .build();
-    }
-    
-    /**
-     * Convert Java DayOfWeek to our ReservationDay enum
-     * @param dayOfWeek Java DayOfWeek
-     * @return ReservationDay enum
-     */
-    private ReservationDay convertDayOfWeek(DayOfWeek dayOfWeek) {
-        return switch (dayOfWeek) {
-            case MONDAY -> ReservationDay.MONDAY;
-            case TUESDAY -> ReservationDay.TUESDAY;
-            case WEDNESDAY -> ReservationDay.WEDNESDAY;
-            case THURSDAY -> ReservationDay.THURSDAY;
-            case FRIDAY -> ReservationDay.FRIDAY;
-            case SATURDAY -> ReservationDay.SATURDAY;
-            case SUNDAY -> ReservationDay.SUNDAY;
-        };
+        return business.getEmployees().stream()
+                .filter(BusinessEmployee::isActive)
+                .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached employee schedules when EmployeeAvailability documents are saved or deleted
+ * and publishes the availability of the business as changed.
+ * Bulk updates through MongoTemplate do not publish events; those are picked up when the cache entry expires.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeScheduleCacheListener extends AbstractMongoEventListener<EmployeeAvailability> {
+    
+    private static final String BUSINESS_ID_FIELD = "businessId";
+    
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    public void onAfterSave(AfterSaveEvent<EmployeeAvailability> event) {
+        evict(event.getSource().getBusinessId());
+    }
+    
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<EmployeeAvailability> event) {
+        // The document is the delete query: deletes scoped by business carry the business ID, deleteById does not
+        Document query = event.getDocument();
+        Object businessId = query != null ? query.get(BUSINESS_ID_FIELD) : null;
+        
+        if (businessId instanceof String id) {
+            evict(id);
+        } else {
+            Cache cache = cacheManager.getCache(CacheName.EMPLOYEE_SCHEDULES);
+            if (cache != null) {
+                log.debug("Clearing employee schedule cache after delete by {}", query);
+                cache.clear();
+            }
+            eventPublisher.publishEvent(AvailabilityChangedEvent.ofAllBusinesses());
+        }
+    }
+    
+    /**
+     * Evict the employee schedule of a business and publish its availability as changed
+     */
+    private void evict(String businessId) {
+        Cache cache = cacheManager.getCache(CacheName.EMPLOYEE_SCHEDULES);
+        if (cache != null && businessId != null) {
+            log.debug("Evicting employee schedule of business: {}", businessId);
+            cache.evict(businessId);
+        }
+        if (businessId != null) {
+            eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(businessId));
+        }
+    }
+}
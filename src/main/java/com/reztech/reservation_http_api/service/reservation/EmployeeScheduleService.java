@@ -0,0 +1,46 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.repository.business.EmployeeAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service providing the compiled employee schedule of a business.
+ * Schedules are cached by business ID and evicted by {@link EmployeeScheduleCacheListener} when rules change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeScheduleService {
+    
+    private final EmployeeAvailabilityRepository employeeAvailabilityRepository;
+    
+    /**
+     * Get the employee schedule of a business, compiling it from all active employee rules on a cache miss
+     * @param businessId Business ID
+     * @return Employee schedule
+     */
+    @Cacheable(cacheNames = CacheName.EMPLOYEE_SCHEDULES, key = "#businessId")
+    public EmployeeSchedule getSchedule(String businessId) {
+        return compileSchedule(businessId);
+    }
+    
+    /**
+     * Compile the employee schedule of a business from all active employee rules, bypassing the cache
+     * @param businessId Business ID
+     * @return Employee schedule
+     */
+    public EmployeeSchedule compileSchedule(String businessId) {
+        List<EmployeeAvailability> rules = employeeAvailabilityRepository.findByBusinessIdAndIsActive(businessId, true);
+        
+        log.info("Compiled employee schedule for business: {} with {} rules", businessId, rules.size());
+        return EmployeeSchedule.of(rules);
+    }
+}
@@ -0,0 +1,151 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.NextAvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service finding the earliest available slot of a business.
+ * Days are read in chunks that double in size up to app.config.max-availability-range-days days, so a business
+ * that is free soon costs one small read and a fully booked one a few reads up to its booking horizon
+ * instead of one per day.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NextAvailableSlotService {
+    
+    /**
+     * Days read by the first chunk
+     */
+    static final int INITIAL_CHUNK_DAYS = 7;
+    
+    private static final int MAX_DURATION_MINUTES = 24 * 60;
+    
+    private final BusinessRepository businessRepository;
+    private final ReservationSettingsService reservationSettingsService;
+    private final AvailabilityProjectionService availabilityProjectionService;
+    private final AppConfig appConfig;
+    
+    /**
+     * Find the earliest available slot from now up to the booking horizon of the business
+     * @param businessId Business ID
+     * @param employeeUserId Employee that has to be available, null for any employee
+     * @param durationMinutes Minutes that have to be free, consecutive slots are combined; null for a single slot
+     * @return Earliest available slot
+     */
+    public NextAvailableSlotResponse findNextAvailableSlot(String businessId, String employeeUserId, Integer durationMinutes) {
+        log.info("Finding next available slot for business: {}, employee: {}, duration: {}",
+                businessId, employeeUserId, durationMinutes);
+        
+        if (durationMinutes != null && (durationMinutes < 1 || durationMinutes > MAX_DURATION_MINUTES)) {
+            throw new ValidationException(ErrorCode.INVALID_DURATION,
+                    String.format(ErrorMessage.INVALID_DURATION, MAX_DURATION_MINUTES));
+        }
+        
+        // Settings of an unknown business must not be created with defaults
+        if (!businessRepository.existsById(businessId)) {
+            throw new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                    String.format(ErrorMessage.BUSINESS_NOT_FOUND, businessId));
+        }
+        
+        ReservationSettings settings = reservationSettingsService.getOrCreateDefaultSettings(businessId);
+        LocalDate startDate = LocalDate.now();
+        LocalDate lastDate = startDate.plusDays(settings.getMaxAdvanceBookingDays());
+        int chunkDays = Math.min(INITIAL_CHUNK_DAYS, appConfig.getMaxAvailabilityRangeDays());
+        
+        while (!startDate.isAfter(lastDate)) {
+            LocalDate endDate = startDate.plusDays(chunkDays - 1L);
+            if (endDate.isAfter(lastDate)) {
+                endDate = lastDate;
+            }
+            
+            for (AvailableSlotResponse day : availabilityProjectionService
+                    .getAvailableSlotsForRange(businessId, startDate, endDate)) {
+                NextAvailableSlotResponse slot = findInDay(day, employeeUserId, durationMinutes);
+                if (slot != null) {
+                    return slot;
+                }
+            }
+            
+            startDate = endDate.plusDays(1);
+            chunkDays = Math.min(chunkDays * 2, appConfig.getMaxAvailabilityRangeDays());
+        }
+        
+        throw new ResourceNotFoundException(ErrorCode.NO_AVAILABLE_SLOT,
+                String.format(ErrorMessage.NO_AVAILABLE_SLOT, businessId, settings.getMaxAdvanceBookingDays()));
+    }
+    
+    /**
+     * Find the earliest run of consecutive available slots of a day that covers the duration
+     * and has an employee available in all of them
+     * @param day Available slots of a day
+     * @param employeeUserId Employee that has to be available, null for any employee
+     * @param durationMinutes Minutes that have to be free, null for a single slot
+     * @return Earliest available slot of the day, null if there is none
+     */
+    private NextAvailableSlotResponse findInDay(AvailableSlotResponse day, String employeeUserId, Integer durationMinutes) {
+        List<AvailableSlotResponse.SlotInfo> slots = day.getAvailableSlots().stream()
+                .filter(slot -> slot.getStatus() == SlotStatus.AVAILABLE)
+                .sorted(Comparator.comparing(slot -> slot.getTimeSlot().getStartTime()))
+                .toList();
+        
+        for (int first = 0; first < slots.size(); first++) {
+            Set<String> employees = new LinkedHashSet<>(availableEmployees(slots.get(first), employeeUserId));
+            TimeSlot firstSlot = slots.get(first).getTimeSlot();
+            TimeSlot lastSlot = firstSlot;
+            
+            // Extend with directly following slots while an employee stays available and the duration is not covered
+            int next = first + 1;
+            while (!employees.isEmpty() && !covers(firstSlot, lastSlot, durationMinutes) && next < slots.size()
+                    && slots.get(next).getTimeSlot().getStartTime().equals(lastSlot.getEndTime())) {
+                employees.retainAll(availableEmployees(slots.get(next), employeeUserId));
+                lastSlot = slots.get(next).getTimeSlot();
+                next++;
+            }
+            
+            if (!employees.isEmpty() && covers(firstSlot, lastSlot, durationMinutes)) {
+                return NextAvailableSlotResponse.builder()
+                        .businessId(day.getBusinessId())
+                        .date(day.getDate())
+                        .timeSlot(TimeSlot.of(firstSlot.getStartTime(), lastSlot.getEndTime()))
+                        .availableEmployeeUserIds(new ArrayList<>(employees))
+                        .build();
+            }
+        }
+        
+        return null;
+    }
+    
+    private List<String> availableEmployees(AvailableSlotResponse.SlotInfo slot, String employeeUserId) {
+        List<String> employees = slot.getAvailableEmployeeUserIds() != null ? slot.getAvailableEmployeeUserIds() : List.of();
+        if (employeeUserId == null) {
+            return employees;
+        }
+        return employees.contains(employeeUserId) ? List.of(employeeUserId) : List.of();
+    }
+    
+    private boolean covers(TimeSlot firstSlot, TimeSlot lastSlot, Integer durationMinutes) {
+        return durationMinutes == null
+                || Duration.between(firstSlot.getStartTime(), lastSlot.getEndTime()).toMinutes() >= durationMinutes;
+    }
+}
@@ -0,0 +1,196 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.availability.AvailabilityRuleIndex;
+import com.reztech.reservation_http_api.core.availability.AvailabilitySnapshot;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveEmployeeAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reactive variant of {@link AvailabilityService} for the reactive profile.
+ * Business, rule index, employee schedule and reservations are read concurrently without blocking a thread,
+ * settings, rule indexes and employee schedules share the caches of the servlet services and days are calculated one by one as the client consumes them.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAvailabilityService {
+    
+    private final ReactiveBusinessRepository businessRepository;
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReactiveReservationSettingsRepository reservationSettingsRepository;
+    private final ReactiveBusinessAvailabilityRepository businessAvailabilityRepository;
+    private final ReactiveEmployeeAvailabilityRepository employeeAvailabilityRepository;
+    private final AvailabilityCalculator availabilityCalculator;
+    private final CacheManager cacheManager;
+    private final AppConfig appConfig;
+    
+    /**
+     * Get available slots for a specific business and date with employee information
+     * @param businessId Business ID
+     * @param date Target date
+     * @return Available slot response with all slot information and employee availability
+     */
+    public Mono<AvailableSlotResponse> getAvailableSlots(String businessId, LocalDate date) {
+        log.info("Getting available slots for business: {} on date: {}", businessId, date);
+        
+        return loadSnapshot(businessId, date, date)
+                .map(snapshot -> availabilityCalculator.calculate(snapshot, date));
+    }
+    
+    /**
+     * Get available slots for a date range.
+     * The snapshot of the range is loaded once and each day is calculated on demand, so a slow client
+     * holds back the calculation instead of buffering the whole range.
+     * @param businessId Business ID
+     * @param startDate Start date
+     * @param endDate End date
+     * @return Available slot responses, one per day
+     * @throws ValidationException if the range spans more than app.config.max-availability-range-days days
+     */
+    public Flux<AvailableSlotResponse> getAvailableSlotsForRange(
+            String businessId, LocalDate startDate, LocalDate endDate) {
+        
+        log.info("Getting available slots for business: {} from {} to {}",
+                businessId, startDate, endDate);
+        
+        if (endDate.isBefore(startDate)) {
+            return Flux.empty();
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= appConfig.getMaxAvailabilityRangeDays()) {
+            return Flux.error(new ValidationException(ErrorCode.INVALID_DATE_RANGE,
+                    String.format(ErrorMessage.INVALID_DATE_RANGE, appConfig.getMaxAvailabilityRangeDays())));
+        }
+        
+        return loadSnapshot(businessId, startDate, endDate)
+                .flatMapMany(snapshot -> Flux.fromStream(() -> startDate.datesUntil(endDate.plusDays(1)))
+                        .map(date -> availabilityCalculator.calculate(snapshot, date)));
+    }
+    
+    /**
+     * Get the employee schedule of a business through the employee schedule cache
+     * @param businessId Business ID
+     * @return Employee schedule
+     */
+    public Mono<EmployeeSchedule> getEmployeeSchedule(String businessId) {
+        return cached(CacheName.EMPLOYEE_SCHEDULES, businessId, EmployeeSchedule.class,
+                () -> employeeAvailabilityRepository.findByBusinessIdAndIsActive(businessId, true)
+                        .collectList()
+                        .map(EmployeeSchedule::of));
+    }
+    
+    /**
+     * Load business, settings, availability rule index, employee schedule and reservations of a date range.
+     * Settings are read after the business is known to exist because a missing one is created with defaults.
+     * @param businessId Business ID
+     * @param startDate Start date
+     * @param endDate End date
+     * @return Availability snapshot for the range
+     */
+    private Mono<AvailabilitySnapshot> loadSnapshot(String businessId, LocalDate startDate, LocalDate endDate) {
+        Mono<Business> business = businessRepository.findById(businessId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                    String.format(ErrorMessage.BUSINESS_NOT_FOUND, businessId))));
+        
+        Mono<AvailabilityRuleIndex> ruleIndex = cached(CacheName.AVAILABILITY_RULES, businessId, AvailabilityRuleIndex.class,
+                () -> businessAvailabilityRepository.findByBusinessIdAndIsActive(businessId, true)
+                        .collectList()
+                        .map(AvailabilityRuleIndex::of));
+        
+        Mono<EmployeeSchedule> employeeSchedule = getEmployeeSchedule(businessId);
+        
+        Mono<List<Reservation>> reservations = reservationRepository
+                .findActiveByBusinessIdAndReservationDateBetween(businessId, startDate, endDate)
+                .collectList();
+        
+        return Mono.zip(business, ruleIndex, employeeSchedule, reservations)
+                .flatMap(loaded -> getOrCreateDefaultSettings(businessId)
+                        .map(settings -> AvailabilitySnapshot.builder()
+                                .businessId(businessId)
+                                .activeEmployees(getActiveEmployees(loaded.getT1()))
+                                .settings(settings)
+                                .allPossibleSlots(availabilityCalculator.generateAllPossibleSlots(settings))
+                                .ruleIndex(loaded.getT2())
+                                .employeeSchedule(loaded.getT3())
+                                .reservationsByDate(AvailabilitySnapshot.groupByDate(loaded.getT4()))
+                                .build()));
+    }
+    
+    /**
+     * Get or create default settings for a business through the reservation settings cache
+     * @param businessId Business ID
+     * @return Reservation settings (default if not exists)
+     */
+    private Mono<ReservationSettings> getOrCreateDefaultSettings(String businessId) {
+        return cached(CacheName.RESERVATION_SETTINGS, businessId, ReservationSettings.class,
+                () -> reservationSettingsRepository.findByBusinessId(businessId)
+                        .switchIfEmpty(Mono.defer(() -> reservationSettingsRepository.save(ReservationSettings.builder()
+                                .businessId(businessId)
+                                .createdAt(Instant.now())
+                                .updatedAt(Instant.now())
+                                .build()))));
+    }
+    
+    /**
+     * Read a value from a cache, loading and caching it on a miss
+     */
+    private <T> Mono<T> cached(String cacheName, String key, Class<T> type, Supplier<Mono<T>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return Mono.defer(loader);
+        }
+        
+        return Mono.defer(() -> {
+            T value = cache.get(key, type);
+            if (value != null) {
+                return Mono.just(value);
+            }
+            return loader.get().doOnNext(loaded -> cache.put(key, loaded));
+        });
+    }
+    
+    /**
+     * Get active employees for a business
+     * @param business Business entity
+     * @return List of active employees
+     */
+    private List<BusinessEmployee> getActiveEmployees(Business business) {
+        if (business.getEmployees() == null) {
+            return List.of();
+        }
+        
+        return business.getEmployees().stream()
+                .filter(BusinessEmployee::isActive)
+                .toList();
+    }
+}
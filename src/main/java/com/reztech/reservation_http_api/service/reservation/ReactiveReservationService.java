@@ -0,0 +1,345 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.pagination.ReactiveKeysetPaginator;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveAvailabilityDayRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessVersionRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationSlotClaimRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reactive variant of {@link ReservationService} for the reactive profile,
+ * with the same validation and slot claims on reactive repositories
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReservationService {
+    
+    private final ReactiveReservationRepository reservationRepository;
+    private final ReactiveReservationSlotClaimRepository reservationSlotClaimRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveBusinessRepository businessRepository;
+    private final ReservationMapper reservationMapper;
+    private final ReactiveKeysetPaginator reactiveKeysetPaginator;
+    private final ReactiveAvailabilityDayRepository availabilityDayRepository;
+    private final ReactiveBusinessVersionRepository businessVersionRepository;
+    private final ReactiveAvailabilityService availabilityService;
+    
+    /**
+     * Create a new reservation
+     * @param request Create reservation request
+     * @return Created reservation response
+     */
+    public Mono<ReservationResponse> createReservation(CreateReservationRequest request) {
+        log.info("Creating reservation for user {} and business {} with employee {}",
+                request.getUserId(), request.getBusinessId(), request.getAssignedEmployeeUserId());
+        
+        // Find user, business, employee schedule and reservations of the day concurrently
+        Mono<User> user = userRepository.findById(request.getUserId())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND,
+                    String.format(ErrorMessage.USER_NOT_FOUND, request.getUserId()))));
+        
+        Mono<Business> business = businessRepository.findById(request.getBusinessId())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                    String.format(ErrorMessage.BUSINESS_NOT_FOUND, request.getBusinessId()))));
+        
+        // Reservations of the day are only needed to pick a free employee when none is requested
+        Mono<EmployeeSchedule> employeeSchedule = availabilityService.getEmployeeSchedule(request.getBusinessId());
+        
+        Mono<List<Reservation>> dayReservations = ReservationSlots.isAutoAssigned(request)
+                ? reservationRepository.findActiveByBusinessIdAndReservationDateBetween(
+                        request.getBusinessId(), request.getReservationDate(), request.getReservationDate()).collectList()
+                : Mono.just(List.of());
+        
+        return Mono.zip(user, business, employeeSchedule, dayReservations)
+                .flatMap(found -> {
+                    // Validate the requested employee against its schedule or assign a working, free employee
+                    String assignedEmployeeUserId = ReservationSlots.resolveAssignedEmployee(request, found.getT2(),
+                            found.getT3(), found.getT4());
+                    
+                    Reservation reservation = Reservation.builder()
+                            .id(new ObjectId().toHexString())
+                            .user(UserSnapshot.of(found.getT1()))
+                            .business(BusinessSnapshot.of(found.getT2()))
+                            .reservationDate(request.getReservationDate())
+                            .timeSlot(request.getTimeSlot())
+                            .assignedEmployeeUserId(assignedEmployeeUserId)
+                            .notes(request.getNotes())
+                            .createdAt(Instant.now())
+                            .updatedAt(Instant.now())
+                            .build();
+                    
+                    return validateReservationAvailability(request, assignedEmployeeUserId, null)
+                            // Claim the slot atomically before saving, concurrent bookings of the same slot fail here
+                            .then(claimSlot(reservation))
+                            .then(reservationRepository.save(reservation)
+                                    .onErrorResume(e -> releaseSlot(reservation).then(Mono.error(e))))
+                            .flatMap(savedReservation -> markChanged(savedReservation).thenReturn(savedReservation));
+                })
+                .map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Validate reservation availability for specific employee and time slot
+     * @param request Create reservation request
+     * @param assignedEmployeeUserId Assigned employee user ID
+     * @param reservationId ID of the reservation being moved, it does not conflict with itself; null for a new one
+     * @return Completion signal, conflict error if the employee already has an overlapping reservation
+     */
+    private Mono<Void> validateReservationAvailability(CreateReservationRequest request, String assignedEmployeeUserId,
+                                                       String reservationId) {
+        return reservationRepository
+                .findActiveByBusinessIdAndReservationDateAndEmployee(
+                        request.getBusinessId(), request.getReservationDate(), assignedEmployeeUserId)
+                .collectList()
+                .flatMap(employeeReservations -> {
+                    if (ReservationSlots.overlapsAny(ReservationSlots.excluding(employeeReservations, reservationId),
+                            request.getTimeSlot())) {
+                        return Mono.error(new ConflictException(ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT));
+                    }
+                    
+                    log.info("Reservation availability validated for employee {} at time slot {}",
+                            assignedEmployeeUserId, request.getTimeSlot());
+                    return Mono.empty();
+                });
+    }
+    
+    /**
+     * Update an existing reservation
+     * @param id Reservation ID
+     * @param request Update reservation request
+     * @return Updated reservation response
+     */
+    public Mono<ReservationResponse> updateReservation(String id, CreateReservationRequest request) {
+        log.info("Updating reservation with id: {}", id);
+        
+        return reservationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Reservation not found with id: " + id)))
+                .flatMap(existingReservation -> {
+                    // Keep the current claim so it can be released once the new slot is claimed
+                    Reservation previousSlot = ReservationSlots.slotOf(existingReservation);
+                    
+                    // Update fields
+                    if (request.getReservationDate() != null) {
+                        existingReservation.setReservationDate(request.getReservationDate());
+                    }
+                    if (request.getTimeSlot() != null) {
+                        existingReservation.setTimeSlot(request.getTimeSlot());
+                    }
+                    if (request.getAssignedEmployeeUserId() != null) {
+                        existingReservation.setAssignedEmployeeUserId(request.getAssignedEmployeeUserId());
+                    }
+                    if (request.getNotes() != null) {
+                        existingReservation.setNotes(request.getNotes());
+                    }
+                    
+                    existingReservation.setUpdatedAt(Instant.now());
+                    
+                    if (ReservationSlots.sameSlot(previousSlot, existingReservation)) {
+                        return reservationRepository.save(existingReservation);
+                    }
+                    
+                    // Intervals of the same reservation are ignored, so the reservation can move onto an overlapping slot
+                    return validateSlotChange(existingReservation)
+                            .then(Mono.defer(() -> claimSlot(existingReservation)))
+                            .then(reservationRepository.save(existingReservation)
+                                    .onErrorResume(e -> releaseSlot(existingReservation).then(Mono.error(e))))
+                            .flatMap(updatedReservation -> releaseSlot(previousSlot)
+                                    .then(markChanged(previousSlot, updatedReservation))
+                                    .thenReturn(updatedReservation));
+                })
+                .map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Validate the changed slot of a reservation with the same checks as a new booking.
+     * Reservations made before slot claims existed hold no claim, so the claim alone does not guard their slots.
+     * @param reservation Reservation with its new slot, a blank employee is replaced by the assigned one
+     * @return Completion signal, an error if the slot cannot be booked
+     */
+    private Mono<Void> validateSlotChange(Reservation reservation) {
+        if (reservation.getBusiness() == null) {
+            return Mono.empty();
+        }
+        
+        CreateReservationRequest slot = ReservationSlots.requestOf(reservation);
+        Mono<Business> business = businessRepository.findById(slot.getBusinessId())
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                    String.format(ErrorMessage.BUSINESS_NOT_FOUND, slot.getBusinessId()))));
+        
+        Mono<List<Reservation>> dayReservations = ReservationSlots.isAutoAssigned(slot)
+                ? reservationRepository.findActiveByBusinessIdAndReservationDateBetween(
+                        slot.getBusinessId(), slot.getReservationDate(), slot.getReservationDate()).collectList()
+                : Mono.just(List.of());
+        
+        return Mono.zip(business, availabilityService.getEmployeeSchedule(slot.getBusinessId()), dayReservations)
+                .flatMap(found -> {
+                    String assignedEmployeeUserId = ReservationSlots.resolveAssignedEmployee(slot, found.getT1(),
+                            found.getT2(), ReservationSlots.excluding(found.getT3(), reservation.getId()));
+                    reservation.setAssignedEmployeeUserId(assignedEmployeeUserId);
+                    
+                    return validateReservationAvailability(slot, assignedEmployeeUserId, reservation.getId());
+                });
+    }
+    
+    /**
+     * Get a page of all reservations
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @return Page of reservations
+     */
+    public Mono<CursorPageResponse<ReservationResponse>> getAllReservations(String cursor, Integer size) {
+        log.info("Getting reservations after cursor: {}", cursor);
+        
+        return reactiveKeysetPaginator.page(Reservation.class, cursor, size, Reservation::getId, reservationMapper::toResponse);
+    }
+    
+    /**
+     * Stream all reservations from a Mongo cursor at the pace of the subscriber
+     * @return Reservations
+     */
+    public Flux<ReservationResponse> streamAllReservations() {
+        log.info("Streaming all reservations");
+        
+        return reactiveKeysetPaginator.stream(Reservation.class).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Find reservation by ID
+     * @param id Reservation ID
+     * @return Reservation response
+     */
+    public Mono<ReservationResponse> findById(String id) {
+        log.info("Finding reservation by id: {}", id);
+        
+        return reservationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Reservation not found with id: " + id)))
+                .map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Find reservations by business ID
+     * @param businessId Business ID
+     * @return Reservations of the business
+     */
+    public Flux<ReservationResponse> findByBusinessId(String businessId) {
+        log.info("Finding reservations by business id: {}", businessId);
+        
+        return reservationRepository.findByBusinessId(businessId).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Find reservations by user ID
+     * @param userId User ID
+     * @return Reservations of the user
+     */
+    public Flux<ReservationResponse> findByUserId(String userId) {
+        log.info("Finding reservations by user id: {}", userId);
+        
+        return reservationRepository.findByUserId(userId).map(reservationMapper::toResponse);
+    }
+    
+    /**
+     * Delete reservation by ID
+     * @param id Reservation ID
+     * @return Completion signal
+     */
+    public Mono<Void> deleteReservation(String id) {
+        log.info("Deleting reservation with id: {}", id);
+        
+        return reservationRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Reservation not found with id: " + id)))
+                .flatMap(reservation -> reservationRepository.deleteById(id)
+                        .then(releaseSlot(reservation))
+                        .then(markChanged(reservation)));
+    }
+    
+    /**
+     * Mark the materialised availability of the days occupied by reservations stale and bump the business version
+     * @param reservations Reservations with business and date
+     * @return Completion signal, a failed stale mark fails the change like on the servlet stack while a failed
+     * version bump is only logged
+     */
+    private Mono<Void> markChanged(Reservation... reservations) {
+        return Flux.fromArray(reservations)
+                .filter(reservation -> reservation.getBusiness() != null && reservation.getReservationDate() != null)
+                .concatMap(reservation -> availabilityDayRepository.markStale(
+                                reservation.getBusiness().getId(), List.of(reservation.getReservationDate()))
+                        .then(businessVersionRepository.increment(reservation.getBusiness().getId())
+                                .onErrorResume(e -> {
+                                    log.error("Could not bump availability version of business {}",
+                                            reservation.getBusiness().getId(), e);
+                                    return Mono.empty();
+                                })))
+                .then();
+    }
+    
+    /**
+     * Atomically claim the time slot of a reservation for its assigned employee
+     * @param reservation Reservation with ID, business, date, time slot and assigned employee
+     * @return Completion signal, conflict error if the slot is taken
+     */
+    private Mono<Void> claimSlot(Reservation reservation) {
+        if (!ReservationSlots.isClaimable(reservation)) {
+            return Mono.empty();
+        }
+        
+        return reservationSlotClaimRepository.claim(
+                        reservation.getBusiness().getId(),
+                        reservation.getAssignedEmployeeUserId(),
+                        reservation.getReservationDate(),
+                        ReservationSlots.toClaimedInterval(reservation))
+                .flatMap(claimed -> {
+                    if (!claimed) {
+                        log.warn("Slot claim conflict for employee {} on {} at {}", reservation.getAssignedEmployeeUserId(),
+                                reservation.getReservationDate(), reservation.getTimeSlot());
+                        return Mono.error(new ConflictException(ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT));
+                    }
+                    return Mono.empty();
+                });
+    }
+    
+    /**
+     * Release the time slot claimed by a reservation
+     * @param reservation Reservation with ID, business, date, time slot and assigned employee
+     * @return Completion signal
+     */
+    private Mono<Void> releaseSlot(Reservation reservation) {
+        if (!ReservationSlots.isClaimable(reservation)) {
+            return Mono.empty();
+        }
+        
+        return reservationSlotClaimRepository.release(
+                reservation.getBusiness().getId(),
+                reservation.getAssignedEmployeeUserId(),
+                reservation.getReservationDate(),
+                ReservationSlots.toClaimedInterval(reservation));
+    }
+}
@@ -0,0 +1,308 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import com.reztech.reservation_http_api.core.exception.BusinessException;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationBatchRequest;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.ReservationBatchResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.enums.BatchItemStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepository;
+import com.reztech.reservation_http_api.repository.reservation.SlotClaimRequest;
+import com.reztech.reservation_http_api.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Service creating many reservations at once.
+ * Users and businesses are loaded once for the whole batch, conflicts are checked with one query plus the
+ * overlaps inside the batch, and slots are claimed and reservations inserted with unordered bulk writes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationBatchService {
+    
+    private final ReservationRepository reservationRepository;
+    private final ReservationSlotClaimRepository reservationSlotClaimRepository;
+    private final UserRepository userRepository;
+    private final BusinessRepository businessRepository;
+    private final ReservationMapper reservationMapper;
+    private final ConcurrentLookups concurrentLookups;
+    private final EmployeeScheduleService employeeScheduleService;
+    private final AppConfig appConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Create the reservations of a batch, an item failing does not fail the others
+     * @param request Create reservation batch request
+     * @return Result of every item in request order
+     */
+    public ReservationBatchResponse createReservations(CreateReservationBatchRequest request) {
+        List<CreateReservationRequest> items = request.getItems();
+        if (items == null || items.isEmpty() || items.size() > appConfig.getMaxBatchSize()) {
+            throw new ValidationException(ErrorCode.INVALID_BATCH_SIZE,
+                    String.format(ErrorMessage.INVALID_BATCH_SIZE, appConfig.getMaxBatchSize()));
+        }
+        
+        log.info("Creating batch of {} reservations", items.size());
+        
+        ReservationBatchResponse.ItemResult[] results = new ReservationBatchResponse.ItemResult[items.size()];
+        
+        // Find users and businesses of the whole batch concurrently
+        Map<String, User> users;
+        Map<String, Business> businesses;
+        try (LookupScope scope = concurrentLookups.open()) {
+            Supplier<List<User>> userLookup = scope.fork(() -> userRepository.findAllById(distinct(items,
+                    CreateReservationRequest::getUserId)));
+            Supplier<List<Business>> businessLookup = scope.fork(() -> businessRepository.findAllById(distinct(items,
+                    CreateReservationRequest::getBusinessId)));
+            
+            scope.join();
+            users = userLookup.get().stream().collect(Collectors.toMap(User::getId, Function.identity()));
+            businesses = businessLookup.get().stream().collect(Collectors.toMap(Business::getId, Function.identity()));
+        }
+        
+        // Keep the items whose user and business exist
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            CreateReservationRequest item = items.get(i);
+            
+            if (!users.containsKey(item.getUserId())) {
+                results[i] = rejected(i, BatchItemStatus.FAILED, ErrorCode.USER_NOT_FOUND,
+                        String.format(ErrorMessage.USER_NOT_FOUND, item.getUserId()));
+                continue;
+            }
+            if (!businesses.containsKey(item.getBusinessId())) {
+                results[i] = rejected(i, BatchItemStatus.FAILED, ErrorCode.BUSINESS_NOT_FOUND,
+                        String.format(ErrorMessage.BUSINESS_NOT_FOUND, item.getBusinessId()));
+                continue;
+            }
+            valid.add(i);
+        }
+        
+        Map<String, List<Reservation>> booked = findBookedByDay(items, valid, businesses);
+        
+        // Assign employees and accept items in request order, an accepted item occupies its employee for later items
+        Map<Integer, Reservation> candidates = new HashMap<>();
+        List<Integer> accepted = new ArrayList<>();
+        Map<String, EmployeeSchedule> schedules = new HashMap<>();
+        for (int index : valid) {
+            CreateReservationRequest item = items.get(index);
+            Business business = businesses.get(item.getBusinessId());
+            List<Reservation> sameDay = booked.computeIfAbsent(dayKey(business.getId(), item.getReservationDate()),
+                    key -> new ArrayList<>());
+            
+            String assignedEmployeeUserId;
+            try {
+                assignedEmployeeUserId = ReservationSlots.resolveAssignedEmployee(item, business,
+                        schedules.computeIfAbsent(business.getId(), employeeScheduleService::getSchedule), sameDay);
+            } catch (ConflictException e) {
+                results[index] = ErrorCode.RESERVATION_CONFLICT.equals(e.getErrorCode())
+                        ? conflict(index)
+                        : rejected(index, BatchItemStatus.FAILED, e.getErrorCode(), e.getMessage());
+                continue;
+            } catch (ResourceNotFoundException | BusinessException e) {
+                results[index] = rejected(index, BatchItemStatus.FAILED, e.getErrorCode(), e.getMessage());
+                continue;
+            }
+            
+            List<Reservation> employeeReservations = sameDay.stream()
+                    .filter(reservation -> assignedEmployeeUserId.equals(reservation.getAssignedEmployeeUserId()))
+                    .toList();
+            if (ReservationSlots.overlapsAny(employeeReservations, item.getTimeSlot())) {
+                results[index] = conflict(index);
+                continue;
+            }
+            
+            Reservation reservation = Reservation.builder()
+                    .id(new ObjectId().toHexString())
+                    .user(UserSnapshot.of(users.get(item.getUserId())))
+                    .business(BusinessSnapshot.of(business))
+                    .reservationDate(item.getReservationDate())
+                    .timeSlot(item.getTimeSlot())
+                    .assignedEmployeeUserId(assignedEmployeeUserId)
+                    .notes(item.getNotes())
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build();
+            candidates.put(index, reservation);
+            sameDay.add(reservation);
+            accepted.add(index);
+        }
+        
+        // Claim the slots of the accepted items, concurrent bookings of the same slots are rejected here
+        List<SlotClaimRequest> claims = accepted.stream()
+                .map(index -> toClaimRequest(candidates.get(index)))
+                .toList();
+        Set<Integer> rejectedClaims = reservationSlotClaimRepository.claimAll(claims);
+        
+        List<Integer> claimed = new ArrayList<>();
+        for (int position = 0; position < accepted.size(); position++) {
+            int index = accepted.get(position);
+            if (rejectedClaims.contains(position)) {
+                results[index] = conflict(index);
+            } else {
+                claimed.add(index);
+            }
+        }
+        
+        // Insert the claimed reservations and release the claims of the ones that could not be inserted
+        List<Reservation> reservations = claimed.stream().map(candidates::get).toList();
+        Set<Integer> failedInserts = reservationRepository.insertAll(reservations);
+        
+        List<SlotClaimRequest> releases = new ArrayList<>();
+        Map<String, Set<LocalDate>> changedDays = new HashMap<>();
+        for (int position = 0; position < claimed.size(); position++) {
+            int index = claimed.get(position);
+            Reservation reservation = reservations.get(position);
+            if (failedInserts.contains(position)) {
+                results[index] = rejected(index, BatchItemStatus.FAILED, ErrorCode.RESERVATION_INSERT_FAILED,
+                        ErrorMessage.RESERVATION_INSERT_FAILED);
+                releases.add(toClaimRequest(reservation));
+            } else {
+                changedDays.computeIfAbsent(reservation.getBusiness().getId(), id -> new HashSet<>())
+                        .add(reservation.getReservationDate());
+                results[index] = ReservationBatchResponse.ItemResult.builder()
+                        .index(index)
+                        .status(BatchItemStatus.CREATED)
+                        .reservation(reservationMapper.toResponse(reservation))
+                        .build();
+            }
+        }
+        reservationSlotClaimRepository.releaseAll(releases);
+        changedDays.forEach((businessId, dates) ->
+                eventPublisher.publishEvent(AvailabilityChangedEvent.ofDays(businessId, dates)));
+        
+        return toResponse(results);
+    }
+    
+    /**
+     * Find the existing reservations of the days and employees of the batch with one query. Items without a requested
+     * employee read every active employee of their business, so a free employee can be picked.
+     * @param items Items of the batch
+     * @param valid Indexes of the items whose user and business exist
+     * @param businesses Businesses of the batch by ID
+     * @return Existing reservations keyed by business and date
+     */
+    private Map<String, List<Reservation>> findBookedByDay(List<CreateReservationRequest> items, List<Integer> valid,
+                                                           Map<String, Business> businesses) {
+        Map<String, List<Reservation>> booked = new HashMap<>();
+        if (valid.isEmpty()) {
+            return booked;
+        }
+        
+        Set<String> businessIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        Set<String> employees = new HashSet<>();
+        for (int index : valid) {
+            CreateReservationRequest item = items.get(index);
+            businessIds.add(item.getBusinessId());
+            dates.add(item.getReservationDate());
+            if (ReservationSlots.isAutoAssigned(item)) {
+                List<BusinessEmployee> businessEmployees = businesses.get(item.getBusinessId()).getEmployees();
+                if (businessEmployees != null) {
+                    businessEmployees.stream()
+                            .filter(BusinessEmployee::isActive)
+                            .forEach(employee -> employees.add(employee.getUserId()));
+                }
+            } else {
+                employees.add(item.getAssignedEmployeeUserId());
+            }
+        }
+        
+        for (Reservation existing : reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(
+                businessIds, dates, employees)) {
+            booked.computeIfAbsent(dayKey(existing.getBusiness().getId(), existing.getReservationDate()),
+                    key -> new ArrayList<>()).add(existing);
+        }
+        
+        return booked;
+    }
+    
+    /**
+     * Key of the business and date a reservation is made for
+     */
+    private static String dayKey(String businessId, LocalDate date) {
+        return businessId + '|' + date;
+    }
+    
+    /**
+     * Distinct non-null values of a request field
+     */
+    private static Set<String> distinct(List<CreateReservationRequest> items,
+                                        Function<CreateReservationRequest, String> field) {
+        return items.stream().map(field).filter(value -> value != null).collect(Collectors.toSet());
+    }
+    
+    private static SlotClaimRequest toClaimRequest(Reservation reservation) {
+        return SlotClaimRequest.builder()
+                .businessId(reservation.getBusiness().getId())
+                .employeeUserId(reservation.getAssignedEmployeeUserId())
+                .reservationDate(reservation.getReservationDate())
+                .interval(ReservationSlots.toClaimedInterval(reservation))
+                .build();
+    }
+    
+    private static ReservationBatchResponse.ItemResult conflict(int index) {
+        return rejected(index, BatchItemStatus.CONFLICT, ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT);
+    }
+    
+    private static ReservationBatchResponse.ItemResult rejected(int index, BatchItemStatus status,
+                                                                String errorCode, String message) {
+        return ReservationBatchResponse.ItemResult.builder()
+                .index(index)
+                .status(status)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+    
+    private static ReservationBatchResponse toResponse(ReservationBatchResponse.ItemResult[] results) {
+        ReservationBatchResponse response = ReservationBatchResponse.builder()
+                .results(List.of(results))
+                .build();
+        
+        for (ReservationBatchResponse.ItemResult result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> response.setCreated(response.getCreated() + 1);
+                case CONFLICT -> response.setConflicts(response.getConflicts() + 1);
+                case FAILED -> response.setFailed(response.getFailed() + 1);
+            }
+        }
+        
+        return response;
+    }
+}
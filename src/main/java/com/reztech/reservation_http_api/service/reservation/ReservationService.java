@@ -2,36 +2,56 @@ package com.reztech.reservation_http_api.service.reservation;
 
 import com.reztech.reservation_http_api.constant.error.ErrorCode;
 import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
 import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
 import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
-import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
 import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
 import com.reztech.reservation_http_api.model.entity.main.user.User;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepository;
 import com.reztech.reservation_http_api.repository.user.UserRepository;
-import com.reztech.reservation_http_api.util.JsonUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Service class for Reservation operations
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class ReservationService {
     
     private final ReservationRepository reservationRepository;
+    private final ReservationSlotClaimRepository reservationSlotClaimRepository;
     private final UserRepository userRepository;
     private final BusinessRepository businessRepository;
-    private final JsonUtils jsonUtils;
+    private final ReservationMapper reservationMapper;
+    private final KeysetPaginator keysetPaginator;
+    private final ConcurrentLookups concurrentLookups;
+    private final EmployeeScheduleService employeeScheduleService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Create a new reservation
@@ -43,24 +63,46 @@ public class ReservationService {
                 request.getUserId(), request.getBusinessId(), request.getAssignedEmployeeUserId());
 
         //TODO user üye olmadan da rezervasyon yapabilir.
-        // Find user and business
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, 
-                    String.format(ErrorMessage.USER_NOT_FOUND, request.getUserId())));
-        
-        Business business = businessRepository.findById(request.getBusinessId())
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND, 
-                    String.format(ErrorMessage.BUSINESS_NOT_FOUND, request.getBusinessId())));
+        // Find user, business, employee schedule and, without a requested employee, reservations of the day concurrently
+        User user;
+        Business business;
+        EmployeeSchedule employeeSchedule;
+        List<Reservation> dayReservations;
+        try (LookupScope scope = concurrentLookups.open()) {
+            Supplier<User> userLookup = scope.fork(() -> userRepository.findById(request.getUserId())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, 
+                        String.format(ErrorMessage.USER_NOT_FOUND, request.getUserId()))));
+            
+            Supplier<Business> businessLookup = scope.fork(() -> businessRepository.findById(request.getBusinessId())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND, 
+                        String.format(ErrorMessage.BUSINESS_NOT_FOUND, request.getBusinessId()))));
+            
+            Supplier<EmployeeSchedule> scheduleLookup = scope.fork(() ->
+                    employeeScheduleService.getSchedule(request.getBusinessId()));
+            
+            Supplier<List<Reservation>> dayReservationsLookup = ReservationSlots.isAutoAssigned(request)
+                    ? scope.fork(() -> reservationRepository.findActiveByBusinessIdAndReservationDate(
+                            request.getBusinessId(), request.getReservationDate()))
+                    : List::of;
+            
+            scope.join();
+            user = userLookup.get();
+            business = businessLookup.get();
+            employeeSchedule = scheduleLookup.get();
+            dayReservations = dayReservationsLookup.get();
+        }
 
-        // Validate assigned employee if provided
-        String assignedEmployeeUserId = validateAndGetAssignedEmployee(request, business);
+        // Validate the requested employee against its schedule or assign a working, free employee
+        String assignedEmployeeUserId = ReservationSlots.resolveAssignedEmployee(request, business,
+                employeeSchedule, dayReservations);
 
-        validateReservationAvailability(request, assignedEmployeeUserId);
+        validateReservationAvailability(request, assignedEmployeeUserId, null);
         
         // reservation saat bilgisi anlaşılır mı
         Reservation reservation = Reservation.builder()
-                .user(user)
-                .business(business)
+                .id(new ObjectId().toHexString())
+                .user(UserSnapshot.of(user))
+                .business(BusinessSnapshot.of(business))
                 .reservationDate(request.getReservationDate())
                 .timeSlot(request.getTimeSlot())
                 .assignedEmployeeUserId(assignedEmployeeUserId)
@@ -69,60 +111,38 @@ public class ReservationService {
                 .updatedAt(Instant.now())
                 .build();
         
-        Reservation savedReservation = reservationRepository.save(reservation);
+        // Claim the slot atomically before saving, concurrent bookings of the same slot fail here
+        claimSlot(reservation);
         
-        return jsonUtils.convert(savedReservation, ReservationResponse.class);
-    }
-    
-    /**
-     * Validate and get assigned employee user ID
-     * @param request Create reservation request
-     * @param business Business entity
-     * @return Assigned employee user ID
-     */
-    private String validateAndGetAssignedEmployee(CreateReservationRequest request, Business business) {
-        String assignedEmployeeUserId = request.getAssignedEmployeeUserId();
-        
-        // If no specific employee requested, assign the first available active employee (owner by default)
-        if (assignedEmployeeUserId == null || assignedEmployeeUserId.trim().isEmpty()) {
-            BusinessEmployee firstActiveEmployee = business.getEmployees().stream()
-                    .filter(BusinessEmployee::isActive)
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException("No active employees found in business"));
-            
-            return firstActiveEmployee.getUserId();
-        } else {
-            // Validate that the requested employee exists and is active in the business
-            boolean isValidEmployee = business.getEmployees().stream()
-                    .anyMatch(employee -> employee.getUserId().equals(assignedEmployeeUserId) && employee.isActive());
-            
-            if (!isValidEmployee) {
-                throw new RuntimeException("Requested employee is not found or not active in this business");
-            }
-            
-            return assignedEmployeeUserId;
+        Reservation savedReservation;
+        try {
+            savedReservation = reservationRepository.save(reservation);
+        } catch (RuntimeException e) {
+            releaseSlot(reservation);
+            throw e;
         }
+        
+        publishChanged(savedReservation);
+        
+        return reservationMapper.toResponse(savedReservation);
     }
     
     /**
      * Validate reservation availability for specific employee and time slot
      * @param request Create reservation request
      * @param assignedEmployeeUserId Assigned employee user ID
+     * @param reservationId ID of the reservation being moved, it does not conflict with itself; null for a new one
      */
-    private void validateReservationAvailability(CreateReservationRequest request, String assignedEmployeeUserId) {
+    private void validateReservationAvailability(CreateReservationRequest request, String assignedEmployeeUserId,
+                                                 String reservationId) {
         // Check if the employee already has a reservation at this time slot
-        List<Reservation> conflictingReservations = reservationRepository.findByBusinessId(request.getBusinessId())
-                .stream()
-                .filter(reservation -> reservation.getReservationDate().equals(request.getReservationDate()))
-                .filter(reservation -> !reservation.getIsCancelled())
-                .filter(reservation -> reservation.getAssignedEmployeeUserId() != null && 
-                                     reservation.getAssignedEmployeeUserId().equals(assignedEmployeeUserId))
-                .filter(reservation -> reservation.getTimeSlot() != null && 
-                                     reservation.getTimeSlot().overlaps(request.getTimeSlot()))
-                .toList();
+        List<Reservation> employeeReservations = reservationRepository
+                .findActiveByBusinessIdAndReservationDateAndEmployee(
+                        request.getBusinessId(), request.getReservationDate(), assignedEmployeeUserId);
         
-        if (!conflictingReservations.isEmpty()) {
-            throw new RuntimeException("Selected employee is not available at the requested time slot");
+        if (ReservationSlots.overlapsAny(ReservationSlots.excluding(employeeReservations, reservationId),
+                request.getTimeSlot())) {
+            throw new ConflictException(ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT);
         }
         
         log.info("Reservation availability validated for employee {} at time slot {}", 
@@ -137,11 +157,13 @@ public class ReservationService {
      */
     public ReservationResponse updateReservation(String id, CreateReservationRequest request) {
         log.info("Updating reservation with id: {}", id);
-        //TODO güncelleme için uygunluk kontrolü yap => yeni saatler için uygunluk var mı?
         //TODO isCancel statu update
         Reservation existingReservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + id));
         
+        // Keep the current claim so it can be released once the new slot is claimed
+        Reservation previousSlot = ReservationSlots.slotOf(existingReservation);
+        
         // Update fields
         if (request.getReservationDate() != null) {
             existingReservation.setReservationDate(request.getReservationDate());
@@ -158,23 +180,92 @@ public class ReservationService {
         
         existingReservation.setUpdatedAt(Instant.now());
         
-        Reservation updatedReservation = reservationRepository.save(existingReservation);
+        boolean slotChanged = !ReservationSlots.sameSlot(previousSlot, existingReservation);
+        if (slotChanged) {
+            validateSlotChange(existingReservation);
+            
+            // Intervals of the same reservation are ignored, so the reservation can move onto an overlapping slot
+            claimSlot(existingReservation);
+        }
+        
+        Reservation updatedReservation;
+        try {
+            updatedReservation = reservationRepository.save(existingReservation);
+        } catch (RuntimeException e) {
+            if (slotChanged) {
+                releaseSlot(existingReservation);
+            }
+            throw e;
+        }
+        
+        if (slotChanged) {
+            releaseSlot(previousSlot);
+            publishChanged(previousSlot, updatedReservation);
+        }
         
-        return jsonUtils.convert(updatedReservation, ReservationResponse.class);
+        return reservationMapper.toResponse(updatedReservation);
     }
     
     /**
-     * Get all reservations
-     * @return List of all reservations
+     * Validate the changed slot of a reservation with the same checks as a new booking.
+     * Reservations made before slot claims existed hold no claim, so the claim alone does not guard their slots.
+     * @param reservation Reservation with its new slot, a blank employee is replaced by the assigned one
      */
-    public List<ReservationResponse> getAllReservations() {
-        log.info("Getting all reservations");
+    private void validateSlotChange(Reservation reservation) {
+        if (reservation.getBusiness() == null) {
+            return;
+        }
+        
+        CreateReservationRequest slot = ReservationSlots.requestOf(reservation);
+        Business business;
+        EmployeeSchedule employeeSchedule;
+        List<Reservation> dayReservations;
+        try (LookupScope scope = concurrentLookups.open()) {
+            Supplier<Business> businessLookup = scope.fork(() -> businessRepository.findById(slot.getBusinessId())
+                    .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND,
+                        String.format(ErrorMessage.BUSINESS_NOT_FOUND, slot.getBusinessId()))));
+            
+            Supplier<EmployeeSchedule> scheduleLookup = scope.fork(() ->
+                    employeeScheduleService.getSchedule(slot.getBusinessId()));
+            
+            Supplier<List<Reservation>> dayReservationsLookup = ReservationSlots.isAutoAssigned(slot)
+                    ? scope.fork(() -> reservationRepository.findActiveByBusinessIdAndReservationDate(
+                            slot.getBusinessId(), slot.getReservationDate()))
+                    : List::of;
+            
+            scope.join();
+            business = businessLookup.get();
+            employeeSchedule = scheduleLookup.get();
+            dayReservations = dayReservationsLookup.get();
+        }
         
-        List<Reservation> reservations = reservationRepository.findAll();
+        String assignedEmployeeUserId = ReservationSlots.resolveAssignedEmployee(slot, business, employeeSchedule,
+                ReservationSlots.excluding(dayReservations, reservation.getId()));
         
-        return reservations.stream()
-                .map(reservation -> jsonUtils.convert(reservation, ReservationResponse.class))
-                .toList();
+        validateReservationAvailability(slot, assignedEmployeeUserId, reservation.getId());
+        reservation.setAssignedEmployeeUserId(assignedEmployeeUserId);
+    }
+    
+    /**
+     * Get a page of all reservations
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @return Page of reservations
+     */
+    public CursorPageResponse<ReservationResponse> getAllReservations(String cursor, Integer size) {
+        log.info("Getting reservations after cursor: {}", cursor);
+        
+        return keysetPaginator.page(Reservation.class, cursor, size, Reservation::getId, reservationMapper::toResponse);
+    }
+    
+    /**
+     * Stream all reservations from a Mongo cursor
+     * @param consumer Consumer receiving every reservation
+     */
+    public void streamAllReservations(Consumer<ReservationResponse> consumer) {
+        log.info("Streaming all reservations");
+        
+        keysetPaginator.stream(Reservation.class, reservation -> consumer.accept(reservationMapper.toResponse(reservation)));
     }
     
     /**
@@ -188,7 +279,7 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + id));
         
-        return jsonUtils.convert(reservation, ReservationResponse.class);
+        return reservationMapper.toResponse(reservation);
     }
     
     /**
@@ -201,9 +292,7 @@ public class ReservationService {
         
         List<Reservation> reservations = reservationRepository.findByBusinessId(businessId);
         
-        return reservations.stream()
-                .map(reservation -> jsonUtils.convert(reservation, ReservationResponse.class))
-                .toList();
+        return reservationMapper.toResponseList(reservations);
     }
     
     /**
@@ -216,9 +305,7 @@ public class ReservationService {
         
         List<Reservation> reservations = reservationRepository.findByUserId(userId);
         
-        return reservations.stream()
-                .map(reservation -> jsonUtils.convert(reservation, ReservationResponse.class))
-                .toList();
+        return reservationMapper.toResponseList(reservations);
     }
     
     /**
@@ -228,10 +315,62 @@ public class ReservationService {
     public void deleteReservation(String id) {
         log.info("Deleting reservation with id: {}", id);
         
-        if (!reservationRepository.existsById(id)) {
-            throw new RuntimeException("Reservation not found with id: " + id);
-        }
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Reservation not found with id: " + id));
         
         reservationRepository.deleteById(id);
+        releaseSlot(reservation);
+        publishChanged(reservation);
+    }
+    
+    /**
+     * Publish the days occupied by reservations as changed
+     * @param reservations Reservations with business and date
+     */
+    private void publishChanged(Reservation... reservations) {
+        for (Reservation reservation : reservations) {
+            if (reservation.getBusiness() != null && reservation.getReservationDate() != null) {
+                eventPublisher.publishEvent(AvailabilityChangedEvent.ofDays(
+                        reservation.getBusiness().getId(), List.of(reservation.getReservationDate())));
+            }
+        }
+    }
+    
+    /**
+     * Atomically claim the time slot of a reservation for its assigned employee
+     * @param reservation Reservation with ID, business, date, time slot and assigned employee
+     */
+    private void claimSlot(Reservation reservation) {
+        if (!ReservationSlots.isClaimable(reservation)) {
+            return;
+        }
+        
+        boolean claimed = reservationSlotClaimRepository.claim(
+                reservation.getBusiness().getId(),
+                reservation.getAssignedEmployeeUserId(),
+                reservation.getReservationDate(),
+                ReservationSlots.toClaimedInterval(reservation));
+        
+        if (!claimed) {
+            log.warn("Slot claim conflict for employee {} on {} at {}", reservation.getAssignedEmployeeUserId(),
+                    reservation.getReservationDate(), reservation.getTimeSlot());
+            throw new ConflictException(ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT);
+        }
+    }
+    
+    /**
+     * Release the time slot claimed by a reservation
+     * @param reservation Reservation with ID, business, date, time slot and assigned employee
+     */
+    private void releaseSlot(Reservation reservation) {
+        if (!ReservationSlots.isClaimable(reservation)) {
+            return;
+        }
+        
+        reservationSlotClaimRepository.release(
+                reservation.getBusiness().getId(),
+                reservation.getAssignedEmployeeUserId(),
+                reservation.getReservationDate(),
+                ReservationSlots.toClaimedInterval(reservation));
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,34 +1,49 @@
 package com.reztech.reservation_http_api.service.reservation;
 
+import com.reztech.reservation_http_api.constant.cache.CacheName;
 import com.reztech.reservation_http_api.constant.error.ErrorCode;
 import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
 import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.ReservationSettingsMapper;
 import com.reztech.reservation_http_api.model.api.request.CreateReservationSettingsRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.repository.reservation.ReservationSettingsRepository;
-import com.reztech.reservation_http_api.util.JsonUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * Service class for ReservationSettings operations
+ * Service class for ReservationSettings operations.
+ * Settings are cached by business ID, writes go through the cache.
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class ReservationSettingsService {
     
     private final ReservationSettingsRepository reservationSettingsRepository;
     private final BusinessRepository businessRepository;
-    private final JsonUtils jsonUtils;
+    private final ReservationSettingsMapper reservationSettingsMapper;
+    private final KeysetPaginator keysetPaginator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
     
     /**
-     * Create or update reservation settings for a business
+     * Create or update reservation settings for a business.
+     * The cache is updated before the availability change is published, so listeners already read the new settings.
      * @param request Create reservation settings request
      * @return Created/Updated reservation settings
      */
@@ -48,16 +63,23 @@ public class ReservationSettingsService {
         
         if (settings == null) {
             // Create new settings
-            settings = jsonUtils.convert(request, ReservationSettings.class);
+            settings = reservationSettingsMapper.toEntity(request);
             settings.setCreatedAt(Instant.now());
         } else {
             // Update existing settings
-            updateSettingsFromRequest(settings, request);
+            reservationSettingsMapper.updateEntity(settings, request);
         }
         
         settings.setUpdatedAt(Instant.now());
         
-        return reservationSettingsRepository.save(settings);
+        ReservationSettings savedSettings = reservationSettingsRepository.save(settings);
+        Cache cache = cacheManager.getCache(CacheName.RESERVATION_SETTINGS);
+        if (cache != null) {
+            cache.put(request.getBusinessId(), savedSettings);
+        }
+        eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(request.getBusinessId()));
+        
+        return savedSettings;
     }
     
     /**
@@ -65,6 +87,7 @@ public class ReservationSettingsService {
      * @param businessId Business ID
      * @return Reservation settings
      */
+    @Cacheable(cacheNames = CacheName.RESERVATION_SETTINGS, key = "#businessId")
     public ReservationSettings getSettingsByBusinessId(String businessId) {
         log.info("Getting reservation settings for business: {}", businessId);
         
@@ -74,16 +97,27 @@ public class ReservationSettingsService {
     }
     
     /**
-     * Get all reservation settings
-     * @return List of all reservation settings
+     * Get a page of all reservation settings
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @return Page of reservation settings
+     */
+    public CursorPageResponse<ReservationSettings> getAllSettings(String cursor, Integer size) {
+        log.info("Getting reservation settings after cursor: {}", cursor);
+        return keysetPaginator.page(ReservationSettings.class, cursor, size, ReservationSettings::getId, settings -> settings);
+    }
+    
+    /**
+     * Stream all reservation settings from a Mongo cursor
+     * @param consumer Consumer receiving every reservation settings
      */
-    public List<ReservationSettings> getAllSettings() {
-        log.info("Getting all reservation settings");
-        return reservationSettingsRepository.findAll();
+    public void streamAllSettings(Consumer<ReservationSettings> consumer) {
+        log.info("Streaming all reservation settings");
+        keysetPaginator.stream(ReservationSettings.class, consumer);
     }
     
     /**
-     * Delete reservation settings by business ID
+     * Delete reservation settings by business ID, evicting them from the cache before the change is published
      * @param businessId Business ID
      */
     public void deleteSettingsByBusinessId(String businessId) {
@@ -95,14 +129,30 @@ public class ReservationSettingsService {
         }
         
         reservationSettingsRepository.deleteByBusinessId(businessId);
+        Cache cache = cacheManager.getCache(CacheName.RESERVATION_SETTINGS);
+        if (cache != null) {
+            cache.evict(businessId);
+        }
+        eventPublisher.publishEvent(AvailabilityChangedEvent.ofBusiness(businessId));
     }
     
     /**
-     * Get or create default settings for a business
+     * Get or create default settings for a business.
+     * Cached, so Mongo is only read (and the default written) on a cache miss.
      * @param businessId Business ID
      * @return Reservation settings (default if not exists)
      */
+    @Cacheable(cacheNames = CacheName.RESERVATION_SETTINGS, key = "#businessId")
     public ReservationSettings getOrCreateDefaultSettings(String businessId) {
+        return loadOrCreateDefaultSettings(businessId);
+    }
+    
+    /**
+     * Get or create default settings for a business, always reading Mongo instead of the cache
+     * @param businessId Business ID
+     * @return Reservation settings (default if not exists)
+     */
+    public ReservationSettings loadOrCreateDefaultSettings(String businessId) {
         log.info("Getting or creating default settings for business: {}", businessId);
         
         return reservationSettingsRepository.findByBusinessId(businessId)
@@ -116,33 +166,4 @@ public class ReservationSettingsService {
                     return reservationSettingsRepository.save(defaultSettings);
                 });
     }
-    
-    /**
-     * Update settings from request
-     * @param settings Existing settings
-     * @param request Update request
-     */
-    private void updateSettingsFromRequest(ReservationSettings settings, CreateReservationSettingsRequest request) {
-        if (request.getDefaultStartTime() != null) {
-            settings.setDefaultStartTime(request.getDefaultStartTime());
-        }
-        if (request.getDefaultEndTime() != null) {
-            settings.setDefaultEndTime(request.getDefaultEndTime());
-        }
-        if (request.getSlotDurationMinutes() != null) {
-            settings.setSlotDurationMinutes(request.getSlotDurationMinutes());
-        }
-        if (request.getMaxAdvanceBookingDays() != null) {
-            settings.setMaxAdvanceBookingDays(request.getMaxAdvanceBookingDays());
-        }
-        if (request.getMinAdvanceBookingHours() != null) {
-            settings.setMinAdvanceBookingHours(request.getMinAdvanceBookingHours());
-        }
-        if (request.getAcceptReservations() != null) {
-            settings.setAcceptReservations(request.getAcceptReservations());
-        }
-        if (request.getAutoConfirm() != null) {
-            settings.setAutoConfirm(request.getAutoConfirm());
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,198 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.constant.error.ErrorMessage;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.availability.SlotOccupancy;
+import com.reztech.reservation_http_api.core.exception.BusinessException;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Slot rules shared by the servlet and reactive reservation services
+ */
+final class ReservationSlots {
+    
+    private ReservationSlots() {
+        // Prevent instantiation
+    }
+    
+    /**
+     * Check if a request leaves the employee to be assigned automatically
+     * @param request Create reservation request
+     * @return True if no specific employee is requested
+     */
+    static boolean isAutoAssigned(CreateReservationRequest request) {
+        return request.getAssignedEmployeeUserId() == null || request.getAssignedEmployeeUserId().trim().isEmpty();
+    }
+    
+    /**
+     * Validate and get assigned employee user ID.
+     * Throws {@link ResourceNotFoundException} if the requested employee is not an active employee of the business,
+     * {@link BusinessException} if the business has no active employee and {@link ConflictException} if no employee
+     * can take the time slot.
+     * A requested employee must be active and working during the whole time slot. Without a requested employee
+     * the first active employee (owner by default) that works during the time slot and has no overlapping
+     * reservation in the given reservations of the day is assigned.
+     * @param request Create reservation request
+     * @param business Business entity
+     * @param employeeSchedule Compiled schedule of the employees of the business
+     * @param dayReservations Active reservations of the business on the requested date, only used without a requested employee
+     * @return Assigned employee user ID
+     */
+    static String resolveAssignedEmployee(CreateReservationRequest request, Business business,
+                                          EmployeeSchedule employeeSchedule, List<Reservation> dayReservations) {
+        List<BusinessEmployee> activeEmployees = business.getEmployees() == null ? List.of() : business.getEmployees()
+                .stream()
+                .filter(BusinessEmployee::isActive)
+                .toList();
+        
+        if (isAutoAssigned(request)) {
+            if (activeEmployees.isEmpty()) {
+                throw new BusinessException(ErrorCode.BUSINESS_NO_ACTIVE_EMPLOYEES,
+                        String.format(ErrorMessage.BUSINESS_NO_ACTIVE_EMPLOYEES, business.getId()));
+            }
+            
+            SlotOccupancy occupancy = SlotOccupancy.build(activeEmployees, dayReservations, List.of(),
+                    employeeSchedule, request.getReservationDate());
+            BitSet unavailable = occupancy.unavailableEmployees(request.getTimeSlot());
+            if (unavailable.cardinality() == activeEmployees.size()) {
+                throw new ConflictException(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE,
+                        ErrorMessage.RESERVATION_NO_EMPLOYEE_AVAILABLE);
+            }
+            
+            BitSet busy = occupancy.bookedEmployees(request.getTimeSlot());
+            busy.or(unavailable);
+            int position = busy.nextClearBit(0);
+            if (position >= activeEmployees.size()) {
+                throw new ConflictException(ErrorCode.RESERVATION_CONFLICT, ErrorMessage.RESERVATION_CONFLICT);
+            }
+            
+            return activeEmployees.get(position).getUserId();
+        } else {
+            String assignedEmployeeUserId = request.getAssignedEmployeeUserId();
+            
+            // Validate that the requested employee exists and is active in the business
+            int position = -1;
+            for (int i = 0; i < activeEmployees.size(); i++) {
+                if (activeEmployees.get(i).getUserId().equals(assignedEmployeeUserId)) {
+                    position = i;
+                    break;
+                }
+            }
+            
+            if (position < 0) {
+                throw new ResourceNotFoundException(ErrorCode.EMPLOYEE_NOT_FOUND,
+                        String.format(ErrorMessage.EMPLOYEE_NOT_FOUND, assignedEmployeeUserId, business.getId()));
+            }
+            
+            // Validate that the requested employee works during the whole time slot
+            SlotOccupancy occupancy = SlotOccupancy.build(List.of(activeEmployees.get(position)), List.of(), List.of(),
+                    employeeSchedule, request.getReservationDate());
+            if (occupancy.isUnavailable(0, request.getTimeSlot())) {
+                throw new ConflictException(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE,
+                        String.format(ErrorMessage.RESERVATION_EMPLOYEE_NOT_AVAILABLE, assignedEmployeeUserId));
+            }
+            
+            return assignedEmployeeUserId;
+        }
+    }
+    
+    /**
+     * Check if any reservation overlaps a time slot
+     * @param reservations Reservations of the employee on the day
+     * @param timeSlot Requested time slot
+     * @return True if a reservation overlaps the time slot
+     */
+    static boolean overlapsAny(List<Reservation> reservations, TimeSlot timeSlot) {
+        return reservations.stream()
+                .anyMatch(reservation -> reservation.getTimeSlot() != null &&
+                                         reservation.getTimeSlot().overlaps(timeSlot));
+    }
+    
+    /**
+     * Leave a reservation out of the reservations of a day, so a reservation moving to another slot
+     * does not conflict with itself
+     * @param reservations Reservations of the day
+     * @param reservationId ID of the reservation to leave out, null to keep all
+     * @return Other reservations
+     */
+    static List<Reservation> excluding(List<Reservation> reservations, String reservationId) {
+        if (reservationId == null) {
+            return reservations;
+        }
+        
+        return reservations.stream()
+                .filter(reservation -> !reservationId.equals(reservation.getId()))
+                .toList();
+    }
+    
+    /**
+     * Describe the slot of a reservation as a booking request, so a changed slot is validated like a new booking
+     * @param reservation Reservation with business, date, time slot and optionally assigned employee
+     * @return Request for the slot of the reservation
+     */
+    static CreateReservationRequest requestOf(Reservation reservation) {
+        return CreateReservationRequest.builder()
+                .businessId(reservation.getBusiness().getId())
+                .reservationDate(reservation.getReservationDate())
+                .timeSlot(reservation.getTimeSlot())
+                .assignedEmployeeUserId(reservation.getAssignedEmployeeUserId())
+                .build();
+    }
+    
+    /**
+     * Copy the fields of a reservation that identify its claimed slot
+     * @param reservation Reservation
+     * @return Reservation with ID, business, date, time slot and assigned employee only
+     */
+    static Reservation slotOf(Reservation reservation) {
+        return Reservation.builder()
+                .id(reservation.getId())
+                .business(reservation.getBusiness())
+                .reservationDate(reservation.getReservationDate())
+                .timeSlot(reservation.getTimeSlot())
+                .assignedEmployeeUserId(reservation.getAssignedEmployeeUserId())
+                .build();
+    }
+    
+    /**
+     * Check if a reservation has everything needed to claim a slot
+     */
+    static boolean isClaimable(Reservation reservation) {
+        return reservation.getBusiness() != null
+                && reservation.getAssignedEmployeeUserId() != null
+                && reservation.getReservationDate() != null
+                && reservation.getTimeSlot() != null;
+    }
+    
+    /**
+     * Check if two reservations claim the same slot
+     */
+    static boolean sameSlot(Reservation first, Reservation second) {
+        return Objects.equals(first.getReservationDate(), second.getReservationDate())
+                && Objects.equals(first.getTimeSlot(), second.getTimeSlot())
+                && Objects.equals(first.getAssignedEmployeeUserId(), second.getAssignedEmployeeUserId());
+    }
+    
+    /**
+     * Convert the time slot of a reservation to a claimed interval
+     */
+    static ReservationSlotClaim.ClaimedInterval toClaimedInterval(Reservation reservation) {
+        return ReservationSlotClaim.ClaimedInterval.builder()
+                .reservationId(reservation.getId())
+                .startMinute(SlotOccupancy.startMinute(reservation.getTimeSlot()))
+                .endMinute(SlotOccupancy.endMinute(reservation.getTimeSlot()))
+                .build();
+    }
+}
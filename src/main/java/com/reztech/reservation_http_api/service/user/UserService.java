@@ -4,30 +4,36 @@ import com.reztech.reservation_http_api.constant.error.ErrorCode;
 import com.reztech.reservation_http_api.constant.error.ErrorMessage;
 import com.reztech.reservation_http_api.core.exception.BusinessException;
 import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.UserMapper;
 import com.reztech.reservation_http_api.model.api.request.CreateUserRequest;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
 import com.reztech.reservation_http_api.model.entity.main.user.User;
 import com.reztech.reservation_http_api.model.enums.UserType;
 import com.reztech.reservation_http_api.repository.user.UserRepository;
 import com.reztech.reservation_http_api.repository.business.BusinessRepository;
 import com.reztech.reservation_http_api.model.entity.main.business.Business;
-import com.reztech.reservation_http_api.util.JsonUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service class for User operations
  */
 @Slf4j
 @Service
+@Timed(value = "service.method", histogram = true)
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
     private final BusinessRepository businessRepository;
-    private final JsonUtils jsonUtils;
+    private final UserMapper userMapper;
+    private final KeysetPaginator keysetPaginator;
     
     /**
      * Create a new user
@@ -44,7 +50,7 @@ public class UserService {
                 String.format(ErrorMessage.USER_ALREADY_EXISTS, request.getEmail()));
         }
         
-        User user = jsonUtils.convert(request, User.class);
+        User user = userMapper.toEntity(request);
         
         return userRepository.save(user);
     }
@@ -83,12 +89,23 @@ public class UserService {
     }
     
     /**
-     * Get all users
-     * @return List of all users
+     * Get a page of all users
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Page size, null for the default page size
+     * @return Page of users
      */
-    public List<User> getAllUsers() {
-        log.info("Getting all users");
-        return userRepository.findAll();
+    public CursorPageResponse<User> getAllUsers(String cursor, Integer size) {
+        log.info("Getting users after cursor: {}", cursor);
+        return keysetPaginator.page(User.class, cursor, size, User::getId, user -> user);
+    }
+    
+    /**
+     * Stream all users from a Mongo cursor
+     * @param consumer Consumer receiving every user
+     */
+    public void streamAllUsers(Consumer<User> consumer) {
+        log.info("Streaming all users");
+        keysetPaginator.stream(User.class, consumer);
     }
     
     /**
@@ -14,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * Test class to verify Lombok builder functionality
  */
-@SpringBootTest
+@SpringBootTest(properties = "app.indexes.enabled=false")
 public class LombokBuilderTest {
 
     @Test
@@ -0,0 +1,101 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify in-memory availability calculation
+ */
+public class AvailabilityCalculatorTest {
+    
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+    
+    private final AvailabilityCalculator calculator = new AvailabilityCalculator();
+    
+    @Test
+    public void testWeeklyRuleOnlyBlocksMatchingDay() {
+        BusinessAvailability mondayLunch = BusinessAvailability.builder()
+                .availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                .dayOfWeek(ReservationDay.MONDAY)
+                .blockedSlots(List.of(TimeSlot.of(LocalTime.of(12, 0), LocalTime.of(13, 0))))
+                .blockReason("Lunch")
+                .build();
+        
+        AvailabilitySnapshot snapshot = snapshot(List.of(mondayLunch), List.of());
+        
+        AvailableSlotResponse monday = calculator.calculate(snapshot, MONDAY, NOW);
+        AvailableSlotResponse tuesday = calculator.calculate(snapshot, TUESDAY, NOW);
+        
+        assertEquals(2, monday.getBlockedSlots().size());
+        assertEquals("Lunch", monday.getBlockedSlots().get(0).getReason());
+        assertTrue(tuesday.getBlockedSlots().isEmpty());
+    }
+    
+    @Test
+    public void testReservationsAreAppliedToTheirOwnDate() {
+        Reservation reservation = Reservation.builder()
+                .reservationDate(TUESDAY)
+                .timeSlot(TimeSlot.of(LocalTime.of(10, 0)))
+                .assignedEmployeeUserId("employee-1")
+                .build();
+        
+        AvailabilitySnapshot snapshot = snapshot(List.of(), List.of(reservation));
+        
+        AvailableSlotResponse monday = calculator.calculate(snapshot, MONDAY, NOW);
+        AvailableSlotResponse tuesday = calculator.calculate(snapshot, TUESDAY, NOW);
+        
+        assertTrue(monday.getBookedSlots().isEmpty());
+        assertEquals(1, tuesday.getBookedSlots().size());
+        assertEquals(List.of("employee-1"), tuesday.getBookedSlots().get(0).getReservedEmployeeUserIds());
+        assertEquals(List.of("employee-2"), tuesday.getBookedSlots().get(0).getAvailableEmployeeUserIds());
+    }
+    
+    @Test
+    public void testPastDateIsExpired() {
+        AvailabilitySnapshot snapshot = snapshot(List.of(), List.of());
+        
+        AvailableSlotResponse response = calculator.calculate(snapshot, MONDAY, MONDAY.plusDays(1).atStartOfDay());
+        
+        assertTrue(response.getAvailableSlots().isEmpty());
+        assertEquals(response.getSlots().size(), response.getExpiredSlots().size());
+    }
+    
+    private AvailabilitySnapshot snapshot(List<BusinessAvailability> rules, List<Reservation> reservations) {
+        ReservationSettings settings = ReservationSettings.builder()
+                .defaultStartTime(LocalTime.of(9, 0))
+                .defaultEndTime(LocalTime.of(18, 0))
+                .build();
+        
+        return AvailabilitySnapshot.builder()
+                .businessId("business-1")
+                .activeEmployees(List.of(employee("employee-1"), employee("employee-2")))
+                .settings(settings)
+                .allPossibleSlots(calculator.generateAllPossibleSlots(settings))
+                .ruleIndex(AvailabilityRuleIndex.of(rules))
+                .reservationsByDate(AvailabilitySnapshot.groupByDate(reservations))
+                .build();
+    }
+    
+    private BusinessEmployee employee(String userId) {
+        return BusinessEmployee.builder()
+                .userId(userId)
+                .active(true)
+                .build();
+    }
+}
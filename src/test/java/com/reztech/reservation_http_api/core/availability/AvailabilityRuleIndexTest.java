@@ -0,0 +1,83 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify availability rule index lookups
+ */
+public class AvailabilityRuleIndexTest {
+    
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+    
+    @Test
+    public void testWeeklyAndSpecificDateRules() {
+        BusinessAvailability mondays = BusinessAvailability.builder()
+                .availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                .dayOfWeek(ReservationDay.MONDAY)
+                .build();
+        BusinessAvailability holiday = BusinessAvailability.builder()
+                .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                .specificDate(MONDAY.plusDays(1))
+                .build();
+        
+        AvailabilityRuleIndex index = AvailabilityRuleIndex.of(List.of(mondays, holiday));
+        
+        assertEquals(List.of(mondays), index.getRulesForDate(MONDAY));
+        assertEquals(List.of(holiday), index.getRulesForDate(MONDAY.plusDays(1)));
+        assertEquals(List.of(mondays), index.getRulesForDate(MONDAY.plusWeeks(1)));
+        assertTrue(index.getRulesForDate(MONDAY.plusDays(2)).isEmpty());
+    }
+    
+    @Test
+    public void testDateRangeBoundsAreInclusive() {
+        BusinessAvailability vacation = range(MONDAY, MONDAY.plusDays(4));
+        
+        AvailabilityRuleIndex index = AvailabilityRuleIndex.of(List.of(vacation));
+        
+        assertTrue(index.getRulesForDate(MONDAY.minusDays(1)).isEmpty());
+        assertEquals(List.of(vacation), index.getRulesForDate(MONDAY));
+        assertEquals(List.of(vacation), index.getRulesForDate(MONDAY.plusDays(4)));
+        assertTrue(index.getRulesForDate(MONDAY.plusDays(5)).isEmpty());
+    }
+    
+    @Test
+    public void testDateRangeTreeMatchesLinearScan() {
+        Random random = new Random(42);
+        List<BusinessAvailability> ranges = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDate start = MONDAY.plusDays(random.nextInt(365));
+            ranges.add(range(start, start.plusDays(random.nextInt(30))));
+        }
+        
+        AvailabilityRuleIndex index = AvailabilityRuleIndex.of(ranges);
+        
+        for (int day = -5; day < 400; day++) {
+            LocalDate date = MONDAY.plusDays(day);
+            long expected = ranges.stream()
+                    .filter(rule -> !date.isBefore(rule.getStartDate()) && !date.isAfter(rule.getEndDate()))
+                    .count();
+            List<BusinessAvailability> rules = index.getRulesForDate(date);
+            
+            assertEquals(expected, rules.size(), "Rule count for " + date);
+            rules.forEach(rule -> assertFalse(date.isBefore(rule.getStartDate()) || date.isAfter(rule.getEndDate())));
+        }
+    }
+    
+    private BusinessAvailability range(LocalDate startDate, LocalDate endDate) {
+        return BusinessAvailability.builder()
+                .availabilityType(AvailabilityType.DATE_RANGE)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify employee working hours and time off compilation and their effect on slot calculation
+ */
+public class EmployeeScheduleTest {
+    
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+    
+    private final AvailabilityCalculator calculator = new AvailabilityCalculator();
+    
+    @Test
+    public void testWeeklyWorkingHoursRestrictMatchingDay() {
+        EmployeeSchedule schedule = EmployeeSchedule.of(List.of(weeklyHours("employee-1", ReservationDay.MONDAY)));
+        
+        BitSet monday = schedule.unavailableMinutes("employee-1", MONDAY);
+        
+        assertTrue(monday.get(minute(9, 59)));
+        assertFalse(monday.get(minute(10, 0)));
+        assertFalse(monday.get(minute(13, 59)));
+        assertTrue(monday.get(minute(14, 0)));
+        assertNull(schedule.unavailableMinutes("employee-1", MONDAY.plusDays(1)));
+        assertNull(schedule.unavailableMinutes("employee-2", MONDAY));
+    }
+    
+    @Test
+    public void testSpecificDateOverridesWeeklyHoursAndTimeOffIsUnioned() {
+        EmployeeAvailability longDay = EmployeeAvailability.builder()
+                .employeeUserId("employee-1")
+                .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                .specificDate(MONDAY)
+                .workingSlots(List.of(TimeSlot.of(LocalTime.of(8, 0), LocalTime.of(20, 0))))
+                .build();
+        EmployeeAvailability doctor = EmployeeAvailability.builder()
+                .employeeUserId("employee-1")
+                .availabilityType(AvailabilityType.DATE_RANGE)
+                .startDate(MONDAY.minusDays(3))
+                .endDate(MONDAY.plusDays(3))
+                .blockedSlots(List.of(TimeSlot.of(LocalTime.of(15, 0), LocalTime.of(16, 0))))
+                .build();
+        
+        EmployeeSchedule schedule = EmployeeSchedule.of(List.of(weeklyHours("employee-1", ReservationDay.MONDAY),
+                longDay, doctor));
+        
+        BitSet monday = schedule.unavailableMinutes("employee-1", MONDAY);
+        
+        assertFalse(monday.get(minute(8, 0)));
+        assertTrue(monday.get(minute(15, 30)));
+        assertFalse(monday.get(minute(19, 59)));
+        assertTrue(monday.get(minute(20, 0)));
+    }
+    
+    @Test
+    public void testDayOffEmployeeIsNotOffered() {
+        EmployeeAvailability dayOff = EmployeeAvailability.builder()
+                .employeeUserId("employee-1")
+                .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                .specificDate(MONDAY)
+                .dayOff(true)
+                .build();
+        
+        AvailableSlotResponse oneOff = calculator.calculate(snapshot(List.of(dayOff)), MONDAY, NOW);
+        
+        assertEquals(oneOff.getSlots().size(), oneOff.getAvailableSlots().size());
+        assertEquals(List.of("employee-2"), oneOff.getAvailableSlots().get(0).getAvailableEmployeeUserIds());
+        
+        EmployeeAvailability secondDayOff = EmployeeAvailability.builder()
+                .employeeUserId("employee-2")
+                .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                .specificDate(MONDAY)
+                .dayOff(true)
+                .build();
+        AvailableSlotResponse bothOff = calculator.calculate(snapshot(List.of(dayOff, secondDayOff)), MONDAY, NOW);
+        
+        assertTrue(bothOff.getAvailableSlots().isEmpty());
+        assertEquals(AvailabilityCalculator.NO_WORKING_EMPLOYEES_REASON, bothOff.getBlockedSlots().get(0).getReason());
+    }
+    
+    private AvailabilitySnapshot snapshot(List<EmployeeAvailability> employeeRules) {
+        ReservationSettings settings = ReservationSettings.builder()
+                .defaultStartTime(LocalTime.of(9, 0))
+                .defaultEndTime(LocalTime.of(18, 0))
+                .build();
+        
+        return AvailabilitySnapshot.builder()
+                .businessId("business-1")
+                .activeEmployees(List.of(employee("employee-1"), employee("employee-2")))
+                .settings(settings)
+                .allPossibleSlots(calculator.generateAllPossibleSlots(settings))
+                .employeeSchedule(EmployeeSchedule.of(employeeRules))
+                .build();
+    }
+    
+    private EmployeeAvailability weeklyHours(String employeeUserId, ReservationDay day) {
+        return EmployeeAvailability.builder()
+                .employeeUserId(employeeUserId)
+                .availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                .dayOfWeek(day)
+                .workingSlots(List.of(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(14, 0))))
+                .build();
+    }
+    
+    private BusinessEmployee employee(String userId) {
+        return BusinessEmployee.builder()
+                .userId(userId)
+                .active(true)
+                .build();
+    }
+    
+    private static int minute(int hour, int minute) {
+        return hour * 60 + minute;
+    }
+}
@@ -0,0 +1,97 @@
+package com.reztech.reservation_http_api.core.availability;
+
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify minute bitmap occupancy matches TimeSlot overlap semantics
+ */
+public class SlotOccupancyTest {
+    
+    private final List<BusinessEmployee> employees = List.of(
+            BusinessEmployee.builder().userId("employee-1").active(true).build(),
+            BusinessEmployee.builder().userId("employee-2").active(true).build());
+    
+    @Test
+    public void testAdjacentSlotsDoNotOverlap() {
+        SlotOccupancy occupancy = SlotOccupancy.build(employees,
+                List.of(reservation("employee-1", LocalTime.of(10, 0), LocalTime.of(10, 30))),
+                List.of());
+        
+        assertFalse(occupancy.isBooked(0, TimeSlot.of(LocalTime.of(9, 30))));
+        assertTrue(occupancy.isBooked(0, TimeSlot.of(LocalTime.of(10, 0))));
+        assertTrue(occupancy.isBooked(0, TimeSlot.of(LocalTime.of(10, 15))));
+        assertFalse(occupancy.isBooked(0, TimeSlot.of(LocalTime.of(10, 30))));
+        assertFalse(occupancy.isBooked(1, TimeSlot.of(LocalTime.of(10, 0))));
+    }
+    
+    @Test
+    public void testBookedEmployeesBitmap() {
+        SlotOccupancy occupancy = SlotOccupancy.build(employees,
+                List.of(reservation("employee-2", LocalTime.of(11, 0), LocalTime.of(12, 0)),
+                        reservation("unknown", LocalTime.of(11, 0), LocalTime.of(12, 0))),
+                List.of());
+        
+        BitSet booked = occupancy.bookedEmployees(TimeSlot.of(LocalTime.of(11, 30)));
+        
+        assertFalse(booked.get(0));
+        assertTrue(booked.get(1));
+        assertEquals(1, booked.cardinality());
+    }
+    
+    @Test
+    public void testUnavailableEmployeesFollowTheirSchedules() {
+        LocalDate monday = LocalDate.of(2030, 1, 7);
+        EmployeeSchedule schedule = EmployeeSchedule.of(List.of(EmployeeAvailability.builder()
+                .employeeUserId("employee-2")
+                .availabilityType(AvailabilityType.WEEKLY_RECURRING)
+                .dayOfWeek(ReservationDay.MONDAY)
+                .workingSlots(List.of(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(14, 0))))
+                .build()));
+        
+        SlotOccupancy occupancy = SlotOccupancy.build(employees,
+                List.of(reservation("employee-1", LocalTime.of(13, 45), LocalTime.of(14, 15))), List.of(),
+                schedule, monday);
+        
+        assertEquals(BitSet.valueOf(new long[] {0b10}), occupancy.unavailableEmployees(TimeSlot.of(LocalTime.of(9, 30))));
+        assertTrue(occupancy.unavailableEmployees(TimeSlot.of(LocalTime.of(10, 0))).isEmpty());
+        assertTrue(occupancy.bookedEmployees(TimeSlot.of(LocalTime.of(10, 0))).isEmpty());
+        // Booked and off in the same slot are reported independently
+        assertEquals(BitSet.valueOf(new long[] {0b10}), occupancy.unavailableEmployees(TimeSlot.of(LocalTime.of(13, 45))));
+        assertEquals(BitSet.valueOf(new long[] {0b01}), occupancy.bookedEmployees(TimeSlot.of(LocalTime.of(13, 45))));
+        assertTrue(SlotOccupancy.build(employees, List.of(), List.of()).unavailableEmployees(
+                TimeSlot.of(LocalTime.of(9, 30))).isEmpty());
+    }
+    
+    @Test
+    public void testBlockedSlotRunningUntilMidnight() {
+        BusinessAvailability rule = BusinessAvailability.builder()
+                .blockedSlots(List.of(TimeSlot.of(LocalTime.of(23, 0), LocalTime.MIDNIGHT)))
+                .build();
+        
+        SlotOccupancy occupancy = SlotOccupancy.build(employees, List.of(), List.of(rule));
+        
+        assertTrue(occupancy.isBlocked(TimeSlot.of(LocalTime.of(23, 0), LocalTime.of(23, 59))));
+        assertFalse(occupancy.isBlocked(TimeSlot.of(LocalTime.of(22, 0), LocalTime.of(23, 0))));
+    }
+    
+    private Reservation reservation(String employeeUserId, LocalTime start, LocalTime end) {
+        return Reservation.builder()
+                .timeSlot(TimeSlot.of(start, end))
+                .assignedEmployeeUserId(employeeUserId)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.reztech.reservation_http_api.core.concurrency;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify that lookups run concurrently and failures are surfaced to the caller
+ */
+public class ConcurrentLookupsTest {
+    
+    private ConcurrentLookups concurrentLookups;
+    
+    @BeforeEach
+    public void setUp() {
+        concurrentLookups = new ConcurrentLookups();
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testLookupsRunConcurrently() {
+        // Each lookup waits for the other one, so this only completes when both run at the same time
+        CountDownLatch started = new CountDownLatch(2);
+        
+        try (LookupScope scope = concurrentLookups.open()) {
+            Supplier<String> first = scope.fork(() -> awaitOther(started, "first"));
+            Supplier<String> second = scope.fork(() -> awaitOther(started, "second"));
+            scope.join();
+            
+            assertEquals("first", first.get());
+            assertEquals("second", second.get());
+        }
+    }
+    
+    @Test
+    public void testFirstFailureIsRethrown() {
+        try (LookupScope scope = concurrentLookups.open()) {
+            scope.fork(() -> {
+                throw new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND, "Business not found");
+            });
+            scope.fork(() -> "ok");
+            
+            ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, scope::join);
+            assertEquals("Business not found", exception.getMessage());
+        }
+    }
+    
+    @Test
+    public void testResultBeforeJoinIsRejected() {
+        try (LookupScope scope = concurrentLookups.open()) {
+            Supplier<String> result = scope.fork(() -> "ok");
+            
+            assertThrows(IllegalStateException.class, result::get);
+        }
+    }
+    
+    @Test
+    public void testCloseWaitsForLookupsStillRunningAfterFailure() {
+        AtomicBoolean slowLookupFinished = new AtomicBoolean();
+        CountDownLatch slowLookupStarted = new CountDownLatch(1);
+        
+        try (LookupScope scope = concurrentLookups.open()) {
+            scope.fork(() -> {
+                slowLookupStarted.countDown();
+                sleep(200);
+                slowLookupFinished.set(true);
+                return "slow";
+            });
+            scope.fork(() -> {
+                await(slowLookupStarted);
+                throw new ResourceNotFoundException(ErrorCode.BUSINESS_NOT_FOUND, "Business not found");
+            });
+            
+            assertThrows(ResourceNotFoundException.class, scope::join);
+            assertFalse(slowLookupFinished.get());
+        }
+        
+        assertTrue(slowLookupFinished.get());
+    }
+    
+    @Test
+    public void testCloseWaitsAtMostTheCloseTimeout() {
+        ConcurrentLookups boundedLookups = new ConcurrentLookups(Executors.newVirtualThreadPerTaskExecutor(),
+                Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        long start = System.nanoTime();
+        try (LookupScope scope = boundedLookups.open()) {
+            scope.fork(() -> {
+                started.countDown();
+                await(release);
+                return "stuck";
+            });
+            // A lookup that has not started yet is cancelled instead of waited for
+            await(started);
+        }
+        long closedAfterMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        
+        release.countDown();
+        boundedLookups.shutdown();
+        assertTrue(closedAfterMillis >= 100 && closedAfterMillis < 5000, "Closed after " + closedAfterMillis + " ms");
+    }
+    
+    private static String awaitOther(CountDownLatch started, String value) {
+        started.countDown();
+        try {
+            if (!started.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Lookups did not run concurrently");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
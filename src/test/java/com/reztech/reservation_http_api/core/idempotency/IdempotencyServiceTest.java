@@ -0,0 +1,212 @@
+package com.reztech.reservation_http_api.core.idempotency;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.main.reservation.IdempotencyRecord;
+import com.reztech.reservation_http_api.model.enums.IdempotencyStatus;
+import com.reztech.reservation_http_api.repository.reservation.IdempotencyRecordRepository;
+import com.reztech.reservation_http_api.util.JsonUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify idempotent replay, in-flight deduplication and key reuse detection
+ */
+public class IdempotencyServiceTest {
+    
+    private static final String SCOPE = "reservations.create";
+    
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyRecordRepository repository;
+    private IdempotencyService service;
+    
+    @BeforeEach
+    public void setUp() {
+        repository = mock(IdempotencyRecordRepository.class);
+        when(repository.findById(anyString())).thenAnswer(call -> Optional.ofNullable(records.get(call.<String>getArgument(0))));
+        when(repository.insertIfAbsent(any())).thenAnswer(call -> {
+            // Store a copy, like the database the map does not see later changes of the service's instance
+            IdempotencyRecord record = call.getArgument(0);
+            return records.putIfAbsent(record.getId(), copy(record)) == null;
+        });
+        when(repository.save(any())).thenAnswer(call -> {
+            IdempotencyRecord record = call.getArgument(0);
+            records.put(record.getId(), record);
+            return record;
+        });
+        when(repository.takeOver(anyString(), any(), any())).thenAnswer(call -> {
+            IdempotencyRecord record = records.get(call.<String>getArgument(0));
+            if (record == null || !Objects.equals(record.getLockedUntil(), call.getArgument(1))) {
+                return false;
+            }
+            record.setLockedUntil(call.getArgument(2));
+            return true;
+        });
+        doAnswer(call -> records.remove(call.<String>getArgument(0))).when(repository).deleteById(anyString());
+        
+        service = new IdempotencyService(repository, new JsonUtils(JsonMapper.builder().findAndAddModules().build()),
+                new AppConfig());
+    }
+    
+    @Test
+    public void testRetryReplaysStoredResponse() {
+        ReservationResponse first = service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, this::create);
+        ReservationResponse retry = service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, this::create);
+        
+        assertEquals(1, executions.get());
+        assertEquals(first.getId(), retry.getId());
+        assertEquals(first.getReservationDate(), retry.getReservationDate());
+    }
+    
+    @Test
+    public void testConcurrentRetryWaitsForFirstExecution() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ReservationResponse> slowCreate = () -> {
+            started.countDown();
+            await(release);
+            return create();
+        };
+        
+        CompletableFuture<ReservationResponse> first = CompletableFuture.supplyAsync(() ->
+                service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, slowCreate));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        
+        // The retry finds the key in flight and waits instead of executing again
+        CompletableFuture<ReservationResponse> retry = CompletableFuture.supplyAsync(() ->
+                service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, this::create));
+        Thread.sleep(100);
+        release.countDown();
+        
+        assertEquals(first.get(5, TimeUnit.SECONDS).getId(), retry.get(5, TimeUnit.SECONDS).getId());
+        assertEquals(1, executions.get());
+    }
+    
+    @Test
+    public void testReusedKeyAndFailedExecution() {
+        service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, this::create);
+        
+        ConflictException reused = assertThrows(ConflictException.class, () ->
+                service.execute(SCOPE, "key-1", request("user-2"), ReservationResponse.class, this::create));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, reused.getErrorCode());
+        
+        // Failed executions are not stored, so the retry executes again
+        assertThrows(ResourceNotFoundException.class, () -> service.execute(SCOPE, "key-2", request("user-1"),
+                ReservationResponse.class, () -> {
+                    throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND, "User not found");
+                }));
+        service.execute(SCOPE, "key-2", request("user-1"), ReservationResponse.class, this::create);
+        
+        assertEquals(2, executions.get());
+    }
+    
+    @Test
+    public void testConcurrentRequestWithAnotherBodyIsRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        
+        CompletableFuture<ReservationResponse> first = CompletableFuture.supplyAsync(() ->
+                service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        
+        // The key is in flight on this instance, another body must not receive the first response
+        ConflictException reused = assertThrows(ConflictException.class, () ->
+                service.execute(SCOPE, "key-1", request("user-2"), ReservationResponse.class, this::create));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, reused.getErrorCode());
+        
+        release.countDown();
+        assertEquals("reservation-1", first.get(5, TimeUnit.SECONDS).getId());
+    }
+    
+    @Test
+    public void testUnfinishedRecordIsTakenOverAfterItsLease() {
+        // The response of the first execution could not be stored, so its record stays in progress
+        doThrow(new IllegalStateException("write failed")).when(repository).save(any());
+        ReservationResponse first = service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class,
+                this::create);
+        
+        assertEquals("reservation-1", first.getId());
+        IdempotencyRecord record = records.get(SCOPE + ":key-1");
+        assertEquals(IdempotencyStatus.IN_PROGRESS, record.getStatus());
+        assertTrue(record.getLockedUntil().isAfter(Instant.now()));
+        
+        ConflictException inProgress = assertThrows(ConflictException.class, () ->
+                service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class, this::create));
+        assertEquals(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, inProgress.getErrorCode());
+        
+        // Once the lease has passed a retry executes again and stores its response
+        record.setLockedUntil(Instant.now().minusSeconds(1));
+        doAnswer(call -> records.put(SCOPE + ":key-1", call.getArgument(0))).when(repository).save(any());
+        
+        ReservationResponse retry = service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class,
+                this::create);
+        
+        assertEquals("reservation-2", retry.getId());
+        assertEquals(IdempotencyStatus.COMPLETED, records.get(SCOPE + ":key-1").getStatus());
+        assertNull(records.get(SCOPE + ":key-1").getLockedUntil());
+        assertEquals("reservation-2", service.execute(SCOPE, "key-1", request("user-1"), ReservationResponse.class,
+                this::create).getId());
+    }
+    
+    private ReservationResponse create() {
+        return ReservationResponse.builder()
+                .id("reservation-" + executions.incrementAndGet())
+                .reservationDate(LocalDate.of(2030, 1, 7))
+                .build();
+    }
+    
+    private static CreateReservationRequest request(String userId) {
+        return CreateReservationRequest.builder()
+                .userId(userId)
+                .businessId("business-1")
+                .reservationDate(LocalDate.of(2030, 1, 7))
+                .build();
+    }
+    
+    private static IdempotencyRecord copy(IdempotencyRecord record) {
+        return IdempotencyRecord.builder()
+                .id(record.getId())
+                .requestHash(record.getRequestHash())
+                .status(record.getStatus())
+                .responseBody(record.getResponseBody())
+                .lockedUntil(record.getLockedUntil())
+                .createdAt(record.getCreatedAt())
+                .expiresAt(record.getExpiresAt())
+                .build();
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
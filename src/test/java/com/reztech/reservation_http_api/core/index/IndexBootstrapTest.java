@@ -0,0 +1,75 @@
+package com.reztech.reservation_http_api.core.index;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify how declared indexes are matched with the indexes found in Mongo
+ */
+public class IndexBootstrapTest {
+    
+    private static final Document ID_INDEX = index("_id_", new Document("_id", 1));
+    
+    @Test
+    public void testIndexesCreatedByHandAreMatchedByKey() {
+        IndexReport report = new IndexReport();
+        List<Document> existing = List.of(ID_INDEX,
+                index("email_1", new Document("email", 1.0)).append("unique", true),
+                index("gsm_1", new Document("gsm", 1)));
+        
+        List<RegisteredIndex> missing = IndexBootstrap.compare("users", userIndexes(), existing, report);
+        
+        assertEquals(List.of("user_type"), missing.stream().map(RegisteredIndex::getName).toList());
+        assertTrue(report.getConflicting().isEmpty());
+        assertTrue(report.getRedundant().isEmpty());
+    }
+    
+    @Test
+    public void testIndexWithDifferentOptionsOrKeysIsConflicting() {
+        IndexReport report = new IndexReport();
+        List<Document> existing = List.of(ID_INDEX,
+                index("email_1", new Document("email", 1)),
+                index("user_type", new Document("userType", -1)));
+        
+        List<RegisteredIndex> missing = IndexBootstrap.compare("users", userIndexes(), existing, report);
+        
+        assertEquals(List.of("gsm"), missing.stream().map(RegisteredIndex::getName).toList());
+        assertEquals(2, report.getConflicting().size());
+        assertTrue(report.getConflicting().get(0).startsWith("users.email_unique"));
+        assertTrue(report.getConflicting().get(1).startsWith("users.user_type"));
+    }
+    
+    @Test
+    public void testUndeclaredIndexesAreRedundant() {
+        IndexReport report = new IndexReport();
+        List<Document> existing = List.of(ID_INDEX,
+                index("business_date_cancelled", new Document("business._id", 1)
+                        .append("reservationDate", 1).append("isCancelled", 1)),
+                index("business._id_1", new Document("business._id", 1)));
+        
+        List<RegisteredIndex> missing = IndexBootstrap.compare("reservations", List.of(
+                new RegisteredIndex(Reservation.class, IndexRegistry.RESERVATION_BUSINESS_ACTIVE_DATE)), existing, report);
+        
+        assertEquals(1, missing.size());
+        assertEquals(2, report.getRedundant().size());
+        assertFalse(report.getRedundant().get(0).contains("prefix"));
+        assertTrue(report.getRedundant().get(1).endsWith("key is a prefix of business_cancelled_date_employee"));
+    }
+    
+    private static List<RegisteredIndex> userIndexes() {
+        return List.of(
+                new RegisteredIndex(User.class, IndexRegistry.USER_EMAIL),
+                new RegisteredIndex(User.class, IndexRegistry.USER_GSM),
+                new RegisteredIndex(User.class, IndexRegistry.USER_TYPE));
+    }
+    
+    private static Document index(String name, Document keys) {
+        return new Document("v", 2).append("key", keys).append("name", name);
+    }
+}
@@ -0,0 +1,88 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.concurrency.LookupScope;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify Mongo command metrics and round trip counting across forked lookups
+ */
+public class MongoCommandMetricsTest {
+    
+    private final ConnectionDescription connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoCommandMetrics metrics = new MongoCommandMetrics(meterRegistry);
+    private final ConcurrentLookups concurrentLookups = new ConcurrentLookups();
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testLatencyAndDocumentsPerCollection() {
+        succeed(1, "find", "{find: 'reservations', filter: {}}", "{cursor: {firstBatch: [{}, {}, {}], id: 0}, ok: 1}");
+        succeed(2, "getMore", "{getMore: 42, collection: 'reservations'}", "{cursor: {nextBatch: [{}], id: 0}, ok: 1}");
+        succeed(3, "update", "{update: 'businesses', updates: []}", "{n: 2, ok: 1}");
+        
+        assertEquals(1, meterRegistry.get("mongodb.commands").tags("collection", "reservations", "command", "find").timer().count());
+        assertEquals(3, meterRegistry.get("mongodb.command.documents").tags("command", "find").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("mongodb.command.documents").tags("collection", "reservations", "command", "getMore").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("mongodb.command.documents").tags("collection", "businesses").summary().totalAmount());
+    }
+    
+    @Test
+    public void testFailedCommandIsTaggedAsFailed() {
+        metrics.commandStarted(new CommandStartedEvent(null, 1, 1, connection, "reservation_db", "insert",
+                BsonDocument.parse("{insert: 'reservations', documents: []}")));
+        metrics.commandFailed(new CommandFailedEvent(null, 1, 1, connection, "reservation_db", "insert",
+                TimeUnit.MILLISECONDS.toNanos(5), new IllegalStateException()));
+        
+        assertEquals(1, meterRegistry.get("mongodb.commands")
+                .tags("collection", "reservations", "command", "insert", "status", "failed").timer().count());
+    }
+    
+    @Test
+    public void testRoundTripsOfForkedLookupsAreCounted() {
+        MongoRoundTrips.start();
+        try (LookupScope scope = concurrentLookups.open()) {
+            for (int i = 0; i < 3; i++) {
+                int requestId = i;
+                scope.fork(() -> {
+                    succeed(requestId, "find", "{find: 'businesses'}", "{cursor: {firstBatch: [], id: 0}, ok: 1}");
+                    return requestId;
+                });
+            }
+            scope.join();
+        }
+        succeed(3, "find", "{find: 'reservation_settings'}", "{cursor: {firstBatch: [], id: 0}, ok: 1}");
+        
+        assertEquals(4, MongoRoundTrips.stop());
+        
+        // Commands outside a counted request are not counted
+        succeed(4, "find", "{find: 'users'}", "{cursor: {firstBatch: [], id: 0}, ok: 1}");
+        assertEquals(0, MongoRoundTrips.stop());
+    }
+    
+    private void succeed(int requestId, String commandName, String command, String response) {
+        metrics.commandStarted(new CommandStartedEvent(null, requestId, requestId, connection, "reservation_db",
+                commandName, BsonDocument.parse(command)));
+        metrics.commandSucceeded(new CommandSucceededEvent(null, requestId, requestId, connection, "reservation_db",
+                commandName, BsonDocument.parse(response), TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify connection pool metrics recorded from driver pool events
+ */
+public class MongoPoolMetricsTest {
+    
+    private final ServerId serverId = new ServerId(new ClusterId(), new ServerAddress("mongo", 27017));
+    private final ConnectionId connectionId = new ConnectionId(serverId);
+    private MeterRegistry meterRegistry;
+    private MongoPoolMetrics metrics;
+    
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new MongoPoolMetrics(meterRegistry);
+        metrics.connectionPoolCreated(new ConnectionPoolCreatedEvent(serverId, ConnectionPoolSettings.builder().build()));
+    }
+    
+    @Test
+    public void testCheckoutWaitIsRecordedByOutcome() {
+        metrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId, 1));
+        metrics.connectionCheckedOut(new ConnectionCheckedOutEvent(connectionId, 1, TimeUnit.MILLISECONDS.toNanos(3)));
+        metrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId, 2));
+        metrics.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(serverId, 2,
+                ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.MILLISECONDS.toNanos(15)));
+        
+        Timer success = meterRegistry.get("mongodb.pool.checkout").tag("outcome", "success").timer();
+        Timer timeout = meterRegistry.get("mongodb.pool.checkout").tag("outcome", "timeout").timer();
+        assertEquals(1, success.count());
+        assertEquals(3, success.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, timeout.count());
+        assertEquals(15, timeout.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals("mongo:27017", success.getId().getTag("server"));
+    }
+    
+    @Test
+    public void testGaugesFollowPoolState() {
+        metrics.connectionCreated(new ConnectionCreatedEvent(connectionId));
+        metrics.connectionCreated(new ConnectionCreatedEvent(new ConnectionId(serverId)));
+        metrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId, 1));
+        metrics.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId, 2));
+        metrics.connectionCheckedOut(new ConnectionCheckedOutEvent(connectionId, 1, 0));
+        
+        assertEquals(2, meterRegistry.get("mongodb.pool.size").gauge().value());
+        assertEquals(1, meterRegistry.get("mongodb.pool.checked.out").gauge().value());
+        assertEquals(1, meterRegistry.get("mongodb.pool.waiting").gauge().value());
+        
+        metrics.connectionCheckedIn(new ConnectionCheckedInEvent(connectionId, 1));
+        assertEquals(0, meterRegistry.get("mongodb.pool.checked.out").gauge().value());
+    }
+    
+    @Test
+    public void testChurnIsCountedAndGaugesRemovedWithPool() {
+        metrics.connectionCreated(new ConnectionCreatedEvent(connectionId));
+        metrics.connectionClosed(new ConnectionClosedEvent(connectionId, ConnectionClosedEvent.Reason.STALE));
+        metrics.connectionCreated(new ConnectionCreatedEvent(connectionId));
+        metrics.connectionClosed(new ConnectionClosedEvent(connectionId, ConnectionClosedEvent.Reason.IDLE));
+        
+        assertEquals(2, meterRegistry.get("mongodb.pool.connections.created").counter().count());
+        assertEquals(1, meterRegistry.get("mongodb.pool.connections.closed").tag("reason", "stale").counter().count());
+        assertEquals(1, meterRegistry.get("mongodb.pool.connections.closed").tag("reason", "idle").counter().count());
+        assertEquals(0, meterRegistry.get("mongodb.pool.size").gauge().value());
+        
+        metrics.connectionPoolClosed(new ConnectionPoolClosedEvent(serverId));
+        assertNull(meterRegistry.find("mongodb.pool.size").gauge());
+    }
+}
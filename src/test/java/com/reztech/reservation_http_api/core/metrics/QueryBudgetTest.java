@@ -0,0 +1,103 @@
+package com.reztech.reservation_http_api.core.metrics;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.reztech.reservation_http_api.config.QueryBudgetConfig;
+import com.reztech.reservation_http_api.core.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify per-request query budgets and N+1 detection
+ */
+public class QueryBudgetTest {
+    
+    private static final String RANGE_URI = "/api/availability/business/{businessId}/range";
+    
+    private final ConnectionDescription connection = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MongoCommandMetrics mongoCommandMetrics = new MongoCommandMetrics(meterRegistry);
+    private QueryBudgetConfig queryBudgetConfig;
+    private MongoRoundTripFilter filter;
+    
+    @BeforeEach
+    public void setUp() {
+        queryBudgetConfig = new QueryBudgetConfig();
+        queryBudgetConfig.setFailOnViolation(true);
+        queryBudgetConfig.setMaxRepeats(3);
+        queryBudgetConfig.setEndpoints(Map.of("GET " + RANGE_URI, 5));
+        filter = new MongoRoundTripFilter(meterRegistry, new QueryBudget(queryBudgetConfig, meterRegistry), queryBudgetConfig);
+    }
+    
+    @Test
+    public void testRequestWithinBudgetIsRecorded() throws Exception {
+        filter.doFilter(request(), new MockHttpServletResponse(), sendCommands(3, 0));
+        
+        assertEquals(3, meterRegistry.get("mongodb.round.trips").tag("uri", RANGE_URI).summary().totalAmount());
+        assertTrue(meterRegistry.find("mongodb.query.budget.violations").counters().isEmpty());
+    }
+    
+    @Test
+    public void testRepeatedCallSiteFailsInTestMode() {
+        // One call site sending a query per item: within the budget of 5 but repeated more than 3 times
+        QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), sendCommands(1, 4)));
+        
+        assertTrue(exception.getMessage().contains("QueryBudgetTest.find:"));
+        assertTrue(exception.getMessage().contains("find users=4"));
+        assertEquals(1, meterRegistry.get("mongodb.query.budget.violations").tag("type", "repeats").counter().count());
+    }
+    
+    @Test
+    public void testOverBudgetIsOnlyLoggedOutsideTestMode() throws Exception {
+        queryBudgetConfig.setFailOnViolation(false);
+        
+        filter.doFilter(request(), new MockHttpServletResponse(), sendCommands(6, 0));
+        
+        assertEquals(1, meterRegistry.get("mongodb.query.budget.violations").tag("type", "budget").counter().count());
+        assertEquals(20, new QueryBudget(queryBudgetConfig, meterRegistry).getBudget("GET", "/api/users"));
+    }
+    
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/availability/business/b1/range");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RANGE_URI);
+        return request;
+    }
+    
+    /**
+     * Chain sending finds on distinct collections, then the same find on users repeated the given number of times
+     */
+    private FilterChain sendCommands(int distinct, int repeats) {
+        return (request, response) -> {
+            for (int i = 0; i < distinct; i++) {
+                find(i, "collection_" + i);
+            }
+            for (int i = 0; i < repeats; i++) {
+                find(distinct + i, "users");
+            }
+        };
+    }
+    
+    private void find(int requestId, String collection) {
+        mongoCommandMetrics.commandStarted(new CommandStartedEvent(null, requestId, requestId, connection,
+                "reservation_db", "find", BsonDocument.parse("{find: '" + collection + "'}")));
+        mongoCommandMetrics.commandSucceeded(new CommandSucceededEvent(null, requestId, requestId, connection,
+                "reservation_db", "find", BsonDocument.parse("{cursor: {firstBatch: [], id: 0}, ok: 1}"),
+                1_000_000));
+    }
+}
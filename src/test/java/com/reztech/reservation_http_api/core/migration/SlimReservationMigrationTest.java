@@ -0,0 +1,114 @@
+package com.reztech.reservation_http_api.core.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.enums.UserType;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify slim user and business snapshots on reservations: old documents with the full embedded
+ * user and business still read, new ones only store snapshot fields, and the migration unsets exactly the dropped ones
+ */
+public class SlimReservationMigrationTest {
+    
+    private MappingMongoConverter converter;
+    
+    @BeforeEach
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+    
+    @Test
+    public void testLegacyReservationWithFullUserAndBusinessIsReadable() {
+        Document legacy = new Document("_id", "reservation-1")
+                .append("user", new Document("_id", "user-1")
+                        .append("name", "Ahmet")
+                        .append("surname", "Yılmaz")
+                        .append("gsm", "05551234567")
+                        .append("email", "ahmet@example.com")
+                        .append("userType", "CUSTOMER"))
+                .append("business", new Document("_id", "business-1")
+                        .append("name", "Kuaför Salon")
+                        .append("location", new Document("city", "İstanbul"))
+                        .append("owner", new Document("_id", "owner-1").append("name", "Mehmet"))
+                        .append("employees", List.of(new Document("userId", "employee-1").append("active", true)))
+                        .append("contactInfo", new Document("phone", "02121234567")));
+        
+        Reservation reservation = converter.read(Reservation.class, legacy);
+        
+        assertEquals(new UserSnapshot("user-1", "Ahmet", "Yılmaz", "05551234567", "ahmet@example.com"),
+                reservation.getUser());
+        assertEquals(new BusinessSnapshot("business-1", "Kuaför Salon"), reservation.getBusiness());
+    }
+    
+    @Test
+    public void testNewReservationStoresOnlySnapshotFields() {
+        User user = User.builder()
+                .id("user-1")
+                .name("Ahmet")
+                .surname("Yılmaz")
+                .gsm("05551234567")
+                .email("ahmet@example.com")
+                .userType(UserType.BUSINESS_OWNER)
+                .build();
+        Reservation reservation = Reservation.builder()
+                .user(UserSnapshot.of(user))
+                .business(BusinessSnapshot.builder().id("business-1").name("Kuaför Salon").build())
+                .build();
+        
+        Document document = new Document();
+        converter.write(reservation, document);
+        
+        assertEquals(Set.of("_id", "name", "surname", "gsm", "email"), document.get("user", Document.class).keySet());
+        assertEquals(Set.of("_id", "name"), document.get("business", Document.class).keySet());
+    }
+    
+    @Test
+    public void testMigrationUnsetsOnlyTheRemovedFieldsOfMatchingReservations() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionName(Reservation.class)).thenReturn("reservations");
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq("reservations")))
+                .thenReturn(UpdateResult.acknowledged(2, 2L, null));
+        
+        new SlimReservationMigration(mongoTemplate).run(null);
+        
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq("reservations"));
+        
+        List<Document> matched = query.getValue().getQueryObject().getList("$or", Document.class);
+        assertEquals(SlimReservationMigration.REMOVED_FIELDS.stream()
+                .map(field -> new Document(field, new Document("$exists", true)))
+                .toList(), matched);
+        
+        Document unset = update.getValue().getUpdateObject().get("$unset", Document.class);
+        assertEquals(Set.copyOf(SlimReservationMigration.REMOVED_FIELDS), unset.keySet());
+        assertEquals(Set.of("$unset"), update.getValue().getUpdateObject().keySet());
+    }
+}
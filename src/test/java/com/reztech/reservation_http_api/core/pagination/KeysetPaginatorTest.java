@@ -0,0 +1,91 @@
+package com.reztech.reservation_http_api.core.pagination;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.api.response.CursorPageResponse;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify keyset pagination queries and page boundaries
+ */
+public class KeysetPaginatorTest {
+    
+    private MongoTemplate mongoTemplate;
+    private KeysetPaginator paginator;
+    
+    @BeforeEach
+    public void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        AppConfig appConfig = new AppConfig();
+        appConfig.setDefaultPageSize(2);
+        appConfig.setMaxPageSize(5);
+        paginator = new KeysetPaginator(mongoTemplate, appConfig);
+    }
+    
+    @Test
+    public void testFullPageReturnsNextCursor() {
+        List<User> users = users(3);
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(users);
+        
+        CursorPageResponse<User> page = paginator.page(User.class, null, null, User::getId, user -> user);
+        
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(User.class));
+        assertEquals(3, query.getValue().getLimit());
+        assertEquals(new Document("_id", 1), query.getValue().getSortObject());
+        
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertEquals(users.get(1).getId(), page.getNextCursor());
+    }
+    
+    @Test
+    public void testLastPageHasNoCursor() {
+        String cursor = new ObjectId().toHexString();
+        when(mongoTemplate.find(any(Query.class), eq(User.class))).thenReturn(users(1));
+        
+        CursorPageResponse<User> page = paginator.page(User.class, cursor, 5, User::getId, user -> user);
+        
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(User.class));
+        assertEquals(new Document("_id", new Document("$gt", new ObjectId(cursor))), query.getValue().getQueryObject());
+        
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+    
+    @Test
+    public void testInvalidCursorAndSizeAreRejected() {
+        assertThrows(ValidationException.class,
+                () -> paginator.page(User.class, "not-an-id", null, User::getId, user -> user));
+        assertThrows(ValidationException.class,
+                () -> paginator.page(User.class, null, 6, User::getId, user -> user));
+        assertThrows(ValidationException.class,
+                () -> paginator.page(User.class, null, 0, User::getId, user -> user));
+        verifyNoInteractions(mongoTemplate);
+    }
+    
+    private List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder().id(new ObjectId().toHexString()).build());
+        }
+        return users;
+    }
+}
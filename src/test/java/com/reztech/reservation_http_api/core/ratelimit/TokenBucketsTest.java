@@ -0,0 +1,87 @@
+package com.reztech.reservation_http_api.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify lock-free GCRA token buckets
+ */
+public class TokenBucketsTest {
+    
+    private static final Duration ONE_SECOND = Duration.ofSeconds(1);
+    
+    private final AtomicLong clock = new AtomicLong(System.nanoTime());
+    private final TokenBuckets tokenBuckets = new TokenBuckets(1000, Duration.ofMinutes(1), clock::get);
+    
+    @Test
+    public void testBurstUpToCapacityThenReject() {
+        for (int i = 0; i < 3; i++) {
+            RateLimitDecision decision = tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND);
+            assertTrue(decision.isAllowed());
+            assertEquals(2 - i, decision.getRemaining());
+        }
+        
+        RateLimitDecision rejected = tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND);
+        
+        assertFalse(rejected.isAllowed());
+        assertEquals(ONE_SECOND, rejected.getRetryAfter());
+        assertTrue(tokenBuckets.tryAcquire("client-2", 3, ONE_SECOND).isAllowed());
+    }
+    
+    @Test
+    public void testTokensRefillOverTime() {
+        for (int i = 0; i < 3; i++) {
+            tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND);
+        }
+        
+        clock.addAndGet(Duration.ofMillis(1500).toNanos());
+        
+        assertTrue(tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND).isAllowed());
+        RateLimitDecision rejected = tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND);
+        assertFalse(rejected.isAllowed());
+        assertEquals(Duration.ofMillis(500), rejected.getRetryAfter());
+        
+        // A long idle period refills the bucket to its capacity, not beyond
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertEquals(2, tokenBuckets.tryAcquire("client-1", 3, ONE_SECOND).getRemaining());
+    }
+    
+    @Test
+    public void testConcurrentRequestsNeverExceedCapacity() throws InterruptedException {
+        int threads = 16;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            if (tokenBuckets.tryAcquire("business-1", 50, ONE_SECOND).isAllowed()) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await();
+        }
+        
+        assertEquals(50, allowed.get());
+    }
+}
@@ -0,0 +1,142 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.CompactAvailabilityResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify encoding availability as a slot grid with employee bitmasks
+ */
+public class CompactAvailabilityMapperTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+    private static final TimeSlot NINE = TimeSlot.of(LocalTime.of(9, 0));
+    private static final TimeSlot NINE_THIRTY = TimeSlot.of(LocalTime.of(9, 30));
+    private static final TimeSlot TEN = TimeSlot.of(LocalTime.of(10, 0));
+    
+    private final CompactAvailabilityMapper mapper = new CompactAvailabilityMapper();
+    
+    @Test
+    public void testPartlyBookedSlotIsAvailableWithEmployeeBitmasks() {
+        AvailableSlotResponse day = day(DATE,
+                slot(NINE, SlotStatus.AVAILABLE, null, List.of("e1", "e2"), List.of()),
+                slot(NINE_THIRTY, SlotStatus.AVAILABLE, null, List.of("e2"), List.of("e1")),
+                slot(NINE_THIRTY, SlotStatus.BOOKED, "Employee(s) have existing reservations", List.of("e2"), List.of("e1")),
+                slot(TEN, SlotStatus.BLOCKED, "Lunch", List.of(), List.of()));
+        
+        CompactAvailabilityResponse response = mapper.toCompactResponse(BUSINESS_ID, List.of(day));
+        CompactAvailabilityResponse.Day compactDay = response.getDays().get(0);
+        
+        assertEquals(List.of("09:00-09:30", "09:30-10:00", "10:00-10:30"), response.getSlots());
+        assertEquals(List.of("e1", "e2"), response.getEmployeeUserIds());
+        assertEquals("AAX", compactDay.getStatuses());
+        assertEquals(List.of(-1, -1, response.getReasons().indexOf("Lunch")), compactDay.getReasons());
+        assertEquals(bits(0), decode(compactDay.getAvailableEmployees().get(0)));
+        assertEquals(bits(0, 1), decode(compactDay.getAvailableEmployees().get(1)));
+        assertEquals(bits(1), decode(compactDay.getReservedEmployees().get(0)));
+        assertEquals(bits(), decode(compactDay.getReservedEmployees().get(1)));
+    }
+    
+    @Test
+    public void testDaysShareTheGridAndMissingSlotsAreMarked() {
+        AvailableSlotResponse first = day(DATE, slot(NINE, SlotStatus.EXPIRED, "Date has already passed", null, null));
+        AvailableSlotResponse second = day(DATE.plusDays(1), slot(TEN, SlotStatus.AVAILABLE, null, List.of("e1"), List.of()));
+        
+        CompactAvailabilityResponse response = mapper.toCompactResponse(BUSINESS_ID, List.of(first, second));
+        
+        assertEquals(List.of("09:00-09:30", "10:00-10:30"), response.getSlots());
+        assertEquals("E-", response.getDays().get(0).getStatuses());
+        assertEquals("-A", response.getDays().get(1).getStatuses());
+        assertNull(response.getDays().get(1).getReasons());
+    }
+    
+    @Test
+    public void testDaysBeforeAnEmployeeAppearedGetEmptyBitmasks() {
+        AvailableSlotResponse first = day(DATE, slot(NINE, SlotStatus.AVAILABLE, null, List.of("e1"), List.of()));
+        AvailableSlotResponse second = day(DATE.plusDays(1), slot(NINE, SlotStatus.AVAILABLE, null, List.of("e2"), List.of()));
+        
+        CompactAvailabilityResponse response = mapper.toCompactResponse(BUSINESS_ID, List.of(first, second));
+        
+        assertEquals(List.of("AQ==", ""), response.getDays().get(0).getAvailableEmployees());
+        assertEquals(List.of("", "AQ=="), response.getDays().get(1).getAvailableEmployees());
+        assertEquals(List.of("", ""), response.getDays().get(0).getReservedEmployees());
+    }
+    
+    @Test
+    public void testSlotsPastTheFirstByteFollowTheDocumentedBitOrder() {
+        // Ten half hour slots from 09:00, so slots 8 and 9 are in the second byte
+        List<AvailableSlotResponse.SlotInfo> slots = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TimeSlot timeSlot = TimeSlot.of(LocalTime.of(9, 0).plusMinutes(30L * i));
+            List<String> available = i == 0 || i == 9 ? List.of("e1", "e2") : i == 8 ? List.of("e2") : List.of();
+            slots.add(slot(timeSlot, available.isEmpty() ? SlotStatus.BLOCKED : SlotStatus.AVAILABLE, null,
+                    available, List.of()));
+        }
+        AvailableSlotResponse day = day(DATE, slots.toArray(AvailableSlotResponse.SlotInfo[]::new));
+        
+        CompactAvailabilityResponse.Day compactDay = mapper.toCompactResponse(BUSINESS_ID, List.of(day)).getDays().get(0);
+        byte[] e1 = Base64.getDecoder().decode(compactDay.getAvailableEmployees().get(0));
+        byte[] e2 = Base64.getDecoder().decode(compactDay.getAvailableEmployees().get(1));
+        
+        assertArrayEquals(new byte[] {0x01, 0x02}, e1);
+        assertArrayEquals(new byte[] {0x01, 0x03}, e2);
+        assertEquals(List.of(0, 9), slotsOf(e1));
+        assertEquals(List.of(0, 8, 9), slotsOf(e2));
+    }
+    
+    private AvailableSlotResponse day(LocalDate date, AvailableSlotResponse.SlotInfo... slots) {
+        return AvailableSlotResponse.builder()
+                .businessId(BUSINESS_ID)
+                .date(date)
+                .slots(List.of(slots))
+                .build();
+    }
+    
+    private AvailableSlotResponse.SlotInfo slot(TimeSlot timeSlot, SlotStatus status, String reason,
+                                                List<String> available, List<String> reserved) {
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(timeSlot)
+                .status(status)
+                .reason(reason)
+                .availableEmployeeUserIds(available)
+                .reservedEmployeeUserIds(reserved)
+                .build();
+    }
+    
+    private BitSet decode(String bitmask) {
+        return BitSet.valueOf(Base64.getDecoder().decode(bitmask));
+    }
+    
+    /**
+     * Decode a bitmask as the schema describes it: bit i % 8 (least significant first) of byte i / 8 is grid slot i
+     */
+    private List<Integer> slotsOf(byte[] bitmask) {
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < bitmask.length * 8; i++) {
+            if ((bitmask[i / 8] >> (i % 8) & 1) == 1) {
+                slots.add(i);
+            }
+        }
+        return slots;
+    }
+    
+    private BitSet bits(int... indexes) {
+        BitSet bitSet = new BitSet();
+        for (int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
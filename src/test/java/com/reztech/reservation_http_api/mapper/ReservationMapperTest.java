@@ -0,0 +1,55 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify mapping reservations to responses
+ */
+public class ReservationMapperTest {
+    
+    private final ReservationMapper mapper = new ReservationMapper();
+    
+    @Test
+    public void testAllFieldsAreCopied() {
+        UserSnapshot user = new UserSnapshot("user-1", "Ahmet", "Yılmaz", "05551234567", "ahmet@example.com");
+        BusinessSnapshot business = new BusinessSnapshot("business-1", "Kuaför Salon");
+        TimeSlot timeSlot = TimeSlot.of(LocalTime.of(9, 30));
+        Reservation reservation = new Reservation("reservation-1", user, business, LocalDate.of(2030, 1, 7), timeSlot,
+                "employee-1", SlotStatus.BOOKED, true, true, "Sick", "Window seat",
+                Instant.parse("2030-01-01T09:00:00Z"), Instant.parse("2030-01-02T09:00:00Z"));
+        
+        assertEquals(new ReservationResponse("reservation-1", user, business, LocalDate.of(2030, 1, 7), timeSlot,
+                "employee-1", SlotStatus.BOOKED, true, true, "Sick", "Window seat",
+                Instant.parse("2030-01-01T09:00:00Z"), Instant.parse("2030-01-02T09:00:00Z")),
+                mapper.toResponse(reservation));
+    }
+    
+    @Test
+    public void testListKeepsOrderAndNullEntries() {
+        Reservation first = Reservation.builder().id("reservation-2").build();
+        Reservation second = Reservation.builder().id("reservation-1").build();
+        
+        List<ReservationResponse> responses = mapper.toResponseList(Arrays.asList(first, null, second));
+        
+        assertEquals(3, responses.size());
+        assertEquals("reservation-2", responses.get(0).getId());
+        assertNull(responses.get(1));
+        assertEquals("reservation-1", responses.get(2).getId());
+        assertNull(mapper.toResponse(null));
+        assertTrue(mapper.toResponseList(List.of()).isEmpty());
+    }
+}
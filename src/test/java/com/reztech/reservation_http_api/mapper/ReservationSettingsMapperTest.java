@@ -0,0 +1,77 @@
+package com.reztech.reservation_http_api.mapper;
+
+import com.reztech.reservation_http_api.model.api.request.CreateReservationSettingsRequest;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify that settings requests only overwrite the fields they carry
+ */
+public class ReservationSettingsMapperTest {
+    
+    private final ReservationSettingsMapper mapper = new ReservationSettingsMapper();
+    
+    @Test
+    public void testNewSettingsKeepDefaultsForMissingFields() {
+        CreateReservationSettingsRequest request = CreateReservationSettingsRequest.builder()
+                .businessId("business-1")
+                .slotDurationMinutes(45)
+                .autoConfirm(false)
+                .build();
+        
+        ReservationSettings settings = mapper.toEntity(request);
+        ReservationSettings defaults = ReservationSettings.builder().build();
+        
+        assertEquals("business-1", settings.getBusinessId());
+        assertEquals(45, settings.getSlotDurationMinutes());
+        assertFalse(settings.getAutoConfirm());
+        assertEquals(defaults.getDefaultStartTime(), settings.getDefaultStartTime());
+        assertEquals(defaults.getDefaultEndTime(), settings.getDefaultEndTime());
+        assertEquals(defaults.getMaxAdvanceBookingDays(), settings.getMaxAdvanceBookingDays());
+        assertEquals(defaults.getMinAdvanceBookingHours(), settings.getMinAdvanceBookingHours());
+        assertEquals(defaults.getAcceptReservations(), settings.getAcceptReservations());
+        assertNull(settings.getId());
+    }
+    
+    @Test
+    public void testUpdateKeepsCurrentValuesAndIdentity() {
+        Instant createdAt = Instant.parse("2030-01-01T09:00:00Z");
+        ReservationSettings settings = ReservationSettings.builder()
+                .id("settings-1")
+                .businessId("business-1")
+                .defaultStartTime(LocalTime.of(10, 0))
+                .defaultEndTime(LocalTime.of(18, 0))
+                .slotDurationMinutes(60)
+                .maxAdvanceBookingDays(14)
+                .minAdvanceBookingHours(4)
+                .acceptReservations(false)
+                .autoConfirm(false)
+                .createdAt(createdAt)
+                .build();
+        CreateReservationSettingsRequest request = CreateReservationSettingsRequest.builder()
+                .businessId("business-2")
+                .defaultEndTime(LocalTime.of(20, 0))
+                .acceptReservations(true)
+                .build();
+        
+        mapper.updateEntity(settings, request);
+        
+        assertEquals(ReservationSettings.builder()
+                .id("settings-1")
+                .businessId("business-1")
+                .defaultStartTime(LocalTime.of(10, 0))
+                .defaultEndTime(LocalTime.of(20, 0))
+                .slotDurationMinutes(60)
+                .maxAdvanceBookingDays(14)
+                .minAdvanceBookingHours(4)
+                .acceptReservations(true)
+                .autoConfirm(false)
+                .createdAt(createdAt)
+                .build(), settings);
+    }
+}
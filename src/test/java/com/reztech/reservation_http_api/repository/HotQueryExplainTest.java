@@ -0,0 +1,194 @@
+package com.reztech.reservation_http_api.repository;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.reztech.reservation_http_api.config.IndexConfig;
+import com.reztech.reservation_http_api.core.index.IndexBootstrap;
+import com.reztech.reservation_http_api.core.index.IndexReport;
+import com.reztech.reservation_http_api.model.enums.ReservationDay;
+import com.reztech.reservation_http_api.repository.business.BusinessAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.business.BusinessRepositoryCustomImpl;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepositoryCustomImpl;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify with explain() that the hot repository queries are served by the indexes of IndexRegistry.
+ * Runs against the Mongo of MONGODB_TEST_URI in a throwaway database, skipped when it is not set.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+public class HotQueryExplainTest {
+    
+    private static final String DATABASE = "reservation_explain_test";
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate");
+    private static final Set<String> INDEX_STAGES = Set.of("IXSCAN", "EXPRESS_IXSCAN", "GEO_NEAR_2DSPHERE");
+    private static final String BUSINESS_ID = "business-1";
+    private static final String USER_ID = "user-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+    
+    private static final List<BsonDocument> queries = new CopyOnWriteArrayList<>();
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static ReservationRepository reservationRepository;
+    private static BusinessAvailabilityRepository businessAvailabilityRepository;
+    private static BusinessRepository businessRepository;
+    
+    @BeforeAll
+    public static void setUp() {
+        CommandListener queryCaptor = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (QUERY_COMMANDS.contains(event.getCommandName())) {
+                    queries.add(event.getCommand().clone());
+                }
+            }
+        };
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(System.getenv("MONGODB_TEST_URI")))
+                .addCommandListener(queryCaptor)
+                .build());
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        mongoTemplate.getDb().drop();
+        
+        IndexConfig indexConfig = new IndexConfig();
+        new IndexBootstrap(mongoTemplate, indexConfig).bootstrap();
+        
+        MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        reservationRepository = factory.getRepository(ReservationRepository.class,
+                RepositoryFragments.just(new ReservationRepositoryCustomImpl(mongoTemplate)));
+        businessAvailabilityRepository = factory.getRepository(BusinessAvailabilityRepository.class);
+        businessRepository = factory.getRepository(BusinessRepository.class,
+                RepositoryFragments.just(new BusinessRepositoryCustomImpl(mongoTemplate)));
+    }
+    
+    @AfterAll
+    public static void tearDown() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+    
+    @BeforeEach
+    public void clearQueries() {
+        queries.clear();
+    }
+    
+    @Test
+    public void testBootstrapIsIdempotent() {
+        IndexConfig indexConfig = new IndexConfig();
+        indexConfig.setMode(IndexConfig.Mode.VERIFY);
+        
+        IndexReport report = new IndexBootstrap(mongoTemplate, indexConfig).bootstrap();
+        
+        assertTrue(report.isComplete(), () -> report.getMissing() + " " + report.getConflicting());
+        assertTrue(report.getCreated().isEmpty());
+        assertTrue(report.getRedundant().isEmpty(), () -> report.getRedundant().toString());
+    }
+    
+    @Test
+    public void testReservationQueriesUseIndex() {
+        reservationRepository.findActiveByBusinessIdAndReservationDate(BUSINESS_ID, DATE);
+        assertIndexScan("findActiveByBusinessIdAndReservationDate");
+        
+        reservationRepository.findActiveByBusinessIdAndReservationDateBetween(BUSINESS_ID, DATE, DATE.plusDays(30));
+        assertIndexScan("findActiveByBusinessIdAndReservationDateBetween");
+        
+        reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(BUSINESS_ID, DATE, USER_ID);
+        assertIndexScan("findActiveByBusinessIdAndReservationDateAndEmployee");
+        
+        reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(
+                List.of(BUSINESS_ID, "business-2"), List.of(DATE, DATE.plusDays(1)), List.of(USER_ID, "user-2"));
+        assertIndexScan("findActiveByBusinessIdsAndReservationDatesAndEmployees");
+        
+        reservationRepository.findByBusinessId(BUSINESS_ID);
+        assertIndexScan("findByBusinessId");
+        
+        reservationRepository.findByUserId(USER_ID);
+        assertIndexScan("findByUserId");
+    }
+    
+    @Test
+    public void testBusinessAndAvailabilityQueriesUseIndex() {
+        businessAvailabilityRepository.findByBusinessIdAndIsActive(BUSINESS_ID, true);
+        assertIndexScan("findByBusinessIdAndIsActive");
+        
+        businessAvailabilityRepository.findByBusinessIdAndDayOfWeekAndIsActive(BUSINESS_ID, ReservationDay.MONDAY, true);
+        assertIndexScan("findByBusinessIdAndDayOfWeekAndIsActive");
+        
+        businessAvailabilityRepository.findByBusinessIdAndDateRangeContaining(BUSINESS_ID, DATE, true);
+        assertIndexScan("findByBusinessIdAndDateRangeContaining");
+        
+        businessRepository.findByOwnerId(USER_ID);
+        assertIndexScan("findByOwnerId");
+        
+        businessRepository.findByEmployeeUserId(USER_ID);
+        assertIndexScan("findByEmployeeUserId");
+        
+        businessRepository.findNear(new GeoJsonPoint(28.97, 41.01), new Distance(5, Metrics.KILOMETERS), 20);
+        assertIndexScan("findNear");
+    }
+    
+    /**
+     * Explain the last query sent to Mongo and assert its winning plan scans an index without sorting in memory
+     */
+    private static void assertIndexScan(String query) {
+        assertFalse(queries.isEmpty(), query + " sent no query");
+        BsonDocument command = queries.get(queries.size() - 1).clone();
+        List.of("$db", "lsid", "$clusterTime", "$readPreference").forEach(command::remove);
+        queries.clear();
+        
+        Document explain = mongoTemplate.getDb().runCommand(new BsonDocument("explain", command)
+                .append("verbosity", new BsonString("queryPlanner")));
+        List<String> stages = new ArrayList<>();
+        collectWinningPlanStages(explain, false, stages);
+        
+        assertFalse(stages.isEmpty(), query + " has no winning plan: " + explain.toJson());
+        assertTrue(stages.stream().anyMatch(INDEX_STAGES::contains), query + " does not use an index: " + stages);
+        assertFalse(stages.contains("COLLSCAN"), query + " scans the collection: " + stages);
+        assertFalse(stages.contains("SORT"), query + " sorts in memory: " + stages);
+    }
+    
+    /**
+     * Collect the stage names of every winning plan of an explain output, aggregations nest them per pipeline stage
+     */
+    private static void collectWinningPlanStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                if (inWinningPlan && "stage".equals(key)) {
+                    stages.add(String.valueOf(value));
+                }
+                if (!"rejectedPlans".equals(key)) {
+                    collectWinningPlanStages(value, inWinningPlan || "winningPlan".equals(key), stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectWinningPlanStages(item, inWinningPlan, stages));
+        }
+    }
+}
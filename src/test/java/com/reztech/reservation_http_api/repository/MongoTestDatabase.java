@@ -0,0 +1,63 @@
+package com.reztech.reservation_http_api.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.reztech.reservation_http_api.config.IndexConfig;
+import com.reztech.reservation_http_api.core.index.IndexBootstrap;
+import lombok.Getter;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+/**
+ * Throwaway database with the indexes of IndexRegistry on the Mongo of MONGODB_TEST_URI, for repository tests
+ * that need a real server. Tests using it are annotated with
+ * {@code @EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")} so they are skipped without one.
+ */
+public class MongoTestDatabase implements AutoCloseable {
+    
+    private final MongoClient mongoClient;
+    
+    @Getter
+    private final MongoTemplate mongoTemplate;
+    
+    private final MongoRepositoryFactory repositoryFactory;
+    
+    /**
+     * Create an empty database with every registered index
+     * @param databaseName Database name, dropped first
+     */
+    public MongoTestDatabase(String databaseName) {
+        mongoClient = MongoClients.create(System.getenv("MONGODB_TEST_URI"));
+        mongoTemplate = new MongoTemplate(mongoClient, databaseName);
+        mongoTemplate.getDb().drop();
+        new IndexBootstrap(mongoTemplate, new IndexConfig()).bootstrap();
+        repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+    }
+    
+    /**
+     * Create a repository on the database
+     * @param repositoryInterface Repository interface
+     * @param fragments Implementations of its custom fragments
+     * @return Repository
+     */
+    public <T> T repository(Class<T> repositoryInterface, Object... fragments) {
+        return repositoryFactory.getRepository(repositoryInterface, RepositoryFragments.just(fragments));
+    }
+    
+    /**
+     * Remove every document, keeping collections and indexes
+     */
+    public void clear() {
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            mongoTemplate.getCollection(collectionName).deleteMany(new Document());
+        }
+    }
+    
+    @Override
+    public void close() {
+        mongoTemplate.getDb().drop();
+        mongoClient.close();
+    }
+}
@@ -0,0 +1,123 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.mongodb.MongoClientSettings;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.DbCallback;
+import org.springframework.data.mongodb.core.ExecutableFindOperation.ExecutableFind;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify the Mongo filters of the live reservation queries: the live filter, the day and the employee
+ * are part of the query sent to Mongo (on the persisted business._id), not applied in memory
+ */
+public class ReservationRepositoryQueryTest {
+    
+    private static final LocalDate DATE = LocalDate.of(2030, 3, 12);
+    
+    private MappingMongoConverter converter;
+    private MongoPersistentEntity<?> entity;
+    private ExecutableFind<?> find;
+    private ReservationRepository reservationRepository;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        entity = mappingContext.getRequiredPersistentEntity(Reservation.class);
+        
+        MongoOperations operations = mock(MongoOperations.class);
+        find = mock(ExecutableFind.class, RETURNS_SELF);
+        when(operations.getConverter()).thenReturn(converter);
+        when(operations.execute(any(DbCallback.class))).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        doReturn(find).when(operations).query(any());
+        
+        reservationRepository = new MongoRepositoryFactory(operations).getRepository(ReservationRepository.class,
+                RepositoryFragments.just(mock(ReservationRepositoryCustom.class)));
+    }
+    
+    @Test
+    public void testDayQueryFiltersLiveReservationsOfTheDay() {
+        reservationRepository.findActiveByBusinessIdAndReservationDate("business-1", DATE);
+        
+        assertEquals(new Document("business._id", "business-1")
+                .append("reservationDate", date(DATE))
+                .append("isCancelled", false), mappedQuery());
+    }
+    
+    @Test
+    public void testRangeQueryBoundsBothEnds() {
+        reservationRepository.findActiveByBusinessIdAndReservationDateBetween("business-1", DATE, DATE.plusDays(6));
+        
+        assertEquals(new Document("business._id", "business-1")
+                .append("reservationDate", new Document("$gte", date(DATE)).append("$lte", date(DATE.plusDays(6))))
+                .append("isCancelled", false), mappedQuery());
+    }
+    
+    @Test
+    public void testEmployeeQueryLoadsSlotFieldsOnly() {
+        reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee("business-1", DATE, "employee-1");
+        
+        Query query = capturedQuery();
+        assertEquals("employee-1", mappedQuery(query).get("assignedEmployeeUserId"));
+        assertEquals(false, mappedQuery(query).get("isCancelled"));
+        assertEquals(Set.of("reservationDate", "timeSlot", "assignedEmployeeUserId", "status", "isCancelled"),
+                query.getFieldsObject().keySet());
+    }
+    
+    @Test
+    public void testBatchQueryMatchesAnyBusinessDateAndEmployee() {
+        reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(
+                List.of("business-1", "business-2"), List.of(DATE, DATE.plusDays(1)), List.of("employee-1"));
+        
+        Query query = capturedQuery();
+        Document mapped = mappedQuery(query);
+        assertEquals(new Document("$in", List.of("business-1", "business-2")), mapped.get("business._id"));
+        assertEquals(new Document("$in", List.of(date(DATE), date(DATE.plusDays(1)))), mapped.get("reservationDate"));
+        assertEquals(false, mapped.get("isCancelled"));
+        assertTrue(query.getFieldsObject().containsKey("business.id"));
+    }
+    
+    private Query capturedQuery() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(find).matching(query.capture());
+        return query.getValue();
+    }
+    
+    private Document mappedQuery() {
+        return mappedQuery(capturedQuery());
+    }
+    
+    private Document mappedQuery(Query query) {
+        return new QueryMapper(converter).getMappedObject(query.getQueryObject(), entity);
+    }
+    
+    private Object date(LocalDate date) {
+        return converter.convertToMongoType(date);
+    }
+}
@@ -0,0 +1,116 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.embedded.UserSnapshot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.repository.MongoTestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify that the live reservation queries only return non-cancelled reservations of the
+ * requested business, days and employees. Runs against the Mongo of MONGODB_TEST_URI, skipped when it is not set.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+public class ReservationRepositoryTest {
+    
+    private static final LocalDate DATE = LocalDate.of(2030, 3, 12);
+    
+    private static MongoTestDatabase database;
+    private static ReservationRepository reservationRepository;
+    
+    @BeforeAll
+    public static void setUp() {
+        database = new MongoTestDatabase("reservation_repository_test");
+        reservationRepository = database.repository(ReservationRepository.class,
+                new ReservationRepositoryCustomImpl(database.getMongoTemplate()));
+    }
+    
+    @AfterAll
+    public static void tearDown() {
+        database.close();
+    }
+    
+    @BeforeEach
+    public void insertReservations() {
+        database.clear();
+        reservationRepository.saveAll(List.of(
+                reservation("live", "business-1", DATE, "employee-1", false),
+                reservation("live-other-employee", "business-1", DATE, "employee-2", false),
+                reservation("cancelled", "business-1", DATE, "employee-1", true),
+                reservation("day-before", "business-1", DATE.minusDays(1), "employee-1", false),
+                reservation("day-after", "business-1", DATE.plusDays(1), "employee-1", false),
+                reservation("other-business", "business-2", DATE, "employee-1", false)));
+    }
+    
+    @Test
+    public void testDayQueryExcludesCancelledOtherDaysAndBusinesses() {
+        List<Reservation> reservations = reservationRepository.findActiveByBusinessIdAndReservationDate("business-1", DATE);
+        
+        assertEquals(List.of("live", "live-other-employee"), ids(reservations));
+    }
+    
+    @Test
+    public void testRangeQueryIncludesBothEndsOnly() {
+        List<Reservation> reservations = reservationRepository
+                .findActiveByBusinessIdAndReservationDateBetween("business-1", DATE, DATE.plusDays(1));
+        
+        assertEquals(List.of("day-after", "live", "live-other-employee"), ids(reservations));
+    }
+    
+    @Test
+    public void testEmployeeQueryExcludesOtherEmployees() {
+        List<Reservation> reservations = reservationRepository
+                .findActiveByBusinessIdAndReservationDateAndEmployee("business-1", DATE, "employee-1");
+        
+        assertEquals(List.of("live"), ids(reservations));
+    }
+    
+    @Test
+    public void testBatchQueryMatchesEveryBusinessDateAndEmployee() {
+        List<Reservation> reservations = reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(
+                List.of("business-1", "business-2"), List.of(DATE), List.of("employee-1"));
+        
+        assertEquals(List.of("live", "other-business"), ids(reservations));
+        // Batch results keep the business ID to be matched by the caller
+        assertTrue(reservations.stream().allMatch(reservation -> reservation.getBusiness().getId() != null));
+    }
+    
+    @Test
+    public void testSlotProjectionDoesNotLoadSnapshots() {
+        Reservation reservation = reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(
+                "business-1", DATE, "employee-1").get(0);
+        
+        assertNull(reservation.getUser());
+        assertNull(reservation.getBusiness());
+        assertEquals(LocalTime.of(10, 0), reservation.getTimeSlot().getStartTime());
+        assertFalse(reservation.getIsCancelled());
+    }
+    
+    private static List<String> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getId).sorted().toList();
+    }
+    
+    private static Reservation reservation(String id, String businessId, LocalDate date, String employeeUserId,
+                                           boolean cancelled) {
+        return Reservation.builder()
+                .id(id)
+                .user(UserSnapshot.builder().id("user-1").name("Ayşe").build())
+                .business(BusinessSnapshot.builder().id(businessId).name("Salon").build())
+                .reservationDate(date)
+                .timeSlot(TimeSlot.of(LocalTime.of(10, 0)))
+                .assignedEmployeeUserId(employeeUserId)
+                .isCancelled(cancelled)
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify the slot claim filters and updates and how duplicate keys of the unique day index are handled.
+ * Overlaps on a real server are covered by ReservationSlotClaimRepositoryTest.
+ */
+public class ReservationSlotClaimRepositoryCustomImplTest {
+    
+    private static final LocalDate DATE = LocalDate.of(2030, 3, 12);
+    private static final int DUPLICATE_KEY = 11000;
+    
+    private MongoTemplate mongoTemplate;
+    private ReservationSlotClaimRepositoryCustomImpl repository;
+    
+    @BeforeEach
+    public void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new ReservationSlotClaimRepositoryCustomImpl(mongoTemplate);
+    }
+    
+    @Test
+    public void testClaimMatchesDayOnlyWithoutOverlapOfOtherReservations() {
+        Query query = ReservationSlotClaimRepositoryCustomImpl.claimQuery("business-1", "employee-1", DATE,
+                interval("reservation-1", 540, 600));
+        
+        assertEquals(new Document("businessId", "business-1")
+                .append("employeeUserId", "employee-1")
+                .append("reservationDate", DATE)
+                .append("intervals", new Document("$not", new Document("$elemMatch",
+                        new Document("reservationId", new Document("$ne", "reservation-1"))
+                                .append("startMinute", new Document("$lt", 600))
+                                .append("endMinute", new Document("$gt", 540))))), query.getQueryObject());
+    }
+    
+    @Test
+    public void testClaimAndReleasePushAndPullTheSameInterval() {
+        ReservationSlotClaim.ClaimedInterval interval = interval("reservation-1", 540, 600);
+        
+        Document claim = ReservationSlotClaimRepositoryCustomImpl.claimUpdate(interval).getUpdateObject();
+        Document release = ReservationSlotClaimRepositoryCustomImpl.releaseUpdate(interval).getUpdateObject();
+        
+        assertEquals(new Document("intervals", interval), claim.get("$push", Document.class));
+        assertEquals(new Document("intervals", interval), release.get("$pull", Document.class));
+        assertEquals(Set.of("updatedAt"), claim.get("$set", Document.class).keySet());
+        assertEquals(Set.of("updatedAt"), release.get("$set", Document.class).keySet());
+    }
+    
+    @Test
+    public void testReleaseUpdatesOnlyTheDayDocument() {
+        ReservationSlotClaim.ClaimedInterval interval = interval("reservation-1", 540, 600);
+        
+        repository.release("business-1", "employee-1", DATE, interval);
+        
+        verify(mongoTemplate).updateFirst(
+                eq(ReservationSlotClaimRepositoryCustomImpl.dayQuery("business-1", "employee-1", DATE)),
+                any(Update.class), eq(ReservationSlotClaim.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class));
+    }
+    
+    @Test
+    public void testFirstDuplicateKeyIsRetriedAsConcurrentFirstInsert() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class)))
+                .thenThrow(new DuplicateKeyException("concurrent insert of the day"))
+                .thenReturn(null);
+        
+        assertTrue(repository.claim("business-1", "employee-1", DATE, interval("reservation-1", 540, 600)));
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class));
+        verify(mongoTemplate, never()).indexOps(any(Class.class));
+        verify(mongoTemplate, never()).indexOps(anyString());
+    }
+    
+    @Test
+    public void testSecondDuplicateKeyIsAnOverlap() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class)))
+                .thenThrow(new DuplicateKeyException("overlap"));
+        
+        assertFalse(repository.claim("business-1", "employee-1", DATE, interval("reservation-1", 540, 600)));
+        verify(mongoTemplate, times(2)).upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class));
+    }
+    
+    @Test
+    public void testClaimAllRetriesRejectedClaimsOneByOne() {
+        List<SlotClaimRequest> claims = List.of(
+                request("reservation-1", "employee-1", 540, 600),
+                request("reservation-2", "employee-2", 540, 600),
+                request("reservation-3", "employee-1", 570, 630));
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotClaim.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(bulkFailure(duplicateKey(1), duplicateKey(2)));
+        // reservation-2 lost a race for the first insert of its day, reservation-3 overlaps reservation-1
+        when(mongoTemplate.upsert(eq(claimQuery(claims.get(2))), any(Update.class), eq(ReservationSlotClaim.class)))
+                .thenThrow(new DuplicateKeyException("overlap"));
+        
+        Set<Integer> rejected = repository.claimAll(claims);
+        
+        assertEquals(Set.of(2), rejected);
+        verify(bulk, times(3)).upsert(any(Query.class), any(Update.class));
+        verify(mongoTemplate).upsert(eq(claimQuery(claims.get(1))), any(Update.class), eq(ReservationSlotClaim.class));
+        verify(mongoTemplate, times(2)).upsert(eq(claimQuery(claims.get(2))), any(Update.class),
+                eq(ReservationSlotClaim.class));
+        verify(mongoTemplate, never()).upsert(eq(claimQuery(claims.get(0))), any(Update.class),
+                eq(ReservationSlotClaim.class));
+    }
+    
+    @Test
+    public void testClaimAllRethrowsOtherWriteErrors() {
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ReservationSlotClaim.class)).thenReturn(bulk);
+        when(bulk.execute()).thenThrow(bulkFailure(duplicateKey(0),
+                new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1)));
+        
+        assertThrows(BulkOperationException.class, () -> repository.claimAll(List.of(
+                request("reservation-1", "employee-1", 540, 600),
+                request("reservation-2", "employee-1", 600, 660))));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), eq(ReservationSlotClaim.class));
+    }
+    
+    private static Query claimQuery(SlotClaimRequest claim) {
+        return ReservationSlotClaimRepositoryCustomImpl.claimQuery(claim.getBusinessId(), claim.getEmployeeUserId(),
+                claim.getReservationDate(), claim.getInterval());
+    }
+    
+    private static BulkOperationException bulkFailure(BulkWriteError... errors) {
+        return new BulkOperationException("Bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(errors), null, new ServerAddress(), Set.of()));
+    }
+    
+    private static BulkWriteError duplicateKey(int index) {
+        return new BulkWriteError(DUPLICATE_KEY, "E11000 duplicate key error", new BsonDocument(), index);
+    }
+    
+    private static SlotClaimRequest request(String reservationId, String employeeUserId, int startMinute, int endMinute) {
+        return SlotClaimRequest.builder()
+                .businessId("business-1")
+                .employeeUserId(employeeUserId)
+                .reservationDate(DATE)
+                .interval(interval(reservationId, startMinute, endMinute))
+                .build();
+    }
+    
+    private static ReservationSlotClaim.ClaimedInterval interval(String reservationId, int startMinute, int endMinute) {
+        return new ReservationSlotClaim.ClaimedInterval(reservationId, startMinute, endMinute);
+    }
+}
@@ -0,0 +1,150 @@
+package com.reztech.reservation_http_api.repository.reservation;
+
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSlotClaim;
+import com.reztech.reservation_http_api.repository.MongoTestDatabase;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class to verify atomic slot claims on a real server: concurrent claims of a new day, moving a reservation,
+ * releasing and partially rejected bulk claims. Runs against the Mongo of MONGODB_TEST_URI, skipped when it is not set.
+ */
+@EnabledIfEnvironmentVariable(named = "MONGODB_TEST_URI", matches = ".+")
+public class ReservationSlotClaimRepositoryTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 3, 12);
+    private static final int THREADS = 16;
+    
+    private static MongoTestDatabase database;
+    private static ReservationSlotClaimRepository slotClaimRepository;
+    
+    @BeforeAll
+    public static void setUp() {
+        database = new MongoTestDatabase("reservation_slot_claim_repository_test");
+        slotClaimRepository = database.repository(ReservationSlotClaimRepository.class,
+                new ReservationSlotClaimRepositoryCustomImpl(database.getMongoTemplate()));
+    }
+    
+    @AfterAll
+    public static void tearDown() {
+        database.close();
+    }
+    
+    @BeforeEach
+    public void clear() {
+        database.clear();
+    }
+    
+    @Test
+    public void testOnlyOneOfConcurrentOverlappingClaimsWins() throws Exception {
+        // Every claim overlaps every other one and the day document does not exist yet
+        List<Boolean> results = claimConcurrently(i -> interval("reservation-" + i, 540 + i, 600 + i));
+        
+        assertEquals(1, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(1, claimsOfDay().getIntervals().size());
+    }
+    
+    @Test
+    public void testConcurrentDisjointClaimsOfNewDayAllWin() throws Exception {
+        // Losing the race for the first insert of the day is retried instead of reported as an overlap
+        List<Boolean> results = claimConcurrently(i -> interval("reservation-" + i, i * 30, i * 30 + 30));
+        
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        assertEquals(THREADS, claimsOfDay().getIntervals().size());
+        assertEquals(1, slotClaimRepository.count());
+    }
+    
+    @Test
+    public void testMovedReservationIgnoresItsOwnInterval() {
+        assertTrue(claim(interval("reservation-1", 540, 600)));
+        
+        assertTrue(claim(interval("reservation-1", 570, 630)));
+        assertFalse(claim(interval("reservation-2", 600, 660)));
+        
+        slotClaimRepository.release(BUSINESS_ID, "employee-1", DATE, interval("reservation-1", 540, 600));
+        assertEquals(List.of(interval("reservation-1", 570, 630)), claimsOfDay().getIntervals());
+    }
+    
+    @Test
+    public void testReleasedIntervalCanBeClaimedByAnotherReservation() {
+        assertTrue(claim(interval("reservation-1", 540, 600)));
+        assertFalse(claim(interval("reservation-2", 540, 600)));
+        
+        slotClaimRepository.release(BUSINESS_ID, "employee-1", DATE, interval("reservation-1", 540, 600));
+        
+        assertTrue(claim(interval("reservation-2", 540, 600)));
+        assertEquals(List.of(interval("reservation-2", 540, 600)), claimsOfDay().getIntervals());
+    }
+    
+    @Test
+    public void testClaimAllRejectsOnlyOverlappingClaims() {
+        assertTrue(claim(interval("reservation-1", 540, 600)));
+        
+        Set<Integer> rejected = slotClaimRepository.claimAll(List.of(
+                request("employee-1", interval("reservation-2", 570, 630)),
+                request("employee-2", interval("reservation-3", 570, 630)),
+                request("employee-1", interval("reservation-4", 600, 660)),
+                request("employee-3", interval("reservation-5", 540, 600))));
+        
+        assertEquals(Set.of(0), rejected);
+        assertEquals(List.of(interval("reservation-1", 540, 600), interval("reservation-4", 600, 660)),
+                claimsOfDay().getIntervals());
+        assertEquals(3, slotClaimRepository.count());
+    }
+    
+    private List<Boolean> claimConcurrently(IntFunction<ReservationSlotClaim.ClaimedInterval> intervals)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                ReservationSlotClaim.ClaimedInterval interval = intervals.apply(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return claim(interval);
+                }));
+            }
+            start.countDown();
+            
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+    
+    private static boolean claim(ReservationSlotClaim.ClaimedInterval interval) {
+        return slotClaimRepository.claim(BUSINESS_ID, "employee-1", DATE, interval);
+    }
+    
+    private static ReservationSlotClaim claimsOfDay() {
+        return database.getMongoTemplate().findOne(
+                ReservationSlotClaimRepositoryCustomImpl.dayQuery(BUSINESS_ID, "employee-1", DATE),
+                ReservationSlotClaim.class);
+    }
+    
+    private static SlotClaimRequest request(String employeeUserId, ReservationSlotClaim.ClaimedInterval interval) {
+        return new SlotClaimRequest(BUSINESS_ID, employeeUserId, DATE, interval);
+    }
+    
+    private static ReservationSlotClaim.ClaimedInterval interval(String reservationId, int startMinute, int endMinute) {
+        return new ReservationSlotClaim.ClaimedInterval(reservationId, startMinute, endMinute);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessVersion;
+import com.reztech.reservation_http_api.repository.business.BusinessVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify reading and bumping availability versions of businesses
+ */
+public class BusinessVersionServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    
+    private BusinessVersionRepository businessVersionRepository;
+    private Cache cache;
+    private BusinessVersionService service;
+    
+    @BeforeEach
+    public void setUp() {
+        businessVersionRepository = mock(BusinessVersionRepository.class);
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheName.BUSINESS_VERSIONS);
+        cache = cacheManager.getCache(CacheName.BUSINESS_VERSIONS);
+        service = new BusinessVersionService(businessVersionRepository, cacheManager);
+    }
+    
+    @Test
+    public void testVersionIncludesChangesOfAllBusinesses() {
+        when(businessVersionRepository.findAllById(List.of(BUSINESS_ID, BusinessVersion.ALL_BUSINESSES)))
+                .thenReturn(List.of(version(BUSINESS_ID, 3), version(BusinessVersion.ALL_BUSINESSES, 2)));
+        
+        assertEquals(5, service.getVersion(BUSINESS_ID));
+    }
+    
+    @Test
+    public void testChangesBumpTheirBusinessOrAllBusinesses() {
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofDays(BUSINESS_ID, List.of(LocalDate.now())));
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofAllBusinesses());
+        
+        verify(businessVersionRepository).increment(BUSINESS_ID);
+        verify(businessVersionRepository).increment(BusinessVersion.ALL_BUSINESSES);
+    }
+    
+    @Test
+    public void testChangesEvictCachedVersions() {
+        cache.put(BUSINESS_ID, 5L);
+        cache.put("business-2", 7L);
+        
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofBusiness(BUSINESS_ID));
+        
+        assertNull(cache.get(BUSINESS_ID));
+        assertNotNull(cache.get("business-2"));
+        
+        // A change of every business bumps the version all businesses share
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofAllBusinesses());
+        
+        assertNull(cache.get("business-2"));
+    }
+    
+    @Test
+    public void testFailedBumpDoesNotFailTheChange() {
+        doThrow(new IllegalStateException("mongo down")).when(businessVersionRepository).increment(BUSINESS_ID);
+        
+        assertDoesNotThrow(() -> service.onAvailabilityChanged(AvailabilityChangedEvent.ofBusiness(BUSINESS_ID)));
+    }
+    
+    private BusinessVersion version(String id, long version) {
+        return BusinessVersion.builder().id(id).version(version).build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.reztech.reservation_http_api.service.business;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.NearbyBusinessResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.service.reservation.AvailabilityProjectionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify nearby search order, availability filtering and early termination
+ */
+public class NearbyBusinessServiceTest {
+    
+    private static final double LATITUDE = 41.0082;
+    private static final double LONGITUDE = 28.9784;
+    private static final LocalDate DATE = LocalDate.now().plusDays(1);
+    
+    private BusinessRepository businessRepository;
+    private AvailabilityProjectionService availabilityProjectionService;
+    private ConcurrentLookups concurrentLookups;
+    private NearbyBusinessService service;
+    
+    @BeforeEach
+    public void setUp() {
+        businessRepository = mock(BusinessRepository.class);
+        availabilityProjectionService = mock(AvailabilityProjectionService.class);
+        concurrentLookups = new ConcurrentLookups();
+        
+        AppConfig appConfig = new AppConfig();
+        appConfig.setNearbyParallelism(2);
+        service = new NearbyBusinessService(businessRepository, availabilityProjectionService, concurrentLookups, appConfig);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testWithoutDateBusinessesAreReturnedNearestFirst() {
+        when(businessRepository.findNear(any(), any(), eq(2))).thenReturn(candidates("b1", "b2"));
+        
+        List<NearbyBusinessResponse> businesses = service.findNearby(LATITUDE, LONGITUDE, 5, 2, null, null, null);
+        
+        assertEquals(List.of("b1", "b2"), businesses.stream().map(b -> b.getBusiness().getId()).toList());
+        assertEquals(1.5, businesses.get(1).getDistanceKm(), 0.0001);
+        assertNull(businesses.get(0).getFirstAvailableSlot());
+        verifyNoInteractions(availabilityProjectionService);
+    }
+    
+    @Test
+    public void testCheckingStopsOnceEnoughBusinessesAreFree() {
+        when(businessRepository.findNear(any(), any(), anyInt())).thenReturn(candidates("b1", "b2", "b3", "b4", "b5"));
+        when(availabilityProjectionService.getAvailableSlots(anyString(), eq(DATE)))
+                .thenAnswer(invocation -> day(LocalTime.of(10, 0)));
+        when(availabilityProjectionService.getAvailableSlots("b1", DATE)).thenReturn(day());
+        
+        List<NearbyBusinessResponse> businesses = service.findNearby(LATITUDE, LONGITUDE, 5, 1, DATE, null, null);
+        
+        assertEquals(List.of("b2"), businesses.stream().map(b -> b.getBusiness().getId()).toList());
+        verify(availabilityProjectionService, never()).getAvailableSlots("b3", DATE);
+        verify(availabilityProjectionService, never()).getAvailableSlots("b5", DATE);
+    }
+    
+    @Test
+    public void testOnlySlotsInsideTheWindowCountAndBrokenBusinessesAreSkipped() {
+        when(businessRepository.findNear(any(), any(), anyInt())).thenReturn(candidates("b1", "b2", "b3"));
+        when(availabilityProjectionService.getAvailableSlots("b1", DATE))
+                .thenThrow(new ResourceNotFoundException("BUSINESS_NOT_FOUND", "deleted"));
+        when(availabilityProjectionService.getAvailableSlots("b2", DATE))
+                .thenReturn(day(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(17, 30)));
+        when(availabilityProjectionService.getAvailableSlots("b3", DATE)).thenReturn(day(LocalTime.of(9, 0)));
+        
+        List<NearbyBusinessResponse> businesses = service.findNearby(LATITUDE, LONGITUDE, 5, 10, DATE,
+                LocalTime.of(17, 0), LocalTime.of(20, 0));
+        
+        assertEquals(1, businesses.size());
+        assertEquals("b2", businesses.get(0).getBusiness().getId());
+        assertEquals(LocalTime.of(17, 30), businesses.get(0).getFirstAvailableSlot().getStartTime());
+    }
+    
+    private GeoResults<Business> candidates(String... ids) {
+        List<GeoResult<Business>> results = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            results.add(new GeoResult<>(Business.builder().id(ids[i]).build(),
+                    new Distance(0.5 + i, Metrics.KILOMETERS)));
+        }
+        return new GeoResults<>(results);
+    }
+    
+    private AvailableSlotResponse day(LocalTime... availableStartTimes) {
+        List<AvailableSlotResponse.SlotInfo> slots = new ArrayList<>();
+        for (LocalTime startTime : availableStartTimes) {
+            slots.add(AvailableSlotResponse.SlotInfo.builder()
+                    .timeSlot(TimeSlot.of(startTime))
+                    .status(SlotStatus.AVAILABLE)
+                    .build());
+        }
+        return AvailableSlotResponse.builder().date(DATE).availableSlots(slots).build();
+    }
+}
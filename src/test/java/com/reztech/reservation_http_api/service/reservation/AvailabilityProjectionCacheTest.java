@@ -0,0 +1,176 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.ReservationSettingsMapper;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.BusinessAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.business.EmployeeAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reservation.AvailabilityDayRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSettingsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify that the availability projection is materialised from Mongo, not from caches of this instance
+ * that missed a change made on another instance
+ */
+public class AvailabilityProjectionCacheTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    private static final TimeSlot NINE = TimeSlot.of(LocalTime.of(9, 0));
+    
+    private AnnotationConfigApplicationContext context;
+    private BusinessAvailabilityRepository businessAvailabilityRepository;
+    private ReservationSettingsRepository reservationSettingsRepository;
+    private AvailabilityDayRepository availabilityDayRepository;
+    
+    @BeforeEach
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        businessAvailabilityRepository = context.getBean(BusinessAvailabilityRepository.class);
+        reservationSettingsRepository = context.getBean(ReservationSettingsRepository.class);
+        availabilityDayRepository = context.getBean(AvailabilityDayRepository.class);
+        
+        Business business = Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(BusinessEmployee.builder().userId("employee-1").active(true).build()))
+                .build();
+        when(context.getBean(BusinessRepository.class).findById(BUSINESS_ID)).thenReturn(Optional.of(business));
+        when(reservationSettingsRepository.findByBusinessId(BUSINESS_ID))
+                .thenReturn(Optional.of(ReservationSettings.builder().businessId(BUSINESS_ID).build()));
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Test
+    public void testStaleCacheDoesNotLeakIntoBumpedGeneration() {
+        AvailabilityService availabilityService = context.getBean(AvailabilityService.class);
+        assertTrue(hasSlot(availabilityService.getAvailableSlots(BUSINESS_ID, TOMORROW).getAvailableSlots(), NINE));
+        
+        // Another instance blocks 09:00, bumps the day's generation and evicts only its own caches
+        when(businessAvailabilityRepository.findByBusinessIdAndIsActive(BUSINESS_ID, true)).thenReturn(List.of(
+                BusinessAvailability.builder()
+                        .businessId(BUSINESS_ID)
+                        .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                        .specificDate(TOMORROW)
+                        .blockedSlots(List.of(NINE))
+                        .status(SlotStatus.BLOCKED)
+                        .blockReason("Staff meeting")
+                        .build()));
+        AvailabilityDay staleDay = AvailabilityDay.builder()
+                .id(AvailabilityDay.idOf(BUSINESS_ID, TOMORROW))
+                .businessId(BUSINESS_ID)
+                .date(TOMORROW)
+                .generation(2)
+                .build();
+        when(availabilityDayRepository.findByBusinessIdAndDateBetween(BUSINESS_ID, TOMORROW, TOMORROW))
+                .thenReturn(List.of(staleDay));
+        
+        // The cached path of this instance still misses the change
+        assertTrue(hasSlot(availabilityService.getAvailableSlots(BUSINESS_ID, TOMORROW).getAvailableSlots(), NINE));
+        
+        AvailableSlotResponse projected = context.getBean(AvailabilityProjectionService.class)
+                .getAvailableSlots(BUSINESS_ID, TOMORROW);
+        
+        assertTrue(hasSlot(projected.getBlockedSlots(), NINE));
+        assertFalse(hasSlot(projected.getAvailableSlots(), NINE));
+        
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AvailabilityDay>> stored = ArgumentCaptor.forClass(List.class);
+        verify(availabilityDayRepository).storeIfCurrent(stored.capture());
+        AvailabilityDay storedDay = stored.getValue().get(0);
+        assertEquals(2, storedDay.getGeneration());
+        assertTrue(storedDay.getSlots().stream()
+                .anyMatch(slot -> slot.getTimeSlot().equals(NINE) && slot.getStatus() == SlotStatus.BLOCKED));
+        
+        // Materialising did not read or refresh the caches
+        verify(businessAvailabilityRepository, times(2)).findByBusinessIdAndIsActive(BUSINESS_ID, true);
+        assertTrue(hasSlot(availabilityService.getAvailableSlots(BUSINESS_ID, TOMORROW).getAvailableSlots(), NINE));
+    }
+    
+    private static boolean hasSlot(List<AvailableSlotResponse.SlotInfo> slots, TimeSlot timeSlot) {
+        return slots.stream().anyMatch(slot -> slot.getTimeSlot().equals(timeSlot));
+    }
+    
+    @Configuration
+    @EnableCaching
+    @Import({AvailabilityProjectionService.class, AvailabilityService.class, AvailabilityRuleIndexService.class,
+            EmployeeScheduleService.class, ReservationSettingsService.class, AvailabilityCalculator.class,
+            ConcurrentLookups.class, ReservationSettingsMapper.class, AppConfig.class})
+    static class CachingConfig {
+        
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+        
+        @Bean
+        public BusinessRepository businessRepository() {
+            return mock(BusinessRepository.class);
+        }
+        
+        @Bean
+        public ReservationRepository reservationRepository() {
+            return mock(ReservationRepository.class);
+        }
+        
+        @Bean
+        public ReservationSettingsRepository reservationSettingsRepository() {
+            return mock(ReservationSettingsRepository.class);
+        }
+        
+        @Bean
+        public BusinessAvailabilityRepository businessAvailabilityRepository() {
+            return mock(BusinessAvailabilityRepository.class);
+        }
+        
+        @Bean
+        public EmployeeAvailabilityRepository employeeAvailabilityRepository() {
+            return mock(EmployeeAvailabilityRepository.class);
+        }
+        
+        @Bean
+        public AvailabilityDayRepository availabilityDayRepository() {
+            return mock(AvailabilityDayRepository.class);
+        }
+        
+        @Bean
+        public KeysetPaginator keysetPaginator() {
+            return mock(KeysetPaginator.class);
+        }
+    }
+}
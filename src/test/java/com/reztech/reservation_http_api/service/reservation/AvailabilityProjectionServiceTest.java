@@ -0,0 +1,121 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.AvailabilityDay;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.reservation.AvailabilityDayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify serving, filling and invalidating the materialised availability projection
+ */
+public class AvailabilityProjectionServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate TOMORROW = LocalDate.now().plusDays(1);
+    
+    private AvailabilityDayRepository availabilityDayRepository;
+    private AvailabilityService availabilityService;
+    private AvailabilityProjectionService service;
+    
+    @BeforeEach
+    public void setUp() {
+        availabilityDayRepository = mock(AvailabilityDayRepository.class);
+        availabilityService = mock(AvailabilityService.class);
+        service = new AvailabilityProjectionService(availabilityDayRepository, availabilityService,
+                new AvailabilityCalculator(), new AppConfig());
+    }
+    
+    @Test
+    public void testFreshDaysAreServedWithoutCalculation() {
+        when(availabilityDayRepository.findByBusinessIdAndDateBetween(BUSINESS_ID, TOMORROW, TOMORROW.plusDays(1)))
+                .thenReturn(List.of(storedDay(TOMORROW, 1), storedDay(TOMORROW.plusDays(1), 4)));
+        
+        List<AvailableSlotResponse> days = service.getAvailableSlotsForRange(BUSINESS_ID, TOMORROW, TOMORROW.plusDays(1));
+        
+        assertEquals(2, days.size());
+        assertEquals(1, days.get(0).getAvailableSlots().size());
+        assertEquals(1, days.get(1).getBookedSlots().size());
+        verify(availabilityService).validateRange(TOMORROW, TOMORROW.plusDays(1));
+        verifyNoMoreInteractions(availabilityService);
+        verify(availabilityDayRepository, never()).storeIfCurrent(anyList());
+    }
+    
+    @Test
+    public void testStaleDaysAreCalculatedAndStoredForTheirGeneration() {
+        AvailabilityDay stale = storedDay(TOMORROW.plusDays(1), 3);
+        stale.setSlots(null);
+        when(availabilityDayRepository.findByBusinessIdAndDateBetween(BUSINESS_ID, TOMORROW, TOMORROW.plusDays(2)))
+                .thenReturn(List.of(storedDay(TOMORROW, 1), stale));
+        when(availabilityService.getSlotsIgnoringExpiry(BUSINESS_ID, TOMORROW.plusDays(1), TOMORROW.plusDays(2)))
+                .thenReturn(List.of(calculatedDay(TOMORROW.plusDays(1)), calculatedDay(TOMORROW.plusDays(2))));
+        
+        List<AvailableSlotResponse> days = service.getAvailableSlotsForRange(BUSINESS_ID, TOMORROW, TOMORROW.plusDays(2));
+        
+        assertEquals(3, days.size());
+        verify(availabilityDayRepository).storeIfCurrent(argThat(stored -> stored.size() == 2
+                && stored.get(0).getGeneration() == 3
+                && stored.get(1).getGeneration() == 0));
+    }
+    
+    @Test
+    public void testChangesMarkDaysOfTheWindowStale() {
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofDays(BUSINESS_ID,
+                List.of(TOMORROW, LocalDate.now().minusDays(1), LocalDate.now().plusYears(1))));
+        verify(availabilityDayRepository).markStale(BUSINESS_ID, List.of(TOMORROW));
+        
+        service.onAvailabilityChanged(AvailabilityChangedEvent.ofBusiness(BUSINESS_ID));
+        verify(availabilityDayRepository).markStale(eq(BUSINESS_ID),
+                argThat((Collection<LocalDate> dates) -> dates.size() == new AppConfig().getAvailabilityProjectionDays() + 1));
+        
+        // A failing stale mark fails the write that caused it instead of leaving the days served as current
+        doThrow(new IllegalStateException("Mongo unavailable")).when(availabilityDayRepository).markAllStale();
+        assertThrows(IllegalStateException.class,
+                () -> service.onAvailabilityChanged(AvailabilityChangedEvent.ofAllBusinesses()));
+        verify(availabilityDayRepository, never()).storeIfCurrent(any());
+    }
+    
+    private static AvailabilityDay storedDay(LocalDate date, long generation) {
+        return AvailabilityDay.builder()
+                .id(AvailabilityDay.idOf(BUSINESS_ID, date))
+                .businessId(BUSINESS_ID)
+                .date(date)
+                .generation(generation)
+                .slots(List.of(slot(generation % 2 == 1 ? SlotStatus.AVAILABLE : SlotStatus.BOOKED)))
+                .build();
+    }
+    
+    private static AvailableSlotResponse calculatedDay(LocalDate date) {
+        return AvailableSlotResponse.builder()
+                .businessId(BUSINESS_ID)
+                .date(date)
+                .slots(List.of(slot(SlotStatus.AVAILABLE)))
+                .build();
+    }
+    
+    private static AvailableSlotResponse.SlotInfo slot(SlotStatus status) {
+        return AvailableSlotResponse.SlotInfo.builder()
+                .timeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .status(status)
+                .isBookable(status == SlotStatus.AVAILABLE)
+                .availableEmployeeUserIds(List.of())
+                .reservedEmployeeUserIds(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify availability ranges are bounded before anything is loaded
+ */
+public class AvailabilityServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate START = LocalDate.of(2030, 1, 7);
+    
+    private BusinessRepository businessRepository;
+    private ReservationRepository reservationRepository;
+    private ConcurrentLookups concurrentLookups;
+    private AppConfig appConfig;
+    private AvailabilityService service;
+    
+    @BeforeEach
+    public void setUp() {
+        businessRepository = mock(BusinessRepository.class);
+        reservationRepository = mock(ReservationRepository.class);
+        concurrentLookups = new ConcurrentLookups();
+        appConfig = new AppConfig();
+        
+        service = new AvailabilityService(businessRepository, reservationRepository,
+                mock(ReservationSettingsService.class), mock(AvailabilityRuleIndexService.class),
+                mock(EmployeeScheduleService.class), new AvailabilityCalculator(), concurrentLookups, appConfig);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testRangeLongerThanTheMaximumIsRejected() {
+        appConfig.setMaxAvailabilityRangeDays(31);
+        
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> service.getAvailableSlotsForRange(BUSINESS_ID, START, START.plusYears(5)));
+        
+        assertEquals(ErrorCode.INVALID_DATE_RANGE, exception.getErrorCode());
+        assertTrue(exception.getMessage().contains("31"));
+        assertThrows(ValidationException.class,
+                () -> service.getAvailableSlotsForRange(BUSINESS_ID, START, START.plusDays(31)));
+        verify(businessRepository, never()).findById(anyString());
+        verify(reservationRepository, never()).findActiveByBusinessIdAndReservationDateBetween(anyString(), any(), any());
+        
+        // A range of exactly the maximum is still served
+        assertDoesNotThrow(() -> service.validateRange(START, START.plusDays(30)));
+    }
+}
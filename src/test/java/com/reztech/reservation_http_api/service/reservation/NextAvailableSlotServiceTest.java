@@ -0,0 +1,118 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.model.api.response.AvailableSlotResponse;
+import com.reztech.reservation_http_api.model.api.response.NextAvailableSlotResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.model.enums.SlotStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify the earliest available slot search over growing chunks of days
+ */
+public class NextAvailableSlotServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate TODAY = LocalDate.now();
+    
+    private AvailabilityProjectionService availabilityProjectionService;
+    private NextAvailableSlotService service;
+    
+    /**
+     * Available slots (start time to available employees) per date, other dates have none
+     */
+    private Map<LocalDate, Map<LocalTime, List<String>>> availability = Map.of();
+    
+    @BeforeEach
+    public void setUp() {
+        BusinessRepository businessRepository = mock(BusinessRepository.class);
+        when(businessRepository.existsById(BUSINESS_ID)).thenReturn(true);
+        
+        ReservationSettingsService reservationSettingsService = mock(ReservationSettingsService.class);
+        when(reservationSettingsService.getOrCreateDefaultSettings(BUSINESS_ID))
+                .thenReturn(ReservationSettings.builder().businessId(BUSINESS_ID).maxAdvanceBookingDays(30).build());
+        
+        availabilityProjectionService = mock(AvailabilityProjectionService.class);
+        when(availabilityProjectionService.getAvailableSlotsForRange(eq(BUSINESS_ID), any(), any()))
+                .thenAnswer(invocation -> range(invocation.getArgument(1), invocation.getArgument(2)));
+        
+        service = new NextAvailableSlotService(businessRepository, reservationSettingsService, availabilityProjectionService,
+                new AppConfig());
+    }
+    
+    @Test
+    public void testSearchReadsGrowingChunksAndStopsAtFirstFreeSlot() {
+        LocalDate freeDate = TODAY.plusDays(10);
+        availability = Map.of(freeDate, Map.of(LocalTime.of(14, 0), List.of("e1"), LocalTime.of(9, 0), List.of("e2")));
+        
+        NextAvailableSlotResponse slot = service.findNextAvailableSlot(BUSINESS_ID, null, null);
+        
+        assertEquals(freeDate, slot.getDate());
+        assertEquals(LocalTime.of(9, 0), slot.getTimeSlot().getStartTime());
+        assertEquals(List.of("e2"), slot.getAvailableEmployeeUserIds());
+        verify(availabilityProjectionService).getAvailableSlotsForRange(BUSINESS_ID, TODAY, TODAY.plusDays(6));
+        verify(availabilityProjectionService).getAvailableSlotsForRange(BUSINESS_ID, TODAY.plusDays(7), TODAY.plusDays(20));
+        verifyNoMoreInteractions(availabilityProjectionService);
+    }
+    
+    @Test
+    public void testDurationNeedsConsecutiveSlotsOfOneEmployee() {
+        LocalDate date = TODAY.plusDays(1);
+        availability = Map.of(date, Map.of(
+                LocalTime.of(9, 0), List.of("e1"),
+                LocalTime.of(9, 30), List.of("e2"),
+                LocalTime.of(11, 0), List.of("e1", "e2"),
+                LocalTime.of(11, 30), List.of("e2")));
+        
+        NextAvailableSlotResponse anyEmployee = service.findNextAvailableSlot(BUSINESS_ID, null, 60);
+        
+        assertEquals(TimeSlot.of(LocalTime.of(11, 0), LocalTime.of(12, 0)), anyEmployee.getTimeSlot());
+        assertEquals(List.of("e2"), anyEmployee.getAvailableEmployeeUserIds());
+        
+        NextAvailableSlotResponse employee = service.findNextAvailableSlot(BUSINESS_ID, "e1", 30);
+        
+        assertEquals(TimeSlot.of(LocalTime.of(9, 0)), employee.getTimeSlot());
+    }
+    
+    @Test
+    public void testSearchEndsAtMaxAdvanceBookingDays() {
+        availability = Map.of(TODAY.plusDays(31), Map.of(LocalTime.of(9, 0), List.of("e1")));
+        
+        assertThrows(ResourceNotFoundException.class, () -> service.findNextAvailableSlot(BUSINESS_ID, null, null));
+        verify(availabilityProjectionService).getAvailableSlotsForRange(BUSINESS_ID, TODAY.plusDays(21), TODAY.plusDays(30));
+    }
+    
+    private List<AvailableSlotResponse> range(LocalDate startDate, LocalDate endDate) {
+        return startDate.datesUntil(endDate.plusDays(1))
+                .map(date -> {
+                    List<AvailableSlotResponse.SlotInfo> slots = new ArrayList<>();
+                    availability.getOrDefault(date, Map.of()).forEach((startTime, employees) -> slots.add(
+                            AvailableSlotResponse.SlotInfo.builder()
+                                    .timeSlot(TimeSlot.of(startTime))
+                                    .status(SlotStatus.AVAILABLE)
+                                    .availableEmployeeUserIds(employees)
+                                    .build()));
+                    return AvailableSlotResponse.builder()
+                            .businessId(BUSINESS_ID)
+                            .date(date)
+                            .availableSlots(slots)
+                            .build();
+                })
+                .toList();
+    }
+}
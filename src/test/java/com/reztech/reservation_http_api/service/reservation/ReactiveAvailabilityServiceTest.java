@@ -0,0 +1,129 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.availability.AvailabilityCalculator;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveEmployeeAvailabilityRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationSettingsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify reactive availability loading, on-demand range calculation and cache reuse
+ */
+public class ReactiveAvailabilityServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate START = LocalDate.of(2030, 1, 7);
+    
+    private ReactiveBusinessRepository businessRepository;
+    private ReactiveReservationSettingsRepository settingsRepository;
+    private ReactiveAvailabilityService service;
+    
+    @BeforeEach
+    public void setUp() {
+        businessRepository = mock(ReactiveBusinessRepository.class);
+        ReactiveReservationRepository reservationRepository = mock(ReactiveReservationRepository.class);
+        settingsRepository = mock(ReactiveReservationSettingsRepository.class);
+        ReactiveBusinessAvailabilityRepository availabilityRepository = mock(ReactiveBusinessAvailabilityRepository.class);
+        
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateBetween(anyString(), any(), any()))
+                .thenReturn(Flux.empty());
+        ReactiveEmployeeAvailabilityRepository employeeAvailabilityRepository = mock(ReactiveEmployeeAvailabilityRepository.class);
+        
+        when(availabilityRepository.findByBusinessIdAndIsActive(anyString(), eq(true))).thenReturn(Flux.empty());
+        when(employeeAvailabilityRepository.findByBusinessIdAndIsActive(anyString(), eq(true))).thenReturn(Flux.empty());
+        when(settingsRepository.findByBusinessId(BUSINESS_ID)).thenReturn(Mono.just(ReservationSettings.builder()
+                .businessId(BUSINESS_ID)
+                .defaultStartTime(LocalTime.of(9, 0))
+                .defaultEndTime(LocalTime.of(12, 0))
+                .slotDurationMinutes(60)
+                .build()));
+        
+        service = new ReactiveAvailabilityService(businessRepository, reservationRepository, settingsRepository,
+                availabilityRepository, employeeAvailabilityRepository, new AvailabilityCalculator(),
+                new ConcurrentMapCacheManager(CacheName.RESERVATION_SETTINGS, CacheName.AVAILABILITY_RULES,
+                        CacheName.EMPLOYEE_SCHEDULES), new AppConfig());
+    }
+    
+    @Test
+    public void testRangeIsCalculatedOnDemand() {
+        when(businessRepository.findById(BUSINESS_ID)).thenReturn(Mono.just(business()));
+        
+        // Request one day at a time, each day is only calculated when requested
+        StepVerifier.create(service.getAvailableSlotsForRange(BUSINESS_ID, START, START.plusDays(6)), 1)
+                .assertNext(day -> {
+                    assertEquals(START, day.getDate());
+                    assertEquals(3, day.getAvailableSlots().size());
+                })
+                .thenRequest(6)
+                .expectNextCount(6)
+                .verifyComplete();
+    }
+    
+    @Test
+    public void testMissingBusinessFailsWithNotFound() {
+        when(businessRepository.findById(BUSINESS_ID)).thenReturn(Mono.empty());
+        
+        StepVerifier.create(service.getAvailableSlots(BUSINESS_ID, START))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        
+        // Settings of an unknown business must not be created
+        verify(settingsRepository, never()).findByBusinessId(anyString());
+    }
+    
+    @Test
+    public void testTooLongRangeIsRejectedBeforeLoading() {
+        int maxDays = new AppConfig().getMaxAvailabilityRangeDays();
+        
+        StepVerifier.create(service.getAvailableSlotsForRange(BUSINESS_ID, START, START.plusDays(maxDays)))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ValidationException.class, error);
+                    assertEquals(ErrorCode.INVALID_DATE_RANGE, ((ValidationException) error).getErrorCode());
+                })
+                .verify();
+        
+        verify(businessRepository, never()).findById(anyString());
+    }
+    
+    @Test
+    public void testSettingsAreReadThroughCache() {
+        when(businessRepository.findById(BUSINESS_ID)).thenReturn(Mono.just(business()));
+        
+        StepVerifier.create(service.getAvailableSlots(BUSINESS_ID, START)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.getAvailableSlots(BUSINESS_ID, START)).expectNextCount(1).verifyComplete();
+        
+        verify(settingsRepository, times(1)).findByBusinessId(BUSINESS_ID);
+    }
+    
+    private Business business() {
+        return Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(BusinessEmployee.builder().userId("employee-1").active(true).build()))
+                .build();
+    }
+}
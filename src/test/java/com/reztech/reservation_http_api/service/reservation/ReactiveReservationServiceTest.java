@@ -0,0 +1,162 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveAvailabilityDayRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveBusinessVersionRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveReservationSlotClaimRepository;
+import com.reztech.reservation_http_api.repository.reactive.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify reactive reservation creation and rescheduling apply the same employee schedule rules
+ * as the servlet ones
+ */
+public class ReactiveReservationServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 8);
+    
+    private ReactiveReservationRepository reservationRepository;
+    private ReactiveReservationSlotClaimRepository claimRepository;
+    private ReactiveReservationService service;
+    
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReactiveReservationRepository.class);
+        claimRepository = mock(ReactiveReservationSlotClaimRepository.class);
+        ReactiveUserRepository userRepository = mock(ReactiveUserRepository.class);
+        ReactiveBusinessRepository businessRepository = mock(ReactiveBusinessRepository.class);
+        ReactiveAvailabilityDayRepository availabilityDayRepository = mock(ReactiveAvailabilityDayRepository.class);
+        ReactiveBusinessVersionRepository businessVersionRepository = mock(ReactiveBusinessVersionRepository.class);
+        ReactiveAvailabilityService availabilityService = mock(ReactiveAvailabilityService.class);
+        
+        when(userRepository.findById(anyString())).thenReturn(Mono.just(User.builder().id("user-1").build()));
+        when(businessRepository.findById(BUSINESS_ID)).thenReturn(Mono.just(Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(
+                        BusinessEmployee.builder().userId("owner").active(true).build(),
+                        BusinessEmployee.builder().userId("stylist").active(true).build()))
+                .build()));
+        
+        // The owner takes the whole day off
+        when(availabilityService.getEmployeeSchedule(BUSINESS_ID)).thenReturn(Mono.just(EmployeeSchedule.of(List.of(
+                EmployeeAvailability.builder()
+                        .employeeUserId("owner")
+                        .availabilityType(AvailabilityType.DATE_RANGE)
+                        .startDate(DATE.minusDays(1))
+                        .endDate(DATE.plusDays(1))
+                        .dayOff(true)
+                        .build()))));
+        
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateBetween(BUSINESS_ID, DATE, DATE))
+                .thenReturn(Flux.empty());
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(anyString(), any(), anyString()))
+                .thenReturn(Flux.empty());
+        when(reservationRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(claimRepository.claim(anyString(), anyString(), any(), any())).thenReturn(Mono.just(true));
+        when(availabilityDayRepository.markStale(anyString(), any())).thenReturn(Mono.empty());
+        when(businessVersionRepository.increment(anyString())).thenReturn(Mono.empty());
+        
+        service = new ReactiveReservationService(reservationRepository, claimRepository, userRepository,
+                businessRepository, new ReservationMapper(), null, availabilityDayRepository,
+                businessVersionRepository, availabilityService);
+    }
+    
+    @Test
+    public void testRequestedEmployeeOnDayOffIsRejected() {
+        StepVerifier.create(service.createReservation(request("owner")))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ConflictException.class, error);
+                    assertEquals(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE, ((ConflictException) error).getErrorCode());
+                    assertTrue(error.getMessage().contains("owner"));
+                })
+                .verify();
+        
+        verify(claimRepository, never()).claim(anyString(), anyString(), any(), any());
+        verify(reservationRepository, never()).findActiveByBusinessIdAndReservationDateBetween(anyString(), any(), any());
+    }
+    
+    @Test
+    public void testAutoAssignmentSkipsTheEmployeeOnDayOff() {
+        StepVerifier.create(service.createReservation(request(null)))
+                .assertNext(response -> assertEquals("stylist", response.getAssignedEmployeeUserId()))
+                .verifyComplete();
+        
+        verify(claimRepository).claim(eq(BUSINESS_ID), eq("stylist"), eq(DATE), any());
+        
+        // Once the stylist is booked nobody is left for the slot
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateBetween(BUSINESS_ID, DATE, DATE))
+                .thenReturn(Flux.just(Reservation.builder()
+                        .assignedEmployeeUserId("stylist")
+                        .timeSlot(TimeSlot.of(LocalTime.of(15, 0), LocalTime.of(16, 0)))
+                        .build()));
+        
+        StepVerifier.create(service.createReservation(request(null)))
+                .expectErrorMatches(error -> error instanceof ConflictException conflict
+                        && ErrorCode.RESERVATION_CONFLICT.equals(conflict.getErrorCode()))
+                .verify();
+    }
+    
+    @Test
+    public void testRescheduleOntoAnUnclaimedReservationIsRejected() {
+        when(reservationRepository.findById("reservation-1")).thenReturn(Mono.just(Reservation.builder()
+                .id("reservation-1")
+                .business(BusinessSnapshot.builder().id(BUSINESS_ID).build())
+                .reservationDate(DATE)
+                .timeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .assignedEmployeeUserId("stylist")
+                .build()));
+        
+        // Booked before slot claims existed, so only the reservation itself shows the stylist is busy
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(BUSINESS_ID, DATE, "stylist"))
+                .thenReturn(Flux.just(Reservation.builder()
+                        .id("reservation-2")
+                        .timeSlot(TimeSlot.of(LocalTime.of(15, 0), LocalTime.of(16, 0)))
+                        .build()));
+        
+        StepVerifier.create(service.updateReservation("reservation-1", request(null)))
+                .expectErrorMatches(error -> error instanceof ConflictException conflict
+                        && ErrorCode.RESERVATION_CONFLICT.equals(conflict.getErrorCode()))
+                .verify();
+        
+        verify(claimRepository, never()).claim(anyString(), anyString(), any(), any());
+    }
+    
+    private static CreateReservationRequest request(String employeeUserId) {
+        return CreateReservationRequest.builder()
+                .userId("user-1")
+                .businessId(BUSINESS_ID)
+                .reservationDate(DATE)
+                .timeSlot(TimeSlot.of(LocalTime.of(15, 30), LocalTime.of(16, 30)))
+                .assignedEmployeeUserId(employeeUserId)
+                .build();
+    }
+}
@@ -0,0 +1,222 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.AppConfig;
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.exception.ValidationException;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationBatchRequest;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.ReservationBatchResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.enums.BatchItemStatus;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepository;
+import com.reztech.reservation_http_api.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify batch reservation conflict checking and per item results
+ */
+public class ReservationBatchServiceTest {
+    
+    private static final String USER_ID = "user-1";
+    private static final String BUSINESS_ID = "business-1";
+    private static final String EMPLOYEE_ID = "employee-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+    
+    private ReservationRepository reservationRepository;
+    private ReservationSlotClaimRepository claimRepository;
+    private BusinessRepository businessRepository;
+    private EmployeeScheduleService employeeScheduleService;
+    private ConcurrentLookups concurrentLookups;
+    private ReservationBatchService service;
+    
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        claimRepository = mock(ReservationSlotClaimRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        businessRepository = mock(BusinessRepository.class);
+        concurrentLookups = new ConcurrentLookups();
+        employeeScheduleService = mock(EmployeeScheduleService.class);
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.EMPTY);
+        
+        when(userRepository.findAllById(any())).thenReturn(List.of(User.builder().id(USER_ID).build()));
+        when(businessRepository.findAllById(any())).thenReturn(List.of(Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(BusinessEmployee.builder().userId(EMPLOYEE_ID).active(true).build()))
+                .build()));
+        when(reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(any(), any(), any()))
+                .thenReturn(List.of());
+        when(claimRepository.claimAll(anyList())).thenReturn(Set.of());
+        when(reservationRepository.insertAll(anyList())).thenReturn(Set.of());
+        
+        service = new ReservationBatchService(reservationRepository, claimRepository, userRepository,
+                businessRepository, new ReservationMapper(), concurrentLookups, employeeScheduleService, new AppConfig(),
+                event -> { });
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testOverlappingItemsOfTheBatchConflict() {
+        ReservationBatchResponse response = service.createReservations(batch(
+                item(USER_ID, 10, 11), item(USER_ID, 10, 11), item(USER_ID, 11, 12)));
+        
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getConflicts());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(BatchItemStatus.CONFLICT, response.getResults().get(1).getStatus());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(2).getStatus());
+        
+        // One conflict query, one bulk claim and one bulk insert for the whole batch
+        verify(reservationRepository, times(1)).findActiveByBusinessIdsAndReservationDatesAndEmployees(any(), any(), any());
+        verify(claimRepository, times(1)).claimAll(argThat(claims -> claims.size() == 2));
+        verify(reservationRepository, times(1)).insertAll(argThat(reservations -> reservations.size() == 2));
+    }
+    
+    @Test
+    public void testExistingReservationsAndMissingUsersAreRejected() {
+        when(reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(any(), any(), any()))
+                .thenReturn(List.of(Reservation.builder()
+                        .business(BusinessSnapshot.builder().id(BUSINESS_ID).build())
+                        .assignedEmployeeUserId(EMPLOYEE_ID)
+                        .reservationDate(DATE)
+                        .timeSlot(TimeSlot.of(LocalTime.of(9, 0), LocalTime.of(10, 30)))
+                        .build()));
+        
+        ReservationBatchResponse response = service.createReservations(batch(
+                item(USER_ID, 10, 11), item("missing-user", 12, 13), item(USER_ID, 14, 15)));
+        
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getConflicts());
+        assertEquals(1, response.getFailed());
+        assertEquals(BatchItemStatus.CONFLICT, response.getResults().get(0).getStatus());
+        assertEquals(ErrorCode.USER_NOT_FOUND, response.getResults().get(1).getErrorCode());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(2).getStatus());
+    }
+    
+    @Test
+    public void testRejectedClaimsAndFailedInsertsAreReported() {
+        when(claimRepository.claimAll(anyList())).thenReturn(Set.of(0));
+        when(reservationRepository.insertAll(anyList())).thenReturn(Set.of(0));
+        
+        ReservationBatchResponse response = service.createReservations(batch(
+                item(USER_ID, 10, 11), item(USER_ID, 11, 12), item(USER_ID, 12, 13)));
+        
+        assertEquals(BatchItemStatus.CONFLICT, response.getResults().get(0).getStatus());
+        assertEquals(ErrorCode.RESERVATION_INSERT_FAILED, response.getResults().get(1).getErrorCode());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(2).getStatus());
+        
+        // The claim of the reservation that could not be inserted is released
+        verify(claimRepository).releaseAll(argThat(claims -> claims.size() == 1));
+        
+        assertThrows(ValidationException.class, () -> service.createReservations(batch()));
+    }
+    
+    @Test
+    public void testAutoAssignedItemsGoToAFreeEmployee() {
+        when(businessRepository.findAllById(any())).thenReturn(List.of(Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(
+                        BusinessEmployee.builder().userId(EMPLOYEE_ID).active(true).build(),
+                        BusinessEmployee.builder().userId("employee-2").active(true).build()))
+                .build()));
+        when(reservationRepository.findActiveByBusinessIdsAndReservationDatesAndEmployees(any(), any(), any()))
+                .thenReturn(List.of(Reservation.builder()
+                        .business(BusinessSnapshot.builder().id(BUSINESS_ID).build())
+                        .assignedEmployeeUserId(EMPLOYEE_ID)
+                        .reservationDate(DATE)
+                        .timeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                        .build()));
+        
+        ReservationBatchResponse response = service.createReservations(batch(
+                autoAssigned(10, 11), autoAssigned(10, 11), autoAssigned(11, 12)));
+        
+        // employee-1 is booked, so the first item goes to employee-2 and the second finds both busy
+        assertEquals("employee-2", response.getResults().get(0).getReservation().getAssignedEmployeeUserId());
+        assertEquals(BatchItemStatus.CONFLICT, response.getResults().get(1).getStatus());
+        assertEquals(EMPLOYEE_ID, response.getResults().get(2).getReservation().getAssignedEmployeeUserId());
+        
+        // Bookings of every active employee are read in the single conflict query
+        verify(reservationRepository).findActiveByBusinessIdsAndReservationDatesAndEmployees(
+                eq(Set.of(BUSINESS_ID)), eq(Set.of(DATE)), eq(Set.of(EMPLOYEE_ID, "employee-2")));
+    }
+    
+    @Test
+    public void testEmployeeErrorsKeepTheirCodesAndUnexpectedErrorsPropagate() {
+        CreateReservationRequest unknownEmployee = CreateReservationRequest.builder()
+                .userId(USER_ID)
+                .businessId(BUSINESS_ID)
+                .assignedEmployeeUserId("stranger")
+                .reservationDate(DATE)
+                .timeSlot(TimeSlot.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .build();
+        
+        ReservationBatchResponse response = service.createReservations(batch(unknownEmployee, item(USER_ID, 10, 11)));
+        
+        assertEquals(ErrorCode.EMPLOYEE_NOT_FOUND, response.getResults().get(0).getErrorCode());
+        assertEquals(BatchItemStatus.CREATED, response.getResults().get(1).getStatus());
+        
+        when(businessRepository.findAllById(any())).thenReturn(List.of(Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(BusinessEmployee.builder().userId(EMPLOYEE_ID).active(false).build()))
+                .build()));
+        
+        response = service.createReservations(batch(autoAssigned(10, 11)));
+        
+        assertEquals(ErrorCode.BUSINESS_NO_ACTIVE_EMPLOYEES, response.getResults().get(0).getErrorCode());
+        
+        // A failure that is not about the item is not reported as an item result
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenThrow(new IllegalStateException("schedule unavailable"));
+        
+        assertThrows(IllegalStateException.class, () -> service.createReservations(batch(item(USER_ID, 10, 11))));
+    }
+    
+    private static CreateReservationRequest autoAssigned(int startHour, int endHour) {
+        return CreateReservationRequest.builder()
+                .userId(USER_ID)
+                .businessId(BUSINESS_ID)
+                .reservationDate(DATE)
+                .timeSlot(TimeSlot.of(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0)))
+                .build();
+    }
+    
+    private static CreateReservationBatchRequest batch(CreateReservationRequest... items) {
+        return CreateReservationBatchRequest.builder().items(List.of(items)).build();
+    }
+    
+    private static CreateReservationRequest item(String userId, int startHour, int endHour) {
+        return CreateReservationRequest.builder()
+                .userId(userId)
+                .businessId(BUSINESS_ID)
+                .assignedEmployeeUserId(EMPLOYEE_ID)
+                .reservationDate(DATE)
+                .timeSlot(TimeSlot.of(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0)))
+                .build();
+    }
+}
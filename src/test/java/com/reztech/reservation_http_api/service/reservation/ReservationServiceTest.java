@@ -0,0 +1,215 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.constant.error.ErrorCode;
+import com.reztech.reservation_http_api.core.availability.EmployeeSchedule;
+import com.reztech.reservation_http_api.core.concurrency.ConcurrentLookups;
+import com.reztech.reservation_http_api.core.exception.ConflictException;
+import com.reztech.reservation_http_api.mapper.ReservationMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationRequest;
+import com.reztech.reservation_http_api.model.api.response.ReservationResponse;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessEmployee;
+import com.reztech.reservation_http_api.model.entity.embedded.BusinessSnapshot;
+import com.reztech.reservation_http_api.model.entity.embedded.TimeSlot;
+import com.reztech.reservation_http_api.model.entity.main.business.Business;
+import com.reztech.reservation_http_api.model.entity.main.business.EmployeeAvailability;
+import com.reztech.reservation_http_api.model.entity.main.reservation.Reservation;
+import com.reztech.reservation_http_api.model.entity.main.user.User;
+import com.reztech.reservation_http_api.model.enums.AvailabilityType;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSlotClaimRepository;
+import com.reztech.reservation_http_api.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify reservation creation and rescheduling respect employee working hours, time off
+ * and existing bookings
+ */
+public class ReservationServiceTest {
+    
+    private static final String USER_ID = "user-1";
+    private static final String BUSINESS_ID = "business-1";
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 7);
+    
+    private ReservationRepository reservationRepository;
+    private ReservationSlotClaimRepository claimRepository;
+    private EmployeeScheduleService employeeScheduleService;
+    private ConcurrentLookups concurrentLookups;
+    private ReservationService service;
+    
+    @BeforeEach
+    public void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        claimRepository = mock(ReservationSlotClaimRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        BusinessRepository businessRepository = mock(BusinessRepository.class);
+        employeeScheduleService = mock(EmployeeScheduleService.class);
+        concurrentLookups = new ConcurrentLookups();
+        
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(businessRepository.findById(BUSINESS_ID)).thenReturn(Optional.of(Business.builder()
+                .id(BUSINESS_ID)
+                .employees(List.of(employee("employee-1"), employee("employee-2"), employee("employee-3")))
+                .build()));
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.EMPTY);
+        when(reservationRepository.findActiveByBusinessIdAndReservationDate(BUSINESS_ID, DATE)).thenReturn(List.of());
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(anyString(), any(), anyString()))
+                .thenReturn(List.of());
+        when(claimRepository.claim(anyString(), anyString(), any(), any())).thenReturn(true);
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        service = new ReservationService(reservationRepository, claimRepository, userRepository, businessRepository,
+                new ReservationMapper(), null, concurrentLookups, employeeScheduleService, event -> { });
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        concurrentLookups.shutdown();
+    }
+    
+    @Test
+    public void testRequestedEmployeeOnTimeOffIsRejected() {
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.of(List.of(
+                EmployeeAvailability.builder()
+                        .employeeUserId("employee-2")
+                        .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                        .specificDate(DATE)
+                        .blockedSlots(List.of(slot(10, 0, 10, 30)))
+                        .build())));
+        
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> service.createReservation(request("employee-2", 10, 11)));
+        
+        assertEquals(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE, exception.getErrorCode());
+        verify(claimRepository, never()).claim(anyString(), anyString(), any(), any());
+        verify(reservationRepository, never()).save(any());
+        
+        // Outside the time off the same employee can be booked, without reading the other reservations of the day
+        ReservationResponse response = service.createReservation(request("employee-2", 11, 12));
+        
+        assertEquals("employee-2", response.getAssignedEmployeeUserId());
+        verify(reservationRepository, never()).findActiveByBusinessIdAndReservationDate(anyString(), any());
+    }
+    
+    @Test
+    public void testAutoAssignmentPicksTheFirstWorkingFreeEmployee() {
+        // employee-1 starts at noon and employee-2 is already booked in the morning
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.of(List.of(
+                EmployeeAvailability.builder()
+                        .employeeUserId("employee-1")
+                        .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                        .specificDate(DATE)
+                        .workingSlots(List.of(slot(12, 0, 18, 0)))
+                        .build())));
+        when(reservationRepository.findActiveByBusinessIdAndReservationDate(BUSINESS_ID, DATE)).thenReturn(List.of(
+                Reservation.builder().assignedEmployeeUserId("employee-2").timeSlot(slot(9, 30, 10, 30)).build()));
+        
+        ReservationResponse morning = service.createReservation(request(null, 10, 11));
+        ReservationResponse afternoon = service.createReservation(request(" ", 13, 14));
+        
+        assertEquals("employee-3", morning.getAssignedEmployeeUserId());
+        assertEquals("employee-1", afternoon.getAssignedEmployeeUserId());
+        verify(claimRepository).claim(eq(BUSINESS_ID), eq("employee-3"), eq(DATE), any());
+        verify(reservationRepository, times(2)).findActiveByBusinessIdAndReservationDate(BUSINESS_ID, DATE);
+    }
+    
+    @Test
+    public void testAutoAssignmentWithoutAnAvailableEmployeeIsRejected() {
+        EmployeeAvailability.EmployeeAvailabilityBuilder dayOff = EmployeeAvailability.builder()
+                .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                .specificDate(DATE)
+                .dayOff(true);
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.of(List.of(
+                dayOff.employeeUserId("employee-1").build(),
+                dayOff.employeeUserId("employee-2").build())));
+        
+        when(reservationRepository.findActiveByBusinessIdAndReservationDate(BUSINESS_ID, DATE)).thenReturn(List.of(
+                Reservation.builder().assignedEmployeeUserId("employee-3").timeSlot(slot(10, 30, 11, 30)).build()));
+        
+        // Nobody else works, so a booked employee is a conflict while a slot nobody works is not available
+        ConflictException booked = assertThrows(ConflictException.class,
+                () -> service.createReservation(request(null, 10, 11)));
+        assertEquals(ErrorCode.RESERVATION_CONFLICT, booked.getErrorCode());
+        
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.of(List.of(
+                dayOff.employeeUserId("employee-1").build(),
+                dayOff.employeeUserId("employee-2").build(),
+                dayOff.employeeUserId("employee-3").build())));
+        
+        ConflictException off = assertThrows(ConflictException.class,
+                () -> service.createReservation(request(null, 14, 15)));
+        assertEquals(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE, off.getErrorCode());
+        verify(reservationRepository, never()).save(any());
+    }
+    
+    @Test
+    public void testRescheduleIsCheckedAgainstUnclaimedReservationsAndSchedules() {
+        Reservation.ReservationBuilder moved = Reservation.builder()
+                .id("reservation-1")
+                .business(BusinessSnapshot.builder().id(BUSINESS_ID).build())
+                .reservationDate(DATE)
+                .timeSlot(slot(10, 0, 11, 0))
+                .assignedEmployeeUserId("employee-1");
+        when(reservationRepository.findById("reservation-1")).thenAnswer(invocation -> Optional.of(moved.build()));
+        
+        // A reservation made before slot claims existed holds no claim, so claiming its slot succeeds
+        when(reservationRepository.findActiveByBusinessIdAndReservationDateAndEmployee(BUSINESS_ID, DATE, "employee-1"))
+                .thenReturn(List.of(moved.build(),
+                        Reservation.builder().id("reservation-2").timeSlot(slot(12, 0, 13, 0)).build()));
+        
+        ConflictException booked = assertThrows(ConflictException.class,
+                () -> service.updateReservation("reservation-1", request(null, 12, 13)));
+        assertEquals(ErrorCode.RESERVATION_CONFLICT, booked.getErrorCode());
+        
+        when(employeeScheduleService.getSchedule(BUSINESS_ID)).thenReturn(EmployeeSchedule.of(List.of(
+                EmployeeAvailability.builder()
+                        .employeeUserId("employee-2")
+                        .availabilityType(AvailabilityType.SPECIFIC_DATE)
+                        .specificDate(DATE)
+                        .dayOff(true)
+                        .build())));
+        
+        ConflictException off = assertThrows(ConflictException.class,
+                () -> service.updateReservation("reservation-1", request("employee-2", 10, 11)));
+        assertEquals(ErrorCode.RESERVATION_EMPLOYEE_NOT_AVAILABLE, off.getErrorCode());
+        verify(claimRepository, never()).claim(anyString(), anyString(), any(), any());
+        
+        // Moving onto a slot overlapping only its own one is allowed
+        ReservationResponse response = service.updateReservation("reservation-1",
+                CreateReservationRequest.builder().timeSlot(slot(10, 30, 11, 30)).build());
+        
+        assertEquals("employee-1", response.getAssignedEmployeeUserId());
+        verify(claimRepository).claim(eq(BUSINESS_ID), eq("employee-1"), eq(DATE), any());
+    }
+    
+    private static BusinessEmployee employee(String userId) {
+        return BusinessEmployee.builder().userId(userId).active(true).build();
+    }
+    
+    private static TimeSlot slot(int startHour, int startMinute, int endHour, int endMinute) {
+        return TimeSlot.of(LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+    
+    private static CreateReservationRequest request(String employeeUserId, int startHour, int endHour) {
+        return CreateReservationRequest.builder()
+                .userId(USER_ID)
+                .businessId(BUSINESS_ID)
+                .reservationDate(DATE)
+                .timeSlot(slot(startHour, 0, endHour, 0))
+                .assignedEmployeeUserId(employeeUserId)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package com.reztech.reservation_http_api.service.reservation;
+
+import com.reztech.reservation_http_api.config.CacheConfig;
+import com.reztech.reservation_http_api.constant.cache.CacheName;
+import com.reztech.reservation_http_api.core.availability.AvailabilityChangedEvent;
+import com.reztech.reservation_http_api.core.exception.ResourceNotFoundException;
+import com.reztech.reservation_http_api.core.pagination.KeysetPaginator;
+import com.reztech.reservation_http_api.mapper.ReservationSettingsMapper;
+import com.reztech.reservation_http_api.model.api.request.CreateReservationSettingsRequest;
+import com.reztech.reservation_http_api.model.entity.main.reservation.ReservationSettings;
+import com.reztech.reservation_http_api.repository.business.BusinessRepository;
+import com.reztech.reservation_http_api.repository.reservation.ReservationSettingsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class to verify the reservation settings cache: it is current when availability changes are published,
+ * and its hits and misses are exported as Actuator cache metrics
+ */
+public class ReservationSettingsServiceTest {
+    
+    private static final String BUSINESS_ID = "business-1";
+    
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class, MetricsAutoConfiguration.class,
+                    CompositeMeterRegistryAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class,
+                    CacheMetricsAutoConfiguration.class))
+            .withPropertyValues(
+                    "spring.cache.type=caffeine",
+                    "spring.cache.cache-names=reservationSettings",
+                    "spring.cache.caffeine.spec=maximumSize=100,recordStats")
+            .withUserConfiguration(ServiceConfig.class);
+    
+    @Test
+    public void testListenersReadSavedSettingsFromCache() {
+        contextRunner.run(context -> {
+            ReservationSettingsRepository repository = context.getBean(ReservationSettingsRepository.class);
+            ReservationSettings current = ReservationSettings.builder().id("settings-1").businessId(BUSINESS_ID).build();
+            when(repository.findByBusinessId(BUSINESS_ID)).thenReturn(Optional.of(current));
+            when(repository.save(any(ReservationSettings.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            ReservationSettingsService service = context.getBean(ReservationSettingsService.class);
+            service.getOrCreateDefaultSettings(BUSINESS_ID);
+            
+            ReservationSettings saved = service.createOrUpdateSettings(CreateReservationSettingsRequest.builder()
+                    .businessId(BUSINESS_ID)
+                    .defaultStartTime(LocalTime.of(10, 0))
+                    .build());
+            
+            CacheRecorder recorder = context.getBean(CacheRecorder.class);
+            assertEquals(1, recorder.seen.size());
+            assertSame(saved, recorder.seen.get(0));
+            assertEquals(LocalTime.of(10, 0), service.getOrCreateDefaultSettings(BUSINESS_ID).getDefaultStartTime());
+            verify(repository, times(2)).findByBusinessId(BUSINESS_ID);
+        });
+    }
+    
+    @Test
+    public void testDeletedSettingsAreEvictedBeforeListenersRun() {
+        contextRunner.run(context -> {
+            ReservationSettingsRepository repository = context.getBean(ReservationSettingsRepository.class);
+            when(repository.existsByBusinessId(BUSINESS_ID)).thenReturn(true);
+            context.getBean(CacheManager.class).getCache(CacheName.RESERVATION_SETTINGS)
+                    .put(BUSINESS_ID, ReservationSettings.builder().businessId(BUSINESS_ID).build());
+            
+            context.getBean(ReservationSettingsService.class).deleteSettingsByBusinessId(BUSINESS_ID);
+            
+            List<ReservationSettings> seen = context.getBean(CacheRecorder.class).seen;
+            assertEquals(1, seen.size());
+            assertNull(seen.get(0));
+        });
+    }
+    
+    @Test
+    public void testFailedUpdateKeepsCacheAndPublishesNothing() {
+        contextRunner.run(context -> {
+            // business-2 does not exist anymore
+            ReservationSettings cached = ReservationSettings.builder().businessId("business-2").build();
+            Cache cache = context.getBean(CacheManager.class).getCache(CacheName.RESERVATION_SETTINGS);
+            cache.put("business-2", cached);
+            
+            ReservationSettingsService service = context.getBean(ReservationSettingsService.class);
+            assertThrows(ResourceNotFoundException.class, () -> service.createOrUpdateSettings(
+                    CreateReservationSettingsRequest.builder().businessId("business-2").slotDurationMinutes(15).build()));
+            
+            assertSame(cached, cache.get("business-2").get());
+            assertTrue(context.getBean(CacheRecorder.class).seen.isEmpty());
+        });
+    }
+    
+    @Test
+    public void testCacheHitsAndMissesAreExportedAsMetrics() {
+        contextRunner.run(context -> {
+            ReservationSettingsRepository repository = context.getBean(ReservationSettingsRepository.class);
+            when(repository.findByBusinessId(any())).thenAnswer(invocation -> Optional.of(
+                    ReservationSettings.builder().businessId(invocation.getArgument(0)).build()));
+            ReservationSettingsService service = context.getBean(ReservationSettingsService.class);
+            
+            service.getOrCreateDefaultSettings(BUSINESS_ID);
+            service.getOrCreateDefaultSettings(BUSINESS_ID);
+            service.getOrCreateDefaultSettings(BUSINESS_ID);
+            service.getOrCreateDefaultSettings("business-2");
+            
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+            assertEquals(2.0, cacheGets(registry, "hit"));
+            assertEquals(2.0, cacheGets(registry, "miss"));
+            assertEquals(2.0, registry.get("cache.size").tag("cache", CacheName.RESERVATION_SETTINGS).gauge().value());
+            verify(repository, times(2)).findByBusinessId(any());
+        });
+    }
+    
+    private static double cacheGets(MeterRegistry registry, String result) {
+        return registry.get("cache.gets")
+                .tag("cache", CacheName.RESERVATION_SETTINGS)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+    
+    /**
+     * Records the cached settings of the changed business at the time each availability change is published
+     */
+    static class CacheRecorder {
+        
+        private final List<ReservationSettings> seen = new ArrayList<>();
+        private final CacheManager cacheManager;
+        
+        CacheRecorder(CacheManager cacheManager) {
+            this.cacheManager = cacheManager;
+        }
+        
+        @EventListener
+        public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+            Cache.ValueWrapper cached = cacheManager.getCache(CacheName.RESERVATION_SETTINGS).get(event.getBusinessId());
+            seen.add(cached != null ? (ReservationSettings) cached.get() : null);
+        }
+    }
+    
+    @Configuration
+    @Import({CacheConfig.class, ReservationSettingsService.class, ReservationSettingsMapper.class})
+    static class ServiceConfig {
+        
+        @Bean
+        public CacheRecorder cacheRecorder(CacheManager cacheManager) {
+            return new CacheRecorder(cacheManager);
+        }
+        
+        @Bean
+        public ReservationSettingsRepository reservationSettingsRepository() {
+            return mock(ReservationSettingsRepository.class);
+        }
+        
+        @Bean
+        public BusinessRepository businessRepository() {
+            BusinessRepository businessRepository = mock(BusinessRepository.class);
+            when(businessRepository.existsById(BUSINESS_ID)).thenReturn(true);
+            return businessRepository;
+        }
+        
+        @Bean
+        public KeysetPaginator keysetPaginator() {
+            return mock(KeysetPaginator.class);
+        }
+    }
+}